@@ -0,0 +1,109 @@
+package com.icuxika.markdown.stream.render.benchmark;
+
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Block phase allocation benchmark.
+ *
+ * <p>Intended to be run with the GC profiler:
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar BlockParserAllocationBenchmark -prof gc
+ * </pre>
+ *
+ * <p>{@code gc.alloc.rate.norm} divided by {@code LINES} gives the bytes allocated per input line.
+ * The {@code CODE} document consists of fenced and indented code with tabs inside nested list items
+ * and block quotes, so its inline phase is trivial and the result is dominated by the block phase.
+ * The {@code NESTED} document adds paragraphs with lazy continuation lines and task list items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BlockParserAllocationBenchmark {
+
+  /** Number of lines in each generated document. */
+  public static final int LINES = 10_000;
+
+  @Param({"CODE", "NESTED"})
+  private String document;
+
+  private String markdownInput;
+  private MarkdownParser parser;
+
+  /**
+   * Setup benchmark data.
+   */
+  @Setup
+  public void setup() {
+    parser = new MarkdownParser();
+    String[] block;
+    switch (document) {
+      case "CODE":
+        block =
+            new String[] {
+              "- item",
+              "  > ```java",
+              "  > \tif (value) {",
+              "  > \t\treturn value;",
+              "  > \t}",
+              "  > ```",
+              "",
+              "  1. nested",
+              "",
+              "         indented code",
+              "     \tmore code",
+              ""
+            };
+        break;
+      case "NESTED":
+        block =
+            new String[] {
+              "> - [ ] task item with some text",
+              ">   continued inside the item",
+              "lazy continuation line",
+              ">",
+              "> 1. ordered item",
+              ">    - nested bullet",
+              ">      with a second line",
+              "",
+              "\t- tab indented item",
+              "\t  paragraph text",
+              ""
+            };
+        break;
+      default:
+        throw new IllegalArgumentException(document);
+    }
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < LINES; i++) {
+      sb.append(block[i % block.length]).append('\n');
+    }
+    markdownInput = sb.toString();
+  }
+
+  /**
+   * Benchmark parsing.
+   *
+   * @return parsed document
+   */
+  @Benchmark
+  public Document parse() {
+    return parser.parse(markdownInput);
+  }
+}
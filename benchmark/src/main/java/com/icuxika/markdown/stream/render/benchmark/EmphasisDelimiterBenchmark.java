@@ -0,0 +1,73 @@
+package com.icuxika.markdown.stream.render.benchmark;
+
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Emphasis delimiter stack benchmark.
+ *
+ * <p>Each document is one paragraph with 50k repetitions of a pattern that leaves most delimiters
+ * unmatched: {@code STAR} repeats {@code *a **b}, {@code IDENTIFIERS} is a run of snake_case
+ * identifiers, {@code MIXED} repeats {@code *a_} so that every closer has to look past openers of
+ * the other kind, and {@code TILDE} repeats {@code ~~a ~b}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EmphasisDelimiterBenchmark {
+
+  @Param({"STAR", "IDENTIFIERS", "MIXED", "TILDE"})
+  private String document;
+
+  private String markdownInput;
+  private MarkdownParser parser;
+
+  /**
+   * Setup benchmark data.
+   */
+  @Setup
+  public void setup() {
+    parser = new MarkdownParser();
+    switch (document) {
+      case "STAR":
+        markdownInput = "*a **b ".repeat(50_000);
+        break;
+      case "IDENTIFIERS":
+        markdownInput = "some_long_identifier_name ".repeat(50_000);
+        break;
+      case "MIXED":
+        markdownInput = "*a_ ".repeat(50_000);
+        break;
+      case "TILDE":
+        markdownInput = "~~a ~b ".repeat(50_000);
+        break;
+      default:
+        throw new IllegalArgumentException(document);
+    }
+  }
+
+  /**
+   * Benchmark parsing.
+   *
+   * @return parsed document
+   */
+  @Benchmark
+  public Document parse() {
+    return parser.parse(markdownInput);
+  }
+}
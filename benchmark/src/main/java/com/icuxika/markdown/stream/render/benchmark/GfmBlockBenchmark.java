@@ -0,0 +1,83 @@
+package com.icuxika.markdown.stream.render.benchmark;
+
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GFM block construct benchmark.
+ *
+ * <p>Each document exercises one block-level check: {@code TABLES} is dominated by table delimiter
+ * rows and setext-like lines, {@code HTML} by raw HTML blocks that go through the GFM tag filter,
+ * and {@code LINK_REFERENCES} by link reference definitions with multi-line titles. Run with
+ * {@code -prof gc} to see the allocation rate as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GfmBlockBenchmark {
+
+  @Param({"TABLES", "HTML", "LINK_REFERENCES"})
+  private String document;
+
+  private String markdownInput;
+  private MarkdownParser parser;
+
+  /**
+   * Setup benchmark data.
+   */
+  @Setup
+  public void setup() {
+    parser = new MarkdownParser();
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      switch (document) {
+        case "TABLES":
+          sb.append("| Name | Value | Note |\n");
+          sb.append("| :--- | ----: | :--: |\n");
+          sb.append("| a").append(i).append(" | ").append(i).append(" | text |\n");
+          sb.append("| b | c | d |\n\n");
+          sb.append("Heading ").append(i).append("\n---\n\n");
+          break;
+        case "HTML":
+          sb.append("<div class=\"section\">\n");
+          sb.append("<p>Paragraph ").append(i).append(" <em>inline</em></p>\n");
+          sb.append("<title>t</title> <script>x()</script> <span>ok</span>\n");
+          sb.append("</div>\n\n");
+          break;
+        case "LINK_REFERENCES":
+          sb.append("[ref").append(i).append("]: /url/").append(i).append(" \"A title\n");
+          sb.append("spanning lines\"\n\n");
+          sb.append("See [ref").append(i).append("].\n\n");
+          break;
+        default:
+          throw new IllegalArgumentException(document);
+      }
+    }
+    markdownInput = sb.toString();
+  }
+
+  /**
+   * Benchmark parsing.
+   *
+   * @return parsed document
+   */
+  @Benchmark
+  public Document parse() {
+    return parser.parse(markdownInput);
+  }
+}
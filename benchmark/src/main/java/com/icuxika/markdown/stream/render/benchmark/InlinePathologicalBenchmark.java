@@ -0,0 +1,82 @@
+package com.icuxika.markdown.stream.render.benchmark;
+
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inline parser benchmark on pathological input.
+ *
+ * <p>Each document is a single paragraph built from one construct repeated many times. Parsing time
+ * should grow linearly with {@code scale}; comparing {@code scale=1} with {@code scale=4} shows
+ * whether a construct is still quadratic.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InlinePathologicalBenchmark {
+
+  /**
+   * 100k {@code &amp;} entities, 50k {@code <} characters, 50k unclosed HTML constructs, 50k
+   * unclosed {@code [} and brackets nested 50k deep.
+   */
+  @Param({"ENTITIES", "LESS_THAN", "UNCLOSED_HTML", "UNCLOSED_BRACKETS", "NESTED_BRACKETS"})
+  private String document;
+
+  @Param({"1", "4"})
+  private int scale;
+
+  private String markdownInput;
+  private MarkdownParser parser;
+
+  /**
+   * Setup benchmark data.
+   */
+  @Setup
+  public void setup() {
+    parser = new MarkdownParser();
+    switch (document) {
+      case "ENTITIES":
+        markdownInput = "&amp;".repeat(100_000 * scale);
+        break;
+      case "LESS_THAN":
+        markdownInput = "a <".repeat(50_000 * scale);
+        break;
+      case "UNCLOSED_HTML":
+        markdownInput = "<!-- <? <a href='x ".repeat(50_000 * scale / 4);
+        break;
+      case "UNCLOSED_BRACKETS":
+        markdownInput = "[a ".repeat(50_000 * scale);
+        break;
+      case "NESTED_BRACKETS":
+        markdownInput = "[".repeat(50_000 * scale) + "a](/u)" + "]".repeat(50_000 * scale);
+        break;
+      default:
+        throw new IllegalArgumentException(document);
+    }
+  }
+
+  /**
+   * Benchmark parsing.
+   *
+   * @return parsed document
+   */
+  @Benchmark
+  public Document parse() {
+    return parser.parse(markdownInput);
+  }
+}
@@ -0,0 +1,67 @@
+package com.icuxika.markdown.stream.render.benchmark;
+
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParserOptions;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Text-heavy inline parsing benchmark.
+ *
+ * <p>The document is prose paragraphs with only occasional markup, which is what most real content
+ * looks like. With {@code gfm=true} the text scanner also has to find possible extended autolink
+ * starts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InlineTextBenchmark {
+
+  @Param({"false", "true"})
+  private boolean gfm;
+
+  private String markdownInput;
+  private MarkdownParser parser;
+
+  /**
+   * Setup benchmark data.
+   */
+  @Setup
+  public void setup() {
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    options.setGfm(gfm);
+    parser = MarkdownParser.builder().options(options).build();
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 500; i++) {
+      sb.append("Paragraph ").append(i).append(" is plain prose with several ordinary words,\n");
+      sb.append("some punctuation (like this), numbers such as 3.14 and 42, and a few\n");
+      sb.append("longer sentences that wrap over lines. Only rarely is there *markup*.\n\n");
+      sb.append("中文段落也很常见，其中大部分内容是普通文本，只有少量的标点符号和数字 2024。\n\n");
+    }
+    markdownInput = sb.toString();
+  }
+
+  /**
+   * Benchmark parsing.
+   *
+   * @return parsed document
+   */
+  @Benchmark
+  public Document parse() {
+    return parser.parse(markdownInput);
+  }
+}
@@ -0,0 +1,84 @@
+package com.icuxika.markdown.stream.render.benchmark;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Stream parser ingestion benchmark.
+ *
+ * <p>Pushes a single very long line (e.g. a minified JSON line inside a code fence) one character
+ * per {@link StreamMarkdownParser#push(String)} call. With incremental newline scanning the time
+ * per operation grows linearly with {@code length}; comparing the 256 KB and 1 MB results shows the
+ * ratio directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StreamMarkdownParserBenchmark {
+
+  @Param({"262144", "1048576"})
+  private int length;
+
+  private String[] chunks;
+
+  private static final StreamMarkdownRenderer NO_OP_RENDERER =
+      new StreamMarkdownRenderer() {
+        @Override
+        public void renderNode(Node node) {}
+
+        @Override
+        public void openBlock(Node node) {}
+
+        @Override
+        public void closeBlock(Node node) {}
+      };
+
+  /**
+   * Setup benchmark data.
+   */
+  @Setup
+  public void setup() {
+    String[] singleChars = new String[128];
+    for (char c = 0; c < singleChars.length; c++) {
+      singleChars[c] = String.valueOf(c);
+    }
+    String alphabet = "{\"key\":\"value\",\"n\":12345,\"arr\":[1,2,3]}";
+    chunks = new String[length];
+    for (int i = 0; i < length; i++) {
+      chunks[i] = singleChars[alphabet.charAt(i % alphabet.length())];
+    }
+  }
+
+  /**
+   * Benchmark pushing one character per call into a single-line input.
+   *
+   * @return the parser
+   */
+  @Benchmark
+  public StreamMarkdownParser pushSingleCharChunks() {
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().renderer(NO_OP_RENDERER).build();
+    parser.push("```json\n");
+    for (String chunk : chunks) {
+      parser.push(chunk);
+    }
+    parser.push("\n```\n");
+    parser.close();
+    return parser;
+  }
+}
@@ -0,0 +1,109 @@
+package com.icuxika.markdown.stream.render.benchmark;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Long-running stream heap footprint benchmark.
+ *
+ * <p>Streams {@code BLOCKS} mixed blocks in 7-character chunks into one parser, with or without
+ * {@code retainFinalizedBlocks}. Run it with a small heap and the GC profiler to compare footprints:
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar StreamRetentionBenchmark -prof gc -jvmArgs -Xmx64m
+ * </pre>
+ *
+ * <p>With {@code retain=false} the live set stays constant, so {@code gc.count} and {@code gc.time}
+ * stay low. With {@code retain=true} the whole AST stays reachable from the {@code Document} until
+ * {@code close()}, and the GC works harder as the document grows, or the run fails with an
+ * {@link OutOfMemoryError} on a small enough heap.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class StreamRetentionBenchmark {
+
+  /** Number of blocks pushed per operation. */
+  public static final int BLOCKS = 120_000;
+
+  private static final String[] TEMPLATES = {
+    "[ref%d]: https://example.com/%d \"Title\"\n\n",
+    "A paragraph with a [link][ref%d] and **strong** text, iteration %d.\n\n",
+    "```java\nint value = %d;\nString s = \"%d\";\n```\n",
+    "- item %d\n- item with *emphasis* %d\n\n",
+    "> quoted %d\n> more %d\n\n",
+    "| a | b |\n| --- | --- |\n| %d | %d |\n\n",
+    "## Heading %d %d\n",
+  };
+
+  private static final StreamMarkdownRenderer NO_OP_RENDERER =
+      new StreamMarkdownRenderer() {
+        @Override
+        public void renderNode(Node node) {}
+
+        @Override
+        public void openBlock(Node node) {}
+
+        @Override
+        public void closeBlock(Node node) {}
+      };
+
+  @Param({"false", "true"})
+  private boolean retain;
+
+  private String[] chunks;
+
+  /**
+   * Setup benchmark data.
+   */
+  @Setup
+  public void setup() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < TEMPLATES.length * 16; i++) {
+      sb.append(String.format(TEMPLATES[i % TEMPLATES.length], (i / TEMPLATES.length) % 16, i));
+    }
+    String cycle = sb.toString();
+    chunks = new String[(cycle.length() + 6) / 7];
+    for (int i = 0; i < chunks.length; i++) {
+      chunks[i] = cycle.substring(i * 7, Math.min(cycle.length(), i * 7 + 7));
+    }
+  }
+
+  /**
+   * Benchmark streaming a long document in small chunks.
+   *
+   * @return the parser
+   */
+  @Benchmark
+  public StreamMarkdownParser streamLongDocument() {
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder()
+            .renderer(NO_OP_RENDERER)
+            .retainFinalizedBlocks(retain)
+            .build();
+    int cycles = BLOCKS / (TEMPLATES.length * 16);
+    for (int c = 0; c < cycles; c++) {
+      for (String chunk : chunks) {
+        parser.push(chunk);
+      }
+    }
+    parser.close();
+    return parser;
+  }
+}
@@ -0,0 +1,263 @@
+package com.icuxika.markdown.stream.render.core;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.parser.block.BlockParserFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 以直方图汇总度量的 {@link MarkdownMetrics} 实现.
+ * <p>
+ * 耗时按 2 的幂分桶记录，分位数返回所在桶的上界，适合导出到监控面板或在基准测试之间比较。
+ * 块解析器工厂、行内解析与节点渲染按类型分别统计，便于定位具体语法结构的回退。线程安全。
+ * </p>
+ */
+public class HistogramMarkdownMetrics implements MarkdownMetrics {
+
+  private final LongAdder lines = new LongAdder();
+  private final LongAdder lineChars = new LongAdder();
+  private final Map<Class<?>, Histogram> blockStartAttempts = new ConcurrentHashMap<>();
+  private final Map<Class<?>, LongAdder> blockStarts = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Histogram> inlineParses = new ConcurrentHashMap<>();
+  private final Histogram previewBuilds = new Histogram();
+  private final LongAdder previewsSkipped = new LongAdder();
+  private final Map<Class<?>, Histogram> blockRenders = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Histogram> nodeRenders = new ConcurrentHashMap<>();
+  private final LongAdder bytesWritten = new LongAdder();
+
+  @Override
+  public void lineProcessed(int length) {
+    lines.increment();
+    lineChars.add(length);
+  }
+
+  @Override
+  public void blockStartAttempted(BlockParserFactory factory, boolean started, long nanos) {
+    histogram(blockStartAttempts, factory.getClass()).record(nanos);
+    if (started) {
+      blockStarts.computeIfAbsent(factory.getClass(), k -> new LongAdder()).increment();
+    }
+  }
+
+  @Override
+  public void inlinesParsed(Node container, int length, long nanos) {
+    histogram(inlineParses, container.getClass()).record(nanos);
+  }
+
+  @Override
+  public void previewBuilt(long nanos) {
+    previewBuilds.record(nanos);
+  }
+
+  @Override
+  public void previewSkipped() {
+    previewsSkipped.increment();
+  }
+
+  @Override
+  public void blockRendered(Node block, long nanos) {
+    histogram(blockRenders, block.getClass()).record(nanos);
+  }
+
+  @Override
+  public void nodeRendered(Node node, long nanos) {
+    histogram(nodeRenders, node.getClass()).record(nanos);
+  }
+
+  @Override
+  public void bytesWritten(long bytes) {
+    bytesWritten.add(bytes);
+  }
+
+  public long getLines() {
+    return lines.sum();
+  }
+
+  public long getLineChars() {
+    return lineChars.sum();
+  }
+
+  /**
+   * 获取每个块解析器工厂的 {@code tryStart} 耗时.
+   *
+   * @return 工厂类型到直方图的映射
+   */
+  public Map<Class<?>, Histogram> getBlockStartAttempts() {
+    return Collections.unmodifiableMap(blockStartAttempts);
+  }
+
+  /**
+   * 获取块解析器工厂成功开始新块的次数.
+   *
+   * @param factoryType
+   *            工厂类型
+   * @return 次数
+   */
+  public long getBlockStarts(Class<?> factoryType) {
+    LongAdder count = blockStarts.get(factoryType);
+    return count != null ? count.sum() : 0;
+  }
+
+  /**
+   * 获取按容器类型统计的行内解析耗时.
+   *
+   * @return 节点类型到直方图的映射
+   */
+  public Map<Class<?>, Histogram> getInlineParses() {
+    return Collections.unmodifiableMap(inlineParses);
+  }
+
+  public Histogram getPreviewBuilds() {
+    return previewBuilds;
+  }
+
+  public long getPreviewsSkipped() {
+    return previewsSkipped.sum();
+  }
+
+  /**
+   * 获取按块类型统计的从块完成到渲染的时间.
+   *
+   * @return 节点类型到直方图的映射
+   */
+  public Map<Class<?>, Histogram> getBlockRenders() {
+    return Collections.unmodifiableMap(blockRenders);
+  }
+
+  /**
+   * 获取按节点类型统计的渲染器耗时.
+   *
+   * @return 节点类型到直方图的映射
+   */
+  public Map<Class<?>, Histogram> getNodeRenders() {
+    return Collections.unmodifiableMap(nodeRenders);
+  }
+
+  public long getBytesWritten() {
+    return bytesWritten.sum();
+  }
+
+  /**
+   * 清空所有统计.
+   */
+  public void reset() {
+    lines.reset();
+    lineChars.reset();
+    blockStartAttempts.clear();
+    blockStarts.clear();
+    inlineParses.clear();
+    previewBuilds.reset();
+    previewsSkipped.reset();
+    blockRenders.clear();
+    nodeRenders.clear();
+    bytesWritten.reset();
+  }
+
+  private static Histogram histogram(Map<Class<?>, Histogram> histograms, Class<?> type) {
+    Histogram histogram = histograms.get(type);
+    return histogram != null ? histogram : histograms.computeIfAbsent(type, k -> new Histogram());
+  }
+
+  /**
+   * 按 2 的幂分桶的直方图. 第 {@code i} 个桶记录 {@code [2^(i-1), 2^i)} 范围内的值，第 0 个桶记录 0 与负值。
+   */
+  public static final class Histogram {
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 记录一个值.
+     *
+     * @param value
+     *            值
+     */
+    public void record(long value) {
+      int bucket = value <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+      buckets.incrementAndGet(bucket);
+      count.increment();
+      sum.add(value);
+      max.accumulate(value);
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+
+    public long getSum() {
+      return sum.sum();
+    }
+
+    public long getMax() {
+      return max.get();
+    }
+
+    public double getMean() {
+      long n = count.sum();
+      return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * 获取分位数的近似值.
+     *
+     * @param percentile
+     *            百分位，取值 {@code [0, 100]}
+     * @return 分位数所在桶的上界（不超过最大值），无数据时返回 0
+     */
+    public long getValueAtPercentile(double percentile) {
+      if (percentile < 0 || percentile > 100) {
+        throw new IllegalArgumentException("percentile must be in [0, 100]: " + percentile);
+      }
+      long total = 0;
+      long[] snapshot = new long[BUCKETS];
+      for (int i = 0; i < BUCKETS; i++) {
+        snapshot[i] = buckets.get(i);
+        total += snapshot[i];
+      }
+      if (total == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += snapshot[i];
+        if (seen >= rank) {
+          long upper = i == 0 ? 0 : i >= 63 ? Long.MAX_VALUE : (1L << i) - 1;
+          return Math.min(upper, getMax());
+        }
+      }
+      return getMax();
+    }
+
+    void reset() {
+      for (int i = 0; i < BUCKETS; i++) {
+        buckets.set(i, 0);
+      }
+      count.reset();
+      sum.reset();
+      max.reset();
+    }
+
+    @Override
+    public String toString() {
+      return "Histogram{count="
+          + getCount()
+          + ", mean="
+          + (long) getMean()
+          + ", p50="
+          + getValueAtPercentile(50)
+          + ", p99="
+          + getValueAtPercentile(99)
+          + ", max="
+          + getMax()
+          + "}";
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.icuxika.markdown.stream.render.core;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.parser.block.BlockParserFactory;
+
+/**
+ * 解析与渲染的度量监听器.
+ * <p>
+ * 可以注册到 {@code MarkdownParser.Builder}、{@code StreamMarkdownParser.Builder}、{@code HtmlRenderer.Builder}
+ * 以及 HTML/JavaFX 流式渲染器上。所有方法默认不做任何事；未注册时使用 {@link #noop()}，组件会跳过计时，不产生额外开销。
+ * </p>
+ * <p>
+ * 回调可能来自解析线程与 UI 线程，实现需要是线程安全的。时间单位均为纳秒。
+ * </p>
+ */
+public interface MarkdownMetrics {
+
+  /**
+   * 获取不做任何记录的实例. 组件通过与该实例比较判断是否需要计时。
+   *
+   * @return 空实现
+   */
+  static MarkdownMetrics noop() {
+    return NoopMarkdownMetrics.INSTANCE;
+  }
+
+  /**
+   * 处理了一行输入.
+   *
+   * @param length
+   *            行长度（字符数）
+   */
+  default void lineProcessed(int length) {}
+
+  /**
+   * 尝试用块解析器工厂开始新块.
+   *
+   * @param factory
+   *            块解析器工厂
+   * @param started
+   *            是否开始了新块
+   * @param nanos
+   *            {@code tryStart} 耗时
+   */
+  default void blockStartAttempted(BlockParserFactory factory, boolean started, long nanos) {}
+
+  /**
+   * 解析了一个容器（段落、标题、表格单元格）的行内元素.
+   *
+   * @param container
+   *            容器节点
+   * @param length
+   *            行内文本长度
+   * @param nanos
+   *            耗时
+   */
+  default void inlinesParsed(Node container, int length, long nanos) {}
+
+  /**
+   * 构建并发送了一次打字预览.
+   *
+   * @param nanos
+   *            耗时
+   */
+  default void previewBuilt(long nanos) {}
+
+  /**
+   * 预览被节流策略跳过.
+   */
+  default void previewSkipped() {}
+
+  /**
+   * 已完成的块交给了渲染器.
+   *
+   * @param block
+   *            块节点
+   * @param nanos
+   *            从块完成到渲染器返回的时间，包含行内解析
+   */
+  default void blockRendered(Node block, long nanos) {}
+
+  /**
+   * 渲染器渲染了一个节点.
+   *
+   * @param node
+   *            节点
+   * @param nanos
+   *            耗时
+   */
+  default void nodeRendered(Node node, long nanos) {}
+
+  /**
+   * 渲染器写出了输出.
+   *
+   * @param bytes
+   *            按 UTF-8 编码计算的字节数
+   */
+  default void bytesWritten(long bytes) {}
+}
@@ -0,0 +1,11 @@
+package com.icuxika.markdown.stream.render.core;
+
+/**
+ * 不做任何记录的度量监听器.
+ */
+final class NoopMarkdownMetrics implements MarkdownMetrics {
+
+  static final NoopMarkdownMetrics INSTANCE = new NoopMarkdownMetrics();
+
+  private NoopMarkdownMetrics() {}
+}
@@ -76,6 +76,26 @@ public abstract class Node {
     }
   }
 
+  /**
+   * 将指定节点插入到当前节点之后，作为当前节点的下一个兄弟节点.
+   *
+   * @param sibling
+   *            要插入的节点
+   */
+  public void insertAfter(Node sibling) {
+    sibling.unlink();
+    sibling.next = next;
+    if (next != null) {
+      next.previous = sibling;
+    }
+    sibling.previous = this;
+    next = sibling;
+    sibling.parent = parent;
+    if (parent != null && parent.lastChild == this) {
+      parent.lastChild = sibling;
+    }
+  }
+
   /**
    * 将当前节点从树中移除（断开与父节点和兄弟节点的连接）.
    */
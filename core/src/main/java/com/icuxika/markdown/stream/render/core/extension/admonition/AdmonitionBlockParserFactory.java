@@ -4,19 +4,33 @@ import com.icuxika.markdown.stream.render.core.parser.block.BlockParserFactory;
 import com.icuxika.markdown.stream.render.core.parser.block.BlockStart;
 import com.icuxika.markdown.stream.render.core.parser.block.MatchedBlockParser;
 import com.icuxika.markdown.stream.render.core.parser.block.ParserState;
+import java.util.Collections;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class AdmonitionBlockParserFactory implements BlockParserFactory {
+  private static final Pattern ADMONITION_PATTERN =
+      Pattern.compile("^!!!\\s+(\\w+)(?:\\s+\"(.*)\")?$");
+
+  @Override
+  public Set<Character> getTriggerCharacters() {
+    return Collections.singleton('!');
+  }
+
   @Override
   public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
     CharSequence line = state.getLine();
     int nextNonSpace = state.getNextNonSpaceIndex();
 
+    // 大多数行不以 ! 开头，直接排除，不创建字符串
+    if (nextNonSpace >= line.length() || line.charAt(nextNonSpace) != '!') {
+      return BlockStart.none();
+    }
+
     // Regex check
-    String currentLine = line.toString().substring(nextNonSpace);
-    Pattern pattern = Pattern.compile("^!!!\\s+(\\w+)(?:\\s+\"(.*)\")?$");
-    Matcher matcher = pattern.matcher(currentLine);
+    String currentLine = line.subSequence(nextNonSpace, line.length()).toString();
+    Matcher matcher = ADMONITION_PATTERN.matcher(currentLine);
 
     if (matcher.matches()) {
       String type = matcher.group(1);
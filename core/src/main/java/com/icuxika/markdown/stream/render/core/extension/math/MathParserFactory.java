@@ -15,4 +15,9 @@ public class MathParserFactory implements InlineContentParserFactory {
   public InlineContentParser create() {
     return new MathParser();
   }
+
+  @Override
+  public boolean isStateless() {
+    return true;
+  }
 }
@@ -0,0 +1,17 @@
+package com.icuxika.markdown.stream.render.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 流式解析中一个块从完成到交给渲染器的过程，包含链接引用定义提取与行内解析. {@code inputSize} 为块跨越的行数，{@code nodeCount} 为块的节点数。
+ */
+@Name("com.icuxika.markdown.BlockFinalize")
+@Label("Markdown Block Finalize")
+@Category({"Markdown", "Parser"})
+@Enabled(false)
+@StackTrace(false)
+public final class BlockFinalizeEvent extends MarkdownEvent {}
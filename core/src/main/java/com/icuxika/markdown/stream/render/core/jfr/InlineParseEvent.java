@@ -0,0 +1,17 @@
+package com.icuxika.markdown.stream.render.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 一个容器（段落、标题、表格单元格）的行内解析. {@code inputSize} 为行内文本长度，{@code nodeCount} 为生成的顶层行内节点数。
+ */
+@Name("com.icuxika.markdown.InlineParse")
+@Label("Markdown Inline Parse")
+@Category({"Markdown", "Parser"})
+@Enabled(false)
+@StackTrace(false)
+public final class InlineParseEvent extends MarkdownEvent {}
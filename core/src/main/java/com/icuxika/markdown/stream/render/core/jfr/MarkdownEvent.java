@@ -0,0 +1,60 @@
+package com.icuxika.markdown.stream.render.core.jfr;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 解析与渲染 JFR 事件的基类.
+ * <p>
+ * 所有事件默认关闭，需要在 JFR 配置文件中开启，或通过 {@code Recording.enable("com.icuxika.markdown.Push")} 开启。发出事件的代码只在 {@link #shouldCommit()} 为真时计算字段，
+ * 未录制时事件对象可被 JIT 消除，没有额外开销。
+ * </p>
+ */
+@Enabled(false)
+@StackTrace(false)
+@Category({"Markdown"})
+public abstract class MarkdownEvent extends Event {
+
+  private static final AtomicLong SESSION_IDS = new AtomicLong();
+
+  @Label("Session Id")
+  public long sessionId;
+
+  @Label("Input Size")
+  public long inputSize;
+
+  @Label("Node Count")
+  public int nodeCount;
+
+  @Label("Block Type")
+  public String blockType;
+
+  /**
+   * 分配新的会话编号. 每个文档（流式解析器的每次 {@code reset}、{@code MarkdownParser} 的每次解析）使用一个编号。
+   *
+   * @return 会话编号，从 1 开始
+   */
+  public static long nextSessionId() {
+    return SESSION_IDS.incrementAndGet();
+  }
+
+  /**
+   * 统计子树中的节点数（包含根节点）.
+   *
+   * @param node
+   *            根节点
+   * @return 节点数
+   */
+  public static int countNodes(Node node) {
+    int count = 1;
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      count += countNodes(child);
+    }
+    return count;
+  }
+}
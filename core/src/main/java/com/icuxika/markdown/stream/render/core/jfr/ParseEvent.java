@@ -0,0 +1,17 @@
+package com.icuxika.markdown.stream.render.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * {@code MarkdownParser.parse} 的一次完整解析. {@code inputSize} 为输入字符数，{@code nodeCount} 为文档节点数。
+ */
+@Name("com.icuxika.markdown.Parse")
+@Label("Markdown Parse")
+@Category({"Markdown", "Parser"})
+@Enabled(false)
+@StackTrace(false)
+public final class ParseEvent extends MarkdownEvent {}
@@ -0,0 +1,17 @@
+package com.icuxika.markdown.stream.render.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * {@code StreamMarkdownParser} 的一次推送（包括 {@code close}）. {@code inputSize} 为推送的字符数，{@code nodeCount} 为本次完成的块数。
+ */
+@Name("com.icuxika.markdown.Push")
+@Label("Markdown Push")
+@Category({"Markdown", "Parser"})
+@Enabled(false)
+@StackTrace(false)
+public final class PushEvent extends MarkdownEvent {}
@@ -0,0 +1,17 @@
+package com.icuxika.markdown.stream.render.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 一次完整的渲染过程. {@code inputSize} 为输出字符数，{@code nodeCount} 为渲染的顶层块数。
+ */
+@Name("com.icuxika.markdown.Render")
+@Label("Markdown Render")
+@Category({"Markdown", "Renderer"})
+@Enabled(false)
+@StackTrace(false)
+public final class RenderEvent extends MarkdownEvent {}
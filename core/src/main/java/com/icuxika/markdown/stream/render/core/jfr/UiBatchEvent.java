@@ -0,0 +1,22 @@
+package com.icuxika.markdown.stream.render.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JavaFX 渲染器在 FX 线程上处理一批排队任务. 与其他事件一致，{@code inputSize} 为本批处理的任务数，{@code nodeCount}
+ * 同为执行的任务数；{@link #queueDepth} 为处理后仍在排队的任务数。
+ */
+@Name("com.icuxika.markdown.UiBatch")
+@Label("Markdown UI Batch")
+@Category({"Markdown", "Renderer"})
+@Enabled(false)
+@StackTrace(false)
+public final class UiBatchEvent extends MarkdownEvent {
+
+  @Label("Queue Depth")
+  public int queueDepth;
+}
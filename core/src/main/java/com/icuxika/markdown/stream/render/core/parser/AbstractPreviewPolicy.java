@@ -0,0 +1,138 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+/**
+ * {@link PreviewPolicy} 的基础实现. 负责统计，并按最小间隔与字符数上限决定是否解析行内元素。
+ */
+public abstract class AbstractPreviewPolicy implements PreviewPolicy {
+
+  static final int DEFAULT_INLINE_PARSE_CHAR_LIMIT = 8192;
+  static final long DEFAULT_INLINE_PARSE_INTERVAL_NANOS = 50_000_000L;
+
+  private final int inlineParseCharLimit;
+
+  // 只在解析线程写入，volatile 保证其他线程读取统计时的可见性
+  private volatile long rendered;
+  private volatile long skipped;
+  private volatile long inlinesParsed;
+  private volatile long inlinesSkipped;
+  private volatile long previewNanos;
+
+  private boolean hasRendered;
+  private long lastRenderAtNanos;
+  private boolean hasParsedInlines;
+  private long lastInlineParseAtNanos;
+
+  /**
+   * 构造函数.
+   *
+   * @param inlineParseCharLimit
+   *            内容超过该字符数时不解析行内元素
+   */
+  protected AbstractPreviewPolicy(int inlineParseCharLimit) {
+    this.inlineParseCharLimit = inlineParseCharLimit;
+  }
+
+  @Override
+  public final boolean shouldRender(long nowNanos, int contentLength) {
+    if (isRenderDue(nowNanos, contentLength)) {
+      return true;
+    }
+    skipped++;
+    return false;
+  }
+
+  @Override
+  public final boolean shouldParseInlines(long nowNanos, int contentLength) {
+    if (contentLength <= inlineParseCharLimit && isInlineParseDue(nowNanos, contentLength)) {
+      return true;
+    }
+    inlinesSkipped++;
+    return false;
+  }
+
+  @Override
+  public final void onRendered(long nowNanos, long costNanos, boolean inlinesParsed) {
+    rendered++;
+    previewNanos += costNanos;
+    hasRendered = true;
+    lastRenderAtNanos = nowNanos;
+    if (inlinesParsed) {
+      this.inlinesParsed++;
+      hasParsedInlines = true;
+      lastInlineParseAtNanos = nowNanos;
+    }
+    previewRendered(nowNanos, costNanos, inlinesParsed);
+  }
+
+  @Override
+  public Stats getStats() {
+    return new Stats(rendered, skipped, inlinesParsed, inlinesSkipped, previewNanos);
+  }
+
+  @Override
+  public void reset() {
+    rendered = 0;
+    skipped = 0;
+    inlinesParsed = 0;
+    inlinesSkipped = 0;
+    previewNanos = 0;
+    hasRendered = false;
+    hasParsedInlines = false;
+  }
+
+  /**
+   * 是否到了渲染预览的时间.
+   *
+   * @param nowNanos
+   *            当前时间
+   * @param contentLength
+   *            当前内容字符数
+   * @return 是否渲染
+   */
+  protected abstract boolean isRenderDue(long nowNanos, int contentLength);
+
+  /**
+   * 是否到了解析行内元素的时间. 字符数上限已由调用方检查。
+   *
+   * @param nowNanos
+   *            当前时间
+   * @param contentLength
+   *            预览内容字符数
+   * @return 是否解析
+   */
+  protected abstract boolean isInlineParseDue(long nowNanos, int contentLength);
+
+  /**
+   * 渲染完成后的回调，子类可据此调整间隔.
+   *
+   * @param nowNanos
+   *            渲染完成的时间
+   * @param costNanos
+   *            耗时
+   * @param inlinesParsed
+   *            是否解析了行内元素
+   */
+  protected void previewRendered(long nowNanos, long costNanos, boolean inlinesParsed) {}
+
+  /**
+   * 距上一次渲染的时间.
+   *
+   * @param nowNanos
+   *            当前时间
+   * @return 纳秒数，尚未渲染过时返回 {@link Long#MAX_VALUE}
+   */
+  protected final long sinceLastRender(long nowNanos) {
+    return hasRendered ? nowNanos - lastRenderAtNanos : Long.MAX_VALUE;
+  }
+
+  /**
+   * 距上一次解析行内元素的时间.
+   *
+   * @param nowNanos
+   *            当前时间
+   * @return 纳秒数，尚未解析过时返回 {@link Long#MAX_VALUE}
+   */
+  protected final long sinceLastInlineParse(long nowNanos) {
+    return hasParsedInlines ? nowNanos - lastInlineParseAtNanos : Long.MAX_VALUE;
+  }
+}
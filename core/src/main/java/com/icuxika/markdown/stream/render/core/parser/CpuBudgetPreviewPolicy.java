@@ -0,0 +1,64 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+/**
+ * 按预览耗时自适应的预览策略.
+ * <p>
+ * 分别以指数移动平均估计纯文本预览与解析行内元素的预览耗时，渲染间隔取 {@code 耗时 / budget}，
+ * 使预览占用的 CPU 时间约为墙钟时间的 {@code budget}。
+ * </p>
+ */
+final class CpuBudgetPreviewPolicy extends AbstractPreviewPolicy {
+
+  private static final double ALPHA = 0.2;
+
+  private final double budget;
+
+  private double averageTextCostNanos;
+  private double averageInlineCostNanos;
+
+  CpuBudgetPreviewPolicy(double budget) {
+    super(DEFAULT_INLINE_PARSE_CHAR_LIMIT);
+    if (!(budget > 0 && budget <= 1)) {
+      throw new IllegalArgumentException("budget must be in (0, 1]: " + budget);
+    }
+    this.budget = budget;
+  }
+
+  long renderIntervalNanos() {
+    return (long) (averageTextCostNanos / budget);
+  }
+
+  long inlineParseIntervalNanos() {
+    return (long) (averageInlineCostNanos / budget);
+  }
+
+  @Override
+  protected boolean isRenderDue(long nowNanos, int contentLength) {
+    return sinceLastRender(nowNanos) >= renderIntervalNanos();
+  }
+
+  @Override
+  protected boolean isInlineParseDue(long nowNanos, int contentLength) {
+    return sinceLastInlineParse(nowNanos) >= inlineParseIntervalNanos();
+  }
+
+  @Override
+  protected void previewRendered(long nowNanos, long costNanos, boolean inlinesParsed) {
+    if (inlinesParsed) {
+      averageInlineCostNanos = average(averageInlineCostNanos, costNanos);
+    } else {
+      averageTextCostNanos = average(averageTextCostNanos, costNanos);
+    }
+  }
+
+  private static double average(double average, long sample) {
+    return average == 0 ? sample : average + ALPHA * (sample - average);
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    averageTextCostNanos = 0;
+    averageInlineCostNanos = 0;
+  }
+}
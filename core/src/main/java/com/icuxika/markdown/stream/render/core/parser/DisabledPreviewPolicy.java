@@ -0,0 +1,21 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+/**
+ * 不渲染任何预览的策略.
+ */
+final class DisabledPreviewPolicy extends AbstractPreviewPolicy {
+
+  DisabledPreviewPolicy() {
+    super(0);
+  }
+
+  @Override
+  protected boolean isRenderDue(long nowNanos, int contentLength) {
+    return false;
+  }
+
+  @Override
+  protected boolean isInlineParseDue(long nowNanos, int contentLength) {
+    return false;
+  }
+}
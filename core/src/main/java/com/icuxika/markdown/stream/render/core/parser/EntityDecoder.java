@@ -1,33 +1,199 @@
 package com.icuxika.markdown.stream.render.core.parser;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
+/**
+ * HTML 实体引用解码.
+ * <p>
+ * 命名实体覆盖完整的 HTML5 命名字符引用表（见 {@link HtmlEntities}），在第一次解码命名实体时编译为一棵用基本类型数组表示的
+ * 字典树，直接在原文上逐字符匹配，不创建子串。字典树共 7729 个节点，约占 60 KB（标签与子节点下标各一个
+ * {@code char[]}，值的位置一个 {@code int[]}），另有约 40 KB 的 {@link HtmlEntities#DATA} 字符串常量。
+ * </p>
+ */
 @SuppressWarnings("checkstyle:AvoidEscapedUnicodeCharacters")
 public class EntityDecoder {
-  private static final Map<String, String> ENTITIES = new HashMap<>();
-
-  static {
-    ENTITIES.put("quot", "\"");
-    ENTITIES.put("amp", "&");
-    ENTITIES.put("lt", "<");
-    ENTITIES.put("gt", ">");
-    ENTITIES.put("apos", "'");
-    ENTITIES.put("nbsp", "\u00A0");
-    ENTITIES.put("copy", "\u00A9");
-    ENTITIES.put("reg", "\u00AE");
-    ENTITIES.put("AElig", "\u00C6");
-    ENTITIES.put("Dcaron", "\u010E");
-    ENTITIES.put("frac34", "\u00BE");
-    ENTITIES.put("HilbertSpace", "\u210B");
-    ENTITIES.put("DifferentialD", "\u2146");
-    ENTITIES.put("ClockwiseContourIntegral", "\u2232");
-    ENTITIES.put("ngE", "\u2267\u0338");
-    ENTITIES.put("ouml", "\u00F6");
-    ENTITIES.put("auml", "\u00E4");
-  }
 
+  /**
+   * 解码命名实体.
+   *
+   * @param name
+   *            不含 {@code &} 与 {@code ;} 的实体名称
+   * @return 解码后的文本；未知的名称返回 {@code null}
+   */
   public static String decode(String name) {
-    return ENTITIES.get(name);
+    return Trie.lookup(name, 0, name.length());
+  }
+
+  /**
+   * 解码 {@link #scan(CharSequence, int)} 匹配到的 [{@code start}, {@code end}) 范围内的实体引用.
+   * 未知的命名实体按原文返回，无效的码点（包括 0）替换为 U+FFFD。
+   */
+  static String decode(CharSequence s, int start, int end) {
+    if (s.charAt(start + 1) != '#') {
+      String decoded = Trie.lookup(s, start + 1, end - 1);
+      return decoded != null ? decoded : s.subSequence(start, end).toString();
+    }
+    char c = s.charAt(start + 2);
+    boolean hex = c == 'x' || c == 'X';
+    int codePoint = Integer.parseInt(s, hex ? start + 3 : start + 2, end - 1, hex ? 16 : 10);
+    if (codePoint == 0 || !Character.isValidCodePoint(codePoint)) {
+      return "\uFFFD";
+    }
+    return Character.toString(codePoint);
+  }
+
+  /**
+   * 从 {@code start} 处的 {@code &} 开始匹配实体引用，与正则
+   * {@code &(?:[a-zA-Z0-9]+|#[0-9]{1,7}|#[xX][0-9a-fA-F]{1,6});} 一致. 直接在原文上匹配，不创建子串。
+   *
+   * @return 实体引用结束位置（{@code ;} 之后）；不是实体引用时返回 -1
+   */
+  static int scan(CharSequence s, int start) {
+    int length = s.length();
+    int i = start + 1;
+    if (i >= length) {
+      return -1;
+    }
+    if (s.charAt(i) != '#') {
+      while (i < length && isAsciiLetterOrDigit(s.charAt(i))) {
+        i++;
+      }
+      return i > start + 1 && i < length && s.charAt(i) == ';' ? i + 1 : -1;
+    }
+    i++;
+    int maxDigits;
+    int radix;
+    if (i < length && (s.charAt(i) == 'x' || s.charAt(i) == 'X')) {
+      i++;
+      maxDigits = 6;
+      radix = 16;
+    } else {
+      maxDigits = 7;
+      radix = 10;
+    }
+    int digitsStart = i;
+    while (i < length && s.charAt(i) < 128 && Character.digit(s.charAt(i), radix) >= 0) {
+      i++;
+    }
+    int digits = i - digitsStart;
+    if (digits == 0 || digits > maxDigits || i >= length || s.charAt(i) != ';') {
+      return -1;
+    }
+    return i + 1;
+  }
+
+  private static boolean isAsciiLetterOrDigit(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+  }
+
+  /**
+   * 命名实体字典树，首次使用时才由 {@link HtmlEntities#DATA} 构建.
+   * <p>
+   * 节点按广度优先顺序编号，根节点为 0，同一节点的子节点编号连续并按字符排序：节点 {@code n} 的子节点为
+   * [{@code FIRST_CHILD[n]}, {@code FIRST_CHILD[n + 1]})，{@code LABELS} 为进入各节点的字符。{@code VALUES}
+   * 记录以该节点结尾的名称的值在 {@code DATA} 中的位置（{@code 起点 << 3 | 长度}），不是完整名称时为 -1。
+   * </p>
+   */
+  private static final class Trie {
+    private static final String DATA = HtmlEntities.DATA;
+    private static final char[] LABELS;
+    private static final char[] FIRST_CHILD;
+    private static final int[] VALUES;
+
+    static {
+      char[] data = DATA.toCharArray();
+      // 每条记录的名称与值在 DATA 中的范围
+      int count = HtmlEntities.COUNT;
+      int[] nameStarts = new int[count];
+      int[] nameEnds = new int[count];
+      int[] valueStarts = new int[count];
+      int[] valueEnds = new int[count];
+      int nodeCount = 1;
+      int pos = 0;
+      for (int e = 0; e < count; e++) {
+        int semicolon = pos;
+        while (data[semicolon] != ';') {
+          semicolon++;
+        }
+        int newline = semicolon + 2;
+        while (data[newline] != '\n') {
+          newline++;
+        }
+        nameStarts[e] = pos;
+        nameEnds[e] = semicolon;
+        valueStarts[e] = semicolon + 1;
+        valueEnds[e] = newline;
+        // 与前一个名称的公共前缀之后的字符各产生一个新节点
+        int common = 0;
+        if (e > 0) {
+          int previous = nameStarts[e - 1];
+          int limit = Math.min(nameEnds[e - 1] - previous, semicolon - pos);
+          while (common < limit && data[previous + common] == data[pos + common]) {
+            common++;
+          }
+        }
+        nodeCount += semicolon - pos - common;
+        pos = newline + 1;
+      }
+
+      char[] labels = new char[nodeCount];
+      char[] firstChild = new char[nodeCount + 1];
+      int[] values = new int[nodeCount];
+      Arrays.fill(values, -1);
+      // 广度优先构建：每个节点对应名称有序表中的一段 [lo, hi)，这些名称的前 depth 个字符相同
+      int[] rangeLo = new int[nodeCount];
+      int[] rangeHi = new int[nodeCount];
+      int[] depths = new int[nodeCount];
+      rangeHi[0] = count;
+      int next = 1;
+      for (int node = 0; node < nodeCount; node++) {
+        firstChild[node] = (char) next;
+        int depth = depths[node];
+        int e = rangeLo[node];
+        int hi = rangeHi[node];
+        if (e < hi && nameEnds[e] - nameStarts[e] == depth) {
+          values[node] = valueStarts[e] << 3 | (valueEnds[e] - valueStarts[e]);
+          e++;
+        }
+        while (e < hi) {
+          char c = data[nameStarts[e] + depth];
+          int groupEnd = e + 1;
+          while (groupEnd < hi && data[nameStarts[groupEnd] + depth] == c) {
+            groupEnd++;
+          }
+          labels[next] = c;
+          rangeLo[next] = e;
+          rangeHi[next] = groupEnd;
+          depths[next] = depth + 1;
+          next++;
+          e = groupEnd;
+        }
+      }
+      firstChild[nodeCount] = (char) next;
+      LABELS = labels;
+      FIRST_CHILD = firstChild;
+      VALUES = values;
+    }
+
+    private Trie() {}
+
+    /**
+     * 查找 [{@code start}, {@code end}) 范围内的实体名称.
+     *
+     * @return 实体的值；不是完整的实体名称时返回 {@code null}
+     */
+    static String lookup(CharSequence s, int start, int end) {
+      int node = 0;
+      for (int i = start; i < end; i++) {
+        int child =
+            Arrays.binarySearch(LABELS, FIRST_CHILD[node], FIRST_CHILD[node + 1], s.charAt(i));
+        if (child < 0) {
+          return null;
+        }
+        node = child;
+      }
+      int value = VALUES[node];
+      return value >= 0 ? DATA.substring(value >>> 3, (value >>> 3) + (value & 7)) : null;
+    }
   }
 }
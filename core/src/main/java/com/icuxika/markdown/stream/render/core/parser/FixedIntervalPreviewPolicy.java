@@ -0,0 +1,27 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+/**
+ * 固定间隔的预览策略.
+ */
+final class FixedIntervalPreviewPolicy extends AbstractPreviewPolicy {
+
+  private final long renderIntervalNanos;
+  private final long inlineParseIntervalNanos;
+
+  FixedIntervalPreviewPolicy(
+      long renderIntervalNanos, long inlineParseIntervalNanos, int inlineParseCharLimit) {
+    super(inlineParseCharLimit);
+    this.renderIntervalNanos = renderIntervalNanos;
+    this.inlineParseIntervalNanos = inlineParseIntervalNanos;
+  }
+
+  @Override
+  protected boolean isRenderDue(long nowNanos, int contentLength) {
+    return sinceLastRender(nowNanos) >= renderIntervalNanos;
+  }
+
+  @Override
+  protected boolean isInlineParseDue(long nowNanos, int contentLength) {
+    return sinceLastInlineParse(nowNanos) >= inlineParseIntervalNanos;
+  }
+}
@@ -0,0 +1,2144 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+/**
+ * HTML5 命名字符引用表，由 WHATWG 的 {@code entities.json} 生成，请勿手工修改.
+ * <p>
+ * 只包含以 {@code ;} 结尾的 2125 个名称（CommonMark 只识别这些形式），按名称的字符顺序排列。每条记录的格式为
+ * {@code 名称;值\n}：值至少一个字符，第一个字符总是属于值（{@code NewLine} 的值本身就是换行符）。
+ * {@link EntityDecoder} 在第一次解码命名实体时把它编译为字典树。
+ * </p>
+ */
+@SuppressWarnings("checkstyle:AvoidEscapedUnicodeCharacters")
+final class HtmlEntities {
+
+  static final int COUNT = 2125;
+
+  static final String DATA =
+      "AElig;\u00C6\n"
+          + "AMP;&\n"
+          + "Aacute;\u00C1\n"
+          + "Abreve;\u0102\n"
+          + "Acirc;\u00C2\n"
+          + "Acy;\u0410\n"
+          + "Afr;\uD835\uDD04\n"
+          + "Agrave;\u00C0\n"
+          + "Alpha;\u0391\n"
+          + "Amacr;\u0100\n"
+          + "And;\u2A53\n"
+          + "Aogon;\u0104\n"
+          + "Aopf;\uD835\uDD38\n"
+          + "ApplyFunction;\u2061\n"
+          + "Aring;\u00C5\n"
+          + "Ascr;\uD835\uDC9C\n"
+          + "Assign;\u2254\n"
+          + "Atilde;\u00C3\n"
+          + "Auml;\u00C4\n"
+          + "Backslash;\u2216\n"
+          + "Barv;\u2AE7\n"
+          + "Barwed;\u2306\n"
+          + "Bcy;\u0411\n"
+          + "Because;\u2235\n"
+          + "Bernoullis;\u212C\n"
+          + "Beta;\u0392\n"
+          + "Bfr;\uD835\uDD05\n"
+          + "Bopf;\uD835\uDD39\n"
+          + "Breve;\u02D8\n"
+          + "Bscr;\u212C\n"
+          + "Bumpeq;\u224E\n"
+          + "CHcy;\u0427\n"
+          + "COPY;\u00A9\n"
+          + "Cacute;\u0106\n"
+          + "Cap;\u22D2\n"
+          + "CapitalDifferentialD;\u2145\n"
+          + "Cayleys;\u212D\n"
+          + "Ccaron;\u010C\n"
+          + "Ccedil;\u00C7\n"
+          + "Ccirc;\u0108\n"
+          + "Cconint;\u2230\n"
+          + "Cdot;\u010A\n"
+          + "Cedilla;\u00B8\n"
+          + "CenterDot;\u00B7\n"
+          + "Cfr;\u212D\n"
+          + "Chi;\u03A7\n"
+          + "CircleDot;\u2299\n"
+          + "CircleMinus;\u2296\n"
+          + "CirclePlus;\u2295\n"
+          + "CircleTimes;\u2297\n"
+          + "ClockwiseContourIntegral;\u2232\n"
+          + "CloseCurlyDoubleQuote;\u201D\n"
+          + "CloseCurlyQuote;\u2019\n"
+          + "Colon;\u2237\n"
+          + "Colone;\u2A74\n"
+          + "Congruent;\u2261\n"
+          + "Conint;\u222F\n"
+          + "ContourIntegral;\u222E\n"
+          + "Copf;\u2102\n"
+          + "Coproduct;\u2210\n"
+          + "CounterClockwiseContourIntegral;\u2233\n"
+          + "Cross;\u2A2F\n"
+          + "Cscr;\uD835\uDC9E\n"
+          + "Cup;\u22D3\n"
+          + "CupCap;\u224D\n"
+          + "DD;\u2145\n"
+          + "DDotrahd;\u2911\n"
+          + "DJcy;\u0402\n"
+          + "DScy;\u0405\n"
+          + "DZcy;\u040F\n"
+          + "Dagger;\u2021\n"
+          + "Darr;\u21A1\n"
+          + "Dashv;\u2AE4\n"
+          + "Dcaron;\u010E\n"
+          + "Dcy;\u0414\n"
+          + "Del;\u2207\n"
+          + "Delta;\u0394\n"
+          + "Dfr;\uD835\uDD07\n"
+          + "DiacriticalAcute;\u00B4\n"
+          + "DiacriticalDot;\u02D9\n"
+          + "DiacriticalDoubleAcute;\u02DD\n"
+          + "DiacriticalGrave;`\n"
+          + "DiacriticalTilde;\u02DC\n"
+          + "Diamond;\u22C4\n"
+          + "DifferentialD;\u2146\n"
+          + "Dopf;\uD835\uDD3B\n"
+          + "Dot;\u00A8\n"
+          + "DotDot;\u20DC\n"
+          + "DotEqual;\u2250\n"
+          + "DoubleContourIntegral;\u222F\n"
+          + "DoubleDot;\u00A8\n"
+          + "DoubleDownArrow;\u21D3\n"
+          + "DoubleLeftArrow;\u21D0\n"
+          + "DoubleLeftRightArrow;\u21D4\n"
+          + "DoubleLeftTee;\u2AE4\n"
+          + "DoubleLongLeftArrow;\u27F8\n"
+          + "DoubleLongLeftRightArrow;\u27FA\n"
+          + "DoubleLongRightArrow;\u27F9\n"
+          + "DoubleRightArrow;\u21D2\n"
+          + "DoubleRightTee;\u22A8\n"
+          + "DoubleUpArrow;\u21D1\n"
+          + "DoubleUpDownArrow;\u21D5\n"
+          + "DoubleVerticalBar;\u2225\n"
+          + "DownArrow;\u2193\n"
+          + "DownArrowBar;\u2913\n"
+          + "DownArrowUpArrow;\u21F5\n"
+          + "DownBreve;\u0311\n"
+          + "DownLeftRightVector;\u2950\n"
+          + "DownLeftTeeVector;\u295E\n"
+          + "DownLeftVector;\u21BD\n"
+          + "DownLeftVectorBar;\u2956\n"
+          + "DownRightTeeVector;\u295F\n"
+          + "DownRightVector;\u21C1\n"
+          + "DownRightVectorBar;\u2957\n"
+          + "DownTee;\u22A4\n"
+          + "DownTeeArrow;\u21A7\n"
+          + "Downarrow;\u21D3\n"
+          + "Dscr;\uD835\uDC9F\n"
+          + "Dstrok;\u0110\n"
+          + "ENG;\u014A\n"
+          + "ETH;\u00D0\n"
+          + "Eacute;\u00C9\n"
+          + "Ecaron;\u011A\n"
+          + "Ecirc;\u00CA\n"
+          + "Ecy;\u042D\n"
+          + "Edot;\u0116\n"
+          + "Efr;\uD835\uDD08\n"
+          + "Egrave;\u00C8\n"
+          + "Element;\u2208\n"
+          + "Emacr;\u0112\n"
+          + "EmptySmallSquare;\u25FB\n"
+          + "EmptyVerySmallSquare;\u25AB\n"
+          + "Eogon;\u0118\n"
+          + "Eopf;\uD835\uDD3C\n"
+          + "Epsilon;\u0395\n"
+          + "Equal;\u2A75\n"
+          + "EqualTilde;\u2242\n"
+          + "Equilibrium;\u21CC\n"
+          + "Escr;\u2130\n"
+          + "Esim;\u2A73\n"
+          + "Eta;\u0397\n"
+          + "Euml;\u00CB\n"
+          + "Exists;\u2203\n"
+          + "ExponentialE;\u2147\n"
+          + "Fcy;\u0424\n"
+          + "Ffr;\uD835\uDD09\n"
+          + "FilledSmallSquare;\u25FC\n"
+          + "FilledVerySmallSquare;\u25AA\n"
+          + "Fopf;\uD835\uDD3D\n"
+          + "ForAll;\u2200\n"
+          + "Fouriertrf;\u2131\n"
+          + "Fscr;\u2131\n"
+          + "GJcy;\u0403\n"
+          + "GT;>\n"
+          + "Gamma;\u0393\n"
+          + "Gammad;\u03DC\n"
+          + "Gbreve;\u011E\n"
+          + "Gcedil;\u0122\n"
+          + "Gcirc;\u011C\n"
+          + "Gcy;\u0413\n"
+          + "Gdot;\u0120\n"
+          + "Gfr;\uD835\uDD0A\n"
+          + "Gg;\u22D9\n"
+          + "Gopf;\uD835\uDD3E\n"
+          + "GreaterEqual;\u2265\n"
+          + "GreaterEqualLess;\u22DB\n"
+          + "GreaterFullEqual;\u2267\n"
+          + "GreaterGreater;\u2AA2\n"
+          + "GreaterLess;\u2277\n"
+          + "GreaterSlantEqual;\u2A7E\n"
+          + "GreaterTilde;\u2273\n"
+          + "Gscr;\uD835\uDCA2\n"
+          + "Gt;\u226B\n"
+          + "HARDcy;\u042A\n"
+          + "Hacek;\u02C7\n"
+          + "Hat;^\n"
+          + "Hcirc;\u0124\n"
+          + "Hfr;\u210C\n"
+          + "HilbertSpace;\u210B\n"
+          + "Hopf;\u210D\n"
+          + "HorizontalLine;\u2500\n"
+          + "Hscr;\u210B\n"
+          + "Hstrok;\u0126\n"
+          + "HumpDownHump;\u224E\n"
+          + "HumpEqual;\u224F\n"
+          + "IEcy;\u0415\n"
+          + "IJlig;\u0132\n"
+          + "IOcy;\u0401\n"
+          + "Iacute;\u00CD\n"
+          + "Icirc;\u00CE\n"
+          + "Icy;\u0418\n"
+          + "Idot;\u0130\n"
+          + "Ifr;\u2111\n"
+          + "Igrave;\u00CC\n"
+          + "Im;\u2111\n"
+          + "Imacr;\u012A\n"
+          + "ImaginaryI;\u2148\n"
+          + "Implies;\u21D2\n"
+          + "Int;\u222C\n"
+          + "Integral;\u222B\n"
+          + "Intersection;\u22C2\n"
+          + "InvisibleComma;\u2063\n"
+          + "InvisibleTimes;\u2062\n"
+          + "Iogon;\u012E\n"
+          + "Iopf;\uD835\uDD40\n"
+          + "Iota;\u0399\n"
+          + "Iscr;\u2110\n"
+          + "Itilde;\u0128\n"
+          + "Iukcy;\u0406\n"
+          + "Iuml;\u00CF\n"
+          + "Jcirc;\u0134\n"
+          + "Jcy;\u0419\n"
+          + "Jfr;\uD835\uDD0D\n"
+          + "Jopf;\uD835\uDD41\n"
+          + "Jscr;\uD835\uDCA5\n"
+          + "Jsercy;\u0408\n"
+          + "Jukcy;\u0404\n"
+          + "KHcy;\u0425\n"
+          + "KJcy;\u040C\n"
+          + "Kappa;\u039A\n"
+          + "Kcedil;\u0136\n"
+          + "Kcy;\u041A\n"
+          + "Kfr;\uD835\uDD0E\n"
+          + "Kopf;\uD835\uDD42\n"
+          + "Kscr;\uD835\uDCA6\n"
+          + "LJcy;\u0409\n"
+          + "LT;<\n"
+          + "Lacute;\u0139\n"
+          + "Lambda;\u039B\n"
+          + "Lang;\u27EA\n"
+          + "Laplacetrf;\u2112\n"
+          + "Larr;\u219E\n"
+          + "Lcaron;\u013D\n"
+          + "Lcedil;\u013B\n"
+          + "Lcy;\u041B\n"
+          + "LeftAngleBracket;\u27E8\n"
+          + "LeftArrow;\u2190\n"
+          + "LeftArrowBar;\u21E4\n"
+          + "LeftArrowRightArrow;\u21C6\n"
+          + "LeftCeiling;\u2308\n"
+          + "LeftDoubleBracket;\u27E6\n"
+          + "LeftDownTeeVector;\u2961\n"
+          + "LeftDownVector;\u21C3\n"
+          + "LeftDownVectorBar;\u2959\n"
+          + "LeftFloor;\u230A\n"
+          + "LeftRightArrow;\u2194\n"
+          + "LeftRightVector;\u294E\n"
+          + "LeftTee;\u22A3\n"
+          + "LeftTeeArrow;\u21A4\n"
+          + "LeftTeeVector;\u295A\n"
+          + "LeftTriangle;\u22B2\n"
+          + "LeftTriangleBar;\u29CF\n"
+          + "LeftTriangleEqual;\u22B4\n"
+          + "LeftUpDownVector;\u2951\n"
+          + "LeftUpTeeVector;\u2960\n"
+          + "LeftUpVector;\u21BF\n"
+          + "LeftUpVectorBar;\u2958\n"
+          + "LeftVector;\u21BC\n"
+          + "LeftVectorBar;\u2952\n"
+          + "Leftarrow;\u21D0\n"
+          + "Leftrightarrow;\u21D4\n"
+          + "LessEqualGreater;\u22DA\n"
+          + "LessFullEqual;\u2266\n"
+          + "LessGreater;\u2276\n"
+          + "LessLess;\u2AA1\n"
+          + "LessSlantEqual;\u2A7D\n"
+          + "LessTilde;\u2272\n"
+          + "Lfr;\uD835\uDD0F\n"
+          + "Ll;\u22D8\n"
+          + "Lleftarrow;\u21DA\n"
+          + "Lmidot;\u013F\n"
+          + "LongLeftArrow;\u27F5\n"
+          + "LongLeftRightArrow;\u27F7\n"
+          + "LongRightArrow;\u27F6\n"
+          + "Longleftarrow;\u27F8\n"
+          + "Longleftrightarrow;\u27FA\n"
+          + "Longrightarrow;\u27F9\n"
+          + "Lopf;\uD835\uDD43\n"
+          + "LowerLeftArrow;\u2199\n"
+          + "LowerRightArrow;\u2198\n"
+          + "Lscr;\u2112\n"
+          + "Lsh;\u21B0\n"
+          + "Lstrok;\u0141\n"
+          + "Lt;\u226A\n"
+          + "Map;\u2905\n"
+          + "Mcy;\u041C\n"
+          + "MediumSpace;\u205F\n"
+          + "Mellintrf;\u2133\n"
+          + "Mfr;\uD835\uDD10\n"
+          + "MinusPlus;\u2213\n"
+          + "Mopf;\uD835\uDD44\n"
+          + "Mscr;\u2133\n"
+          + "Mu;\u039C\n"
+          + "NJcy;\u040A\n"
+          + "Nacute;\u0143\n"
+          + "Ncaron;\u0147\n"
+          + "Ncedil;\u0145\n"
+          + "Ncy;\u041D\n"
+          + "NegativeMediumSpace;\u200B\n"
+          + "NegativeThickSpace;\u200B\n"
+          + "NegativeThinSpace;\u200B\n"
+          + "NegativeVeryThinSpace;\u200B\n"
+          + "NestedGreaterGreater;\u226B\n"
+          + "NestedLessLess;\u226A\n"
+          + "NewLine;\n\n"
+          + "Nfr;\uD835\uDD11\n"
+          + "NoBreak;\u2060\n"
+          + "NonBreakingSpace;\u00A0\n"
+          + "Nopf;\u2115\n"
+          + "Not;\u2AEC\n"
+          + "NotCongruent;\u2262\n"
+          + "NotCupCap;\u226D\n"
+          + "NotDoubleVerticalBar;\u2226\n"
+          + "NotElement;\u2209\n"
+          + "NotEqual;\u2260\n"
+          + "NotEqualTilde;\u2242\u0338\n"
+          + "NotExists;\u2204\n"
+          + "NotGreater;\u226F\n"
+          + "NotGreaterEqual;\u2271\n"
+          + "NotGreaterFullEqual;\u2267\u0338\n"
+          + "NotGreaterGreater;\u226B\u0338\n"
+          + "NotGreaterLess;\u2279\n"
+          + "NotGreaterSlantEqual;\u2A7E\u0338\n"
+          + "NotGreaterTilde;\u2275\n"
+          + "NotHumpDownHump;\u224E\u0338\n"
+          + "NotHumpEqual;\u224F\u0338\n"
+          + "NotLeftTriangle;\u22EA\n"
+          + "NotLeftTriangleBar;\u29CF\u0338\n"
+          + "NotLeftTriangleEqual;\u22EC\n"
+          + "NotLess;\u226E\n"
+          + "NotLessEqual;\u2270\n"
+          + "NotLessGreater;\u2278\n"
+          + "NotLessLess;\u226A\u0338\n"
+          + "NotLessSlantEqual;\u2A7D\u0338\n"
+          + "NotLessTilde;\u2274\n"
+          + "NotNestedGreaterGreater;\u2AA2\u0338\n"
+          + "NotNestedLessLess;\u2AA1\u0338\n"
+          + "NotPrecedes;\u2280\n"
+          + "NotPrecedesEqual;\u2AAF\u0338\n"
+          + "NotPrecedesSlantEqual;\u22E0\n"
+          + "NotReverseElement;\u220C\n"
+          + "NotRightTriangle;\u22EB\n"
+          + "NotRightTriangleBar;\u29D0\u0338\n"
+          + "NotRightTriangleEqual;\u22ED\n"
+          + "NotSquareSubset;\u228F\u0338\n"
+          + "NotSquareSubsetEqual;\u22E2\n"
+          + "NotSquareSuperset;\u2290\u0338\n"
+          + "NotSquareSupersetEqual;\u22E3\n"
+          + "NotSubset;\u2282\u20D2\n"
+          + "NotSubsetEqual;\u2288\n"
+          + "NotSucceeds;\u2281\n"
+          + "NotSucceedsEqual;\u2AB0\u0338\n"
+          + "NotSucceedsSlantEqual;\u22E1\n"
+          + "NotSucceedsTilde;\u227F\u0338\n"
+          + "NotSuperset;\u2283\u20D2\n"
+          + "NotSupersetEqual;\u2289\n"
+          + "NotTilde;\u2241\n"
+          + "NotTildeEqual;\u2244\n"
+          + "NotTildeFullEqual;\u2247\n"
+          + "NotTildeTilde;\u2249\n"
+          + "NotVerticalBar;\u2224\n"
+          + "Nscr;\uD835\uDCA9\n"
+          + "Ntilde;\u00D1\n"
+          + "Nu;\u039D\n"
+          + "OElig;\u0152\n"
+          + "Oacute;\u00D3\n"
+          + "Ocirc;\u00D4\n"
+          + "Ocy;\u041E\n"
+          + "Odblac;\u0150\n"
+          + "Ofr;\uD835\uDD12\n"
+          + "Ograve;\u00D2\n"
+          + "Omacr;\u014C\n"
+          + "Omega;\u03A9\n"
+          + "Omicron;\u039F\n"
+          + "Oopf;\uD835\uDD46\n"
+          + "OpenCurlyDoubleQuote;\u201C\n"
+          + "OpenCurlyQuote;\u2018\n"
+          + "Or;\u2A54\n"
+          + "Oscr;\uD835\uDCAA\n"
+          + "Oslash;\u00D8\n"
+          + "Otilde;\u00D5\n"
+          + "Otimes;\u2A37\n"
+          + "Ouml;\u00D6\n"
+          + "OverBar;\u203E\n"
+          + "OverBrace;\u23DE\n"
+          + "OverBracket;\u23B4\n"
+          + "OverParenthesis;\u23DC\n"
+          + "PartialD;\u2202\n"
+          + "Pcy;\u041F\n"
+          + "Pfr;\uD835\uDD13\n"
+          + "Phi;\u03A6\n"
+          + "Pi;\u03A0\n"
+          + "PlusMinus;\u00B1\n"
+          + "Poincareplane;\u210C\n"
+          + "Popf;\u2119\n"
+          + "Pr;\u2ABB\n"
+          + "Precedes;\u227A\n"
+          + "PrecedesEqual;\u2AAF\n"
+          + "PrecedesSlantEqual;\u227C\n"
+          + "PrecedesTilde;\u227E\n"
+          + "Prime;\u2033\n"
+          + "Product;\u220F\n"
+          + "Proportion;\u2237\n"
+          + "Proportional;\u221D\n"
+          + "Pscr;\uD835\uDCAB\n"
+          + "Psi;\u03A8\n"
+          + "QUOT;\"\n"
+          + "Qfr;\uD835\uDD14\n"
+          + "Qopf;\u211A\n"
+          + "Qscr;\uD835\uDCAC\n"
+          + "RBarr;\u2910\n"
+          + "REG;\u00AE\n"
+          + "Racute;\u0154\n"
+          + "Rang;\u27EB\n"
+          + "Rarr;\u21A0\n"
+          + "Rarrtl;\u2916\n"
+          + "Rcaron;\u0158\n"
+          + "Rcedil;\u0156\n"
+          + "Rcy;\u0420\n"
+          + "Re;\u211C\n"
+          + "ReverseElement;\u220B\n"
+          + "ReverseEquilibrium;\u21CB\n"
+          + "ReverseUpEquilibrium;\u296F\n"
+          + "Rfr;\u211C\n"
+          + "Rho;\u03A1\n"
+          + "RightAngleBracket;\u27E9\n"
+          + "RightArrow;\u2192\n"
+          + "RightArrowBar;\u21E5\n"
+          + "RightArrowLeftArrow;\u21C4\n"
+          + "RightCeiling;\u2309\n"
+          + "RightDoubleBracket;\u27E7\n"
+          + "RightDownTeeVector;\u295D\n"
+          + "RightDownVector;\u21C2\n"
+          + "RightDownVectorBar;\u2955\n"
+          + "RightFloor;\u230B\n"
+          + "RightTee;\u22A2\n"
+          + "RightTeeArrow;\u21A6\n"
+          + "RightTeeVector;\u295B\n"
+          + "RightTriangle;\u22B3\n"
+          + "RightTriangleBar;\u29D0\n"
+          + "RightTriangleEqual;\u22B5\n"
+          + "RightUpDownVector;\u294F\n"
+          + "RightUpTeeVector;\u295C\n"
+          + "RightUpVector;\u21BE\n"
+          + "RightUpVectorBar;\u2954\n"
+          + "RightVector;\u21C0\n"
+          + "RightVectorBar;\u2953\n"
+          + "Rightarrow;\u21D2\n"
+          + "Ropf;\u211D\n"
+          + "RoundImplies;\u2970\n"
+          + "Rrightarrow;\u21DB\n"
+          + "Rscr;\u211B\n"
+          + "Rsh;\u21B1\n"
+          + "RuleDelayed;\u29F4\n"
+          + "SHCHcy;\u0429\n"
+          + "SHcy;\u0428\n"
+          + "SOFTcy;\u042C\n"
+          + "Sacute;\u015A\n"
+          + "Sc;\u2ABC\n"
+          + "Scaron;\u0160\n"
+          + "Scedil;\u015E\n"
+          + "Scirc;\u015C\n"
+          + "Scy;\u0421\n"
+          + "Sfr;\uD835\uDD16\n"
+          + "ShortDownArrow;\u2193\n"
+          + "ShortLeftArrow;\u2190\n"
+          + "ShortRightArrow;\u2192\n"
+          + "ShortUpArrow;\u2191\n"
+          + "Sigma;\u03A3\n"
+          + "SmallCircle;\u2218\n"
+          + "Sopf;\uD835\uDD4A\n"
+          + "Sqrt;\u221A\n"
+          + "Square;\u25A1\n"
+          + "SquareIntersection;\u2293\n"
+          + "SquareSubset;\u228F\n"
+          + "SquareSubsetEqual;\u2291\n"
+          + "SquareSuperset;\u2290\n"
+          + "SquareSupersetEqual;\u2292\n"
+          + "SquareUnion;\u2294\n"
+          + "Sscr;\uD835\uDCAE\n"
+          + "Star;\u22C6\n"
+          + "Sub;\u22D0\n"
+          + "Subset;\u22D0\n"
+          + "SubsetEqual;\u2286\n"
+          + "Succeeds;\u227B\n"
+          + "SucceedsEqual;\u2AB0\n"
+          + "SucceedsSlantEqual;\u227D\n"
+          + "SucceedsTilde;\u227F\n"
+          + "SuchThat;\u220B\n"
+          + "Sum;\u2211\n"
+          + "Sup;\u22D1\n"
+          + "Superset;\u2283\n"
+          + "SupersetEqual;\u2287\n"
+          + "Supset;\u22D1\n"
+          + "THORN;\u00DE\n"
+          + "TRADE;\u2122\n"
+          + "TSHcy;\u040B\n"
+          + "TScy;\u0426\n"
+          + "Tab;\t\n"
+          + "Tau;\u03A4\n"
+          + "Tcaron;\u0164\n"
+          + "Tcedil;\u0162\n"
+          + "Tcy;\u0422\n"
+          + "Tfr;\uD835\uDD17\n"
+          + "Therefore;\u2234\n"
+          + "Theta;\u0398\n"
+          + "ThickSpace;\u205F\u200A\n"
+          + "ThinSpace;\u2009\n"
+          + "Tilde;\u223C\n"
+          + "TildeEqual;\u2243\n"
+          + "TildeFullEqual;\u2245\n"
+          + "TildeTilde;\u2248\n"
+          + "Topf;\uD835\uDD4B\n"
+          + "TripleDot;\u20DB\n"
+          + "Tscr;\uD835\uDCAF\n"
+          + "Tstrok;\u0166\n"
+          + "Uacute;\u00DA\n"
+          + "Uarr;\u219F\n"
+          + "Uarrocir;\u2949\n"
+          + "Ubrcy;\u040E\n"
+          + "Ubreve;\u016C\n"
+          + "Ucirc;\u00DB\n"
+          + "Ucy;\u0423\n"
+          + "Udblac;\u0170\n"
+          + "Ufr;\uD835\uDD18\n"
+          + "Ugrave;\u00D9\n"
+          + "Umacr;\u016A\n"
+          + "UnderBar;_\n"
+          + "UnderBrace;\u23DF\n"
+          + "UnderBracket;\u23B5\n"
+          + "UnderParenthesis;\u23DD\n"
+          + "Union;\u22C3\n"
+          + "UnionPlus;\u228E\n"
+          + "Uogon;\u0172\n"
+          + "Uopf;\uD835\uDD4C\n"
+          + "UpArrow;\u2191\n"
+          + "UpArrowBar;\u2912\n"
+          + "UpArrowDownArrow;\u21C5\n"
+          + "UpDownArrow;\u2195\n"
+          + "UpEquilibrium;\u296E\n"
+          + "UpTee;\u22A5\n"
+          + "UpTeeArrow;\u21A5\n"
+          + "Uparrow;\u21D1\n"
+          + "Updownarrow;\u21D5\n"
+          + "UpperLeftArrow;\u2196\n"
+          + "UpperRightArrow;\u2197\n"
+          + "Upsi;\u03D2\n"
+          + "Upsilon;\u03A5\n"
+          + "Uring;\u016E\n"
+          + "Uscr;\uD835\uDCB0\n"
+          + "Utilde;\u0168\n"
+          + "Uuml;\u00DC\n"
+          + "VDash;\u22AB\n"
+          + "Vbar;\u2AEB\n"
+          + "Vcy;\u0412\n"
+          + "Vdash;\u22A9\n"
+          + "Vdashl;\u2AE6\n"
+          + "Vee;\u22C1\n"
+          + "Verbar;\u2016\n"
+          + "Vert;\u2016\n"
+          + "VerticalBar;\u2223\n"
+          + "VerticalLine;|\n"
+          + "VerticalSeparator;\u2758\n"
+          + "VerticalTilde;\u2240\n"
+          + "VeryThinSpace;\u200A\n"
+          + "Vfr;\uD835\uDD19\n"
+          + "Vopf;\uD835\uDD4D\n"
+          + "Vscr;\uD835\uDCB1\n"
+          + "Vvdash;\u22AA\n"
+          + "Wcirc;\u0174\n"
+          + "Wedge;\u22C0\n"
+          + "Wfr;\uD835\uDD1A\n"
+          + "Wopf;\uD835\uDD4E\n"
+          + "Wscr;\uD835\uDCB2\n"
+          + "Xfr;\uD835\uDD1B\n"
+          + "Xi;\u039E\n"
+          + "Xopf;\uD835\uDD4F\n"
+          + "Xscr;\uD835\uDCB3\n"
+          + "YAcy;\u042F\n"
+          + "YIcy;\u0407\n"
+          + "YUcy;\u042E\n"
+          + "Yacute;\u00DD\n"
+          + "Ycirc;\u0176\n"
+          + "Ycy;\u042B\n"
+          + "Yfr;\uD835\uDD1C\n"
+          + "Yopf;\uD835\uDD50\n"
+          + "Yscr;\uD835\uDCB4\n"
+          + "Yuml;\u0178\n"
+          + "ZHcy;\u0416\n"
+          + "Zacute;\u0179\n"
+          + "Zcaron;\u017D\n"
+          + "Zcy;\u0417\n"
+          + "Zdot;\u017B\n"
+          + "ZeroWidthSpace;\u200B\n"
+          + "Zeta;\u0396\n"
+          + "Zfr;\u2128\n"
+          + "Zopf;\u2124\n"
+          + "Zscr;\uD835\uDCB5\n"
+          + "aacute;\u00E1\n"
+          + "abreve;\u0103\n"
+          + "ac;\u223E\n"
+          + "acE;\u223E\u0333\n"
+          + "acd;\u223F\n"
+          + "acirc;\u00E2\n"
+          + "acute;\u00B4\n"
+          + "acy;\u0430\n"
+          + "aelig;\u00E6\n"
+          + "af;\u2061\n"
+          + "afr;\uD835\uDD1E\n"
+          + "agrave;\u00E0\n"
+          + "alefsym;\u2135\n"
+          + "aleph;\u2135\n"
+          + "alpha;\u03B1\n"
+          + "amacr;\u0101\n"
+          + "amalg;\u2A3F\n"
+          + "amp;&\n"
+          + "and;\u2227\n"
+          + "andand;\u2A55\n"
+          + "andd;\u2A5C\n"
+          + "andslope;\u2A58\n"
+          + "andv;\u2A5A\n"
+          + "ang;\u2220\n"
+          + "ange;\u29A4\n"
+          + "angle;\u2220\n"
+          + "angmsd;\u2221\n"
+          + "angmsdaa;\u29A8\n"
+          + "angmsdab;\u29A9\n"
+          + "angmsdac;\u29AA\n"
+          + "angmsdad;\u29AB\n"
+          + "angmsdae;\u29AC\n"
+          + "angmsdaf;\u29AD\n"
+          + "angmsdag;\u29AE\n"
+          + "angmsdah;\u29AF\n"
+          + "angrt;\u221F\n"
+          + "angrtvb;\u22BE\n"
+          + "angrtvbd;\u299D\n"
+          + "angsph;\u2222\n"
+          + "angst;\u00C5\n"
+          + "angzarr;\u237C\n"
+          + "aogon;\u0105\n"
+          + "aopf;\uD835\uDD52\n"
+          + "ap;\u2248\n"
+          + "apE;\u2A70\n"
+          + "apacir;\u2A6F\n"
+          + "ape;\u224A\n"
+          + "apid;\u224B\n"
+          + "apos;'\n"
+          + "approx;\u2248\n"
+          + "approxeq;\u224A\n"
+          + "aring;\u00E5\n"
+          + "ascr;\uD835\uDCB6\n"
+          + "ast;*\n"
+          + "asymp;\u2248\n"
+          + "asympeq;\u224D\n"
+          + "atilde;\u00E3\n"
+          + "auml;\u00E4\n"
+          + "awconint;\u2233\n"
+          + "awint;\u2A11\n"
+          + "bNot;\u2AED\n"
+          + "backcong;\u224C\n"
+          + "backepsilon;\u03F6\n"
+          + "backprime;\u2035\n"
+          + "backsim;\u223D\n"
+          + "backsimeq;\u22CD\n"
+          + "barvee;\u22BD\n"
+          + "barwed;\u2305\n"
+          + "barwedge;\u2305\n"
+          + "bbrk;\u23B5\n"
+          + "bbrktbrk;\u23B6\n"
+          + "bcong;\u224C\n"
+          + "bcy;\u0431\n"
+          + "bdquo;\u201E\n"
+          + "becaus;\u2235\n"
+          + "because;\u2235\n"
+          + "bemptyv;\u29B0\n"
+          + "bepsi;\u03F6\n"
+          + "bernou;\u212C\n"
+          + "beta;\u03B2\n"
+          + "beth;\u2136\n"
+          + "between;\u226C\n"
+          + "bfr;\uD835\uDD1F\n"
+          + "bigcap;\u22C2\n"
+          + "bigcirc;\u25EF\n"
+          + "bigcup;\u22C3\n"
+          + "bigodot;\u2A00\n"
+          + "bigoplus;\u2A01\n"
+          + "bigotimes;\u2A02\n"
+          + "bigsqcup;\u2A06\n"
+          + "bigstar;\u2605\n"
+          + "bigtriangledown;\u25BD\n"
+          + "bigtriangleup;\u25B3\n"
+          + "biguplus;\u2A04\n"
+          + "bigvee;\u22C1\n"
+          + "bigwedge;\u22C0\n"
+          + "bkarow;\u290D\n"
+          + "blacklozenge;\u29EB\n"
+          + "blacksquare;\u25AA\n"
+          + "blacktriangle;\u25B4\n"
+          + "blacktriangledown;\u25BE\n"
+          + "blacktriangleleft;\u25C2\n"
+          + "blacktriangleright;\u25B8\n"
+          + "blank;\u2423\n"
+          + "blk12;\u2592\n"
+          + "blk14;\u2591\n"
+          + "blk34;\u2593\n"
+          + "block;\u2588\n"
+          + "bne;=\u20E5\n"
+          + "bnequiv;\u2261\u20E5\n"
+          + "bnot;\u2310\n"
+          + "bopf;\uD835\uDD53\n"
+          + "bot;\u22A5\n"
+          + "bottom;\u22A5\n"
+          + "bowtie;\u22C8\n"
+          + "boxDL;\u2557\n"
+          + "boxDR;\u2554\n"
+          + "boxDl;\u2556\n"
+          + "boxDr;\u2553\n"
+          + "boxH;\u2550\n"
+          + "boxHD;\u2566\n"
+          + "boxHU;\u2569\n"
+          + "boxHd;\u2564\n"
+          + "boxHu;\u2567\n"
+          + "boxUL;\u255D\n"
+          + "boxUR;\u255A\n"
+          + "boxUl;\u255C\n"
+          + "boxUr;\u2559\n"
+          + "boxV;\u2551\n"
+          + "boxVH;\u256C\n"
+          + "boxVL;\u2563\n"
+          + "boxVR;\u2560\n"
+          + "boxVh;\u256B\n"
+          + "boxVl;\u2562\n"
+          + "boxVr;\u255F\n"
+          + "boxbox;\u29C9\n"
+          + "boxdL;\u2555\n"
+          + "boxdR;\u2552\n"
+          + "boxdl;\u2510\n"
+          + "boxdr;\u250C\n"
+          + "boxh;\u2500\n"
+          + "boxhD;\u2565\n"
+          + "boxhU;\u2568\n"
+          + "boxhd;\u252C\n"
+          + "boxhu;\u2534\n"
+          + "boxminus;\u229F\n"
+          + "boxplus;\u229E\n"
+          + "boxtimes;\u22A0\n"
+          + "boxuL;\u255B\n"
+          + "boxuR;\u2558\n"
+          + "boxul;\u2518\n"
+          + "boxur;\u2514\n"
+          + "boxv;\u2502\n"
+          + "boxvH;\u256A\n"
+          + "boxvL;\u2561\n"
+          + "boxvR;\u255E\n"
+          + "boxvh;\u253C\n"
+          + "boxvl;\u2524\n"
+          + "boxvr;\u251C\n"
+          + "bprime;\u2035\n"
+          + "breve;\u02D8\n"
+          + "brvbar;\u00A6\n"
+          + "bscr;\uD835\uDCB7\n"
+          + "bsemi;\u204F\n"
+          + "bsim;\u223D\n"
+          + "bsime;\u22CD\n"
+          + "bsol;\\\n"
+          + "bsolb;\u29C5\n"
+          + "bsolhsub;\u27C8\n"
+          + "bull;\u2022\n"
+          + "bullet;\u2022\n"
+          + "bump;\u224E\n"
+          + "bumpE;\u2AAE\n"
+          + "bumpe;\u224F\n"
+          + "bumpeq;\u224F\n"
+          + "cacute;\u0107\n"
+          + "cap;\u2229\n"
+          + "capand;\u2A44\n"
+          + "capbrcup;\u2A49\n"
+          + "capcap;\u2A4B\n"
+          + "capcup;\u2A47\n"
+          + "capdot;\u2A40\n"
+          + "caps;\u2229\uFE00\n"
+          + "caret;\u2041\n"
+          + "caron;\u02C7\n"
+          + "ccaps;\u2A4D\n"
+          + "ccaron;\u010D\n"
+          + "ccedil;\u00E7\n"
+          + "ccirc;\u0109\n"
+          + "ccups;\u2A4C\n"
+          + "ccupssm;\u2A50\n"
+          + "cdot;\u010B\n"
+          + "cedil;\u00B8\n"
+          + "cemptyv;\u29B2\n"
+          + "cent;\u00A2\n"
+          + "centerdot;\u00B7\n"
+          + "cfr;\uD835\uDD20\n"
+          + "chcy;\u0447\n"
+          + "check;\u2713\n"
+          + "checkmark;\u2713\n"
+          + "chi;\u03C7\n"
+          + "cir;\u25CB\n"
+          + "cirE;\u29C3\n"
+          + "circ;\u02C6\n"
+          + "circeq;\u2257\n"
+          + "circlearrowleft;\u21BA\n"
+          + "circlearrowright;\u21BB\n"
+          + "circledR;\u00AE\n"
+          + "circledS;\u24C8\n"
+          + "circledast;\u229B\n"
+          + "circledcirc;\u229A\n"
+          + "circleddash;\u229D\n"
+          + "cire;\u2257\n"
+          + "cirfnint;\u2A10\n"
+          + "cirmid;\u2AEF\n"
+          + "cirscir;\u29C2\n"
+          + "clubs;\u2663\n"
+          + "clubsuit;\u2663\n"
+          + "colon;:\n"
+          + "colone;\u2254\n"
+          + "coloneq;\u2254\n"
+          + "comma;,\n"
+          + "commat;@\n"
+          + "comp;\u2201\n"
+          + "compfn;\u2218\n"
+          + "complement;\u2201\n"
+          + "complexes;\u2102\n"
+          + "cong;\u2245\n"
+          + "congdot;\u2A6D\n"
+          + "conint;\u222E\n"
+          + "copf;\uD835\uDD54\n"
+          + "coprod;\u2210\n"
+          + "copy;\u00A9\n"
+          + "copysr;\u2117\n"
+          + "crarr;\u21B5\n"
+          + "cross;\u2717\n"
+          + "cscr;\uD835\uDCB8\n"
+          + "csub;\u2ACF\n"
+          + "csube;\u2AD1\n"
+          + "csup;\u2AD0\n"
+          + "csupe;\u2AD2\n"
+          + "ctdot;\u22EF\n"
+          + "cudarrl;\u2938\n"
+          + "cudarrr;\u2935\n"
+          + "cuepr;\u22DE\n"
+          + "cuesc;\u22DF\n"
+          + "cularr;\u21B6\n"
+          + "cularrp;\u293D\n"
+          + "cup;\u222A\n"
+          + "cupbrcap;\u2A48\n"
+          + "cupcap;\u2A46\n"
+          + "cupcup;\u2A4A\n"
+          + "cupdot;\u228D\n"
+          + "cupor;\u2A45\n"
+          + "cups;\u222A\uFE00\n"
+          + "curarr;\u21B7\n"
+          + "curarrm;\u293C\n"
+          + "curlyeqprec;\u22DE\n"
+          + "curlyeqsucc;\u22DF\n"
+          + "curlyvee;\u22CE\n"
+          + "curlywedge;\u22CF\n"
+          + "curren;\u00A4\n"
+          + "curvearrowleft;\u21B6\n"
+          + "curvearrowright;\u21B7\n"
+          + "cuvee;\u22CE\n"
+          + "cuwed;\u22CF\n"
+          + "cwconint;\u2232\n"
+          + "cwint;\u2231\n"
+          + "cylcty;\u232D\n"
+          + "dArr;\u21D3\n"
+          + "dHar;\u2965\n"
+          + "dagger;\u2020\n"
+          + "daleth;\u2138\n"
+          + "darr;\u2193\n"
+          + "dash;\u2010\n"
+          + "dashv;\u22A3\n"
+          + "dbkarow;\u290F\n"
+          + "dblac;\u02DD\n"
+          + "dcaron;\u010F\n"
+          + "dcy;\u0434\n"
+          + "dd;\u2146\n"
+          + "ddagger;\u2021\n"
+          + "ddarr;\u21CA\n"
+          + "ddotseq;\u2A77\n"
+          + "deg;\u00B0\n"
+          + "delta;\u03B4\n"
+          + "demptyv;\u29B1\n"
+          + "dfisht;\u297F\n"
+          + "dfr;\uD835\uDD21\n"
+          + "dharl;\u21C3\n"
+          + "dharr;\u21C2\n"
+          + "diam;\u22C4\n"
+          + "diamond;\u22C4\n"
+          + "diamondsuit;\u2666\n"
+          + "diams;\u2666\n"
+          + "die;\u00A8\n"
+          + "digamma;\u03DD\n"
+          + "disin;\u22F2\n"
+          + "div;\u00F7\n"
+          + "divide;\u00F7\n"
+          + "divideontimes;\u22C7\n"
+          + "divonx;\u22C7\n"
+          + "djcy;\u0452\n"
+          + "dlcorn;\u231E\n"
+          + "dlcrop;\u230D\n"
+          + "dollar;$\n"
+          + "dopf;\uD835\uDD55\n"
+          + "dot;\u02D9\n"
+          + "doteq;\u2250\n"
+          + "doteqdot;\u2251\n"
+          + "dotminus;\u2238\n"
+          + "dotplus;\u2214\n"
+          + "dotsquare;\u22A1\n"
+          + "doublebarwedge;\u2306\n"
+          + "downarrow;\u2193\n"
+          + "downdownarrows;\u21CA\n"
+          + "downharpoonleft;\u21C3\n"
+          + "downharpoonright;\u21C2\n"
+          + "drbkarow;\u2910\n"
+          + "drcorn;\u231F\n"
+          + "drcrop;\u230C\n"
+          + "dscr;\uD835\uDCB9\n"
+          + "dscy;\u0455\n"
+          + "dsol;\u29F6\n"
+          + "dstrok;\u0111\n"
+          + "dtdot;\u22F1\n"
+          + "dtri;\u25BF\n"
+          + "dtrif;\u25BE\n"
+          + "duarr;\u21F5\n"
+          + "duhar;\u296F\n"
+          + "dwangle;\u29A6\n"
+          + "dzcy;\u045F\n"
+          + "dzigrarr;\u27FF\n"
+          + "eDDot;\u2A77\n"
+          + "eDot;\u2251\n"
+          + "eacute;\u00E9\n"
+          + "easter;\u2A6E\n"
+          + "ecaron;\u011B\n"
+          + "ecir;\u2256\n"
+          + "ecirc;\u00EA\n"
+          + "ecolon;\u2255\n"
+          + "ecy;\u044D\n"
+          + "edot;\u0117\n"
+          + "ee;\u2147\n"
+          + "efDot;\u2252\n"
+          + "efr;\uD835\uDD22\n"
+          + "eg;\u2A9A\n"
+          + "egrave;\u00E8\n"
+          + "egs;\u2A96\n"
+          + "egsdot;\u2A98\n"
+          + "el;\u2A99\n"
+          + "elinters;\u23E7\n"
+          + "ell;\u2113\n"
+          + "els;\u2A95\n"
+          + "elsdot;\u2A97\n"
+          + "emacr;\u0113\n"
+          + "empty;\u2205\n"
+          + "emptyset;\u2205\n"
+          + "emptyv;\u2205\n"
+          + "emsp;\u2003\n"
+          + "emsp13;\u2004\n"
+          + "emsp14;\u2005\n"
+          + "eng;\u014B\n"
+          + "ensp;\u2002\n"
+          + "eogon;\u0119\n"
+          + "eopf;\uD835\uDD56\n"
+          + "epar;\u22D5\n"
+          + "eparsl;\u29E3\n"
+          + "eplus;\u2A71\n"
+          + "epsi;\u03B5\n"
+          + "epsilon;\u03B5\n"
+          + "epsiv;\u03F5\n"
+          + "eqcirc;\u2256\n"
+          + "eqcolon;\u2255\n"
+          + "eqsim;\u2242\n"
+          + "eqslantgtr;\u2A96\n"
+          + "eqslantless;\u2A95\n"
+          + "equals;=\n"
+          + "equest;\u225F\n"
+          + "equiv;\u2261\n"
+          + "equivDD;\u2A78\n"
+          + "eqvparsl;\u29E5\n"
+          + "erDot;\u2253\n"
+          + "erarr;\u2971\n"
+          + "escr;\u212F\n"
+          + "esdot;\u2250\n"
+          + "esim;\u2242\n"
+          + "eta;\u03B7\n"
+          + "eth;\u00F0\n"
+          + "euml;\u00EB\n"
+          + "euro;\u20AC\n"
+          + "excl;!\n"
+          + "exist;\u2203\n"
+          + "expectation;\u2130\n"
+          + "exponentiale;\u2147\n"
+          + "fallingdotseq;\u2252\n"
+          + "fcy;\u0444\n"
+          + "female;\u2640\n"
+          + "ffilig;\uFB03\n"
+          + "fflig;\uFB00\n"
+          + "ffllig;\uFB04\n"
+          + "ffr;\uD835\uDD23\n"
+          + "filig;\uFB01\n"
+          + "fjlig;fj\n"
+          + "flat;\u266D\n"
+          + "fllig;\uFB02\n"
+          + "fltns;\u25B1\n"
+          + "fnof;\u0192\n"
+          + "fopf;\uD835\uDD57\n"
+          + "forall;\u2200\n"
+          + "fork;\u22D4\n"
+          + "forkv;\u2AD9\n"
+          + "fpartint;\u2A0D\n"
+          + "frac12;\u00BD\n"
+          + "frac13;\u2153\n"
+          + "frac14;\u00BC\n"
+          + "frac15;\u2155\n"
+          + "frac16;\u2159\n"
+          + "frac18;\u215B\n"
+          + "frac23;\u2154\n"
+          + "frac25;\u2156\n"
+          + "frac34;\u00BE\n"
+          + "frac35;\u2157\n"
+          + "frac38;\u215C\n"
+          + "frac45;\u2158\n"
+          + "frac56;\u215A\n"
+          + "frac58;\u215D\n"
+          + "frac78;\u215E\n"
+          + "frasl;\u2044\n"
+          + "frown;\u2322\n"
+          + "fscr;\uD835\uDCBB\n"
+          + "gE;\u2267\n"
+          + "gEl;\u2A8C\n"
+          + "gacute;\u01F5\n"
+          + "gamma;\u03B3\n"
+          + "gammad;\u03DD\n"
+          + "gap;\u2A86\n"
+          + "gbreve;\u011F\n"
+          + "gcirc;\u011D\n"
+          + "gcy;\u0433\n"
+          + "gdot;\u0121\n"
+          + "ge;\u2265\n"
+          + "gel;\u22DB\n"
+          + "geq;\u2265\n"
+          + "geqq;\u2267\n"
+          + "geqslant;\u2A7E\n"
+          + "ges;\u2A7E\n"
+          + "gescc;\u2AA9\n"
+          + "gesdot;\u2A80\n"
+          + "gesdoto;\u2A82\n"
+          + "gesdotol;\u2A84\n"
+          + "gesl;\u22DB\uFE00\n"
+          + "gesles;\u2A94\n"
+          + "gfr;\uD835\uDD24\n"
+          + "gg;\u226B\n"
+          + "ggg;\u22D9\n"
+          + "gimel;\u2137\n"
+          + "gjcy;\u0453\n"
+          + "gl;\u2277\n"
+          + "glE;\u2A92\n"
+          + "gla;\u2AA5\n"
+          + "glj;\u2AA4\n"
+          + "gnE;\u2269\n"
+          + "gnap;\u2A8A\n"
+          + "gnapprox;\u2A8A\n"
+          + "gne;\u2A88\n"
+          + "gneq;\u2A88\n"
+          + "gneqq;\u2269\n"
+          + "gnsim;\u22E7\n"
+          + "gopf;\uD835\uDD58\n"
+          + "grave;`\n"
+          + "gscr;\u210A\n"
+          + "gsim;\u2273\n"
+          + "gsime;\u2A8E\n"
+          + "gsiml;\u2A90\n"
+          + "gt;>\n"
+          + "gtcc;\u2AA7\n"
+          + "gtcir;\u2A7A\n"
+          + "gtdot;\u22D7\n"
+          + "gtlPar;\u2995\n"
+          + "gtquest;\u2A7C\n"
+          + "gtrapprox;\u2A86\n"
+          + "gtrarr;\u2978\n"
+          + "gtrdot;\u22D7\n"
+          + "gtreqless;\u22DB\n"
+          + "gtreqqless;\u2A8C\n"
+          + "gtrless;\u2277\n"
+          + "gtrsim;\u2273\n"
+          + "gvertneqq;\u2269\uFE00\n"
+          + "gvnE;\u2269\uFE00\n"
+          + "hArr;\u21D4\n"
+          + "hairsp;\u200A\n"
+          + "half;\u00BD\n"
+          + "hamilt;\u210B\n"
+          + "hardcy;\u044A\n"
+          + "harr;\u2194\n"
+          + "harrcir;\u2948\n"
+          + "harrw;\u21AD\n"
+          + "hbar;\u210F\n"
+          + "hcirc;\u0125\n"
+          + "hearts;\u2665\n"
+          + "heartsuit;\u2665\n"
+          + "hellip;\u2026\n"
+          + "hercon;\u22B9\n"
+          + "hfr;\uD835\uDD25\n"
+          + "hksearow;\u2925\n"
+          + "hkswarow;\u2926\n"
+          + "hoarr;\u21FF\n"
+          + "homtht;\u223B\n"
+          + "hookleftarrow;\u21A9\n"
+          + "hookrightarrow;\u21AA\n"
+          + "hopf;\uD835\uDD59\n"
+          + "horbar;\u2015\n"
+          + "hscr;\uD835\uDCBD\n"
+          + "hslash;\u210F\n"
+          + "hstrok;\u0127\n"
+          + "hybull;\u2043\n"
+          + "hyphen;\u2010\n"
+          + "iacute;\u00ED\n"
+          + "ic;\u2063\n"
+          + "icirc;\u00EE\n"
+          + "icy;\u0438\n"
+          + "iecy;\u0435\n"
+          + "iexcl;\u00A1\n"
+          + "iff;\u21D4\n"
+          + "ifr;\uD835\uDD26\n"
+          + "igrave;\u00EC\n"
+          + "ii;\u2148\n"
+          + "iiiint;\u2A0C\n"
+          + "iiint;\u222D\n"
+          + "iinfin;\u29DC\n"
+          + "iiota;\u2129\n"
+          + "ijlig;\u0133\n"
+          + "imacr;\u012B\n"
+          + "image;\u2111\n"
+          + "imagline;\u2110\n"
+          + "imagpart;\u2111\n"
+          + "imath;\u0131\n"
+          + "imof;\u22B7\n"
+          + "imped;\u01B5\n"
+          + "in;\u2208\n"
+          + "incare;\u2105\n"
+          + "infin;\u221E\n"
+          + "infintie;\u29DD\n"
+          + "inodot;\u0131\n"
+          + "int;\u222B\n"
+          + "intcal;\u22BA\n"
+          + "integers;\u2124\n"
+          + "intercal;\u22BA\n"
+          + "intlarhk;\u2A17\n"
+          + "intprod;\u2A3C\n"
+          + "iocy;\u0451\n"
+          + "iogon;\u012F\n"
+          + "iopf;\uD835\uDD5A\n"
+          + "iota;\u03B9\n"
+          + "iprod;\u2A3C\n"
+          + "iquest;\u00BF\n"
+          + "iscr;\uD835\uDCBE\n"
+          + "isin;\u2208\n"
+          + "isinE;\u22F9\n"
+          + "isindot;\u22F5\n"
+          + "isins;\u22F4\n"
+          + "isinsv;\u22F3\n"
+          + "isinv;\u2208\n"
+          + "it;\u2062\n"
+          + "itilde;\u0129\n"
+          + "iukcy;\u0456\n"
+          + "iuml;\u00EF\n"
+          + "jcirc;\u0135\n"
+          + "jcy;\u0439\n"
+          + "jfr;\uD835\uDD27\n"
+          + "jmath;\u0237\n"
+          + "jopf;\uD835\uDD5B\n"
+          + "jscr;\uD835\uDCBF\n"
+          + "jsercy;\u0458\n"
+          + "jukcy;\u0454\n"
+          + "kappa;\u03BA\n"
+          + "kappav;\u03F0\n"
+          + "kcedil;\u0137\n"
+          + "kcy;\u043A\n"
+          + "kfr;\uD835\uDD28\n"
+          + "kgreen;\u0138\n"
+          + "khcy;\u0445\n"
+          + "kjcy;\u045C\n"
+          + "kopf;\uD835\uDD5C\n"
+          + "kscr;\uD835\uDCC0\n"
+          + "lAarr;\u21DA\n"
+          + "lArr;\u21D0\n"
+          + "lAtail;\u291B\n"
+          + "lBarr;\u290E\n"
+          + "lE;\u2266\n"
+          + "lEg;\u2A8B\n"
+          + "lHar;\u2962\n"
+          + "lacute;\u013A\n"
+          + "laemptyv;\u29B4\n"
+          + "lagran;\u2112\n"
+          + "lambda;\u03BB\n"
+          + "lang;\u27E8\n"
+          + "langd;\u2991\n"
+          + "langle;\u27E8\n"
+          + "lap;\u2A85\n"
+          + "laquo;\u00AB\n"
+          + "larr;\u2190\n"
+          + "larrb;\u21E4\n"
+          + "larrbfs;\u291F\n"
+          + "larrfs;\u291D\n"
+          + "larrhk;\u21A9\n"
+          + "larrlp;\u21AB\n"
+          + "larrpl;\u2939\n"
+          + "larrsim;\u2973\n"
+          + "larrtl;\u21A2\n"
+          + "lat;\u2AAB\n"
+          + "latail;\u2919\n"
+          + "late;\u2AAD\n"
+          + "lates;\u2AAD\uFE00\n"
+          + "lbarr;\u290C\n"
+          + "lbbrk;\u2772\n"
+          + "lbrace;{\n"
+          + "lbrack;[\n"
+          + "lbrke;\u298B\n"
+          + "lbrksld;\u298F\n"
+          + "lbrkslu;\u298D\n"
+          + "lcaron;\u013E\n"
+          + "lcedil;\u013C\n"
+          + "lceil;\u2308\n"
+          + "lcub;{\n"
+          + "lcy;\u043B\n"
+          + "ldca;\u2936\n"
+          + "ldquo;\u201C\n"
+          + "ldquor;\u201E\n"
+          + "ldrdhar;\u2967\n"
+          + "ldrushar;\u294B\n"
+          + "ldsh;\u21B2\n"
+          + "le;\u2264\n"
+          + "leftarrow;\u2190\n"
+          + "leftarrowtail;\u21A2\n"
+          + "leftharpoondown;\u21BD\n"
+          + "leftharpoonup;\u21BC\n"
+          + "leftleftarrows;\u21C7\n"
+          + "leftrightarrow;\u2194\n"
+          + "leftrightarrows;\u21C6\n"
+          + "leftrightharpoons;\u21CB\n"
+          + "leftrightsquigarrow;\u21AD\n"
+          + "leftthreetimes;\u22CB\n"
+          + "leg;\u22DA\n"
+          + "leq;\u2264\n"
+          + "leqq;\u2266\n"
+          + "leqslant;\u2A7D\n"
+          + "les;\u2A7D\n"
+          + "lescc;\u2AA8\n"
+          + "lesdot;\u2A7F\n"
+          + "lesdoto;\u2A81\n"
+          + "lesdotor;\u2A83\n"
+          + "lesg;\u22DA\uFE00\n"
+          + "lesges;\u2A93\n"
+          + "lessapprox;\u2A85\n"
+          + "lessdot;\u22D6\n"
+          + "lesseqgtr;\u22DA\n"
+          + "lesseqqgtr;\u2A8B\n"
+          + "lessgtr;\u2276\n"
+          + "lesssim;\u2272\n"
+          + "lfisht;\u297C\n"
+          + "lfloor;\u230A\n"
+          + "lfr;\uD835\uDD29\n"
+          + "lg;\u2276\n"
+          + "lgE;\u2A91\n"
+          + "lhard;\u21BD\n"
+          + "lharu;\u21BC\n"
+          + "lharul;\u296A\n"
+          + "lhblk;\u2584\n"
+          + "ljcy;\u0459\n"
+          + "ll;\u226A\n"
+          + "llarr;\u21C7\n"
+          + "llcorner;\u231E\n"
+          + "llhard;\u296B\n"
+          + "lltri;\u25FA\n"
+          + "lmidot;\u0140\n"
+          + "lmoust;\u23B0\n"
+          + "lmoustache;\u23B0\n"
+          + "lnE;\u2268\n"
+          + "lnap;\u2A89\n"
+          + "lnapprox;\u2A89\n"
+          + "lne;\u2A87\n"
+          + "lneq;\u2A87\n"
+          + "lneqq;\u2268\n"
+          + "lnsim;\u22E6\n"
+          + "loang;\u27EC\n"
+          + "loarr;\u21FD\n"
+          + "lobrk;\u27E6\n"
+          + "longleftarrow;\u27F5\n"
+          + "longleftrightarrow;\u27F7\n"
+          + "longmapsto;\u27FC\n"
+          + "longrightarrow;\u27F6\n"
+          + "looparrowleft;\u21AB\n"
+          + "looparrowright;\u21AC\n"
+          + "lopar;\u2985\n"
+          + "lopf;\uD835\uDD5D\n"
+          + "loplus;\u2A2D\n"
+          + "lotimes;\u2A34\n"
+          + "lowast;\u2217\n"
+          + "lowbar;_\n"
+          + "loz;\u25CA\n"
+          + "lozenge;\u25CA\n"
+          + "lozf;\u29EB\n"
+          + "lpar;(\n"
+          + "lparlt;\u2993\n"
+          + "lrarr;\u21C6\n"
+          + "lrcorner;\u231F\n"
+          + "lrhar;\u21CB\n"
+          + "lrhard;\u296D\n"
+          + "lrm;\u200E\n"
+          + "lrtri;\u22BF\n"
+          + "lsaquo;\u2039\n"
+          + "lscr;\uD835\uDCC1\n"
+          + "lsh;\u21B0\n"
+          + "lsim;\u2272\n"
+          + "lsime;\u2A8D\n"
+          + "lsimg;\u2A8F\n"
+          + "lsqb;[\n"
+          + "lsquo;\u2018\n"
+          + "lsquor;\u201A\n"
+          + "lstrok;\u0142\n"
+          + "lt;<\n"
+          + "ltcc;\u2AA6\n"
+          + "ltcir;\u2A79\n"
+          + "ltdot;\u22D6\n"
+          + "lthree;\u22CB\n"
+          + "ltimes;\u22C9\n"
+          + "ltlarr;\u2976\n"
+          + "ltquest;\u2A7B\n"
+          + "ltrPar;\u2996\n"
+          + "ltri;\u25C3\n"
+          + "ltrie;\u22B4\n"
+          + "ltrif;\u25C2\n"
+          + "lurdshar;\u294A\n"
+          + "luruhar;\u2966\n"
+          + "lvertneqq;\u2268\uFE00\n"
+          + "lvnE;\u2268\uFE00\n"
+          + "mDDot;\u223A\n"
+          + "macr;\u00AF\n"
+          + "male;\u2642\n"
+          + "malt;\u2720\n"
+          + "maltese;\u2720\n"
+          + "map;\u21A6\n"
+          + "mapsto;\u21A6\n"
+          + "mapstodown;\u21A7\n"
+          + "mapstoleft;\u21A4\n"
+          + "mapstoup;\u21A5\n"
+          + "marker;\u25AE\n"
+          + "mcomma;\u2A29\n"
+          + "mcy;\u043C\n"
+          + "mdash;\u2014\n"
+          + "measuredangle;\u2221\n"
+          + "mfr;\uD835\uDD2A\n"
+          + "mho;\u2127\n"
+          + "micro;\u00B5\n"
+          + "mid;\u2223\n"
+          + "midast;*\n"
+          + "midcir;\u2AF0\n"
+          + "middot;\u00B7\n"
+          + "minus;\u2212\n"
+          + "minusb;\u229F\n"
+          + "minusd;\u2238\n"
+          + "minusdu;\u2A2A\n"
+          + "mlcp;\u2ADB\n"
+          + "mldr;\u2026\n"
+          + "mnplus;\u2213\n"
+          + "models;\u22A7\n"
+          + "mopf;\uD835\uDD5E\n"
+          + "mp;\u2213\n"
+          + "mscr;\uD835\uDCC2\n"
+          + "mstpos;\u223E\n"
+          + "mu;\u03BC\n"
+          + "multimap;\u22B8\n"
+          + "mumap;\u22B8\n"
+          + "nGg;\u22D9\u0338\n"
+          + "nGt;\u226B\u20D2\n"
+          + "nGtv;\u226B\u0338\n"
+          + "nLeftarrow;\u21CD\n"
+          + "nLeftrightarrow;\u21CE\n"
+          + "nLl;\u22D8\u0338\n"
+          + "nLt;\u226A\u20D2\n"
+          + "nLtv;\u226A\u0338\n"
+          + "nRightarrow;\u21CF\n"
+          + "nVDash;\u22AF\n"
+          + "nVdash;\u22AE\n"
+          + "nabla;\u2207\n"
+          + "nacute;\u0144\n"
+          + "nang;\u2220\u20D2\n"
+          + "nap;\u2249\n"
+          + "napE;\u2A70\u0338\n"
+          + "napid;\u224B\u0338\n"
+          + "napos;\u0149\n"
+          + "napprox;\u2249\n"
+          + "natur;\u266E\n"
+          + "natural;\u266E\n"
+          + "naturals;\u2115\n"
+          + "nbsp;\u00A0\n"
+          + "nbump;\u224E\u0338\n"
+          + "nbumpe;\u224F\u0338\n"
+          + "ncap;\u2A43\n"
+          + "ncaron;\u0148\n"
+          + "ncedil;\u0146\n"
+          + "ncong;\u2247\n"
+          + "ncongdot;\u2A6D\u0338\n"
+          + "ncup;\u2A42\n"
+          + "ncy;\u043D\n"
+          + "ndash;\u2013\n"
+          + "ne;\u2260\n"
+          + "neArr;\u21D7\n"
+          + "nearhk;\u2924\n"
+          + "nearr;\u2197\n"
+          + "nearrow;\u2197\n"
+          + "nedot;\u2250\u0338\n"
+          + "nequiv;\u2262\n"
+          + "nesear;\u2928\n"
+          + "nesim;\u2242\u0338\n"
+          + "nexist;\u2204\n"
+          + "nexists;\u2204\n"
+          + "nfr;\uD835\uDD2B\n"
+          + "ngE;\u2267\u0338\n"
+          + "nge;\u2271\n"
+          + "ngeq;\u2271\n"
+          + "ngeqq;\u2267\u0338\n"
+          + "ngeqslant;\u2A7E\u0338\n"
+          + "nges;\u2A7E\u0338\n"
+          + "ngsim;\u2275\n"
+          + "ngt;\u226F\n"
+          + "ngtr;\u226F\n"
+          + "nhArr;\u21CE\n"
+          + "nharr;\u21AE\n"
+          + "nhpar;\u2AF2\n"
+          + "ni;\u220B\n"
+          + "nis;\u22FC\n"
+          + "nisd;\u22FA\n"
+          + "niv;\u220B\n"
+          + "njcy;\u045A\n"
+          + "nlArr;\u21CD\n"
+          + "nlE;\u2266\u0338\n"
+          + "nlarr;\u219A\n"
+          + "nldr;\u2025\n"
+          + "nle;\u2270\n"
+          + "nleftarrow;\u219A\n"
+          + "nleftrightarrow;\u21AE\n"
+          + "nleq;\u2270\n"
+          + "nleqq;\u2266\u0338\n"
+          + "nleqslant;\u2A7D\u0338\n"
+          + "nles;\u2A7D\u0338\n"
+          + "nless;\u226E\n"
+          + "nlsim;\u2274\n"
+          + "nlt;\u226E\n"
+          + "nltri;\u22EA\n"
+          + "nltrie;\u22EC\n"
+          + "nmid;\u2224\n"
+          + "nopf;\uD835\uDD5F\n"
+          + "not;\u00AC\n"
+          + "notin;\u2209\n"
+          + "notinE;\u22F9\u0338\n"
+          + "notindot;\u22F5\u0338\n"
+          + "notinva;\u2209\n"
+          + "notinvb;\u22F7\n"
+          + "notinvc;\u22F6\n"
+          + "notni;\u220C\n"
+          + "notniva;\u220C\n"
+          + "notnivb;\u22FE\n"
+          + "notnivc;\u22FD\n"
+          + "npar;\u2226\n"
+          + "nparallel;\u2226\n"
+          + "nparsl;\u2AFD\u20E5\n"
+          + "npart;\u2202\u0338\n"
+          + "npolint;\u2A14\n"
+          + "npr;\u2280\n"
+          + "nprcue;\u22E0\n"
+          + "npre;\u2AAF\u0338\n"
+          + "nprec;\u2280\n"
+          + "npreceq;\u2AAF\u0338\n"
+          + "nrArr;\u21CF\n"
+          + "nrarr;\u219B\n"
+          + "nrarrc;\u2933\u0338\n"
+          + "nrarrw;\u219D\u0338\n"
+          + "nrightarrow;\u219B\n"
+          + "nrtri;\u22EB\n"
+          + "nrtrie;\u22ED\n"
+          + "nsc;\u2281\n"
+          + "nsccue;\u22E1\n"
+          + "nsce;\u2AB0\u0338\n"
+          + "nscr;\uD835\uDCC3\n"
+          + "nshortmid;\u2224\n"
+          + "nshortparallel;\u2226\n"
+          + "nsim;\u2241\n"
+          + "nsime;\u2244\n"
+          + "nsimeq;\u2244\n"
+          + "nsmid;\u2224\n"
+          + "nspar;\u2226\n"
+          + "nsqsube;\u22E2\n"
+          + "nsqsupe;\u22E3\n"
+          + "nsub;\u2284\n"
+          + "nsubE;\u2AC5\u0338\n"
+          + "nsube;\u2288\n"
+          + "nsubset;\u2282\u20D2\n"
+          + "nsubseteq;\u2288\n"
+          + "nsubseteqq;\u2AC5\u0338\n"
+          + "nsucc;\u2281\n"
+          + "nsucceq;\u2AB0\u0338\n"
+          + "nsup;\u2285\n"
+          + "nsupE;\u2AC6\u0338\n"
+          + "nsupe;\u2289\n"
+          + "nsupset;\u2283\u20D2\n"
+          + "nsupseteq;\u2289\n"
+          + "nsupseteqq;\u2AC6\u0338\n"
+          + "ntgl;\u2279\n"
+          + "ntilde;\u00F1\n"
+          + "ntlg;\u2278\n"
+          + "ntriangleleft;\u22EA\n"
+          + "ntrianglelefteq;\u22EC\n"
+          + "ntriangleright;\u22EB\n"
+          + "ntrianglerighteq;\u22ED\n"
+          + "nu;\u03BD\n"
+          + "num;#\n"
+          + "numero;\u2116\n"
+          + "numsp;\u2007\n"
+          + "nvDash;\u22AD\n"
+          + "nvHarr;\u2904\n"
+          + "nvap;\u224D\u20D2\n"
+          + "nvdash;\u22AC\n"
+          + "nvge;\u2265\u20D2\n"
+          + "nvgt;>\u20D2\n"
+          + "nvinfin;\u29DE\n"
+          + "nvlArr;\u2902\n"
+          + "nvle;\u2264\u20D2\n"
+          + "nvlt;<\u20D2\n"
+          + "nvltrie;\u22B4\u20D2\n"
+          + "nvrArr;\u2903\n"
+          + "nvrtrie;\u22B5\u20D2\n"
+          + "nvsim;\u223C\u20D2\n"
+          + "nwArr;\u21D6\n"
+          + "nwarhk;\u2923\n"
+          + "nwarr;\u2196\n"
+          + "nwarrow;\u2196\n"
+          + "nwnear;\u2927\n"
+          + "oS;\u24C8\n"
+          + "oacute;\u00F3\n"
+          + "oast;\u229B\n"
+          + "ocir;\u229A\n"
+          + "ocirc;\u00F4\n"
+          + "ocy;\u043E\n"
+          + "odash;\u229D\n"
+          + "odblac;\u0151\n"
+          + "odiv;\u2A38\n"
+          + "odot;\u2299\n"
+          + "odsold;\u29BC\n"
+          + "oelig;\u0153\n"
+          + "ofcir;\u29BF\n"
+          + "ofr;\uD835\uDD2C\n"
+          + "ogon;\u02DB\n"
+          + "ograve;\u00F2\n"
+          + "ogt;\u29C1\n"
+          + "ohbar;\u29B5\n"
+          + "ohm;\u03A9\n"
+          + "oint;\u222E\n"
+          + "olarr;\u21BA\n"
+          + "olcir;\u29BE\n"
+          + "olcross;\u29BB\n"
+          + "oline;\u203E\n"
+          + "olt;\u29C0\n"
+          + "omacr;\u014D\n"
+          + "omega;\u03C9\n"
+          + "omicron;\u03BF\n"
+          + "omid;\u29B6\n"
+          + "ominus;\u2296\n"
+          + "oopf;\uD835\uDD60\n"
+          + "opar;\u29B7\n"
+          + "operp;\u29B9\n"
+          + "oplus;\u2295\n"
+          + "or;\u2228\n"
+          + "orarr;\u21BB\n"
+          + "ord;\u2A5D\n"
+          + "order;\u2134\n"
+          + "orderof;\u2134\n"
+          + "ordf;\u00AA\n"
+          + "ordm;\u00BA\n"
+          + "origof;\u22B6\n"
+          + "oror;\u2A56\n"
+          + "orslope;\u2A57\n"
+          + "orv;\u2A5B\n"
+          + "oscr;\u2134\n"
+          + "oslash;\u00F8\n"
+          + "osol;\u2298\n"
+          + "otilde;\u00F5\n"
+          + "otimes;\u2297\n"
+          + "otimesas;\u2A36\n"
+          + "ouml;\u00F6\n"
+          + "ovbar;\u233D\n"
+          + "par;\u2225\n"
+          + "para;\u00B6\n"
+          + "parallel;\u2225\n"
+          + "parsim;\u2AF3\n"
+          + "parsl;\u2AFD\n"
+          + "part;\u2202\n"
+          + "pcy;\u043F\n"
+          + "percnt;%\n"
+          + "period;.\n"
+          + "permil;\u2030\n"
+          + "perp;\u22A5\n"
+          + "pertenk;\u2031\n"
+          + "pfr;\uD835\uDD2D\n"
+          + "phi;\u03C6\n"
+          + "phiv;\u03D5\n"
+          + "phmmat;\u2133\n"
+          + "phone;\u260E\n"
+          + "pi;\u03C0\n"
+          + "pitchfork;\u22D4\n"
+          + "piv;\u03D6\n"
+          + "planck;\u210F\n"
+          + "planckh;\u210E\n"
+          + "plankv;\u210F\n"
+          + "plus;+\n"
+          + "plusacir;\u2A23\n"
+          + "plusb;\u229E\n"
+          + "pluscir;\u2A22\n"
+          + "plusdo;\u2214\n"
+          + "plusdu;\u2A25\n"
+          + "pluse;\u2A72\n"
+          + "plusmn;\u00B1\n"
+          + "plussim;\u2A26\n"
+          + "plustwo;\u2A27\n"
+          + "pm;\u00B1\n"
+          + "pointint;\u2A15\n"
+          + "popf;\uD835\uDD61\n"
+          + "pound;\u00A3\n"
+          + "pr;\u227A\n"
+          + "prE;\u2AB3\n"
+          + "prap;\u2AB7\n"
+          + "prcue;\u227C\n"
+          + "pre;\u2AAF\n"
+          + "prec;\u227A\n"
+          + "precapprox;\u2AB7\n"
+          + "preccurlyeq;\u227C\n"
+          + "preceq;\u2AAF\n"
+          + "precnapprox;\u2AB9\n"
+          + "precneqq;\u2AB5\n"
+          + "precnsim;\u22E8\n"
+          + "precsim;\u227E\n"
+          + "prime;\u2032\n"
+          + "primes;\u2119\n"
+          + "prnE;\u2AB5\n"
+          + "prnap;\u2AB9\n"
+          + "prnsim;\u22E8\n"
+          + "prod;\u220F\n"
+          + "profalar;\u232E\n"
+          + "profline;\u2312\n"
+          + "profsurf;\u2313\n"
+          + "prop;\u221D\n"
+          + "propto;\u221D\n"
+          + "prsim;\u227E\n"
+          + "prurel;\u22B0\n"
+          + "pscr;\uD835\uDCC5\n"
+          + "psi;\u03C8\n"
+          + "puncsp;\u2008\n"
+          + "qfr;\uD835\uDD2E\n"
+          + "qint;\u2A0C\n"
+          + "qopf;\uD835\uDD62\n"
+          + "qprime;\u2057\n"
+          + "qscr;\uD835\uDCC6\n"
+          + "quaternions;\u210D\n"
+          + "quatint;\u2A16\n"
+          + "quest;?\n"
+          + "questeq;\u225F\n"
+          + "quot;\"\n"
+          + "rAarr;\u21DB\n"
+          + "rArr;\u21D2\n"
+          + "rAtail;\u291C\n"
+          + "rBarr;\u290F\n"
+          + "rHar;\u2964\n"
+          + "race;\u223D\u0331\n"
+          + "racute;\u0155\n"
+          + "radic;\u221A\n"
+          + "raemptyv;\u29B3\n"
+          + "rang;\u27E9\n"
+          + "rangd;\u2992\n"
+          + "range;\u29A5\n"
+          + "rangle;\u27E9\n"
+          + "raquo;\u00BB\n"
+          + "rarr;\u2192\n"
+          + "rarrap;\u2975\n"
+          + "rarrb;\u21E5\n"
+          + "rarrbfs;\u2920\n"
+          + "rarrc;\u2933\n"
+          + "rarrfs;\u291E\n"
+          + "rarrhk;\u21AA\n"
+          + "rarrlp;\u21AC\n"
+          + "rarrpl;\u2945\n"
+          + "rarrsim;\u2974\n"
+          + "rarrtl;\u21A3\n"
+          + "rarrw;\u219D\n"
+          + "ratail;\u291A\n"
+          + "ratio;\u2236\n"
+          + "rationals;\u211A\n"
+          + "rbarr;\u290D\n"
+          + "rbbrk;\u2773\n"
+          + "rbrace;}\n"
+          + "rbrack;]\n"
+          + "rbrke;\u298C\n"
+          + "rbrksld;\u298E\n"
+          + "rbrkslu;\u2990\n"
+          + "rcaron;\u0159\n"
+          + "rcedil;\u0157\n"
+          + "rceil;\u2309\n"
+          + "rcub;}\n"
+          + "rcy;\u0440\n"
+          + "rdca;\u2937\n"
+          + "rdldhar;\u2969\n"
+          + "rdquo;\u201D\n"
+          + "rdquor;\u201D\n"
+          + "rdsh;\u21B3\n"
+          + "real;\u211C\n"
+          + "realine;\u211B\n"
+          + "realpart;\u211C\n"
+          + "reals;\u211D\n"
+          + "rect;\u25AD\n"
+          + "reg;\u00AE\n"
+          + "rfisht;\u297D\n"
+          + "rfloor;\u230B\n"
+          + "rfr;\uD835\uDD2F\n"
+          + "rhard;\u21C1\n"
+          + "rharu;\u21C0\n"
+          + "rharul;\u296C\n"
+          + "rho;\u03C1\n"
+          + "rhov;\u03F1\n"
+          + "rightarrow;\u2192\n"
+          + "rightarrowtail;\u21A3\n"
+          + "rightharpoondown;\u21C1\n"
+          + "rightharpoonup;\u21C0\n"
+          + "rightleftarrows;\u21C4\n"
+          + "rightleftharpoons;\u21CC\n"
+          + "rightrightarrows;\u21C9\n"
+          + "rightsquigarrow;\u219D\n"
+          + "rightthreetimes;\u22CC\n"
+          + "ring;\u02DA\n"
+          + "risingdotseq;\u2253\n"
+          + "rlarr;\u21C4\n"
+          + "rlhar;\u21CC\n"
+          + "rlm;\u200F\n"
+          + "rmoust;\u23B1\n"
+          + "rmoustache;\u23B1\n"
+          + "rnmid;\u2AEE\n"
+          + "roang;\u27ED\n"
+          + "roarr;\u21FE\n"
+          + "robrk;\u27E7\n"
+          + "ropar;\u2986\n"
+          + "ropf;\uD835\uDD63\n"
+          + "roplus;\u2A2E\n"
+          + "rotimes;\u2A35\n"
+          + "rpar;)\n"
+          + "rpargt;\u2994\n"
+          + "rppolint;\u2A12\n"
+          + "rrarr;\u21C9\n"
+          + "rsaquo;\u203A\n"
+          + "rscr;\uD835\uDCC7\n"
+          + "rsh;\u21B1\n"
+          + "rsqb;]\n"
+          + "rsquo;\u2019\n"
+          + "rsquor;\u2019\n"
+          + "rthree;\u22CC\n"
+          + "rtimes;\u22CA\n"
+          + "rtri;\u25B9\n"
+          + "rtrie;\u22B5\n"
+          + "rtrif;\u25B8\n"
+          + "rtriltri;\u29CE\n"
+          + "ruluhar;\u2968\n"
+          + "rx;\u211E\n"
+          + "sacute;\u015B\n"
+          + "sbquo;\u201A\n"
+          + "sc;\u227B\n"
+          + "scE;\u2AB4\n"
+          + "scap;\u2AB8\n"
+          + "scaron;\u0161\n"
+          + "sccue;\u227D\n"
+          + "sce;\u2AB0\n"
+          + "scedil;\u015F\n"
+          + "scirc;\u015D\n"
+          + "scnE;\u2AB6\n"
+          + "scnap;\u2ABA\n"
+          + "scnsim;\u22E9\n"
+          + "scpolint;\u2A13\n"
+          + "scsim;\u227F\n"
+          + "scy;\u0441\n"
+          + "sdot;\u22C5\n"
+          + "sdotb;\u22A1\n"
+          + "sdote;\u2A66\n"
+          + "seArr;\u21D8\n"
+          + "searhk;\u2925\n"
+          + "searr;\u2198\n"
+          + "searrow;\u2198\n"
+          + "sect;\u00A7\n"
+          + "semi;;\n"
+          + "seswar;\u2929\n"
+          + "setminus;\u2216\n"
+          + "setmn;\u2216\n"
+          + "sext;\u2736\n"
+          + "sfr;\uD835\uDD30\n"
+          + "sfrown;\u2322\n"
+          + "sharp;\u266F\n"
+          + "shchcy;\u0449\n"
+          + "shcy;\u0448\n"
+          + "shortmid;\u2223\n"
+          + "shortparallel;\u2225\n"
+          + "shy;\u00AD\n"
+          + "sigma;\u03C3\n"
+          + "sigmaf;\u03C2\n"
+          + "sigmav;\u03C2\n"
+          + "sim;\u223C\n"
+          + "simdot;\u2A6A\n"
+          + "sime;\u2243\n"
+          + "simeq;\u2243\n"
+          + "simg;\u2A9E\n"
+          + "simgE;\u2AA0\n"
+          + "siml;\u2A9D\n"
+          + "simlE;\u2A9F\n"
+          + "simne;\u2246\n"
+          + "simplus;\u2A24\n"
+          + "simrarr;\u2972\n"
+          + "slarr;\u2190\n"
+          + "smallsetminus;\u2216\n"
+          + "smashp;\u2A33\n"
+          + "smeparsl;\u29E4\n"
+          + "smid;\u2223\n"
+          + "smile;\u2323\n"
+          + "smt;\u2AAA\n"
+          + "smte;\u2AAC\n"
+          + "smtes;\u2AAC\uFE00\n"
+          + "softcy;\u044C\n"
+          + "sol;/\n"
+          + "solb;\u29C4\n"
+          + "solbar;\u233F\n"
+          + "sopf;\uD835\uDD64\n"
+          + "spades;\u2660\n"
+          + "spadesuit;\u2660\n"
+          + "spar;\u2225\n"
+          + "sqcap;\u2293\n"
+          + "sqcaps;\u2293\uFE00\n"
+          + "sqcup;\u2294\n"
+          + "sqcups;\u2294\uFE00\n"
+          + "sqsub;\u228F\n"
+          + "sqsube;\u2291\n"
+          + "sqsubset;\u228F\n"
+          + "sqsubseteq;\u2291\n"
+          + "sqsup;\u2290\n"
+          + "sqsupe;\u2292\n"
+          + "sqsupset;\u2290\n"
+          + "sqsupseteq;\u2292\n"
+          + "squ;\u25A1\n"
+          + "square;\u25A1\n"
+          + "squarf;\u25AA\n"
+          + "squf;\u25AA\n"
+          + "srarr;\u2192\n"
+          + "sscr;\uD835\uDCC8\n"
+          + "ssetmn;\u2216\n"
+          + "ssmile;\u2323\n"
+          + "sstarf;\u22C6\n"
+          + "star;\u2606\n"
+          + "starf;\u2605\n"
+          + "straightepsilon;\u03F5\n"
+          + "straightphi;\u03D5\n"
+          + "strns;\u00AF\n"
+          + "sub;\u2282\n"
+          + "subE;\u2AC5\n"
+          + "subdot;\u2ABD\n"
+          + "sube;\u2286\n"
+          + "subedot;\u2AC3\n"
+          + "submult;\u2AC1\n"
+          + "subnE;\u2ACB\n"
+          + "subne;\u228A\n"
+          + "subplus;\u2ABF\n"
+          + "subrarr;\u2979\n"
+          + "subset;\u2282\n"
+          + "subseteq;\u2286\n"
+          + "subseteqq;\u2AC5\n"
+          + "subsetneq;\u228A\n"
+          + "subsetneqq;\u2ACB\n"
+          + "subsim;\u2AC7\n"
+          + "subsub;\u2AD5\n"
+          + "subsup;\u2AD3\n"
+          + "succ;\u227B\n"
+          + "succapprox;\u2AB8\n"
+          + "succcurlyeq;\u227D\n"
+          + "succeq;\u2AB0\n"
+          + "succnapprox;\u2ABA\n"
+          + "succneqq;\u2AB6\n"
+          + "succnsim;\u22E9\n"
+          + "succsim;\u227F\n"
+          + "sum;\u2211\n"
+          + "sung;\u266A\n"
+          + "sup;\u2283\n"
+          + "sup1;\u00B9\n"
+          + "sup2;\u00B2\n"
+          + "sup3;\u00B3\n"
+          + "supE;\u2AC6\n"
+          + "supdot;\u2ABE\n"
+          + "supdsub;\u2AD8\n"
+          + "supe;\u2287\n"
+          + "supedot;\u2AC4\n"
+          + "suphsol;\u27C9\n"
+          + "suphsub;\u2AD7\n"
+          + "suplarr;\u297B\n"
+          + "supmult;\u2AC2\n"
+          + "supnE;\u2ACC\n"
+          + "supne;\u228B\n"
+          + "supplus;\u2AC0\n"
+          + "supset;\u2283\n"
+          + "supseteq;\u2287\n"
+          + "supseteqq;\u2AC6\n"
+          + "supsetneq;\u228B\n"
+          + "supsetneqq;\u2ACC\n"
+          + "supsim;\u2AC8\n"
+          + "supsub;\u2AD4\n"
+          + "supsup;\u2AD6\n"
+          + "swArr;\u21D9\n"
+          + "swarhk;\u2926\n"
+          + "swarr;\u2199\n"
+          + "swarrow;\u2199\n"
+          + "swnwar;\u292A\n"
+          + "szlig;\u00DF\n"
+          + "target;\u2316\n"
+          + "tau;\u03C4\n"
+          + "tbrk;\u23B4\n"
+          + "tcaron;\u0165\n"
+          + "tcedil;\u0163\n"
+          + "tcy;\u0442\n"
+          + "tdot;\u20DB\n"
+          + "telrec;\u2315\n"
+          + "tfr;\uD835\uDD31\n"
+          + "there4;\u2234\n"
+          + "therefore;\u2234\n"
+          + "theta;\u03B8\n"
+          + "thetasym;\u03D1\n"
+          + "thetav;\u03D1\n"
+          + "thickapprox;\u2248\n"
+          + "thicksim;\u223C\n"
+          + "thinsp;\u2009\n"
+          + "thkap;\u2248\n"
+          + "thksim;\u223C\n"
+          + "thorn;\u00FE\n"
+          + "tilde;\u02DC\n"
+          + "times;\u00D7\n"
+          + "timesb;\u22A0\n"
+          + "timesbar;\u2A31\n"
+          + "timesd;\u2A30\n"
+          + "tint;\u222D\n"
+          + "toea;\u2928\n"
+          + "top;\u22A4\n"
+          + "topbot;\u2336\n"
+          + "topcir;\u2AF1\n"
+          + "topf;\uD835\uDD65\n"
+          + "topfork;\u2ADA\n"
+          + "tosa;\u2929\n"
+          + "tprime;\u2034\n"
+          + "trade;\u2122\n"
+          + "triangle;\u25B5\n"
+          + "triangledown;\u25BF\n"
+          + "triangleleft;\u25C3\n"
+          + "trianglelefteq;\u22B4\n"
+          + "triangleq;\u225C\n"
+          + "triangleright;\u25B9\n"
+          + "trianglerighteq;\u22B5\n"
+          + "tridot;\u25EC\n"
+          + "trie;\u225C\n"
+          + "triminus;\u2A3A\n"
+          + "triplus;\u2A39\n"
+          + "trisb;\u29CD\n"
+          + "tritime;\u2A3B\n"
+          + "trpezium;\u23E2\n"
+          + "tscr;\uD835\uDCC9\n"
+          + "tscy;\u0446\n"
+          + "tshcy;\u045B\n"
+          + "tstrok;\u0167\n"
+          + "twixt;\u226C\n"
+          + "twoheadleftarrow;\u219E\n"
+          + "twoheadrightarrow;\u21A0\n"
+          + "uArr;\u21D1\n"
+          + "uHar;\u2963\n"
+          + "uacute;\u00FA\n"
+          + "uarr;\u2191\n"
+          + "ubrcy;\u045E\n"
+          + "ubreve;\u016D\n"
+          + "ucirc;\u00FB\n"
+          + "ucy;\u0443\n"
+          + "udarr;\u21C5\n"
+          + "udblac;\u0171\n"
+          + "udhar;\u296E\n"
+          + "ufisht;\u297E\n"
+          + "ufr;\uD835\uDD32\n"
+          + "ugrave;\u00F9\n"
+          + "uharl;\u21BF\n"
+          + "uharr;\u21BE\n"
+          + "uhblk;\u2580\n"
+          + "ulcorn;\u231C\n"
+          + "ulcorner;\u231C\n"
+          + "ulcrop;\u230F\n"
+          + "ultri;\u25F8\n"
+          + "umacr;\u016B\n"
+          + "uml;\u00A8\n"
+          + "uogon;\u0173\n"
+          + "uopf;\uD835\uDD66\n"
+          + "uparrow;\u2191\n"
+          + "updownarrow;\u2195\n"
+          + "upharpoonleft;\u21BF\n"
+          + "upharpoonright;\u21BE\n"
+          + "uplus;\u228E\n"
+          + "upsi;\u03C5\n"
+          + "upsih;\u03D2\n"
+          + "upsilon;\u03C5\n"
+          + "upuparrows;\u21C8\n"
+          + "urcorn;\u231D\n"
+          + "urcorner;\u231D\n"
+          + "urcrop;\u230E\n"
+          + "uring;\u016F\n"
+          + "urtri;\u25F9\n"
+          + "uscr;\uD835\uDCCA\n"
+          + "utdot;\u22F0\n"
+          + "utilde;\u0169\n"
+          + "utri;\u25B5\n"
+          + "utrif;\u25B4\n"
+          + "uuarr;\u21C8\n"
+          + "uuml;\u00FC\n"
+          + "uwangle;\u29A7\n"
+          + "vArr;\u21D5\n"
+          + "vBar;\u2AE8\n"
+          + "vBarv;\u2AE9\n"
+          + "vDash;\u22A8\n"
+          + "vangrt;\u299C\n"
+          + "varepsilon;\u03F5\n"
+          + "varkappa;\u03F0\n"
+          + "varnothing;\u2205\n"
+          + "varphi;\u03D5\n"
+          + "varpi;\u03D6\n"
+          + "varpropto;\u221D\n"
+          + "varr;\u2195\n"
+          + "varrho;\u03F1\n"
+          + "varsigma;\u03C2\n"
+          + "varsubsetneq;\u228A\uFE00\n"
+          + "varsubsetneqq;\u2ACB\uFE00\n"
+          + "varsupsetneq;\u228B\uFE00\n"
+          + "varsupsetneqq;\u2ACC\uFE00\n"
+          + "vartheta;\u03D1\n"
+          + "vartriangleleft;\u22B2\n"
+          + "vartriangleright;\u22B3\n"
+          + "vcy;\u0432\n"
+          + "vdash;\u22A2\n"
+          + "vee;\u2228\n"
+          + "veebar;\u22BB\n"
+          + "veeeq;\u225A\n"
+          + "vellip;\u22EE\n"
+          + "verbar;|\n"
+          + "vert;|\n"
+          + "vfr;\uD835\uDD33\n"
+          + "vltri;\u22B2\n"
+          + "vnsub;\u2282\u20D2\n"
+          + "vnsup;\u2283\u20D2\n"
+          + "vopf;\uD835\uDD67\n"
+          + "vprop;\u221D\n"
+          + "vrtri;\u22B3\n"
+          + "vscr;\uD835\uDCCB\n"
+          + "vsubnE;\u2ACB\uFE00\n"
+          + "vsubne;\u228A\uFE00\n"
+          + "vsupnE;\u2ACC\uFE00\n"
+          + "vsupne;\u228B\uFE00\n"
+          + "vzigzag;\u299A\n"
+          + "wcirc;\u0175\n"
+          + "wedbar;\u2A5F\n"
+          + "wedge;\u2227\n"
+          + "wedgeq;\u2259\n"
+          + "weierp;\u2118\n"
+          + "wfr;\uD835\uDD34\n"
+          + "wopf;\uD835\uDD68\n"
+          + "wp;\u2118\n"
+          + "wr;\u2240\n"
+          + "wreath;\u2240\n"
+          + "wscr;\uD835\uDCCC\n"
+          + "xcap;\u22C2\n"
+          + "xcirc;\u25EF\n"
+          + "xcup;\u22C3\n"
+          + "xdtri;\u25BD\n"
+          + "xfr;\uD835\uDD35\n"
+          + "xhArr;\u27FA\n"
+          + "xharr;\u27F7\n"
+          + "xi;\u03BE\n"
+          + "xlArr;\u27F8\n"
+          + "xlarr;\u27F5\n"
+          + "xmap;\u27FC\n"
+          + "xnis;\u22FB\n"
+          + "xodot;\u2A00\n"
+          + "xopf;\uD835\uDD69\n"
+          + "xoplus;\u2A01\n"
+          + "xotime;\u2A02\n"
+          + "xrArr;\u27F9\n"
+          + "xrarr;\u27F6\n"
+          + "xscr;\uD835\uDCCD\n"
+          + "xsqcup;\u2A06\n"
+          + "xuplus;\u2A04\n"
+          + "xutri;\u25B3\n"
+          + "xvee;\u22C1\n"
+          + "xwedge;\u22C0\n"
+          + "yacute;\u00FD\n"
+          + "yacy;\u044F\n"
+          + "ycirc;\u0177\n"
+          + "ycy;\u044B\n"
+          + "yen;\u00A5\n"
+          + "yfr;\uD835\uDD36\n"
+          + "yicy;\u0457\n"
+          + "yopf;\uD835\uDD6A\n"
+          + "yscr;\uD835\uDCCE\n"
+          + "yucy;\u044E\n"
+          + "yuml;\u00FF\n"
+          + "zacute;\u017A\n"
+          + "zcaron;\u017E\n"
+          + "zcy;\u0437\n"
+          + "zdot;\u017C\n"
+          + "zeetrf;\u2128\n"
+          + "zeta;\u03B6\n"
+          + "zfr;\uD835\uDD37\n"
+          + "zhcy;\u0436\n"
+          + "zigrarr;\u21DD\n"
+          + "zopf;\uD835\uDD6B\n"
+          + "zscr;\uD835\uDCCF\n"
+          + "zwj;\u200D\n"
+          + "zwnj;\u200C\n";
+
+  private HtmlEntities() {}
+}
@@ -8,6 +8,7 @@ import com.icuxika.markdown.stream.render.core.ast.Image;
 import com.icuxika.markdown.stream.render.core.ast.Link;
 import com.icuxika.markdown.stream.render.core.ast.LinkReference;
 import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
 import com.icuxika.markdown.stream.render.core.ast.SoftBreak;
 import com.icuxika.markdown.stream.render.core.ast.Strikethrough;
 import com.icuxika.markdown.stream.render.core.ast.StrongEmphasis;
@@ -17,9 +18,11 @@ import com.icuxika.markdown.stream.render.core.parser.inline.InlineContentParser
 import com.icuxika.markdown.stream.render.core.parser.inline.InlineParserState;
 import com.icuxika.markdown.stream.render.core.parser.inline.ParsedInline;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -36,71 +39,96 @@ import java.util.regex.Pattern;
 })
 public class InlineParser implements InlineParserState {
 
-  private static final Pattern HTML_TAG =
-      Pattern.compile(
-          "^<([A-Za-z][A-Za-z0-9-]*)((?:\\s+[A-Za-z_:][A-Za-z0-9_.:-]*(?:\\s*=\\s*(?:[^\"'=<>`\\s]+|'[^']*'|\"[^\"]*\"))?)*)\\s*/?>");
-  private static final Pattern HTML_CLOSE_TAG = Pattern.compile("^</([A-Za-z][A-Za-z0-9-]*)\\s*>");
-  private static final Pattern HTML_COMMENT =
-      Pattern.compile("^<!--((?!-->).)*-->", Pattern.DOTALL);
-  private static final Pattern HTML_PI = Pattern.compile("^<\\?.*?\\?>", Pattern.DOTALL);
-  private static final Pattern HTML_DECLARATION = Pattern.compile("^<![A-Z].*?>", Pattern.DOTALL);
-  private static final Pattern HTML_CDATA =
-      Pattern.compile("^<!\\[CDATA\\[.*?\\]\\]>", Pattern.DOTALL);
-
-  // Additional pattern for <!--> which seems to be valid in CommonMark tests
-  private static final Pattern HTML_COMMENT_SHORT = Pattern.compile("^<!-->");
-  private static final Pattern HTML_COMMENT_SHORT_2 = Pattern.compile("^<!--->");
-
-  private static final Pattern ENTITY =
-      Pattern.compile("^&(?:([a-zA-Z0-9]+)|#([0-9]{1,7})|#(?i:x)([0-9a-fA-F]{1,6}));");
-
-  // Autolinks
-  private static final Pattern AUTOLINK_URI =
-      Pattern.compile("^<[a-zA-Z][a-zA-Z0-9.+-]{1,31}:[^<>\u0000-\u0020]*>");
-  private static final Pattern AUTOLINK_EMAIL =
-      Pattern.compile(
-          "^<[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*>");
-
   private final String text;
   private final Map<String, LinkReference> references;
   private final MarkdownParserOptions options;
   private int index = 0;
   private final List<Node> nodes = new ArrayList<>();
 
-  private final List<InlineContentParserFactory> inlineParserFactories;
-  private final Map<Character, List<InlineContentParser>> customParsers;
+  // 共享的编译配置：自定义解析器的分派表与字符分类表
+  private final InlineParserConfig config;
+  private final byte[] charClasses;
+  // 本次解析中有状态工厂创建的解析器，按工厂下标存放（首次用到时分配）
+  private InlineContentParser[] parsers;
 
   // Emphasis delimiter stack
   private Delimiter lastDelimiter = null;
 
+  // Bracket stack: 尚未匹配的 [ 与 ![
+  private Bracket lastBracket = null;
+
+  // 在未闭合的 [ 或 ![ 之后生成、成为链接文本后需要还原的节点（没有时为 null）：
+  // 扩展自动链接在链接文本中还原为文本，自定义节点在图片描述中还原为原文
+  private List<Node> bracketedAutolinks;
+  private Map<Node, String> bracketedCustomNodes;
+
+  // 是否有因缺少结束标记而按文本处理的开始标记（反引号、[、< 等），后续文本可能改变其解析结果
+  private boolean unresolvedOpener = false;
+
+  // 各类 HTML 结束标记的查找结果缓存，保证未闭合的注释、处理指令等不会被反复扫描到文本末尾
+  private final CloserCache commentCloser = new CloserCache("-->");
+  private final CloserCache piCloser = new CloserCache("?>");
+  private final CloserCache declarationCloser = new CloserCache(">");
+  private final CloserCache cdataCloser = new CloserCache("]]>");
+  private final CloserCache singleQuoteCloser = new CloserCache("'");
+  private final CloserCache doubleQuoteCloser = new CloserCache("\"");
+  private final CloserCache atSign = new CloserCache("@");
+
+  // 上一次扫描的扩展邮件地址本地部分 [start, end)，同一段字符内的后续位置直接复用结束位置
+  private int emailLocalStart = -1;
+  private int emailLocalEnd = -1;
+
   public InlineParser(String text, MarkdownParserOptions options) {
-    this(text, Collections.emptyMap(), options, Collections.emptyList());
+    this(text, Collections.emptyMap(), options, InlineParserConfig.empty());
   }
 
   public InlineParser(
       String text, Map<String, LinkReference> references, MarkdownParserOptions options) {
-    this(text, references, options, Collections.emptyList());
+    this(text, references, options, InlineParserConfig.empty());
   }
 
+  /**
+   * 使用行内解析器工厂创建解析器. 每次调用都会重新编译配置，重复解析时应复用 {@link InlineParserConfig}。
+   *
+   * @param text
+   *            行内文本
+   * @param references
+   *            链接引用定义
+   * @param options
+   *            选项
+   * @param inlineParserFactories
+   *            行内解析器工厂
+   */
   public InlineParser(
       String text,
       Map<String, LinkReference> references,
       MarkdownParserOptions options,
       List<InlineContentParserFactory> inlineParserFactories) {
+    this(text, references, options, InlineParserConfig.of(inlineParserFactories));
+  }
+
+  /**
+   * 使用已编译的配置创建解析器，只分配本次解析的游标状态.
+   *
+   * @param text
+   *            行内文本
+   * @param references
+   *            链接引用定义
+   * @param options
+   *            选项
+   * @param config
+   *            共享的行内解析配置
+   */
+  public InlineParser(
+      String text,
+      Map<String, LinkReference> references,
+      MarkdownParserOptions options,
+      InlineParserConfig config) {
     this.text = text;
     this.references = references;
     this.options = options != null ? options : new MarkdownParserOptions();
-    this.inlineParserFactories =
-        inlineParserFactories != null ? inlineParserFactories : Collections.emptyList();
-
-    // Initialize custom parsers map
-    this.customParsers = new HashMap<>();
-    for (InlineContentParserFactory factory : this.inlineParserFactories) {
-      InlineContentParser parser = factory.create();
-      for (Character c : factory.getTriggerCharacters()) {
-        customParsers.computeIfAbsent(c, k -> new ArrayList<>()).add(parser);
-      }
-    }
+    this.config = config != null ? config : InlineParserConfig.empty();
+    this.charClasses = this.config.charClasses();
   }
 
   /**
@@ -116,14 +144,21 @@ public class InlineParser implements InlineParserState {
       if (handleExtendedAutolink()) continue;
 
       // Check custom parsers first
-      List<InlineContentParser> parsers = customParsers.get(c);
+      int[] slots = config.slotsFor(c);
       boolean handled = false;
-      if (parsers != null) {
-        for (InlineContentParser parser : parsers) {
-          ParsedInline parsed = parser.tryParse(text, index, this);
+      if (slots != null) {
+        for (int slot : slots) {
+          ParsedInline parsed = parserFor(slot).tryParse(text, index, this);
           if (parsed != null) {
             if (parsed.getNode() != null) {
               nodes.add(parsed.getNode());
+              if (lastBracket != null) {
+                if (bracketedCustomNodes == null) {
+                  bracketedCustomNodes = new IdentityHashMap<>();
+                }
+                bracketedCustomNodes.put(
+                    parsed.getNode(), text.substring(index, parsed.getNewIndex()));
+              }
             }
             index = parsed.getNewIndex();
             handled = true;
@@ -132,8 +167,9 @@ public class InlineParser implements InlineParserState {
         }
       }
       if (handled) continue;
-      if (parsers != null) {
+      if (slots != null) {
         nodes.add(new Text(String.valueOf(c)));
+        unresolvedOpener = true;
         index++;
         continue;
       }
@@ -152,6 +188,8 @@ public class InlineParser implements InlineParserState {
         handleEmphasis(c);
       } else if (c == '[') {
         handleLeftSquareBracket();
+      } else if (c == ']') {
+        handleRightSquareBracket();
       } else if (c == '!') {
         handleExclamationMark();
       } else {
@@ -159,52 +197,95 @@ public class InlineParser implements InlineParserState {
       }
     }
 
-    processEmphasis();
+    if (lastBracket != null) {
+      // 未闭合的 [ 可能在后续行中闭合
+      unresolvedOpener = true;
+    }
+    processEmphasis(null, 0);
     trimTrailingSpaces();
     mergeTextNodes(nodes);
     return nodes;
   }
 
-  private void mergeTextNodes(List<Node> nodeList) {
-    for (int i = 0; i < nodeList.size() - 1; i++) {
-      Node node1 = nodeList.get(i);
-      Node node2 = nodeList.get(i + 1);
-
-      if (node1 instanceof Text && node2 instanceof Text) {
-        Text text1 = (Text) node1;
-        Text text2 = (Text) node2;
+  private InlineContentParser parserFor(int slot) {
+    InlineContentParser parser = config.sharedParser(slot);
+    if (parser != null) {
+      return parser;
+    }
+    // 有状态的工厂在每次解析中首次用到时创建实例
+    if (parsers == null) {
+      parsers = new InlineContentParser[config.getFactories().size()];
+    }
+    parser = parsers[slot];
+    if (parser == null) {
+      parser = config.getFactories().get(slot).create();
+      parsers[slot] = parser;
+    }
+    return parser;
+  }
 
-        text1.setLiteral(text1.getLiteral() + text2.getLiteral());
+  /**
+   * 解析结果是否与后续文本无关. 在 {@link #parse()} 之后调用。
+   * <p>
+   * 当文本中不存在未匹配的强调开始分隔符，也不存在因缺少结束标记而按文本处理的反引号、方括号、尖括号或自定义触发字符时，
+   * 在这段文本之后追加内容（以换行开始）不会改变已有的解析结果。
+   * </p>
+   *
+   * @return 是否稳定
+   */
+  boolean isStable() {
+    if (unresolvedOpener) {
+      return false;
+    }
+    for (Delimiter d = lastDelimiter; d != null; d = d.previous) {
+      if (d.canOpen && d.length > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
 
-        // Remove node2 from list
-        nodeList.remove(i + 1);
-        i--; // Retry
+  /**
+   * 合并相邻的文本节点. 连续的文本节点一次拼接，列表原地压缩，避免逐对拼接与删除带来的平方复杂度.
+   */
+  private void mergeTextNodes(List<Node> nodeList) {
+    int size = nodeList.size();
+    int out = 0;
+    int i = 0;
+    while (i < size) {
+      Node node = nodeList.get(i++);
+      if (node instanceof Text first && i < size && nodeList.get(i) instanceof Text) {
+        StringBuilder sb = new StringBuilder(first.getLiteral());
+        while (i < size && nodeList.get(i) instanceof Text next) {
+          sb.append(next.getLiteral());
+          i++;
+        }
+        first.setLiteral(sb.toString());
       } else {
-        mergeChildTextNodes(node1);
+        mergeChildTextNodes(node);
       }
+      nodeList.set(out++, node);
     }
-    // Handle last node's children
-    if (!nodeList.isEmpty()) {
-      mergeChildTextNodes(nodeList.get(nodeList.size() - 1));
-    }
+    nodeList.subList(out, size).clear();
   }
 
   private void mergeChildTextNodes(Node node) {
     Node child = node.getFirstChild();
     while (child != null) {
       Node next = child.getNext();
-      if (child instanceof Text && next instanceof Text) {
-        Text text1 = (Text) child;
-        Text text2 = (Text) next;
-        text1.setLiteral(text1.getLiteral() + text2.getLiteral());
-
-        // Remove next
-        next.unlink();
-        // child stays same, next iteration will check child vs next.next
+      if (child instanceof Text first && next instanceof Text) {
+        StringBuilder sb = new StringBuilder(first.getLiteral());
+        while (next instanceof Text t) {
+          sb.append(t.getLiteral());
+          Node following = next.getNext();
+          next.unlink();
+          next = following;
+        }
+        first.setLiteral(sb.toString());
       } else {
         mergeChildTextNodes(child);
-        child = next;
       }
+      child = next;
     }
   }
 
@@ -258,91 +339,61 @@ public class InlineParser implements InlineParserState {
   }
 
   private void handleLeftAngleBracket() {
-    String remaining = text.substring(index);
-
-    Matcher matcher;
-
-    // Autolinks
-    matcher = AUTOLINK_URI.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String uri = matcher.group();
-      String destination = uri.substring(1, uri.length() - 1);
+    int end = scanAutolinkUri(index);
+    if (end != -1) {
+      String destination = text.substring(index + 1, end - 1);
       Link link = new Link(destination, "");
       link.appendChild(new Text(destination));
       nodes.add(link);
-      index += uri.length();
+      index = end;
       return;
     }
 
-    matcher = AUTOLINK_EMAIL.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String email = matcher.group();
-      String address = email.substring(1, email.length() - 1);
+    end = scanAutolinkEmail(index);
+    if (end != -1) {
+      String address = text.substring(index + 1, end - 1);
       Link link = new Link("mailto:" + address, "");
       link.appendChild(new Text(address));
       nodes.add(link);
-      index += email.length();
-      return;
-    }
-
-    matcher = HTML_COMMENT_SHORT_2.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String tag = matcher.group();
-      nodes.add(new HtmlInline(tag));
-      index += tag.length();
+      index = end;
       return;
     }
 
-    matcher = HTML_COMMENT_SHORT.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String tag = matcher.group();
-      nodes.add(new HtmlInline(tag));
-      index += tag.length();
-      return;
-    }
-
-    matcher = HTML_COMMENT.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String tag = matcher.group();
-      String content = tag.substring(4, tag.length() - 3);
-      if (!content.startsWith(">") && !content.startsWith("->")) {
-        nodes.add(new HtmlInline(tag));
-        index += tag.length();
-        return;
+    // <!--> 与 <!---> 在 CommonMark 测试中也是合法的注释
+    if (text.startsWith("<!--->", index)) {
+      end = index + 6;
+    } else if (text.startsWith("<!-->", index)) {
+      end = index + 5;
+    } else {
+      end = scanHtmlComment(index);
+      if (end != -1) {
+        // 注释内容不能以 > 或 -> 开头
+        if (text.startsWith(">", index + 4) || text.startsWith("->", index + 4)) {
+          end = -1;
+        }
       }
     }
-
-    matcher = HTML_PI.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String tag = matcher.group();
-      nodes.add(new HtmlInline(tag));
-      index += tag.length();
-      return;
-    }
-
-    matcher = HTML_DECLARATION.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String tag = matcher.group();
-      nodes.add(new HtmlInline(tag));
-      index += tag.length();
+    if (end == -1) end = scanProcessingInstruction(index);
+    if (end == -1) end = scanDeclaration(index);
+    if (end == -1) end = scanCdata(index);
+    if (end != -1) {
+      nodes.add(new HtmlInline(text.substring(index, end)));
+      index = end;
       return;
     }
 
-    matcher = HTML_CDATA.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String tag = matcher.group();
-      nodes.add(new HtmlInline(tag));
-      index += tag.length();
-      return;
+    end = scanOpenTag(index);
+    int nameStart = index + 1;
+    if (end == -1) {
+      end = scanClosingTag(index);
+      nameStart = index + 2;
     }
-
-    matcher = HTML_TAG.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String tag = matcher.group();
-
+    if (end != -1) {
       // GFM Disallowed Raw HTML check
       if (options.isGfm()) {
-        String tagName = matcher.group(1).toLowerCase(java.util.Locale.ROOT);
+        int nameEnd = nameStart;
+        while (isTagNameChar(text.charAt(nameEnd))) nameEnd++;
+        String tagName = text.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
         if (isDisallowedTag(tagName)) {
           // Treat as text
           nodes.add(new Text("<"));
@@ -351,33 +402,225 @@ public class InlineParser implements InlineParserState {
         }
       }
 
-      nodes.add(new HtmlInline(tag));
-      index += tag.length();
+      nodes.add(new HtmlInline(text.substring(index, end)));
+      index = end;
       return;
     }
 
-    matcher = HTML_CLOSE_TAG.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String tag = matcher.group();
+    nodes.add(new Text("<"));
+    unresolvedOpener = true;
+    index++;
+  }
 
-      // GFM Disallowed Raw HTML check
-      if (options.isGfm()) {
-        String tagName = matcher.group(1).toLowerCase(java.util.Locale.ROOT);
-        if (isDisallowedTag(tagName)) {
-          // Treat as text
-          nodes.add(new Text("<"));
-          index++;
-          return;
-        }
+  /**
+   * 查找某个结束标记的缓存. 记录上一次查找的起点与结果：新的起点不早于上一次的起点且不晚于上一次的结果时，结果不变，
+   * 因此整段文本中对同一结束标记的查找总共只扫描一遍。
+   */
+  private final class CloserCache {
+    private final String closer;
+    private int searchedFrom = -1;
+    private int found = -1;
+
+    CloserCache(String closer) {
+      this.closer = closer;
+    }
+
+    int find(int from) {
+      if (searchedFrom == -1 || from < searchedFrom || (found != -1 && found < from)) {
+        searchedFrom = from;
+        found = text.indexOf(closer, from);
       }
+      return found;
+    }
+  }
 
-      nodes.add(new HtmlInline(tag));
-      index += tag.length();
-      return;
+  /**
+   * URI 自动链接 {@code <scheme:...>}，与正则 {@code <[a-zA-Z][a-zA-Z0-9.+-]{1,31}:[^<>\u0000-\u0020]*>} 一致.
+   *
+   * @return 结束位置；不匹配时返回 -1
+   */
+  private int scanAutolinkUri(int start) {
+    int length = text.length();
+    int i = start + 1;
+    if (i >= length || !isAsciiLetter(text.charAt(i))) return -1;
+    i++;
+    while (i < length && i - start <= 32 && isSchemeChar(text.charAt(i))) i++;
+    int schemeLength = i - start - 1;
+    if (schemeLength < 2 || schemeLength > 32 || i >= length || text.charAt(i) != ':') return -1;
+    i++;
+    while (i < length) {
+      char c = text.charAt(i);
+      if (c == '>') return i + 1;
+      if (c == '<' || c <= ' ') return -1;
+      i++;
     }
+    return -1;
+  }
 
-    nodes.add(new Text("<"));
-    index++;
+  /**
+   * 邮件自动链接 {@code <local@domain>}，与 CommonMark 的邮件地址正则一致. 域名的每一段由字母、数字和 {@code -} 组成，
+   * 长度为 1 到 63，不能以 {@code -} 开头或结尾。
+   *
+   * @return 结束位置；不匹配时返回 -1
+   */
+  private int scanAutolinkEmail(int start) {
+    int length = text.length();
+    int i = start + 1;
+    while (i < length && isEmailLocalChar(text.charAt(i))) i++;
+    if (i == start + 1 || i >= length || text.charAt(i) != '@') return -1;
+    i++;
+    while (true) {
+      int labelStart = i;
+      while (i < length && (isAsciiLetterOrDigit(text.charAt(i)) || text.charAt(i) == '-')) i++;
+      int labelLength = i - labelStart;
+      if (labelLength == 0
+          || labelLength > 63
+          || text.charAt(labelStart) == '-'
+          || text.charAt(i - 1) == '-'
+          || i >= length) {
+        return -1;
+      }
+      char c = text.charAt(i);
+      if (c == '>') return i + 1;
+      if (c != '.') return -1;
+      i++;
+    }
+  }
+
+  /**
+   * HTML 注释 {@code <!-- ... -->}，结束于 {@code <!--} 之后第一个 {@code -->}.
+   */
+  private int scanHtmlComment(int start) {
+    if (!text.startsWith("<!--", start)) return -1;
+    int close = commentCloser.find(start + 4);
+    return close == -1 ? -1 : close + 3;
+  }
+
+  /**
+   * 处理指令 {@code <? ... ?>}.
+   */
+  private int scanProcessingInstruction(int start) {
+    if (!text.startsWith("<?", start)) return -1;
+    int close = piCloser.find(start + 2);
+    return close == -1 ? -1 : close + 2;
+  }
+
+  /**
+   * 声明 {@code <!X ... >}，{@code X} 为大写字母.
+   */
+  private int scanDeclaration(int start) {
+    if (!text.startsWith("<!", start) || start + 2 >= text.length()) return -1;
+    char c = text.charAt(start + 2);
+    if (c < 'A' || c > 'Z') return -1;
+    int close = declarationCloser.find(start + 3);
+    return close == -1 ? -1 : close + 1;
+  }
+
+  /**
+   * CDATA 段 {@code <![CDATA[ ... ]]>}.
+   */
+  private int scanCdata(int start) {
+    if (!text.startsWith("<![CDATA[", start)) return -1;
+    int close = cdataCloser.find(start + 9);
+    return close == -1 ? -1 : close + 3;
+  }
+
+  /**
+   * 开始标签，与正则
+   * {@code <[A-Za-z][A-Za-z0-9-]*(?:\s+[A-Za-z_:][A-Za-z0-9_.:-]*(?:\s*=\s*(?:[^"'=<>`\s]+|'[^']*'|"[^"]*"))?)*\s*\/?>}
+   * 一致.
+   *
+   * @return 结束位置；不匹配时返回 -1
+   */
+  private int scanOpenTag(int start) {
+    int length = text.length();
+    int i = start + 1;
+    if (i >= length || !isAsciiLetter(text.charAt(i))) return -1;
+    i++;
+    while (i < length && isTagNameChar(text.charAt(i))) i++;
+    while (true) {
+      int afterSpace = skipRegexWhitespace(i);
+      if (afterSpace == length) return -1;
+      char c = text.charAt(afterSpace);
+      if (afterSpace == i || !(isAsciiLetter(c) || c == '_' || c == ':')) {
+        // 属性之后只能是可选的 / 与 >
+        i = afterSpace;
+        if (c == '/') i++;
+        return i < length && text.charAt(i) == '>' ? i + 1 : -1;
+      }
+      // 属性名
+      i = afterSpace + 1;
+      while (i < length && isAttributeNameChar(text.charAt(i))) i++;
+      // 属性值（可选）
+      int j = skipRegexWhitespace(i);
+      if (j < length && text.charAt(j) == '=') {
+        j = skipRegexWhitespace(j + 1);
+        if (j >= length) return -1;
+        char quote = text.charAt(j);
+        if (quote == '\'' || quote == '"') {
+          int close = (quote == '\'' ? singleQuoteCloser : doubleQuoteCloser).find(j + 1);
+          if (close == -1) return -1;
+          i = close + 1;
+        } else {
+          int valueStart = j;
+          while (j < length && isUnquotedValueChar(text.charAt(j))) j++;
+          if (j == valueStart) return -1;
+          i = j;
+        }
+      }
+    }
+  }
+
+  /**
+   * 结束标签 {@code </name>}，标签名与 {@code >} 之间可以有空白.
+   */
+  private int scanClosingTag(int start) {
+    int length = text.length();
+    int i = start + 2;
+    if (!text.startsWith("</", start) || i >= length || !isAsciiLetter(text.charAt(i))) return -1;
+    i++;
+    while (i < length && isTagNameChar(text.charAt(i))) i++;
+    i = skipRegexWhitespace(i);
+    return i < length && text.charAt(i) == '>' ? i + 1 : -1;
+  }
+
+  private int skipRegexWhitespace(int i) {
+    while (i < text.length() && MarkdownParser.isRegexWhitespace(text.charAt(i))) i++;
+    return i;
+  }
+
+  private static boolean isAsciiLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isAsciiLetterOrDigit(char c) {
+    return isAsciiLetter(c) || (c >= '0' && c <= '9');
+  }
+
+  private static boolean isSchemeChar(char c) {
+    return isAsciiLetterOrDigit(c) || c == '.' || c == '+' || c == '-';
+  }
+
+  private static boolean isTagNameChar(char c) {
+    return isAsciiLetterOrDigit(c) || c == '-';
+  }
+
+  private static boolean isAttributeNameChar(char c) {
+    return isAsciiLetterOrDigit(c) || c == '_' || c == '.' || c == ':' || c == '-';
+  }
+
+  private static boolean isUnquotedValueChar(char c) {
+    return c != '"'
+        && c != '\''
+        && c != '='
+        && c != '<'
+        && c != '>'
+        && c != '`'
+        && !MarkdownParser.isRegexWhitespace(c);
+  }
+
+  private static boolean isEmailLocalChar(char c) {
+    return isAsciiLetterOrDigit(c) || ".!#$%&'*+/=?^_`{|}~-".indexOf(c) != -1;
   }
 
   private boolean isDisallowedTag(String tagName) {
@@ -394,48 +637,16 @@ public class InlineParser implements InlineParserState {
   }
 
   private void handleEntity() {
-    String remaining = text.substring(index);
-    Matcher matcher = ENTITY.matcher(remaining);
-    if (matcher.find() && matcher.start() == 0) {
-      String entity = matcher.group();
-      String decoded = decodeEntity(matcher);
-      nodes.add(new Text(decoded));
-      index += entity.length();
+    int end = EntityDecoder.scan(text, index);
+    if (end != -1) {
+      nodes.add(new Text(EntityDecoder.decode(text, index, end)));
+      index = end;
     } else {
       nodes.add(new Text("&"));
       index++;
     }
   }
 
-  private String decodeEntity(Matcher matcher) {
-    String name = matcher.group(1);
-    String decimal = matcher.group(2);
-    String hex = matcher.group(3);
-
-    if (name != null) {
-      String decoded = EntityDecoder.decode(name);
-      if (decoded != null) return decoded;
-      return matcher.group();
-    } else if (decimal != null) {
-      try {
-        int codePoint = Integer.parseInt(decimal);
-        if (codePoint == 0) return "\uFFFD";
-        return new String(Character.toChars(codePoint));
-      } catch (IllegalArgumentException e) {
-        return "\uFFFD";
-      }
-    } else if (hex != null) {
-      try {
-        int codePoint = Integer.parseInt(hex, 16);
-        if (codePoint == 0) return "\uFFFD";
-        return new String(Character.toChars(codePoint));
-      } catch (IllegalArgumentException e) {
-        return "\uFFFD";
-      }
-    }
-    return matcher.group();
-  }
-
   private void handleBackslash() {
     if (index + 1 < text.length()) {
       char next = text.charAt(index + 1);
@@ -504,406 +715,252 @@ public class InlineParser implements InlineParserState {
       index = closeStart + runLength;
     } else {
       nodes.add(new Text(text.substring(start, start + runLength)));
+      unresolvedOpener = true;
       index = start + runLength;
     }
   }
 
   private void handleLeftSquareBracket() {
-    // Look for matching closing bracket
-    int start = index;
-    int end = findMatchingBracket(start + 1);
+    pushBracket(new Text("["), index, false);
+    index++;
+  }
 
-    if (end == -1) {
-      nodes.add(new Text("["));
+  private void handleExclamationMark() {
+    if (index + 1 < text.length() && text.charAt(index + 1) == '[') {
+      pushBracket(new Text("!["), index + 1, true);
+      index += 2;
+    } else {
+      nodes.add(new Text("!"));
       index++;
-      return;
     }
+  }
 
-    String textContent = text.substring(start + 1, end);
-    int afterEnd = end + 1;
-
-    // Check for inline link: (url) or (url "title")
-    if (afterEnd < text.length() && text.charAt(afterEnd) == '(') {
-      int i = afterEnd + 1;
-      // Skip whitespace
-      while (i < text.length() && isWhitespace(text.charAt(i))) {
-        i++;
-      }
-
-      String destination = null;
-      String title = null;
-      boolean valid = false;
-
-      if (i < text.length()) {
-        // Parse Destination
-        ParsedDestination parsedDest = parseLinkDestination(i);
-        if (parsedDest != null) {
-          destination = parsedDest.destination;
-          i = parsedDest.endIndex;
-
-          // Skip whitespace
-          boolean hasWhitespace = false;
-          while (i < text.length() && isWhitespace(text.charAt(i))) {
-            hasWhitespace = true;
-            i++;
-          }
-
-          // Parse Title (optional)
-          if (i < text.length()) {
-            char c = text.charAt(i);
-            if (c == '"' || c == '\'' || c == '(') {
-              if (hasWhitespace) {
-                ParsedTitle parsedTitle = parseLinkTitle(i);
-                if (parsedTitle != null) {
-                  title = parsedTitle.title;
-                  i = parsedTitle.endIndex;
-
-                  // Skip whitespace
-                  while (i < text.length() && isWhitespace(text.charAt(i))) {
-                    i++;
-                  }
-                }
-              } else {
-                // Title MUST be separated by whitespace
-                // If we see a quote but no whitespace, it's invalid unless it's the closing
-                // paren?
-                // Actually, if we are at ')' it is fine.
-              }
-            }
-          }
-
-          if (i < text.length() && text.charAt(i) == ')') {
-            valid = true;
-            i++; // Consume ')'
-          }
-        } else {
-          // Empty destination is allowed? () -> dest=""
-          // parseLinkDestination handles empty?
-          // If parseLinkDestination returns null, it means invalid.
-          // But () is valid.
-          if (i < text.length() && text.charAt(i) == ')') {
-            destination = "";
-            valid = true;
-            i++;
-          }
-        }
-      }
-
-      if (valid) {
-        Link link = new Link(destination, title != null ? title : "");
+  private void pushBracket(Text node, int sourceIndex, boolean image) {
+    nodes.add(node);
+    lastBracket = new Bracket(nodes.size() - 1, sourceIndex, image, lastDelimiter, lastBracket);
+  }
 
-        // Parse text content recursively
-        InlineParser parser = new InlineParser(textContent, references, options);
-        List<Node> children = parser.parse();
-        for (Node child : children) {
-          link.appendChild(child);
-        }
+  /**
+   * 处理 {@code ]}：与栈顶的 {@code [} 或 {@code ![} 配对，紧随其后的是内联链接或已定义的链接引用时，
+   * 两者之间已解析的节点成为链接（图片）的子节点. 链接文本只解析一遍，不会向前查找或重新解析。
+   */
+  private void handleRightSquareBracket() {
+    int closeIndex = index;
+    index++;
+    Bracket opener = lastBracket;
+    if (opener == null) {
+      nodes.add(new Text("]"));
+      return;
+    }
+    lastBracket = opener.previous;
 
-        // Rule: Links may not contain other links
-        if (containsLinkInChildren(link)) {
-          nodes.add(new Text("["));
-          index = start + 1;
-          return;
-        }
+    if (!opener.active) {
+      // 链接不能包含链接：已包含链接的 [ 只能作为文本
+      nodes.add(new Text("]"));
+      unresolvedOpener = true;
+      return;
+    }
 
-        nodes.add(link);
-        index = i;
-        return;
+    LinkTarget target = parseLinkTarget(opener, closeIndex);
+    if (target == null) {
+      nodes.add(new Text("]"));
+      // 未定义的 [text] 不受后续文本影响；紧跟 ( 或 [ 时链接可能在后续行中补全
+      int afterEnd = closeIndex + 1;
+      if (afterEnd >= text.length()
+          || text.charAt(afterEnd) == '('
+          || text.charAt(afterEnd) == '[') {
+        unresolvedOpener = true;
       }
+      return;
     }
 
-    // Check for reference link: [text][label] or [text][] or [text]
-    String label = null;
-    int refEnd = -1;
+    Node link =
+        opener.image
+            ? new Image(target.destination, target.title)
+            : new Link(target.destination, target.title);
+    int childrenStart = opener.nodeIndex + 1;
+    processEmphasis(opener.previousDelimiter, childrenStart);
+    // 链接文本中的分隔符不能再与外部的分隔符匹配
+    while (lastDelimiter != opener.previousDelimiter) {
+      removeDelimiter(lastDelimiter);
+    }
+    List<Node> children = nodes.subList(childrenStart, nodes.size());
+    for (Node child : children) {
+      link.appendChild(child);
+    }
+    nodes.subList(opener.nodeIndex, nodes.size()).clear();
+    nodes.add(link);
+    index = target.endIndex;
 
-    if (afterEnd < text.length() && text.charAt(afterEnd) == '[') {
-      // Full or Collapsed
-      int labelClose = findMatchingBracket(afterEnd + 1);
-      if (labelClose != -1) {
-        String labelContent = text.substring(afterEnd + 1, labelClose);
-        if (labelContent.trim().isEmpty()) {
-          // Collapsed: [text][] -> label = text
-          label = textContent;
-        } else {
-          // Full: [text][label]
-          label = labelContent;
-        }
-        refEnd = labelClose + 1;
-      }
+    if (opener.image) {
+      restoreCustomNodeSources(link);
     } else {
-      // Shortcut: [text] -> label = text
-      label = textContent;
-      refEnd = end + 1;
+      unwrapExtendedAutolinks(link);
+      deactivateBrackets();
     }
+  }
 
-    if (label != null) {
-      String normalizedLabel = normalizeLabel(label);
-      if (references.containsKey(normalizedLabel)) {
-        LinkReference ref = references.get(normalizedLabel);
-        Link link = new Link(ref.getDestination(), ref.getTitle());
-
-        InlineParser parser = new InlineParser(textContent, references, options);
-        List<Node> children = parser.parse();
-        for (Node child : children) {
-          link.appendChild(child);
-        }
-
-        // Rule: Links may not contain other links
-        if (containsLinkInChildren(link)) {
-          nodes.add(new Text("["));
-          index = start + 1;
-          return;
-        }
-
-        nodes.add(link);
-        index = refEnd;
-        return;
-      }
-    }
+  /**
+   * 链接不能包含链接：链接文本中的扩展自动链接还原为普通文本.
+   */
+  private void unwrapExtendedAutolinks(Node link) {
+    if (bracketedAutolinks == null) return;
+    bracketedAutolinks.removeIf(
+        autolink -> {
+          if (!isDescendant(autolink, link)) return false;
+          Node anchor = autolink;
+          Node child = autolink.getFirstChild();
+          while (child != null) {
+            Node next = child.getNext();
+            anchor.insertAfter(child);
+            anchor = child;
+            child = next;
+          }
+          autolink.unlink();
+          return true;
+        });
+  }
 
-    // Not a link, add brackets as text
-    nodes.add(new Text("["));
-    index++;
+  /**
+   * 图片描述只用于生成替代文本：其中由自定义解析器生成的节点还原为原文，与描述中的普通文本一样参与替代文本.
+   */
+  private void restoreCustomNodeSources(Node image) {
+    if (bracketedCustomNodes == null) return;
+    bracketedCustomNodes
+        .entrySet()
+        .removeIf(
+            entry -> {
+              Node node = entry.getKey();
+              if (!isDescendant(node, image)) return false;
+              node.insertAfter(new Text(entry.getValue()));
+              node.unlink();
+              return true;
+            });
   }
 
-  private boolean containsLinkInChildren(Node node) {
-    Node child = node.getFirstChild();
-    while (child != null) {
-      if (containsLink(child)) return true;
-      child = child.getNext();
+  private static boolean isDescendant(Node node, Node ancestor) {
+    for (Node p = node.getParent(); p != null; p = p.getParent()) {
+      if (p == ancestor) return true;
     }
     return false;
   }
 
-  private boolean containsLink(Node node) {
-    if (node instanceof Link) return true;
-    Node child = node.getFirstChild();
-    while (child != null) {
-      if (containsLink(child)) return true;
-      child = child.getNext();
+  /**
+   * 当前所有未闭合的 {@code [} 都包含了刚生成的链接，不能再成为链接.
+   */
+  private void deactivateBrackets() {
+    for (Bracket b = lastBracket; b != null; b = b.previous) {
+      if (!b.image) {
+        b.active = false;
+      }
     }
-    return false;
   }
 
-  private void handleExclamationMark() {
-    if (index + 1 < text.length() && text.charAt(index + 1) == '[') {
-      int start = index;
-      int bracketStart = index + 1;
-      int end = findMatchingBracket(bracketStart + 1);
+  /**
+   * 解析 {@code ]} 之后的内联链接目标，或者查找链接引用.
+   *
+   * @return 链接目标；不是链接时返回 null
+   */
+  private LinkTarget parseLinkTarget(Bracket opener, int closeIndex) {
+    int afterEnd = closeIndex + 1;
 
-      if (end == -1) {
-        nodes.add(new Text("!"));
-        index++;
-        return;
+    // Inline link: (url) or (url "title")
+    if (afterEnd < text.length() && text.charAt(afterEnd) == '(') {
+      LinkTarget inline = parseInlineLinkTarget(afterEnd + 1);
+      if (inline != null) {
+        return inline;
       }
+    }
 
-      String altText = text.substring(bracketStart + 1, end);
-      int afterEnd = end + 1;
-
-      // Inline image: ![alt](url)
-      if (afterEnd < text.length() && text.charAt(afterEnd) == '(') {
-        int i = afterEnd + 1;
-        while (i < text.length() && isWhitespace(text.charAt(i))) i++;
-
-        String destination = null;
-        String title = null;
-        boolean valid = false;
-
-        if (i < text.length()) {
-          ParsedDestination parsedDest = parseLinkDestination(i);
-          if (parsedDest != null) {
-            destination = parsedDest.destination;
-            i = parsedDest.endIndex;
-
-            boolean hasWhitespace = false;
-            while (i < text.length() && isWhitespace(text.charAt(i))) {
-              hasWhitespace = true;
-              i++;
-            }
-
-            if (i < text.length()) {
-              char c = text.charAt(i);
-              if (c == '"' || c == '\'' || c == '(') {
-                if (hasWhitespace) {
-                  ParsedTitle parsedTitle = parseLinkTitle(i);
-                  if (parsedTitle != null) {
-                    title = parsedTitle.title;
-                    i = parsedTitle.endIndex;
-                    while (i < text.length() && isWhitespace(text.charAt(i))) i++;
-                  }
-                }
-              }
-            }
-
-            if (i < text.length() && text.charAt(i) == ')') {
-              valid = true;
-              i++;
-            }
-          } else {
-            if (i < text.length() && text.charAt(i) == ')') {
-              destination = "";
-              valid = true;
-              i++;
-            }
-          }
-        }
-
-        if (valid) {
-          Image image = new Image(destination, title != null ? title : "");
-
-          InlineParser parser = new InlineParser(altText, references, options);
-          List<Node> children = parser.parse();
-          for (Node child : children) {
-            image.appendChild(child);
-          }
-
-          nodes.add(image);
-          index = i;
-          return;
-        }
+    // Reference link: [text][label], [text][] or [text]
+    String label;
+    int refEnd;
+    int labelClose = afterEnd < text.length() ? scanLinkLabel(afterEnd) : -1;
+    if (labelClose != -1 && !isBlank(afterEnd + 1, labelClose)) {
+      // Full: [text][label]
+      label = text.substring(afterEnd + 1, labelClose);
+      refEnd = labelClose + 1;
+    } else {
+      // Collapsed: [text][] 或 Shortcut: [text] -> label = text，链接标签最多 999 个字符
+      if (closeIndex - opener.sourceIndex - 1 > MAX_LABEL_LENGTH) {
+        return null;
       }
+      label = text.substring(opener.sourceIndex + 1, closeIndex);
+      refEnd = labelClose != -1 ? labelClose + 1 : afterEnd;
+    }
 
-      // Reference image: ![alt][label]
-      String label = null;
-      int refEnd = -1;
+    String normalizedLabel = normalizeLabel(label);
+    if (!references.containsKey(normalizedLabel)) {
+      return null;
+    }
+    LinkReference ref = references.get(normalizedLabel);
+    return new LinkTarget(ref.getDestination(), ref.getTitle(), refEnd);
+  }
 
-      if (afterEnd < text.length() && text.charAt(afterEnd) == '[') {
-        int labelClose = findMatchingBracket(afterEnd + 1);
-        if (labelClose != -1) {
-          String labelContent = text.substring(afterEnd + 1, labelClose);
-          if (labelContent.trim().isEmpty()) {
-            label = altText;
-          } else {
-            label = labelContent;
-          }
-          refEnd = labelClose + 1;
-        }
-      } else {
-        label = altText;
-        refEnd = end + 1;
+  /**
+   * 解析内联链接 {@code (destination "title")} 中左括号之后的部分.
+   */
+  private LinkTarget parseInlineLinkTarget(int start) {
+    int i = start;
+    // Skip whitespace
+    while (i < text.length() && isWhitespace(text.charAt(i))) i++;
+    if (i >= text.length()) return null;
+
+    ParsedDestination parsedDest = parseLinkDestination(i);
+    if (parsedDest == null) {
+      // Empty destination: ()
+      if (text.charAt(i) == ')') {
+        return new LinkTarget("", "", i + 1);
       }
+      return null;
+    }
+    i = parsedDest.endIndex;
 
-      if (label != null) {
-        String normalizedLabel = normalizeLabel(label);
-        if (references.containsKey(normalizedLabel)) {
-          LinkReference ref = references.get(normalizedLabel);
-          Image image = new Image(ref.getDestination(), ref.getTitle());
-
-          InlineParser parser = new InlineParser(altText, references, options);
-          List<Node> children = parser.parse();
-          for (Node child : children) {
-            image.appendChild(child);
-          }
+    boolean hasWhitespace = false;
+    while (i < text.length() && isWhitespace(text.charAt(i))) {
+      hasWhitespace = true;
+      i++;
+    }
 
-          nodes.add(image);
-          index = refEnd;
-          return;
+    // Parse Title (optional), it must be separated from the destination by whitespace
+    String title = null;
+    if (hasWhitespace && i < text.length()) {
+      char c = text.charAt(i);
+      if (c == '"' || c == '\'' || c == '(') {
+        ParsedTitle parsedTitle = parseLinkTitle(i);
+        if (parsedTitle != null) {
+          title = parsedTitle.title;
+          i = parsedTitle.endIndex;
+          while (i < text.length() && isWhitespace(text.charAt(i))) i++;
         }
       }
+    }
 
-      nodes.add(new Text("!"));
-      index++;
-    } else {
-      nodes.add(new Text("!"));
-      index++;
+    if (i < text.length() && text.charAt(i) == ')') {
+      return new LinkTarget(parsedDest.destination, title != null ? title : "", i + 1);
     }
+    return null;
   }
 
-  private int findMatchingBracket(int startIndex) {
-    int depth = 0;
-    int i = startIndex;
-    while (i < text.length()) {
-      char c = text.charAt(i);
+  private static final int MAX_LABEL_LENGTH = 999;
 
+  /**
+   * 从 {@code start} 处的 {@code [} 开始匹配链接标签：不能包含未转义的方括号，最多 999 个字符.
+   *
+   * @return 结束的 {@code ]} 的位置；不是链接标签时返回 -1
+   */
+  private int scanLinkLabel(int start) {
+    if (text.charAt(start) != '[') return -1;
+    int limit = Math.min(text.length(), start + 1 + MAX_LABEL_LENGTH + 1);
+    for (int i = start + 1; i < limit; i++) {
+      char c = text.charAt(i);
       if (c == '\\') {
-        i += 2;
-        continue;
-      }
-
-      if (c == '<') {
-        String remaining = text.substring(i);
-        Matcher matcher = AUTOLINK_URI.matcher(remaining);
-        if (matcher.find() && matcher.start() == 0) {
-          i += matcher.end();
-          continue;
-        }
-        matcher = AUTOLINK_EMAIL.matcher(remaining);
-        if (matcher.find() && matcher.start() == 0) {
-          i += matcher.end();
-          continue;
-        }
-        matcher = HTML_TAG.matcher(remaining);
-        if (matcher.find() && matcher.start() == 0) {
-          i += matcher.end();
-          continue;
-        }
-        matcher = HTML_CLOSE_TAG.matcher(remaining);
-        if (matcher.find() && matcher.start() == 0) {
-          i += matcher.end();
-          continue;
-        }
-        matcher = HTML_COMMENT.matcher(remaining);
-        if (matcher.find() && matcher.start() == 0) {
-          i += matcher.end();
-          continue;
-        }
-        matcher = HTML_PI.matcher(remaining);
-        if (matcher.find() && matcher.start() == 0) {
-          i += matcher.end();
-          continue;
-        }
-        matcher = HTML_DECLARATION.matcher(remaining);
-        if (matcher.find() && matcher.start() == 0) {
-          i += matcher.end();
-          continue;
-        }
-        matcher = HTML_CDATA.matcher(remaining);
-        if (matcher.find() && matcher.start() == 0) {
-          i += matcher.end();
-          continue;
-        }
-      }
-
-      if (c == '`') {
-        int runLength = 0;
-        int temp = i;
-        while (temp < text.length() && text.charAt(temp) == '`') {
-          runLength++;
-          temp++;
-        }
-        int contentStart = temp;
-        int closeEnd = -1;
-        while (temp < text.length()) {
-          if (text.charAt(temp) == '`') {
-            int closeRun = 0;
-            int closeStart = temp;
-            while (temp < text.length() && text.charAt(temp) == '`') {
-              closeRun++;
-              temp++;
-            }
-            if (closeRun == runLength) {
-              closeEnd = temp;
-              break;
-            }
-          } else {
-            temp++;
-          }
-        }
-        if (closeEnd != -1) {
-          i = closeEnd;
-          continue;
-        }
-        i += runLength;
-        continue;
-      }
-
-      if (c == '[') {
-        depth++;
+        i++;
+      } else if (c == '[') {
+        return -1;
       } else if (c == ']') {
-        if (depth == 0) return i;
-        depth--;
+        return i;
       }
-      i++;
     }
     return -1;
   }
@@ -936,10 +993,10 @@ public class InlineParser implements InlineParserState {
         }
 
         if (ch == '&') {
-          Matcher matcher = ENTITY.matcher(text.substring(i));
-          if (matcher.find()) {
-            sb.append(decodeEntity(matcher));
-            i += matcher.end();
+          int end = EntityDecoder.scan(text, i);
+          if (end != -1) {
+            sb.append(EntityDecoder.decode(text, i, end));
+            i = end;
             continue;
           }
         }
@@ -978,10 +1035,10 @@ public class InlineParser implements InlineParserState {
         }
 
         if (ch == '&') {
-          Matcher matcher = ENTITY.matcher(text.substring(i));
-          if (matcher.find()) {
-            sb.append(decodeEntity(matcher));
-            i += matcher.end();
+          int end = EntityDecoder.scan(text, i);
+          if (end != -1) {
+            sb.append(EntityDecoder.decode(text, i, end));
+            i = end;
             continue;
           }
         }
@@ -1031,10 +1088,10 @@ public class InlineParser implements InlineParserState {
       }
 
       if (ch == '&') {
-        Matcher matcher = ENTITY.matcher(text.substring(i));
-        if (matcher.find()) {
-          sb.append(decodeEntity(matcher));
-          i += matcher.end();
+        int end = EntityDecoder.scan(text, i);
+        if (end != -1) {
+          sb.append(EntityDecoder.decode(text, i, end));
+          i = end;
           continue;
         }
       }
@@ -1072,55 +1129,56 @@ public class InlineParser implements InlineParserState {
     }
   }
 
+  private boolean isBlank(int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (text.charAt(i) > ' ') return false;
+    }
+    return true;
+  }
+
+  private static class LinkTarget {
+    final String destination;
+    final String title;
+    final int endIndex;
+
+    LinkTarget(String destination, String title, int endIndex) {
+      this.destination = destination;
+      this.title = title;
+      this.endIndex = endIndex;
+    }
+  }
+
   private String normalizeLabel(String label) {
     String s = label.trim().replaceAll("\\s+", " ");
     s = s.replace("ẞ", "ss");
-    return s.toUpperCase(java.util.Locale.ROOT).toLowerCase(java.util.Locale.ROOT);
+    return s.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
   }
 
+  /**
+   * 普通文本. 按字符分类表查找下一个需要专门处理的字符，整段作为一个 {@link Text} 节点.
+   * <p>
+   * GFM 模式下，在可能开始扩展自动链接的位置停下，交给 {@link #handleExtendedAutolink()} 处理。
+   * </p>
+   */
   private void handleText() {
     int start = index;
-    while (index < text.length()) {
+    int length = text.length();
+    byte[] classes = charClasses;
+    boolean gfm = options.isGfm();
+    // 上一个字符是否是扩展自动链接的边界
+    boolean afterBoundary = false;
+    while (index < length) {
       char c = text.charAt(index);
-
-      // Check for potential GFM Autolink start boundary
-      if (options.isGfm()) {
-        // If we consumed text, previous char was c-1 (which is at index-1).
-        // Wait, if index > start, we have consumed at least one char.
-        // We should check if we should STOP to let handleExtendedAutolink run.
-
-        // We stop if:
-        // 1. Current char could start a link (h, f, w, or email start?)
-        // 2. Previous char (which we just consumed or passed) was a boundary
-        // (whitespace, etc.)
-
-        // But handleText loop consumes c.
-        // If c is ' ', we consume it.
-        // Next iteration: c is 'h'. index points to 'h'. index-1 points to ' '.
-        // Boundary condition met.
-        // So we should break IF current char 'h' starts a link.
-
-        if (index > start) {
-          char prev = text.charAt(index - 1);
-          if (isWhitespace(prev) || prev == '*' || prev == '_' || prev == '~' || prev == '(') {
-            // Check if current char starts a link
-            break;
-          }
+      if (c < 128) {
+        byte charClass = classes[c];
+        if ((charClass & InlineParserConfig.SPECIAL) != 0) break;
+        if (afterBoundary && gfm && (mayStartExtendedUri(index) || mayStartExtendedEmail(index))) {
+          break;
         }
-      }
-
-      if (c == '\n'
-          || c == '\\'
-          || c == '<'
-          || c == '`'
-          || c == '&'
-          || c == '*'
-          || c == '_'
-          || c == '['
-          || c == '!'
-          || c == '~'
-          || customParsers.containsKey(c)) {
-        break;
+        afterBoundary = (charClass & InlineParserConfig.AUTOLINK_BOUNDARY) != 0;
+      } else {
+        if (config.slotsFor(c) != null) break;
+        afterBoundary = false;
       }
       index++;
     }
@@ -1139,28 +1197,12 @@ public class InlineParser implements InlineParserState {
       Pattern.compile("[a-zA-Z0-9._+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{1,}", Pattern.CASE_INSENSITIVE);
 
   private boolean handleExtendedAutolink() {
-    if (!options.isGfm()) return false;
-
-    char c = text.charAt(index);
-    if (!(Character.isLetterOrDigit(c) || c == '.' || c == '_' || c == '+' || c == '-')) {
-      return false;
-    }
+    if (!options.isGfm() || !isAtAutolinkBoundary(index)) return false;
 
-    Matcher matcher = EXTENDED_AUTOLINK_URI.matcher(text);
-    matcher.region(index, text.length());
-
-    if (matcher.lookingAt()) {
-      // Check boundary
-      boolean boundary = false;
-      if (index == 0) boundary = true;
-      else {
-        char prev = text.charAt(index - 1);
-        if (isWhitespace(prev) || prev == '*' || prev == '_' || prev == '~' || prev == '(') {
-          boundary = true;
-        }
-      }
-
-      if (boundary) {
+    if (mayStartExtendedUri(index)) {
+      Matcher matcher = EXTENDED_AUTOLINK_URI.matcher(text);
+      matcher.region(index, text.length());
+      if (matcher.lookingAt()) {
         String match = matcher.group();
         String linkDest;
 
@@ -1170,18 +1212,15 @@ public class InlineParser implements InlineParserState {
         // Check for trailing entity-like pattern (e.g. &hl;)
         if (match.endsWith(";")) {
           int amp = match.lastIndexOf('&');
-          if (amp != -1) {
-            String potentialEntity = match.substring(amp);
-            if (potentialEntity.matches("&[a-zA-Z0-9]+;")) {
-              match = match.substring(0, amp);
-            }
+          if (amp != -1 && isNamedEntityLike(match, amp)) {
+            match = match.substring(0, amp);
           }
         }
 
         // If trimmed match is empty or invalid?
         if (match.isEmpty()) return false;
 
-        if (match.toLowerCase(java.util.Locale.ROOT).startsWith("www.")) {
+        if (match.toLowerCase(Locale.ROOT).startsWith("www.")) {
           linkDest = "http://" + match;
         } else {
           linkDest = match;
@@ -1189,51 +1228,104 @@ public class InlineParser implements InlineParserState {
 
         Link link = new Link(linkDest, "");
         link.appendChild(new Text(match));
-        nodes.add(link);
+        addExtendedAutolink(link);
         index += match.length();
         return true;
       }
     }
 
-    // Email
-    matcher = EXTENDED_AUTOLINK_EMAIL.matcher(text);
+    if (!mayStartExtendedEmail(index)) return false;
+    Matcher matcher = EXTENDED_AUTOLINK_EMAIL.matcher(text);
     matcher.region(index, text.length());
     if (matcher.lookingAt()) {
-      boolean boundary = false;
-      if (index == 0) boundary = true;
-      else {
-        char prev = text.charAt(index - 1);
-        if (isWhitespace(prev) || prev == '*' || prev == '_' || prev == '~' || prev == '(') {
-          boundary = true;
+      String match = matcher.group();
+      if (match.endsWith("-") || match.endsWith("_")) return false;
+
+      // Check what follows
+      int end = matcher.end();
+      if (end < text.length()) {
+        char next = text.charAt(end);
+        if (Character.isLetterOrDigit(next) || next == '-' || next == '_' || next == '+') {
+          return false;
         }
       }
 
-      if (boundary) {
-        String match = matcher.group();
-        if (match.endsWith("-") || match.endsWith("_")) return false;
-
-        // Check what follows
-        int end = matcher.end();
-        if (end < text.length()) {
-          char next = text.charAt(end);
-          if (Character.isLetterOrDigit(next) || next == '-' || next == '_' || next == '+') {
-            return false;
-          }
-        }
+      match = trimTrailingPunctuation(match);
+      if (match.endsWith(".")) match = match.substring(0, match.length() - 1);
 
-        match = trimTrailingPunctuation(match);
-        if (match.endsWith(".")) match = match.substring(0, match.length() - 1);
+      String linkDest = "mailto:" + match;
+      Link link = new Link(linkDest, "");
+      link.appendChild(new Text(match));
+      addExtendedAutolink(link);
+      index += match.length();
+      return true;
+    }
 
-        String linkDest = "mailto:" + match;
-        Link link = new Link(linkDest, "");
-        link.appendChild(new Text(match));
-        nodes.add(link);
-        index += match.length();
-        return true;
+    return false;
+  }
+
+  private void addExtendedAutolink(Link link) {
+    nodes.add(link);
+    if (lastBracket != null) {
+      if (bracketedAutolinks == null) {
+        bracketedAutolinks = new ArrayList<>();
       }
+      bracketedAutolinks.add(link);
     }
+  }
 
-    return false;
+  /**
+   * 扩展自动链接只能出现在文本开头、空白或 {@code * _ ~ (} 之后.
+   */
+  private boolean isAtAutolinkBoundary(int position) {
+    if (position == 0) return true;
+    char prev = text.charAt(position - 1);
+    return prev < 128 && (charClasses[prev] & InlineParserConfig.AUTOLINK_BOUNDARY) != 0;
+  }
+
+  /**
+   * 扩展 URI 自动链接以 {@code http://}、{@code https://}、{@code ftp://} 或 {@code www.} 开头（不区分大小写）.
+   */
+  private boolean mayStartExtendedUri(int position) {
+    char c = text.charAt(position);
+    if (c != 'h' && c != 'H' && c != 'w' && c != 'W' && c != 'f' && c != 'F') return false;
+    return text.regionMatches(true, position, "http", 0, 4)
+        || text.regionMatches(true, position, "www.", 0, 4)
+        || text.regionMatches(true, position, "ftp://", 0, 6);
+  }
+
+  /**
+   * 扩展邮件地址的本地部分之后必须是 {@code @}. 本地部分的结束位置被缓存，同一段字符内的后续位置直接复用，避免在长标识符内反复扫描.
+   */
+  private boolean mayStartExtendedEmail(int position) {
+    if (atSign.find(position) == -1) return false;
+    if (position < emailLocalStart || position >= emailLocalEnd) {
+      emailLocalStart = position;
+      emailLocalEnd = position;
+      while (emailLocalEnd < text.length()
+          && isExtendedEmailLocalChar(text.charAt(emailLocalEnd))) {
+        emailLocalEnd++;
+      }
+    }
+    return emailLocalEnd > position
+        && emailLocalEnd < text.length()
+        && text.charAt(emailLocalEnd) == '@';
+  }
+
+  private static boolean isExtendedEmailLocalChar(char c) {
+    return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '+' || c == '-';
+  }
+
+  /**
+   * {@code s} 从 {@code amp} 开始到结尾是否形如 {@code &name;}.
+   */
+  private static boolean isNamedEntityLike(String s, int amp) {
+    int last = s.length() - 1;
+    if (last - amp < 2) return false;
+    for (int i = amp + 1; i < last; i++) {
+      if (!isAsciiLetterOrDigit(s.charAt(i))) return false;
+    }
+    return true;
   }
 
   private String trimTrailingPunctuation(String s) {
@@ -1338,12 +1430,40 @@ public class InlineParser implements InlineParserState {
     lastDelimiter = delim;
   }
 
-  private void processEmphasis() {
-    // Find the first delimiter
+  /**
+   * 按 CommonMark 的分隔符栈算法处理强调与删除线.
+   * <p>
+   * 对每种结束分隔符（字符、能否同时作为开始分隔符、原始长度模 3）记录 openers bottom：上一次为同类结束分隔符向前查找失败时的位置。
+   * 该位置及之前的分隔符不可能再与同类结束分隔符匹配，后续查找到此为止，因此大量未匹配的分隔符不会导致平方复杂度。
+   * 节点暂时挂在一个临时父节点下，以链表操作代替在列表中查找下标。
+   * </p>
+   *
+   * @param stackBottom
+   *            只处理该分隔符之后的分隔符，为 null 时处理全部
+   * @param fromIndex
+   *            这些分隔符所在节点在 {@code nodes} 中的起始位置
+   */
+  private void processEmphasis(Delimiter stackBottom, int fromIndex) {
+    if (lastDelimiter == stackBottom) return;
+
+    // Find the first delimiter above the stack bottom
     Delimiter current = lastDelimiter;
-    while (current != null && current.previous != null) {
+    boolean anyCloser = false;
+    while (true) {
+      anyCloser |= current.canClose;
+      if (current.previous == stackBottom) break;
       current = current.previous;
     }
+    if (!anyCloser) return;
+
+    List<Node> segment = nodes.subList(fromIndex, nodes.size());
+    Node container = new Paragraph();
+    for (Node node : segment) {
+      container.appendChild(node);
+    }
+
+    Delimiter[] openersBottom = new Delimiter[OPENERS_BOTTOM_SLOTS];
+    Arrays.fill(openersBottom, stackBottom);
 
     while (current != null) {
       Delimiter d = current;
@@ -1352,17 +1472,19 @@ public class InlineParser implements InlineParserState {
         continue;
       }
 
-      // d is a closer. Look back for opener.
+      // d is a closer. Look back for opener, no further than the openers bottom.
+      int slot = openersBottomSlot(d);
+      Delimiter bottom = openersBottom[slot];
       boolean found = false;
       Delimiter opener = d.previous;
 
-      while (opener != null) {
+      while (opener != stackBottom && opener != bottom) {
         if (opener.c == d.c && opener.canOpen) {
           // Check Rule of 3
           if ((opener.canClose || d.canOpen)
-              && (opener.length + d.length) % 3 == 0
-              && (opener.length % 3 != 0)
-              && (d.length % 3 != 0)) {
+              && (opener.originalLength + d.originalLength) % 3 == 0
+              && (opener.originalLength % 3 != 0)
+              && (d.originalLength % 3 != 0)) {
             opener = opener.previous;
             continue;
           }
@@ -1382,96 +1504,94 @@ public class InlineParser implements InlineParserState {
         opener = opener.previous;
       }
 
-      if (found) {
-        // Match found!
-
-        // Determine usage
-        int useDelims = (d.length >= 2 && opener.length >= 2) ? 2 : 1;
-
-        if (d.c == '~') {
-          useDelims = 2; // Always use 2 for strikethrough
+      if (!found) {
+        openersBottom[slot] = d.previous;
+        current = d.next;
+        if (!d.canOpen) {
+          removeDelimiter(d);
         }
+        continue;
+      }
 
-        // Create emphasis node
-        Node openerNode = opener.node;
-        Node closerNode = d.node;
-
-        Node emphasis;
-        if (d.c == '~') {
-          emphasis = new Strikethrough();
-        } else {
-          emphasis = (useDelims == 2) ? new StrongEmphasis() : new Emphasis();
-        }
-
-        int openerIndex = nodes.indexOf(openerNode);
-        int closerIndex = nodes.indexOf(closerNode);
-
-        if (openerIndex != -1 && closerIndex != -1 && openerIndex < closerIndex) {
-          List<Node> children = new ArrayList<>();
-          for (int i = openerIndex + 1; i < closerIndex; i++) {
-            children.add(nodes.get(i));
-          }
-
-          // Remove children from main list
-          nodes.subList(openerIndex + 1, closerIndex).clear();
-
-          // Add children to emphasis
-          for (Node child : children) {
-            emphasis.appendChild(child);
-          }
-
-          // Update opener/closer
-          String openerText = ((Text) openerNode).getLiteral();
-          String closerText = ((Text) closerNode).getLiteral();
+      // Determine usage
+      int useDelims = (d.length >= 2 && opener.length >= 2) ? 2 : 1;
 
-          // Remove intervening delimiters
-          Delimiter temp = d.previous;
-          while (temp != null && temp != opener) {
-            Delimiter prev = temp.previous;
-            removeDelimiter(temp);
-            temp = prev;
-          }
+      if (d.c == '~') {
+        useDelims = 2; // Always use 2 for strikethrough
+      }
 
-          // Handle Opener
-          if (opener.length == useDelims) {
-            nodes.set(openerIndex, emphasis);
-            removeDelimiter(opener);
-          } else {
-            // Reduce opener
-            opener.length -= useDelims;
-            ((Text) openerNode)
-                .setLiteral(openerText.substring(0, openerText.length() - useDelims));
+      Node emphasis;
+      if (d.c == '~') {
+        emphasis = new Strikethrough();
+      } else {
+        emphasis = (useDelims == 2) ? new StrongEmphasis() : new Emphasis();
+      }
 
-            nodes.add(openerIndex + 1, emphasis);
-          }
+      Text openerNode = (Text) opener.node;
+      Text closerNode = (Text) d.node;
 
-          // Handle Closer
-          if (d.length == useDelims) {
-            int currentCloserIndex = nodes.indexOf(closerNode);
-            nodes.remove(currentCloserIndex);
-            removeDelimiter(d);
-            current = d.next;
-          } else {
-            // Reduce closer
-            d.length -= useDelims;
-            ((Text) closerNode)
-                .setLiteral(closerText.substring(0, closerText.length() - useDelims));
-
-            // Closer stays.
-            // We continue with the SAME closer 'd' to see if it can close more.
-            current = d;
-          }
+      // Move the nodes between opener and closer into the emphasis
+      Node child = openerNode.getNext();
+      while (child != null && child != closerNode) {
+        Node next = child.getNext();
+        emphasis.appendChild(child);
+        child = next;
+      }
+      openerNode.insertAfter(emphasis);
+
+      // Remove intervening delimiters
+      Delimiter temp = d.previous;
+      while (temp != null && temp != opener) {
+        Delimiter prev = temp.previous;
+        removeDelimiter(temp);
+        temp = prev;
+      }
 
-        } else {
-          // Indices not valid? Should not happen if logic is correct.
-          current = current.next;
-        }
+      // Handle Opener
+      opener.length -= useDelims;
+      if (opener.length == 0) {
+        openerNode.unlink();
+        removeDelimiter(opener);
+      } else {
+        String openerText = openerNode.getLiteral();
+        openerNode.setLiteral(openerText.substring(0, openerText.length() - useDelims));
+      }
 
+      // Handle Closer
+      d.length -= useDelims;
+      if (d.length == 0) {
+        closerNode.unlink();
+        removeDelimiter(d);
+        current = d.next;
       } else {
-        // No match found
-        current = current.next;
+        String closerText = closerNode.getLiteral();
+        closerNode.setLiteral(closerText.substring(0, closerText.length() - useDelims));
+        // Closer stays. Continue with the same closer to see if it can close more.
+        current = d;
       }
     }
+
+    segment.clear();
+    Node node = container.getFirstChild();
+    while (node != null) {
+      Node next = node.getNext();
+      node.unlink();
+      segment.add(node);
+      node = next;
+    }
+  }
+
+  private static final int OPENERS_BOTTOM_SLOTS = 14;
+
+  /**
+   * 结束分隔符对应的 openers bottom 位置. {@code *} 与 {@code _} 按能否作为开始分隔符与原始长度模 3 区分，
+   * 因为这两者决定了 Rule of 3 的结果；{@code ~} 按当前长度是否不少于 2 区分，单个 {@code ~} 的结束分隔符查找失败
+   * 不能挡住之后的 {@code ~~} 结束分隔符.
+   */
+  private static int openersBottomSlot(Delimiter closer) {
+    if (closer.c == '~') return closer.length >= 2 ? 13 : 12;
+    int base = closer.c == '*' ? 0 : 6;
+    return base + (closer.canOpen ? 3 : 0) + closer.originalLength % 3;
   }
 
   private void removeDelimiter(Delimiter d) {
@@ -1487,10 +1607,36 @@ public class InlineParser implements InlineParserState {
     }
   }
 
+  private static class Bracket {
+    // [ 或 ![ 文本节点在 nodes 中的位置；之前的节点在链接闭合前不会改变
+    final int nodeIndex;
+    // [ 在文本中的位置
+    final int sourceIndex;
+    final boolean image;
+    // 之后的分隔符属于链接文本
+    final Delimiter previousDelimiter;
+    final Bracket previous;
+    boolean active = true;
+
+    Bracket(
+        int nodeIndex,
+        int sourceIndex,
+        boolean image,
+        Delimiter previousDelimiter,
+        Bracket previous) {
+      this.nodeIndex = nodeIndex;
+      this.sourceIndex = sourceIndex;
+      this.image = image;
+      this.previousDelimiter = previousDelimiter;
+      this.previous = previous;
+    }
+  }
+
   private static class Delimiter {
     Node node;
     final char c;
     int length;
+    final int originalLength;
     int index;
     boolean canOpen;
     boolean canClose;
@@ -1508,6 +1654,7 @@ public class InlineParser implements InlineParserState {
       this.node = node;
       this.c = c;
       this.length = length;
+      this.originalLength = length;
       this.index = index;
       this.canOpen = canOpen;
       this.canClose = canClose;
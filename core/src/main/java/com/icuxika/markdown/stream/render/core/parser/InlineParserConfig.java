@@ -0,0 +1,162 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+import com.icuxika.markdown.stream.render.core.parser.inline.InlineContentParser;
+import com.icuxika.markdown.stream.render.core.parser.inline.InlineContentParserFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 编译后的行内解析配置.
+ * <p>
+ * 由 {@link MarkdownParser.Builder} 与 {@link StreamMarkdownParser.Builder} 根据注册的
+ * {@link InlineContentParserFactory} 构建一次：触发字符编译为 ASCII 查找表与非 ASCII 映射，字符分类表也在此时确定。
+ * {@link InlineContentParserFactory#isStateless()} 为 {@code true} 的工厂只调用一次 {@code create()}，其实例被共享；
+ * 其他工厂仍在每次行内解析中首次遇到其触发字符时各创建一个实例。之后每个段落、标题与表格单元格创建的
+ * {@link InlineParser} 只分配自身的解析游标状态。
+ * </p>
+ * <p>
+ * 本类不可变，可以被多个解析器以及多个线程（例如并行行内解析的工作线程）同时共享。
+ * </p>
+ */
+@SuppressWarnings("checkstyle:AvoidEscapedUnicodeCharacters")
+public final class InlineParserConfig {
+
+  // 需要专门处理的字符：普通文本在这些字符之前结束
+  static final byte SPECIAL = 1;
+  // GFM 扩展自动链接之前允许出现的字符
+  static final byte AUTOLINK_BOUNDARY = 2;
+
+  // ASCII 字符分类表；非 ASCII 字符都是普通文本（自定义触发字符除外）
+  private static final byte[] CHAR_CLASSES = new byte[128];
+
+  static {
+    for (char c : "\n\\<`&*_[]!~".toCharArray()) {
+      CHAR_CLASSES[c] |= SPECIAL;
+    }
+    for (char c : " \t\n\u000B\f\r*_~(".toCharArray()) {
+      CHAR_CLASSES[c] |= AUTOLINK_BOUNDARY;
+    }
+  }
+
+  private static final InlineParserConfig EMPTY = new InlineParserConfig(Collections.emptyList());
+
+  private final List<InlineContentParserFactory> factories;
+  // 无状态工厂的共享实例，其余为 null
+  private final InlineContentParser[] sharedParsers;
+  // 触发字符对应的工厂下标：ASCII 触发字符按字符查表，其余触发字符放在 map 中（没有时均为 null）
+  private final int[][] asciiSlots;
+  private final Map<Character, int[]> nonAsciiSlots;
+  // 字符分类表，没有 ASCII 触发字符时与 CHAR_CLASSES 共用
+  private final byte[] charClasses;
+
+  private InlineParserConfig(List<InlineContentParserFactory> factories) {
+    this.factories = List.copyOf(factories);
+    this.sharedParsers = new InlineContentParser[this.factories.size()];
+
+    int[][] ascii = null;
+    Map<Character, int[]> nonAscii = null;
+    byte[] classes = CHAR_CLASSES;
+    for (int slot = 0; slot < this.factories.size(); slot++) {
+      InlineContentParserFactory factory = this.factories.get(slot);
+      if (factory.isStateless()) {
+        sharedParsers[slot] = factory.create();
+      }
+      for (Character c : factory.getTriggerCharacters()) {
+        if (c < 128) {
+          if (ascii == null) {
+            ascii = new int[128][];
+          }
+          ascii[c] = append(ascii[c], slot);
+          if (classes == CHAR_CLASSES) {
+            classes = CHAR_CLASSES.clone();
+          }
+          classes[c] |= SPECIAL;
+        } else {
+          if (nonAscii == null) {
+            nonAscii = new HashMap<>();
+          }
+          nonAscii.put(c, append(nonAscii.get(c), slot));
+        }
+      }
+    }
+    this.asciiSlots = ascii;
+    this.nonAsciiSlots = nonAscii != null ? Map.copyOf(nonAscii) : null;
+    this.charClasses = classes;
+  }
+
+  private static int[] append(int[] slots, int slot) {
+    if (slots == null) {
+      return new int[] {slot};
+    }
+    int[] result = Arrays.copyOf(slots, slots.length + 1);
+    result[slots.length] = slot;
+    return result;
+  }
+
+  /**
+   * 根据行内解析器工厂编译配置. 工厂按注册顺序排列，同一触发字符上先注册的解析器先尝试。
+   *
+   * @param factories
+   *            行内解析器工厂，可以为 {@code null}
+   * @return 编译后的配置
+   */
+  public static InlineParserConfig of(List<InlineContentParserFactory> factories) {
+    if (factories == null || factories.isEmpty()) {
+      return EMPTY;
+    }
+    return new InlineParserConfig(factories);
+  }
+
+  /**
+   * 不含自定义行内解析器的配置.
+   *
+   * @return 共享的空配置
+   */
+  public static InlineParserConfig empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 编译时使用的行内解析器工厂.
+   *
+   * @return 不可修改的工厂列表
+   */
+  public List<InlineContentParserFactory> getFactories() {
+    return factories;
+  }
+
+  /**
+   * 以 {@code c} 为触发字符的自定义解析器在 {@link #getFactories()} 中的下标，按注册顺序排列.
+   *
+   * @param c
+   *            触发字符
+   * @return 下标数组（只读），没有时为 {@code null}
+   */
+  int[] slotsFor(char c) {
+    if (c < 128) {
+      return asciiSlots != null ? asciiSlots[c] : null;
+    }
+    return nonAsciiSlots != null ? nonAsciiSlots.get(c) : null;
+  }
+
+  /**
+   * 无状态工厂的共享解析器.
+   *
+   * @param slot
+   *            工厂下标
+   * @return 共享实例；工厂不是无状态的时返回 {@code null}
+   */
+  InlineContentParser sharedParser(int slot) {
+    return sharedParsers[slot];
+  }
+
+  /**
+   * ASCII 字符分类表，只读.
+   */
+  byte[] charClasses() {
+    return charClasses;
+  }
+}
@@ -0,0 +1,63 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+/**
+ * 按输入速率自适应的预览策略.
+ * <p>
+ * 以指数移动平均估计输入间隔，渲染间隔约为平均间隔的 {@code tokensPerPreview} 倍并以 {@code maxInterval}
+ * 为上限：输入越快，合并的输入越多；输入较慢时每次输入都会渲染。
+ * </p>
+ */
+final class InputRatePreviewPolicy extends AbstractPreviewPolicy {
+
+  private static final double ALPHA = 0.2;
+
+  private final int tokensPerPreview;
+  private final long maxIntervalNanos;
+
+  private boolean hasInput;
+  private long lastInputAtNanos;
+  private double averageGapNanos;
+
+  InputRatePreviewPolicy(int tokensPerPreview, long maxIntervalNanos) {
+    super(DEFAULT_INLINE_PARSE_CHAR_LIMIT);
+    if (tokensPerPreview < 1) {
+      throw new IllegalArgumentException("tokensPerPreview must be positive");
+    }
+    this.tokensPerPreview = tokensPerPreview;
+    this.maxIntervalNanos = maxIntervalNanos;
+  }
+
+  @Override
+  public void onInput(long nowNanos, int length) {
+    if (hasInput) {
+      long gap = nowNanos - lastInputAtNanos;
+      averageGapNanos =
+          averageGapNanos == 0 ? gap : averageGapNanos + ALPHA * (gap - averageGapNanos);
+    }
+    hasInput = true;
+    lastInputAtNanos = nowNanos;
+  }
+
+  long renderIntervalNanos() {
+    // 留出半个间隔的余量，避免输入间隔的抖动使渲染推迟到下一次输入
+    return Math.min(maxIntervalNanos, (long) (averageGapNanos * (tokensPerPreview - 0.5)));
+  }
+
+  @Override
+  protected boolean isRenderDue(long nowNanos, int contentLength) {
+    return sinceLastRender(nowNanos) >= renderIntervalNanos();
+  }
+
+  @Override
+  protected boolean isInlineParseDue(long nowNanos, int contentLength) {
+    return sinceLastInlineParse(nowNanos)
+        >= Math.max(DEFAULT_INLINE_PARSE_INTERVAL_NANOS, renderIntervalNanos());
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    hasInput = false;
+    averageGapNanos = 0;
+  }
+}
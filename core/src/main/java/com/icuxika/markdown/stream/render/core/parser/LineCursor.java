@@ -0,0 +1,236 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+/**
+ * 块解析阶段复用的行游标.
+ * <p>
+ * 每行被复制到内部的字符缓冲区中，制表符在复制时按 4 列制表位展开；只有包含制表符的行才会额外保留原始内容，
+ * 用于按列截取时还原被部分消耗的制表符。缓冲区在行与行之间复用，解析一行不会创建新的字符串，
+ * 只有叶子块的内容确定时才会生成字符串。
+ * </p>
+ * <p>
+ * 游标本身是展开后整行的 {@link CharSequence}，{@link #from(int)} 返回从某一列开始的视图。
+ * 游标与视图的内容只在处理当前行期间有效。
+ * </p>
+ */
+final class LineCursor implements CharSequence {
+
+  private char[] chars = new char[128];
+  private int length;
+  // 原始内容，只在包含制表符时使用
+  private char[] original = new char[0];
+  private int originalLength;
+  private boolean hasTab;
+  private final Tail tail = new Tail();
+
+  /**
+   * 载入 {@code source} 中 [{@code start}, {@code end}) 范围内的一行.
+   */
+  void reset(CharSequence source, int start, int end) {
+    int count = end - start;
+    hasTab = false;
+    if (chars.length < count) {
+      chars = new char[Math.max(count, chars.length * 2)];
+    }
+    if (source instanceof String s) {
+      s.getChars(start, end, chars, 0);
+    } else {
+      for (int i = 0; i < count; i++) {
+        chars[i] = source.charAt(start + i);
+      }
+    }
+    length = count;
+    for (int i = 0; i < count; i++) {
+      if (chars[i] == '\t') {
+        expandTabs(i);
+        return;
+      }
+    }
+  }
+
+  private void expandTabs(int firstTab) {
+    hasTab = true;
+    if (original.length < length) {
+      original = new char[Math.max(length, original.length * 2)];
+    }
+    System.arraycopy(chars, 0, original, 0, length);
+    originalLength = length;
+
+    int col = firstTab;
+    for (int i = firstTab; i < originalLength; i++) {
+      char c = original[i];
+      if (c == '\t') {
+        int toAdd = 4 - (col % 4);
+        ensureCapacity(col + toAdd);
+        for (int j = 0; j < toAdd; j++) {
+          chars[col++] = ' ';
+        }
+      } else {
+        ensureCapacity(col + 1);
+        chars[col++] = c;
+      }
+    }
+    length = col;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (chars.length < capacity) {
+      char[] grown = new char[Math.max(capacity, chars.length * 2)];
+      System.arraycopy(chars, 0, grown, 0, length);
+      chars = grown;
+    }
+  }
+
+  /**
+   * 原始行（未展开制表符）的长度.
+   */
+  int originalLength() {
+    return hasTab ? originalLength : length;
+  }
+
+  /**
+   * 从第 {@code index} 列开始的视图. 视图对象被复用，再次调用会改变之前返回的视图。
+   */
+  CharSequence from(int index) {
+    tail.offset = Math.min(index, length);
+    return tail;
+  }
+
+  /**
+   * 从 {@code index} 开始的空白字符数量（只统计空格）.
+   */
+  int countIndent(int index) {
+    int i = index;
+    while (i < length && chars[i] == ' ') {
+      i++;
+    }
+    return i - index;
+  }
+
+  /**
+   * 从 {@code index} 开始跳过空格后的第一个字符.
+   *
+   * @return 该字符；没有非空格字符时返回 -1
+   */
+  int firstNonSpace(int index) {
+    int i = index + countIndent(index);
+    return i < length ? chars[i] : -1;
+  }
+
+  /**
+   * 从 {@code index} 开始是否只包含空白字符，与 {@code substring(index).trim().isEmpty()} 一致.
+   */
+  boolean isBlank(int index) {
+    for (int i = index; i < length; i++) {
+      if (chars[i] > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 把原始行从第 {@code column} 列开始的内容追加到 {@code sb}. 被部分消耗的制表符以剩余的空格代替。
+   *
+   * @param trimLeading
+   *            是否跳过开头的空白字符
+   */
+  void appendFromColumn(StringBuilder sb, int column, boolean trimLeading) {
+    if (!hasTab) {
+      int i = column;
+      if (trimLeading) {
+        while (i < length && Character.isWhitespace(chars[i])) {
+          i++;
+        }
+      }
+      if (i < length) {
+        sb.append(chars, i, length - i);
+      }
+      return;
+    }
+    int col = 0;
+    for (int i = 0; i < originalLength; i++) {
+      if (col == column) {
+        appendOriginal(sb, i, trimLeading);
+        return;
+      }
+      char c = original[i];
+      if (c == '\t') {
+        int toAdd = 4 - (col % 4);
+        if (col + toAdd > column) {
+          if (!trimLeading) {
+            for (int k = column; k < col + toAdd; k++) {
+              sb.append(' ');
+            }
+          }
+          appendOriginal(sb, i + 1, trimLeading);
+          return;
+        }
+        col += toAdd;
+      } else {
+        col++;
+      }
+    }
+  }
+
+  private void appendOriginal(StringBuilder sb, int from, boolean trimLeading) {
+    int i = from;
+    if (trimLeading) {
+      while (i < originalLength && Character.isWhitespace(original[i])) {
+        i++;
+      }
+    }
+    if (i < originalLength) {
+      sb.append(original, i, originalLength - i);
+    }
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index >= length) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return chars[index];
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return new String(chars, start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    return new String(chars, 0, length);
+  }
+
+  /**
+   * 从某一列开始的视图.
+   */
+  private final class Tail implements CharSequence {
+    int offset;
+
+    @Override
+    public int length() {
+      return length - offset;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return LineCursor.this.charAt(offset + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return new String(chars, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+      return new String(chars, offset, length - offset);
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * 通过内存映射读取 UTF-8 文件.
+ * <p>
+ * 文件按区域映射（单次映射不能超过 2GB），开头的 UTF-8 BOM 会被跳过。解码使用固定大小的窗口，
+ * 不会把整个文件读入内存；被区域边界拆分的字符会被暂存，非法字节按替换字符处理。
+ * </p>
+ */
+final class MappedFileReader {
+
+  static final int WINDOW_BYTES = 64 * 1024;
+  static final int WINDOW_CHARS = 64 * 1024;
+  private static final long REGION_BYTES = 1L << 28;
+
+  private MappedFileReader() {}
+
+  /**
+   * 行回调.
+   */
+  interface LineConsumer {
+    /**
+     * 处理一行.
+     *
+     * @param line
+     *            行内容，不含换行符；只在本次调用期间有效
+     * @param lineNumber
+     *            从 0 开始的行号
+     */
+    void accept(CharSequence line, int lineNumber);
+  }
+
+  /**
+   * 依次把文件内容以不超过 {@link #WINDOW_BYTES} 的字节窗口交给 {@code consumer}. 多字节字符可能被拆分到相邻的两个窗口中。
+   *
+   * @return 文件字节数
+   */
+  static long forEachWindow(Path path, Consumer<ByteBuffer> consumer) throws IOException {
+    return forEachRegion(
+        path,
+        region -> {
+          while (region.hasRemaining()) {
+            int length = Math.min(WINDOW_BYTES, region.remaining());
+            consumer.accept(region.slice(region.position(), length));
+            region.position(region.position() + length);
+          }
+        });
+  }
+
+  /**
+   * 按行读取文件. 行的切分规则与 {@link MarkdownParser#parse(String)} 相同（{@code \n}、{@code \r}、
+   * {@code \r\n}），末尾没有换行符的内容也构成一行。
+   *
+   * @return 行数
+   */
+  static int readLines(Path path, LineConsumer consumer) throws IOException {
+    LineSplitter splitter = new LineSplitter(consumer);
+    forEachRegion(path, splitter::decode);
+    splitter.finish();
+    return splitter.lineNumber;
+  }
+
+  private static long forEachRegion(Path path, Consumer<ByteBuffer> consumer) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long position = 0;
+      while (position < size) {
+        long length = Math.min(REGION_BYTES, size - position);
+        MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        if (position == 0
+            && length >= 3
+            && region.get(0) == (byte) 0xEF
+            && region.get(1) == (byte) 0xBB
+            && region.get(2) == (byte) 0xBF) {
+          region.position(3);
+        }
+        consumer.accept(region);
+        position += length;
+      }
+      return size;
+    }
+  }
+
+  /**
+   * 把字节解码到固定大小的字符窗口中并切分行. 完整位于窗口内的行以窗口的视图交给回调，跨窗口的行先拼接到缓冲区。
+   */
+  private static final class LineSplitter {
+    private final LineConsumer consumer;
+    private final CharsetDecoder decoder =
+        StandardCharsets.UTF_8
+            .newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CharBuffer window = CharBuffer.allocate(WINDOW_CHARS);
+    // 被区域边界截断的字符
+    private final ByteBuffer partialBytes = ByteBuffer.allocate(4);
+    private final StringBuilder partial = new StringBuilder();
+    private boolean pendingCr;
+    int lineNumber;
+
+    LineSplitter(LineConsumer consumer) {
+      this.consumer = consumer;
+    }
+
+    void decode(ByteBuffer bytes) {
+      while (partialBytes.position() > 0 && bytes.hasRemaining()) {
+        partialBytes.put(bytes.get());
+        partialBytes.flip();
+        decodeInto(partialBytes, false);
+        partialBytes.compact();
+      }
+      if (partialBytes.position() == 0) {
+        decodeInto(bytes, false);
+        partialBytes.put(bytes);
+      }
+    }
+
+    private void decodeInto(ByteBuffer bytes, boolean endOfInput) {
+      while (true) {
+        boolean overflow = decoder.decode(bytes, window, endOfInput).isOverflow();
+        split();
+        if (!overflow) {
+          return;
+        }
+      }
+    }
+
+    void finish() {
+      partialBytes.flip();
+      decodeInto(partialBytes, true);
+      decoder.flush(window);
+      split();
+      if (partial.length() > 0) {
+        consumer.accept(partial, lineNumber++);
+        partial.setLength(0);
+      }
+    }
+
+    private void split() {
+      window.flip();
+      int limit = window.limit();
+      int start = 0;
+      int i = 0;
+      if (pendingCr && limit > 0) {
+        pendingCr = false;
+        if (window.get(0) == '\n') {
+          start = i = 1;
+        }
+      }
+      for (; i < limit; i++) {
+        char c = window.get(i);
+        if (c == '\n' || c == '\r') {
+          if (partial.length() > 0) {
+            partial.append(window, start, i);
+            consumer.accept(partial, lineNumber++);
+            partial.setLength(0);
+          } else {
+            consumer.accept(window.subSequence(start, i), lineNumber++);
+          }
+          if (c == '\r') {
+            if (i + 1 < limit) {
+              if (window.get(i + 1) == '\n') {
+                i++;
+              }
+            } else {
+              pendingCr = true;
+            }
+          }
+          start = i + 1;
+        }
+      }
+      partial.append(window, start, limit);
+      window.clear();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.icuxika.markdown.stream.render.core.parser;
 
 import com.icuxika.markdown.stream.render.core.Extension;
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
 import com.icuxika.markdown.stream.render.core.ast.Block;
 import com.icuxika.markdown.stream.render.core.ast.BlockQuote;
 import com.icuxika.markdown.stream.render.core.ast.BulletList;
@@ -22,6 +23,9 @@ import com.icuxika.markdown.stream.render.core.ast.Text;
 import com.icuxika.markdown.stream.render.core.ast.ThematicBreak;
 import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionBlockParserFactory;
 import com.icuxika.markdown.stream.render.core.extension.math.MathParserFactory;
+import com.icuxika.markdown.stream.render.core.jfr.InlineParseEvent;
+import com.icuxika.markdown.stream.render.core.jfr.MarkdownEvent;
+import com.icuxika.markdown.stream.render.core.jfr.ParseEvent;
 import com.icuxika.markdown.stream.render.core.parser.block.BlockContinue;
 import com.icuxika.markdown.stream.render.core.parser.block.BlockParser;
 import com.icuxika.markdown.stream.render.core.parser.block.BlockParserFactory;
@@ -32,12 +36,17 @@ import com.icuxika.markdown.stream.render.core.parser.inline.InlineContentParser
 import com.icuxika.markdown.stream.render.core.renderer.MarkdownRenderer;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * 核心 Markdown 解析器.
@@ -52,12 +61,15 @@ import java.util.regex.Pattern;
 })
 public class MarkdownParser {
 
-  private static final Pattern ENTITY =
-      Pattern.compile("^&(?:([a-zA-Z0-9]+)|#([0-9]{1,7})|#(?i:x)([0-9a-fA-F]{1,6}));");
-
   private final MarkdownParserOptions options;
   private final List<BlockParserFactory> blockParserFactories;
-  private final List<InlineContentParserFactory> inlineParserFactories;
+  private final InlineParserConfig inlineParserConfig;
+  private final MarkdownMetrics metrics;
+  private final ForkJoinPool parallelPool;
+  private final int parallelSegmentSize;
+  private final ForkJoinPool inlinePool;
+  private final boolean streamingRender;
+  private final int streamingDeferLimit;
 
   public MarkdownParser() {
     this(new Builder());
@@ -66,7 +78,13 @@ public class MarkdownParser {
   public MarkdownParser(Builder builder) {
     this.options = builder.options;
     this.blockParserFactories = builder.blockParserFactories;
-    this.inlineParserFactories = builder.inlineParserFactories;
+    this.inlineParserConfig = builder.inlineParserConfig();
+    this.metrics = builder.metrics;
+    this.parallelPool = builder.parallelPool;
+    this.parallelSegmentSize = builder.parallelSegmentSize;
+    this.inlinePool = builder.inlinePool;
+    this.streamingRender = builder.streamingRender;
+    this.streamingDeferLimit = builder.streamingDeferLimit;
   }
 
   /**
@@ -85,6 +103,14 @@ public class MarkdownParser {
     private MarkdownParserOptions options = new MarkdownParserOptions();
     private List<BlockParserFactory> blockParserFactories = new ArrayList<>();
     private List<InlineContentParserFactory> inlineParserFactories = new ArrayList<>();
+    // 编译后的行内解析配置，由 build() 之间共享，注册新的行内解析器工厂后重新编译
+    private InlineParserConfig inlineParserConfig;
+    private MarkdownMetrics metrics = MarkdownMetrics.noop();
+    private ForkJoinPool parallelPool;
+    private int parallelSegmentSize = ParallelParse.DEFAULT_SEGMENT_SIZE;
+    private ForkJoinPool inlinePool;
+    private boolean streamingRender;
+    private int streamingDeferLimit = StreamingParse.DEFAULT_DEFER_LIMIT;
 
     public Builder() {
       // Load default extensions (System Plugins)
@@ -116,6 +142,103 @@ public class MarkdownParser {
      */
     public Builder inlineParserFactory(InlineContentParserFactory factory) {
       this.inlineParserFactories.add(factory);
+      this.inlineParserConfig = null;
+      return this;
+    }
+
+    InlineParserConfig inlineParserConfig() {
+      if (inlineParserConfig == null) {
+        inlineParserConfig = InlineParserConfig.of(inlineParserFactories);
+      }
+      return inlineParserConfig;
+    }
+
+    /**
+     * 设置度量监听器，记录行数、块解析器工厂与行内解析的耗时。
+     *
+     * @param metrics
+     *            度量监听器
+     */
+    public Builder metrics(MarkdownMetrics metrics) {
+      this.metrics = metrics != null ? metrics : MarkdownMetrics.noop();
+      return this;
+    }
+
+    /**
+     * 使用线程池并行解析大文档。
+     * <p>
+     * {@link #parse(String)} 会在顶层空行处把输入切分为分段，并行解析各分段的块结构与行内元素，结果与顺序解析完全一致。
+     * 短于两个分段的输入仍然顺序解析。并行模式下块/行内解析器工厂与度量监听器会被多个线程同时调用，必须是线程安全的。
+     * </p>
+     *
+     * @param pool
+     *            线程池，{@code null} 表示顺序解析（默认）
+     */
+    public Builder parallel(ForkJoinPool pool) {
+      this.parallelPool = pool;
+      return this;
+    }
+
+    /**
+     * 设置并行解析时每个分段的最小字符数，默认 256K。
+     *
+     * @param chars
+     *            字符数
+     */
+    public Builder parallelSegmentSize(int chars) {
+      if (chars < 1) {
+        throw new IllegalArgumentException("segment size must be positive: " + chars);
+      }
+      this.parallelSegmentSize = chars;
+      return this;
+    }
+
+    /**
+     * 使用线程池并行解析行内元素。
+     * <p>
+     * 块结构仍然顺序解析；收集完链接引用定义后，段落、标题与表格单元格按文本长度分组为 fork/join 任务并行解析，
+     * 适合以正文为主、行内解析占大部分耗时的文档。文本总量较小时仍在调用线程中解析。行内解析器工厂与度量监听器必须是线程安全的。
+     * 通过 {@link #parallel(ForkJoinPool)} 并行解析的大文档总是并行解析行内元素。
+     * </p>
+     *
+     * @param pool
+     *            线程池，{@code null} 表示顺序解析（默认）
+     */
+    public Builder parallelInlines(ForkJoinPool pool) {
+      this.inlinePool = pool;
+      return this;
+    }
+
+    /**
+     * 设置 {@link MarkdownParser#parse(Reader, MarkdownRenderer)} 是否边解析边渲染，默认关闭。
+     * <p>
+     * 启用后不再构建完整的 AST，每个顶层块完成后立即交给渲染器并释放，适合渲染体积很大的文件。
+     * 渲染器会对每批就绪的块各收到一次 {@code visit(Document)}，因此不适用于依赖整篇文档只访问一次的渲染器。
+     * </p>
+     *
+     * @param enabled
+     *            是否启用
+     */
+    public Builder streamingRender(boolean enabled) {
+      this.streamingRender = enabled;
+      return this;
+    }
+
+    /**
+     * 设置流式渲染时最多延后多少字符的输入，默认 8M。
+     * <p>
+     * 引用了尚未定义的链接标签的块会等待定义出现，之后的块在其后排队。等待期间读取的输入超过该值时，
+     * 按当时已知的定义渲染，之后才出现定义的引用按普通文本输出。
+     * </p>
+     *
+     * @param chars
+     *            字符数
+     */
+    public Builder streamingDeferLimit(int chars) {
+      if (chars < 0) {
+        throw new IllegalArgumentException("defer limit must not be negative: " + chars);
+      }
+      this.streamingDeferLimit = chars;
       return this;
     }
 
@@ -126,7 +249,7 @@ public class MarkdownParser {
      *            扩展列表
      */
     public Builder extensions(Extension... extensions) {
-      return extensions(java.util.Arrays.asList(extensions));
+      return extensions(Arrays.asList(extensions));
     }
 
     /**
@@ -154,22 +277,22 @@ public class MarkdownParser {
   }
 
   /**
-   * 解析 Reader 输入，并使用指定的渲染器进行处理。
-   * <p>
-   * 这种方式支持边解析边渲染（流式处理），尽管目前的实现主要还是先构建完 AST。
-   * </p>
+   * 获取编译后的行内解析配置. 该配置不可变，由本解析器的所有解析调用（包括并行行内解析的工作线程）共享。
    *
-   * @param reader
-   *            输入流
-   * @param renderer
-   *            渲染器
-   * @throws IOException
-   *             如果读取失败
+   * @return 行内解析配置
    */
+  public InlineParserConfig getInlineParserConfig() {
+    return inlineParserConfig;
+  }
+
   /**
    * 解析 Reader 输入，并使用指定的渲染器进行处理。
    * <p>
-   * 这种方式支持边解析边渲染（流式处理），尽管目前的实现主要还是先构建完 AST。
+   * 默认先构建完整的 AST，再交给渲染器一次 {@code visit(Document)}。启用
+   * {@link Builder#streamingRender(boolean)} 后边解析边渲染：每个顶层块完成并解析行内元素后立即交给渲染器，随后释放，
+   * 内存占用只与最大的块有关。引用了尚未定义的链接标签的块会延后到定义出现或输入结束时再渲染（上限见
+   * {@link Builder#streamingDeferLimit(int)}），之后的块在其后排队以保持顺序。此时渲染器会对每批块各收到一次
+   * {@code visit(Document)}。
    * </p>
    *
    * @param reader
@@ -180,24 +303,46 @@ public class MarkdownParser {
    *             如果读取失败
    */
   public void parse(Reader reader, MarkdownRenderer renderer) throws IOException {
-    Document doc = new Document();
+    ParseEvent event = new ParseEvent();
+    event.begin();
+    long sessionId = event.isEnabled() ? MarkdownEvent.nextSessionId() : 0;
     BlockParserState state = new BlockParserState(blockParserFactories, options);
+    state.setMetrics(metrics);
 
     java.io.BufferedReader br =
         (reader instanceof java.io.BufferedReader)
             ? (java.io.BufferedReader) reader
             : new java.io.BufferedReader(reader);
-    String line;
-    int lineNumber = 0;
-    while ((line = br.readLine()) != null) {
-      state.processLine(doc, expandTabs(line), line, lineNumber++);
+    if (!streamingRender) {
+      Document doc = new Document();
+      String line;
+      int lineNumber = 0;
+      long inputSize = 0;
+      while ((line = br.readLine()) != null) {
+        inputSize += line.length() + 1;
+        state.processLine(doc, line, lineNumber++);
+      }
+      state.finalizeBlock(doc, lineNumber);
+
+      extractLinkReferenceDefinitions(doc);
+      parseInlines(doc, inlinePool, sessionId);
+      commitParseEvent(event, sessionId, inputSize, doc);
+
+      doc.accept(renderer);
+      return;
     }
-    state.finalizeBlock(doc, lineNumber);
-
-    extractLinkReferenceDefinitions(doc);
-    parseInlines(doc, doc);
 
-    doc.accept(renderer);
+    StreamingParse streaming =
+        new StreamingParse(
+            this, state, options, inlineParserConfig, metrics, streamingDeferLimit, sessionId);
+    long inputSize = streaming.parse(br, renderer);
+    if (event.shouldCommit()) {
+      event.sessionId = sessionId;
+      event.inputSize = inputSize;
+      event.nodeCount = (int) Math.min(Integer.MAX_VALUE, streaming.getNodesRendered());
+      event.blockType = "Document";
+      event.commit();
+    }
   }
 
   /**
@@ -210,20 +355,31 @@ public class MarkdownParser {
   public Document parse(String input) {
     Document doc = new Document();
     if (input == null) return doc;
+    ParseEvent event = new ParseEvent();
+    event.begin();
+    long sessionId = event.isEnabled() ? MarkdownEvent.nextSessionId() : 0;
+
+    if (parallelPool != null && input.length() >= 2L * parallelSegmentSize) {
+      doc =
+          new ParallelParse(this, blockParserFactories, options, metrics, input)
+              .parse(parallelPool, parallelSegmentSize, sessionId);
+      commitParseEvent(event, sessionId, input.length(), doc);
+      return doc;
+    }
 
     BlockParserState state = new BlockParserState(blockParserFactories, options);
+    state.setMetrics(metrics);
     int lineNumber = 0;
 
     int len = input.length();
     if (len == 0) {
-      state.processLine(doc, "", "", lineNumber++);
+      state.processLine(doc, "", lineNumber++);
     } else {
       int start = 0;
       for (int i = 0; i < len; i++) {
         char c = input.charAt(i);
         if (c == '\n' || c == '\r') {
-          String line = input.substring(start, i);
-          state.processLine(doc, expandTabs(line), line, lineNumber++);
+          state.processLine(doc, input, start, i, lineNumber++);
 
           if (c == '\r' && i + 1 < len && input.charAt(i + 1) == '\n') {
             i++;
@@ -233,60 +389,63 @@ public class MarkdownParser {
       }
 
       if (start < len) {
-        String line = input.substring(start);
-        state.processLine(doc, expandTabs(line), line, lineNumber++);
+        state.processLine(doc, input, start, len, lineNumber++);
       }
     }
 
     state.finalizeBlock(doc, lineNumber);
 
     extractLinkReferenceDefinitions(doc);
-    parseInlines(doc, doc);
+    parseInlines(doc, inlinePool, sessionId);
+    commitParseEvent(event, sessionId, input.length(), doc);
 
     return doc;
   }
 
-  static String getSubstringForColumn(String line, int column) {
-    int col = 0;
-    for (int i = 0; i < line.length(); i++) {
-      if (col == column) return line.substring(i);
+  /**
+   * 解析 UTF-8 文件，返回完整的 AST 文档对象。
+   * <p>
+   * 文件通过内存映射读取并按固定大小的窗口解码，行以窗口的视图交给块解析器，不经过 {@link Reader}；
+   * 开头的 BOM 会被跳过，非法字节按替换字符处理。结果与 {@link #parse(String)} 解析文件内容相同。
+   * </p>
+   *
+   * @param path
+   *            文件路径
+   * @return 解析后的文档根节点
+   * @throws IOException
+   *             如果读取失败
+   */
+  public Document parse(Path path) throws IOException {
+    Document doc = new Document();
+    ParseEvent event = new ParseEvent();
+    event.begin();
+    long sessionId = event.isEnabled() ? MarkdownEvent.nextSessionId() : 0;
 
-      char c = line.charAt(i);
-      if (c == '\t') {
-        int toAdd = 4 - (col % 4);
-        if (col + toAdd > column) {
-          int spacesNeeded = (col + toAdd) - column;
-          StringBuilder sb = new StringBuilder();
-          for (int k = 0; k < spacesNeeded; k++) sb.append(' ');
-          if (i + 1 < line.length()) sb.append(line.substring(i + 1));
-          return sb.toString();
-        }
-        col += toAdd;
-      } else {
-        col++;
-      }
+    BlockParserState state = new BlockParserState(blockParserFactories, options);
+    state.setMetrics(metrics);
+    int lineCount =
+        MappedFileReader.readLines(
+            path, (line, lineNumber) -> state.processLine(doc, line, lineNumber));
+    if (lineCount == 0) {
+      state.processLine(doc, "", lineCount++);
     }
-    return "";
+    state.finalizeBlock(doc, lineCount);
+
+    extractLinkReferenceDefinitions(doc);
+    parseInlines(doc, inlinePool, sessionId);
+    commitParseEvent(event, sessionId, event.isEnabled() ? Files.size(path) : 0, doc);
+    return doc;
   }
 
-  private String expandTabs(String s) {
-    if (s.indexOf('\t') == -1) return s;
-    StringBuilder sb = new StringBuilder();
-    int col = 0;
-    for (int i = 0; i < s.length(); i++) {
-      char c = s.charAt(i);
-      if (c == '\t') {
-        int toAdd = 4 - (col % 4);
-        for (int j = 0; j < toAdd; j++) {
-          sb.append(' ');
-        }
-        col += toAdd;
-      } else {
-        sb.append(c);
-        col++;
-      }
+  private static void commitParseEvent(
+      ParseEvent event, long sessionId, long inputSize, Document doc) {
+    if (event.shouldCommit()) {
+      event.sessionId = sessionId;
+      event.inputSize = inputSize;
+      event.nodeCount = MarkdownEvent.countNodes(doc);
+      event.blockType = "Document";
+      event.commit();
     }
-    return sb.toString();
   }
 
   // Making BlockParserState accessible for StreamMarkdownParser
@@ -337,28 +496,175 @@ public class MarkdownParser {
     List<TableCell.Alignment> tableAlignments = new ArrayList<>();
 
     private final MarkdownParserOptions options;
+    private MarkdownMetrics metrics = MarkdownMetrics.noop();
+    private final LineCursor cursor = new LineCursor();
+    private final ParserStateImpl parserState = new ParserStateImpl();
+    private final MatchedBlockParserImpl matchedBlockParser = new MatchedBlockParserImpl();
+    // reset() 时超过该容量的缓冲区会被收缩，避免池化的解析器长期占用大块内存
+    static final int RESET_TRIM_CAPACITY = 64 * 1024;
+
+    // 内置块起始检查的种类. 每种检查只可能在特定的首个非空格字符上成功，按该字符查表后只运行可能成功的检查
+    static final int START_ATX_HEADING = 1;
+    static final int START_THEMATIC_BREAK = 1 << 1;
+    static final int START_FENCE = 1 << 2;
+    static final int START_BLOCK_QUOTE = 1 << 3;
+    static final int START_TABLE_DELIMITER = 1 << 4;
+    static final int START_LIST = 1 << 5;
+    static final int START_HTML = 1 << 6;
+    static final int START_SETEXT = 1 << 7;
+    static final int START_ALL = (1 << 8) - 1;
+    private static final int[] START_KINDS = new int[128];
+
+    static {
+      START_KINDS['#'] = START_ATX_HEADING;
+      START_KINDS['-'] = START_THEMATIC_BREAK | START_TABLE_DELIMITER | START_LIST | START_SETEXT;
+      START_KINDS['_'] = START_THEMATIC_BREAK;
+      START_KINDS['*'] = START_THEMATIC_BREAK | START_LIST;
+      START_KINDS['+'] = START_LIST;
+      START_KINDS['`'] = START_FENCE;
+      START_KINDS['~'] = START_FENCE;
+      START_KINDS['>'] = START_BLOCK_QUOTE;
+      START_KINDS['|'] = START_TABLE_DELIMITER;
+      START_KINDS[':'] = START_TABLE_DELIMITER;
+      START_KINDS['<'] = START_HTML;
+      START_KINDS['='] = START_SETEXT;
+      for (char c = '0'; c <= '9'; c++) {
+        START_KINDS[c] = START_LIST;
+      }
+      // 部分检查按 trim() 跳过控制字符，保守地运行全部检查
+      for (char c = 0; c < ' '; c++) {
+        START_KINDS[c] = START_ALL;
+      }
+    }
+
+    // 自定义块解析器工厂按触发字符分发. 未声明触发字符的工厂对每个字符都会尝试
+    private static final BlockParserFactory[] NO_FACTORIES = new BlockParserFactory[0];
+    private final BlockParserFactory[] anyCharFactories;
+    private final BlockParserFactory[][] asciiFactories;
+    private final char[] otherTriggerChars;
+    private final BlockParserFactory[][] otherFactories;
 
     BlockParserState(List<BlockParserFactory> blockParserFactories, MarkdownParserOptions options) {
       this.blockParserFactories =
           blockParserFactories != null ? blockParserFactories : new ArrayList<>();
       this.options = options != null ? options : new MarkdownParserOptions();
+
+      TreeSet<Character> triggers = new TreeSet<>();
+      for (BlockParserFactory factory : this.blockParserFactories) {
+        Set<Character> chars = factory.getTriggerCharacters();
+        if (chars != null) {
+          triggers.addAll(chars);
+        }
+      }
+      anyCharFactories = factoriesFor(-1);
+      if (triggers.isEmpty()) {
+        asciiFactories = null;
+        otherTriggerChars = new char[0];
+        otherFactories = new BlockParserFactory[0][];
+        return;
+      }
+      asciiFactories = new BlockParserFactory[128][];
+      for (int c = 0; c < 128; c++) {
+        asciiFactories[c] = triggers.contains((char) c) ? factoriesFor(c) : anyCharFactories;
+      }
+      SortedSet<Character> other = triggers.tailSet((char) 128);
+      otherTriggerChars = new char[other.size()];
+      otherFactories = new BlockParserFactory[other.size()][];
+      int k = 0;
+      for (char c : other) {
+        otherTriggerChars[k] = c;
+        otherFactories[k++] = factoriesFor(c);
+      }
+    }
+
+    /**
+     * 按注册顺序列出对字符 {@code c} 需要尝试的工厂；{@code c} 为 -1 时只包含未声明触发字符的工厂.
+     */
+    private BlockParserFactory[] factoriesFor(int c) {
+      List<BlockParserFactory> result = new ArrayList<>();
+      for (BlockParserFactory factory : blockParserFactories) {
+        Set<Character> chars = factory.getTriggerCharacters();
+        if (chars == null || (c >= 0 && chars.contains((char) c))) {
+          result.add(factory);
+        }
+      }
+      return result.isEmpty() ? NO_FACTORIES : result.toArray(new BlockParserFactory[0]);
+    }
+
+    /**
+     * 首个非空格字符为 {@code c} 时需要尝试的工厂.
+     *
+     * @param c
+     *            首个非空格字符；-1 表示空行
+     */
+    private BlockParserFactory[] dispatchFactories(int c) {
+      if (c < 0 || asciiFactories == null) {
+        return anyCharFactories;
+      }
+      if (c < 128) {
+        return asciiFactories[c];
+      }
+      int k = Arrays.binarySearch(otherTriggerChars, (char) c);
+      return k >= 0 ? otherFactories[k] : anyCharFactories;
     }
 
-    // Inner class implementation for ParserState
+    /**
+     * 首个非空格字符为 {@code c} 时可能成功的内置块起始检查.
+     *
+     * @param c
+     *            首个非空格字符；-1 表示空行
+     */
+    static int blockStartKinds(int c) {
+      if (c < 0) {
+        return 0;
+      }
+      return c < 128 ? START_KINDS[c] : 0;
+    }
+
+    void setMetrics(MarkdownMetrics metrics) {
+      this.metrics = metrics;
+    }
+
+    /**
+     * 重置为初始状态，以便解析新的文档. 回调与块解析器工厂保持不变。
+     */
+    void reset() {
+      openContainers.clear();
+      openContainerBlockIndents.clear();
+      activeBlockParsers.clear();
+      currentLeaf = null;
+      currentLeafContent.setLength(0);
+      if (currentLeafContent.capacity() > RESET_TRIM_CAPACITY) {
+        currentLeafContent.trimToSize();
+      }
+      lastLineContentDepth = Integer.MAX_VALUE;
+      inFencedCodeBlock = false;
+      fenceChar = 0;
+      fenceLength = 0;
+      fenceIndent = 0;
+      inIndentedCodeBlock = false;
+      inHtmlBlock = false;
+      htmlBlockCondition = 0;
+      inTable = false;
+      tableAlignments = new ArrayList<>();
+    }
+
+    /**
+     * 交给自定义块解析器的解析状态. 每个 {@link BlockParserState} 只有一个实例，调用前更新位置，因此分发不产生对象.
+     */
     private class ParserStateImpl implements ParserState {
-      private final String line;
-      private final int index;
-      private final int indent;
+      private int index;
+      private int indent;
 
-      public ParserStateImpl(String line, int index, int indent) {
-        this.line = line;
+      ParserStateImpl at(int index) {
         this.index = index;
-        this.indent = indent;
+        this.indent = cursor.countIndent(index);
+        return this;
       }
 
       @Override
       public CharSequence getLine() {
-        return line;
+        return cursor;
       }
 
       @Override
@@ -368,9 +674,7 @@ public class MarkdownParser {
 
       @Override
       public int getNextNonSpaceIndex() {
-        int i = index;
-        while (i < line.length() && line.charAt(i) == ' ') i++;
-        return i;
+        return index + indent;
       }
 
       @Override
@@ -384,7 +688,7 @@ public class MarkdownParser {
 
       @Override
       public boolean isBlank() {
-        return line.trim().isEmpty();
+        return cursor.isBlank(0);
       }
 
       @Override
@@ -396,13 +700,11 @@ public class MarkdownParser {
       }
     }
 
-    // Inner class for MatchedBlockParser
+    /**
+     * 当前最深的自定义块解析器. 与 {@link ParserStateImpl} 一样被复用。
+     */
     private class MatchedBlockParserImpl implements MatchedBlockParser {
-      private final BlockParser parser;
-
-      public MatchedBlockParserImpl(BlockParser parser) {
-        this.parser = parser;
-      }
+      private BlockParser parser;
 
       @Override
       public BlockParser getBlockParser() {
@@ -418,7 +720,24 @@ public class MarkdownParser {
       }
     }
 
-    void processLine(Document doc, String line, String originalLine, int lineNumber) {
+    /**
+     * 处理一行. 行内容不能包含换行符，制表符会被展开.
+     */
+    void processLine(Document doc, CharSequence line, int lineNumber) {
+      processLine(doc, line, 0, line.length(), lineNumber);
+    }
+
+    /**
+     * 处理 {@code source} 中 [{@code lineStart}, {@code lineEnd}) 范围内的一行. 行内容被复制到复用的 {@link LineCursor} 中，
+     * 调用方可以直接传入整个输入，不需要为每行创建字符串。
+     */
+    void processLine(
+        Document doc, CharSequence source, int lineStart, int lineEnd, int lineNumber) {
+      cursor.reset(source, lineStart, lineEnd);
+      LineCursor line = cursor;
+      if (metrics != MarkdownMetrics.noop()) {
+        metrics.lineProcessed(line.originalLength());
+      }
       int currentContentDepth = 0;
       boolean inImplicitMode = false;
 
@@ -446,9 +765,7 @@ public class MarkdownParser {
         // Check for custom BlockParser
         BlockParser parser = activeBlockParsers.get(container);
         if (parser != null) {
-          int indent = countIndent(line.substring(i));
-          ParserState state = new ParserStateImpl(line, i, indent);
-          BlockContinue cont = parser.tryContinue(state);
+          BlockContinue cont = parser.tryContinue(parserState.at(i));
           if (cont != null) {
             matches++;
             currentContentDepth = k;
@@ -504,7 +821,7 @@ public class MarkdownParser {
             matches++;
             currentContentDepth = k;
             lastMatchedContainerHadMarker = false;
-          } else if (line.substring(startI).trim().isEmpty()) {
+          } else if (line.isBlank(startI)) {
             matches++;
             lastMatchedContainerHadMarker = false;
           } else {
@@ -520,26 +837,25 @@ public class MarkdownParser {
       }
 
       // 2. Close unmatched containers
-      String contentLine = line.substring(i);
+      CharSequence contentLine = line.from(i);
 
       // Check for Lazy Continuation
       boolean lazyContinuation = false;
-      if (currentLeaf instanceof Paragraph
-          && !openContainers.isEmpty()
-          && !contentLine.trim().isEmpty()) {
+      if (currentLeaf instanceof Paragraph && !openContainers.isEmpty() && !line.isBlank(i)) {
         Node lastContainer = openContainers.get(openContainers.size() - 1);
         if (matches < openContainers.size() && lastContainer instanceof Block) {
 
           // We need to check if this line is a block starter.
+          int kinds = blockStartKinds(line.firstNonSpace(i));
           boolean isBlockStarter =
-              isAtxHeading(contentLine)
-                  || isThematicBreak(contentLine)
-                  || parseFencedCodeStart(contentLine) != null
-                  || isBlockQuoteStart(contentLine)
-                  || isTableDelimiterRow(contentLine) // Table can interrupt paragraph
-              ;
-
-          if (!isBlockStarter) {
+              ((kinds & START_ATX_HEADING) != 0 && isAtxHeading(contentLine))
+                  || ((kinds & START_THEMATIC_BREAK) != 0 && isThematicBreak(contentLine))
+                  || ((kinds & START_FENCE) != 0 && parseFencedCodeStart(contentLine) != null)
+                  || ((kinds & START_BLOCK_QUOTE) != 0 && isBlockQuoteStart(contentLine))
+                  // Table can interrupt paragraph
+                  || ((kinds & START_TABLE_DELIMITER) != 0 && isTableDelimiterRow(contentLine));
+
+          if (!isBlockStarter && (kinds & START_LIST) != 0) {
             ListMarker lm = parseListMarker(contentLine, 0);
             if (lm != null) {
               boolean matchesCurrent = false;
@@ -560,7 +876,7 @@ public class MarkdownParser {
                 boolean canInterrupt = true;
                 if (currentLeaf instanceof Paragraph) {
                   if (lm.isOrdered && lm.startNumber != 1) canInterrupt = false;
-                  if (contentLine.substring(lm.nextIndex).trim().isEmpty()) canInterrupt = false;
+                  if (line.isBlank(i + lm.nextIndex)) canInterrupt = false;
                 }
 
                 if (!openContainers.isEmpty()) {
@@ -585,13 +901,14 @@ public class MarkdownParser {
         while (openContainers.size() > matches + 1) {
           finalizeCurrentLeaf(lineNumber - 1);
           Node removed = openContainers.remove(openContainers.size() - 1);
+          activeBlockParsers.remove(removed);
           if (onBlockClosed != null) onBlockClosed.accept(removed);
           openContainerBlockIndents.remove(openContainerBlockIndents.size() - 1);
         }
       }
 
       // Check if Indented Code Block ends
-      if (inIndentedCodeBlock && countIndent(contentLine) < 4 && !contentLine.trim().isEmpty()) {
+      if (inIndentedCodeBlock && line.countIndent(i) < 4 && !line.isBlank(i)) {
         finalizeCurrentLeaf(lineNumber - 1);
       }
 
@@ -605,19 +922,29 @@ public class MarkdownParser {
 
           // Check Custom Block Factories
           boolean startedCustom = false;
-          for (BlockParserFactory factory : blockParserFactories) {
-            ParserState state = new ParserStateImpl(line, i, countIndent(line.substring(i)));
+          int firstChar = line.firstNonSpace(i);
+          BlockParserFactory[] factories = dispatchFactories(firstChar);
+          MatchedBlockParser matched = null;
+          if (factories.length > 0 && !openContainers.isEmpty()) {
             // Determine parent parser (legacy node handling is tricky)
-            MatchedBlockParser matched = null;
-            if (!openContainers.isEmpty()) {
-              Node parentNode = openContainers.get(openContainers.size() - 1);
-              BlockParser parentParser = activeBlockParsers.get(parentNode);
-              if (parentParser != null) {
-                matched = new MatchedBlockParserImpl(parentParser);
-              }
+            Node parentNode = openContainers.get(openContainers.size() - 1);
+            BlockParser parentParser = activeBlockParsers.get(parentNode);
+            if (parentParser != null) {
+              matchedBlockParser.parser = parentParser;
+              matched = matchedBlockParser;
             }
+          }
+          for (BlockParserFactory factory : factories) {
+            ParserState state = parserState.at(i);
 
-            BlockStart start = factory.tryStart(state, matched);
+            BlockStart start;
+            if (metrics == MarkdownMetrics.noop()) {
+              start = factory.tryStart(state, matched);
+            } else {
+              long startNanos = System.nanoTime();
+              start = factory.tryStart(state, matched);
+              metrics.blockStartAttempted(factory, start != null, System.nanoTime() - startNanos);
+            }
             if (start != null) {
               finalizeCurrentLeaf(lineNumber - 1);
 
@@ -681,12 +1008,13 @@ public class MarkdownParser {
 
           // Check Thematic Break - If it IS a thematic break, it cannot be a List Item
           // start.
-          if (isThematicBreak(line.substring(i))) {
+          int kinds = blockStartKinds(firstChar);
+          if ((kinds & START_THEMATIC_BREAK) != 0 && isThematicBreak(line.from(i))) {
             break;
           }
 
           // Check List Item
-          ListMarker marker = parseListMarker(line, i);
+          ListMarker marker = (kinds & START_LIST) != 0 ? parseListMarker(line, i) : null;
           if (marker != null) {
             finalizeCurrentLeaf(lineNumber - 1);
 
@@ -737,25 +1065,24 @@ public class MarkdownParser {
             li.setStartLine(lineNumber);
 
             // Check for Task List Item
-            String remaining = "";
-            if (marker.nextIndex < line.length()) {
-              remaining = line.substring(marker.nextIndex);
-            }
-
-            if (remaining.startsWith("[ ] ")
-                || remaining.startsWith("[x] ")
-                || remaining.startsWith("[X] ")) {
-              li.setTask(true);
-              if (remaining.charAt(1) != ' ') {
-                li.setChecked(true);
+            int taskStart = marker.nextIndex;
+            if (taskStart + 3 <= line.length()
+                && line.charAt(taskStart) == '['
+                && (line.charAt(taskStart + 1) == ' '
+                    || line.charAt(taskStart + 1) == 'x'
+                    || line.charAt(taskStart + 1) == 'X')
+                && line.charAt(taskStart + 2) == ']') {
+              if (taskStart + 3 == line.length()) {
+                li.setTask(true);
+                if (line.charAt(taskStart + 1) != ' ') li.setChecked(true);
+                marker.nextIndex += 3; // No trailing space
+              } else if (line.charAt(taskStart + 3) == ' ') {
+                li.setTask(true);
+                if (line.charAt(taskStart + 1) != ' ') {
+                  li.setChecked(true);
+                }
+                marker.nextIndex += 4; // [ ] + space
               }
-              marker.nextIndex += 4; // [ ] + space
-            } else if (remaining.equals("[ ]")
-                || remaining.equals("[x]")
-                || remaining.equals("[X]")) {
-              li.setTask(true);
-              if (remaining.charAt(1) != ' ') li.setChecked(true);
-              marker.nextIndex += 3; // No trailing space
             }
 
             Node listParent = openContainers.get(openContainers.size() - 1);
@@ -776,8 +1103,9 @@ public class MarkdownParser {
       }
 
       // Re-calculate contentLine after potential new containers
-      contentLine = line.substring(i);
-      int indent = countIndent(contentLine);
+      contentLine = line.from(i);
+      int indent = line.countIndent(i);
+      int kinds = blockStartKinds(line.firstNonSpace(i));
 
       // Close List if it's the tip of stack and we didn't add a new ListItem
       if (!openContainers.isEmpty()) {
@@ -795,13 +1123,13 @@ public class MarkdownParser {
       // Table (Continuation)
       if (inTable) {
         // If line is empty or matches another block start, end table
-        if (contentLine.trim().isEmpty()
-            || isBlockQuoteStart(contentLine)
-            || isAtxHeading(contentLine)
-            || isThematicBreak(contentLine)
-            || parseFencedCodeStart(contentLine) != null
-            || parseListMarker(contentLine, 0) != null
-            || getHtmlBlockStartCondition(contentLine) > 0) {
+        if (line.isBlank(i)
+            || ((kinds & START_BLOCK_QUOTE) != 0 && isBlockQuoteStart(contentLine))
+            || ((kinds & START_ATX_HEADING) != 0 && isAtxHeading(contentLine))
+            || ((kinds & START_THEMATIC_BREAK) != 0 && isThematicBreak(contentLine))
+            || ((kinds & START_FENCE) != 0 && parseFencedCodeStart(contentLine) != null)
+            || ((kinds & START_LIST) != 0 && parseListMarker(contentLine, 0) != null)
+            || ((kinds & START_HTML) != 0 && getHtmlBlockStartCondition(contentLine) > 0)) {
 
           Node tableNode = currentLeaf.getParent(); // TableBody -> Table
           if (tableNode == null && currentLeaf instanceof Table) {
@@ -834,7 +1162,7 @@ public class MarkdownParser {
         } else {
           // Parse Table Row
           if (currentLeaf instanceof TableBody) {
-            TableRow row = parseTableRow(contentLine, tableAlignments, false);
+            TableRow row = parseTableRow(contentLine.toString(), tableAlignments, false);
             currentLeaf.appendChild(row);
           } else if (currentLeaf instanceof TableHead) {
             // Should not happen, we switch to TableBody immediately after parsing header
@@ -849,7 +1177,7 @@ public class MarkdownParser {
 
       // Fenced Code Block (Continuation)
       if (inFencedCodeBlock) {
-        int currentIndent = countIndent(contentLine);
+        int currentIndent = line.countIndent(i);
         if (currentIndent < 4 && isClosingFence(contentLine, fenceChar, fenceLength)) {
           if (currentLeaf instanceof CodeBlock) {
             ((CodeBlock) currentLeaf).setLiteral(currentLeafContent.toString());
@@ -878,7 +1206,8 @@ public class MarkdownParser {
           spaces++;
           j++;
         }
-        currentLeafContent.append(getSubstringForColumn(originalLine, i + j)).append("\n");
+        line.appendFromColumn(currentLeafContent, i + j, false);
+        currentLeafContent.append('\n');
         lastLineContentDepth = Integer.MAX_VALUE;
         return;
       }
@@ -887,19 +1216,21 @@ public class MarkdownParser {
       if (inHtmlBlock) {
         if (isHtmlBlockEnd(contentLine, htmlBlockCondition)) {
           if (htmlBlockCondition < 6) {
-            currentLeafContent.append(getSubstringForColumn(originalLine, i)).append("\n");
+            line.appendFromColumn(currentLeafContent, i, false);
+            currentLeafContent.append('\n');
           }
           finalizeCurrentLeaf(lineNumber); // Ends on this line
           lastLineContentDepth = Integer.MAX_VALUE;
         } else {
-          currentLeafContent.append(getSubstringForColumn(originalLine, i)).append("\n");
+          line.appendFromColumn(currentLeafContent, i, false);
+          currentLeafContent.append('\n');
         }
         lastLineContentDepth = Integer.MAX_VALUE;
         return;
       }
 
       // Fenced Code Block (Start)
-      if (indent < 4) {
+      if (indent < 4 && (kinds & START_FENCE) != 0) {
         FencedCodeStart start = parseFencedCodeStart(contentLine);
         if (start != null) {
           finalizeCurrentLeaf(lineNumber - 1);
@@ -920,7 +1251,7 @@ public class MarkdownParser {
       }
 
       // HTML Block (Start)
-      if (indent < 4) {
+      if (indent < 4 && (kinds & START_HTML) != 0) {
         int condition = getHtmlBlockStartCondition(contentLine);
         if (condition > 0) {
           if (condition == 7 && currentLeaf instanceof Paragraph) {
@@ -937,10 +1268,12 @@ public class MarkdownParser {
             htmlBlockCondition = condition;
 
             if (isHtmlBlockEnd(contentLine, condition)) {
-              currentLeafContent.append(getSubstringForColumn(originalLine, i)).append("\n");
+              line.appendFromColumn(currentLeafContent, i, false);
+              currentLeafContent.append('\n');
               finalizeCurrentLeaf(lineNumber);
             } else {
-              currentLeafContent.append(getSubstringForColumn(originalLine, i)).append("\n");
+              line.appendFromColumn(currentLeafContent, i, false);
+              currentLeafContent.append('\n');
             }
             lastLineContentDepth = Integer.MAX_VALUE;
             return;
@@ -951,13 +1284,14 @@ public class MarkdownParser {
       // Indented Code Block
       if (indent >= 4) {
         if (inIndentedCodeBlock) {
-          currentLeafContent.append(getSubstringForColumn(originalLine, i + 4)).append("\n");
+          line.appendFromColumn(currentLeafContent, i + 4, false);
+          currentLeafContent.append('\n');
           lastLineContentDepth = Integer.MAX_VALUE;
           return;
         } else if ((lastLineContentDepth == Integer.MAX_VALUE || currentLeaf == null)
             && !(currentLeaf instanceof Paragraph)) {
           // Start new indented code block
-          if (!contentLine.trim().isEmpty()) {
+          if (!line.isBlank(i)) {
             finalizeCurrentLeaf(lineNumber - 1);
             CodeBlock codeBlock = new CodeBlock("");
             codeBlock.setStartLine(lineNumber);
@@ -966,13 +1300,14 @@ public class MarkdownParser {
             if (onBlockStarted != null) onBlockStarted.accept(codeBlock);
             currentLeaf = codeBlock;
             inIndentedCodeBlock = true;
-            currentLeafContent.append(getSubstringForColumn(originalLine, i + 4)).append("\n");
+            line.appendFromColumn(currentLeafContent, i + 4, false);
+            currentLeafContent.append('\n');
             lastLineContentDepth = Integer.MAX_VALUE;
             return;
           }
         }
       } else if (inIndentedCodeBlock) {
-        if (contentLine.trim().isEmpty()) {
+        if (line.isBlank(i)) {
           currentLeafContent.append("\n");
           lastLineContentDepth = currentContentDepth;
           return;
@@ -982,7 +1317,7 @@ public class MarkdownParser {
       }
 
       // Table (Start)
-      if (indent < 4 && currentLeaf instanceof Paragraph) {
+      if (indent < 4 && (kinds & START_TABLE_DELIMITER) != 0 && currentLeaf instanceof Paragraph) {
         List<TableCell.Alignment> alignments = parseTableDelimiterRow(contentLine);
         if (alignments != null) {
           Paragraph p = (Paragraph) currentLeaf;
@@ -1075,19 +1410,19 @@ public class MarkdownParser {
 
       // Setext Heading
       if (indent < 4
+          && (kinds & START_SETEXT) != 0
           && currentLeaf instanceof Paragraph
           && isSetextHeading(contentLine)
           && matches >= openContainers.size() - 1) {
         if (isLinkReferenceDefinitions(currentLeafContent.toString())) {
-          currentLeafContent
-              .append("\n")
-              .append(trimLeading(getSubstringForColumn(originalLine, i)));
+          currentLeafContent.append('\n');
+          line.appendFromColumn(currentLeafContent, i, true);
           lastLineContentDepth = Integer.MAX_VALUE;
           return;
         }
 
         String headingContent = currentLeafContent.toString();
-        int level = contentLine.trim().startsWith("=") ? 1 : 2;
+        int level = line.charAt(i + line.countIndent(i)) == '=' ? 1 : 2;
         Heading heading = new Heading(level);
         heading.appendChild(new Text(headingContent.trim()));
         heading.setStartLine(currentLeaf.getStartLine());
@@ -1110,7 +1445,7 @@ public class MarkdownParser {
       }
 
       // Thematic Break
-      if (indent < 4 && isThematicBreak(contentLine)) {
+      if (indent < 4 && (kinds & START_THEMATIC_BREAK) != 0 && isThematicBreak(contentLine)) {
         finalizeCurrentLeaf(lineNumber - 1);
         ThematicBreak tb = new ThematicBreak();
         tb.setStartLine(lineNumber);
@@ -1126,7 +1461,7 @@ public class MarkdownParser {
       }
 
       // ATX Heading
-      if (indent < 4 && isAtxHeading(contentLine)) {
+      if (indent < 4 && (kinds & START_ATX_HEADING) != 0 && isAtxHeading(contentLine)) {
         finalizeCurrentLeaf(lineNumber - 1);
         Node heading = parseAtxHeading(contentLine);
         heading.setStartLine(lineNumber);
@@ -1150,7 +1485,7 @@ public class MarkdownParser {
       }
 
       // Blank Line
-      if (contentLine.trim().isEmpty()) {
+      if (line.isBlank(i)) {
         if (!openContainers.isEmpty()) {
           Node last = openContainers.get(openContainers.size() - 1);
           if (!isListMarkerLine && last instanceof ListItem && last.getFirstChild() == null) {
@@ -1173,7 +1508,8 @@ public class MarkdownParser {
 
       // Paragraph
       if (currentLeaf instanceof Paragraph) {
-        currentLeafContent.append("\n").append(trimLeading(getSubstringForColumn(originalLine, i)));
+        currentLeafContent.append('\n');
+        line.appendFromColumn(currentLeafContent, i, true);
         lastLineContentDepth = Integer.MAX_VALUE;
       } else {
         finalizeCurrentLeaf(lineNumber - 1);
@@ -1183,19 +1519,11 @@ public class MarkdownParser {
         openContainers.get(openContainers.size() - 1).appendChild(p);
         if (onBlockStarted != null) onBlockStarted.accept(p);
         currentLeaf = p;
-        currentLeafContent.append(trimLeading(getSubstringForColumn(originalLine, i)));
+        line.appendFromColumn(currentLeafContent, i, true);
         lastLineContentDepth = Integer.MAX_VALUE;
       }
     }
 
-    private String trimLeading(String s) {
-      int i = 0;
-      while (i < s.length() && Character.isWhitespace(s.charAt(i))) {
-        i++;
-      }
-      return s.substring(i);
-    }
-
     void checkLooseList(Node list) {
       boolean isBlank = lastLineContentDepth != Integer.MAX_VALUE;
       if (isBlank) {
@@ -1218,18 +1546,65 @@ public class MarkdownParser {
       }
     }
 
-    private static final Pattern DISALLOWED_TAG_PATTERN =
-        Pattern.compile(
-            "(?i)<(/?)((?:title|textarea|style|xmp|iframe|noembed|noframes|script|plaintext)(?=[\\s/>]|$))");
+    // GFM 禁止的原始 HTML 标签（tagfilter 扩展），均为小写
+    private static final String[] DISALLOWED_TAGS = {
+      "title", "textarea", "style", "xmp", "iframe", "noembed", "noframes", "script", "plaintext"
+    };
+
+    /**
+     * 把禁止的标签的 {@code <} 替换为 {@code &lt;}. 标签名不区分大小写，其后必须是空白、{@code /}、{@code >} 或内容结尾.
+     * 没有需要替换的标签时直接返回原字符串。
+     */
+    static String filterDisallowedTags(String content) {
+      StringBuilder sb = null;
+      int copied = 0;
+      int lt = content.indexOf('<');
+      while (lt != -1) {
+        if (isDisallowedTag(content, lt + 1)) {
+          if (sb == null) {
+            sb = new StringBuilder(content.length() + 16);
+          }
+          sb.append(content, copied, lt).append("&lt;");
+          copied = lt + 1;
+        }
+        lt = content.indexOf('<', lt + 1);
+      }
+      if (sb == null) {
+        return content;
+      }
+      return sb.append(content, copied, content.length()).toString();
+    }
+
+    private static boolean isDisallowedTag(String content, int from) {
+      int i = from;
+      if (i < content.length() && content.charAt(i) == '/') i++;
+      for (String tag : DISALLOWED_TAGS) {
+        int end = i + tag.length();
+        if (end > content.length() || !regionEqualsIgnoreAsciiCase(content, i, tag)) {
+          continue;
+        }
+        if (end == content.length()) return true;
+        char next = content.charAt(end);
+        if (isRegexWhitespace(next) || next == '/' || next == '>') return true;
+        // 与正则的 $ 一致：内容末尾的行终止符之前也算作结尾
+        if (end == content.length() - 1
+            && (next == '\u0085' || next == '\u2028' || next == '\u2029')) {
+          return true;
+        }
+      }
+      return false;
+    }
 
-    private String filterDisallowedTags(String content) {
-      Matcher matcher = DISALLOWED_TAG_PATTERN.matcher(content);
-      StringBuffer sb = new StringBuffer();
-      while (matcher.find()) {
-        matcher.appendReplacement(sb, "&lt;$1$2");
+    /**
+     * 比较 {@code content} 从 {@code from} 开始的内容与小写的 {@code lowerTag}. 与正则的 {@code (?i)} 一致，只忽略 ASCII 字母的大小写.
+     */
+    private static boolean regionEqualsIgnoreAsciiCase(String content, int from, String lowerTag) {
+      for (int k = 0; k < lowerTag.length(); k++) {
+        char c = content.charAt(from + k);
+        if (c >= 'A' && c <= 'Z') c = (char) (c + ('a' - 'A'));
+        if (c != lowerTag.charAt(k)) return false;
       }
-      matcher.appendTail(sb);
-      return sb.toString();
+      return true;
     }
 
     void finalizeCurrentLeaf(int endLine) {
@@ -1274,6 +1649,19 @@ public class MarkdownParser {
       }
     }
 
+    /**
+     * 是否只有文档节点处于打开状态. 此时接下来的空行会把状态恢复为与新状态处理同一空行之后相同，并行解析据此拼接分段。
+     */
+    boolean isAtTopLevel() {
+      return openContainers.size() <= 1
+          && activeBlockParsers.isEmpty()
+          && (currentLeaf == null || currentLeaf instanceof Paragraph)
+          && !inFencedCodeBlock
+          && !inIndentedCodeBlock
+          && !inHtmlBlock
+          && !inTable;
+    }
+
     void finalizeBlock(Document doc, int lastLineNumber) {
       if (inTable && currentLeaf instanceof TableBody) {
         Node tableNode = currentLeaf.getParent();
@@ -1293,6 +1681,7 @@ public class MarkdownParser {
         }
       }
       openContainers.clear();
+      activeBlockParsers.clear();
     }
 
     void generateAnchorId(Heading heading) {
@@ -1311,82 +1700,82 @@ public class MarkdownParser {
       heading.setAnchorId(id);
     }
 
-    boolean isTableDelimiterRow(String line) {
+    boolean isTableDelimiterRow(CharSequence line) {
       return parseTableDelimiterRow(line) != null;
     }
 
-    List<TableCell.Alignment> parseTableDelimiterRow(String line) {
-      String s = line.trim();
-
-      if (!s.contains("|") && s.matches("^[-=\\s]+$")) {
-        return null; // Looks like Setext
+    /**
+     * 解析表格分隔行，如 {@code | :--- | ---: |}. 单次扫描，不创建中间字符串；只有确认是分隔行时才创建对齐方式列表.
+     *
+     * @return 每列的对齐方式；不是分隔行时返回 null
+     */
+    List<TableCell.Alignment> parseTableDelimiterRow(CharSequence line) {
+      int start = 0;
+      int end = line.length();
+      while (start < end && line.charAt(start) <= ' ') start++;
+      while (end > start && line.charAt(end - 1) <= ' ') end--;
+      // 分隔行去掉空白后只能以 |、- 或 : 开头，先排除普通文本行
+      if (start >= end) return null;
+      char firstChar = line.charAt(start);
+      if (firstChar != '|' && firstChar != '-' && firstChar != ':') return null;
+
+      boolean hasPipe = false;
+      boolean hasDash = false;
+      boolean setextLike = true;
+      for (int i = start; i < end; i++) {
+        char c = line.charAt(i);
+        if (c == '|') {
+          hasPipe = true;
+        } else if (c == '-') {
+          hasDash = true;
+        } else if (c != '=' && !isRegexWhitespace(c)) {
+          setextLike = false;
+        }
       }
-
-      // GFM Spec: A delimiter row consists of cells of dashes -, and optionally, a
-      // leading or trailing pipe,
-      // and optionally a colon : at the beginning or end of each cell.
-
-      // It MUST contain at least one pipe, OR if it doesn't, it must not look like
-      // setext.
-      // But wait, GFM table rows don't strictly require leading/trailing pipes.
-      // However, a delimiter row usually involves pipes.
-
-      // Issue with Example 200: | f\|oo | \n | ------ |
-      // The delimiter row | ------ | is standard.
-      // But the first row has escaped pipe.
-
-      // Issue with Example 203: | abc | def | \n | --- | \n | bar |
-      // This is valid. The second cell in delimiter is missing?
-      // "The delimiter row consists of ... one or more cells"
-      // "The header row must match the delimiter row in the number of cells."
-
-      if (!s.contains("-")) return null; // Must have at least one dash
+      // 没有竖线且只由 -、= 与空白组成时是 Setext 标题下划线
+      if (!hasPipe && setextLike) return null;
+      // Must have at least one dash
+      if (!hasDash) return null;
 
       // Remove leading/trailing pipes if present
-      if (s.startsWith("|")) s = s.substring(1);
-      if (s.endsWith("|") && !s.endsWith("\\|")) s = s.substring(0, s.length() - 1);
-
-      // Use splitTableCells instead of simple split to handle escaped pipes if any
-      // (though delimiter row shouldn't have escaped pipes usually)
-      // But delimiter row cells only contain -, : and space. So simple split by | is
-      // fine?
-      // "Cells in the delimiter row can contain optional whitespace"
-
-      String[] parts = s.split("\\|");
-      List<TableCell.Alignment> alignments = new ArrayList<>();
-
-      for (String part : parts) {
-        String cell = part.trim();
-        // Empty cell in delimiter row?
-        // | --- | |
-        // If a cell is empty (whitespace only), it's not a valid delimiter cell.
-        // Delimiter cell must contain at least one dash.
-
-        if (cell.isEmpty()) {
-          // If we have "||", split gives empty string.
-          // This is valid if it's meant to be an empty cell? No, delimiter cells MUST
-          // have dashes.
-          return null;
-        }
-
-        boolean left = cell.startsWith(":");
-        boolean right = cell.endsWith(":");
-
-        // Strip colons to check for dashes
-        String content = cell;
-        if (left) content = content.substring(1);
-        if (right) content = content.substring(0, content.length() - 1);
-
-        if (content.isEmpty()) return null;
-        // Check if content consists only of dashes
-        for (int i = 0; i < content.length(); i++) {
-          if (content.charAt(i) != '-') return null;
-        }
-
+      if (line.charAt(start) == '|') start++;
+      if (end > start
+          && line.charAt(end - 1) == '|'
+          && !(end - 2 >= start && line.charAt(end - 2) == '\\')) {
+        end--;
+      }
+      // 与 String.split 一致：末尾的空单元格（两个竖线之间没有任何字符）被忽略
+      while (end > start && line.charAt(end - 1) == '|') end--;
+
+      List<TableCell.Alignment> alignments = null;
+      int cellStart = start;
+      while (true) {
+        int cellEnd = cellStart;
+        while (cellEnd < end && line.charAt(cellEnd) != '|') cellEnd++;
+
+        int b = cellStart;
+        int e = cellEnd;
+        while (b < e && line.charAt(b) <= ' ') b++;
+        while (e > b && line.charAt(e - 1) <= ' ') e--;
+        // Delimiter cells must contain at least one dash
+        if (b == e) return null;
+        boolean left = line.charAt(b) == ':';
+        boolean right = e - b > 1 && line.charAt(e - 1) == ':';
+        if (left) b++;
+        if (right) e--;
+        if (b == e) return null;
+        for (int i = b; i < e; i++) {
+          if (line.charAt(i) != '-') return null;
+        }
+
+        if (alignments == null) alignments = new ArrayList<>();
         if (left && right) alignments.add(TableCell.Alignment.CENTER);
         else if (left) alignments.add(TableCell.Alignment.LEFT);
         else if (right) alignments.add(TableCell.Alignment.RIGHT);
         else alignments.add(TableCell.Alignment.NONE);
+
+        if (cellEnd >= end) break;
+        cellStart = cellEnd + 1;
       }
 
       return alignments;
@@ -1701,7 +2090,7 @@ public class MarkdownParser {
       int nextIndex;
     }
 
-    ListMarker parseListMarker(String line, int index) {
+    ListMarker parseListMarker(CharSequence line, int index) {
       int i = index;
       int indent = 0;
       while (i < line.length() && line.charAt(i) == ' ' && indent < 3) {
@@ -1739,7 +2128,7 @@ public class MarkdownParser {
         if (i + 1 >= line.length() || line.charAt(i + 1) == ' ' || line.charAt(i + 1) == '\t') {
           ListMarker m = new ListMarker();
           m.isOrdered = true;
-          m.startNumber = Integer.parseInt(line.substring(start, i));
+          m.startNumber = Integer.parseInt(line, start, i, 10);
           m.delimiter = delim;
           m.markerLength = (i - start) + 1;
           m.indent = indent;
@@ -1751,7 +2140,7 @@ public class MarkdownParser {
     }
 
     ListMarker calculateListMarkerIndent(
-        String line, int markerStart, int markerLength, int markerIndent, ListMarker m) {
+        CharSequence line, int markerStart, int markerLength, int markerIndent, ListMarker m) {
       int i = markerStart + markerLength;
 
       if (i >= line.length()) {
@@ -1786,7 +2175,7 @@ public class MarkdownParser {
       return m;
     }
 
-    int countIndent(String line) {
+    int countIndent(CharSequence line) {
       int count = 0;
       for (int i = 0; i < line.length(); i++) {
         if (line.charAt(i) == ' ') count++;
@@ -1795,13 +2184,16 @@ public class MarkdownParser {
       return count;
     }
 
-    boolean isSetextHeading(String line) {
-      String s = line.trim();
-      if (s.isEmpty()) return false;
-      char c = s.charAt(0);
+    boolean isSetextHeading(CharSequence line) {
+      int start = 0;
+      int end = line.length();
+      while (start < end && line.charAt(start) <= ' ') start++;
+      while (end > start && line.charAt(end - 1) <= ' ') end--;
+      if (start == end) return false;
+      char c = line.charAt(start);
       if (c != '=' && c != '-') return false;
-      for (int i = 1; i < s.length(); i++) {
-        if (s.charAt(i) != c) return false;
+      for (int i = start + 1; i < end; i++) {
+        if (line.charAt(i) != c) return false;
       }
       return true;
     }
@@ -1813,7 +2205,7 @@ public class MarkdownParser {
       String info;
     }
 
-    FencedCodeStart parseFencedCodeStart(String line) {
+    FencedCodeStart parseFencedCodeStart(CharSequence line) {
       int i = 0;
       int indent = 0;
       while (i < line.length() && line.charAt(i) == ' ') {
@@ -1832,7 +2224,7 @@ public class MarkdownParser {
       if (length < 3) return null;
 
       // Info string
-      String info = unescape(line.substring(i).trim());
+      String info = unescape(line.subSequence(i, line.length()).toString().trim());
       if (c == '`' && info.contains("`")) return null;
 
       FencedCodeStart res = new FencedCodeStart();
@@ -1843,7 +2235,7 @@ public class MarkdownParser {
       return res;
     }
 
-    boolean isClosingFence(String line, char fenceChar, int minLength) {
+    boolean isClosingFence(CharSequence line, char fenceChar, int minLength) {
       int i = 0;
       while (i < line.length() && line.charAt(i) == ' ') {
         i++;
@@ -1865,7 +2257,7 @@ public class MarkdownParser {
       return true;
     }
 
-    boolean isBlockQuoteStart(String line) {
+    boolean isBlockQuoteStart(CharSequence line) {
       int i = 0;
       int indent = 0;
       while (i < line.length() && line.charAt(i) == ' ' && indent < 3) {
@@ -1875,7 +2267,7 @@ public class MarkdownParser {
       return i < line.length() && line.charAt(i) == '>';
     }
 
-    boolean isThematicBreak(String line) {
+    boolean isThematicBreak(CharSequence line) {
       int i = 0;
       while (i < line.length() && line.charAt(i) == ' ') i++;
       if (i >= line.length()) return false;
@@ -1895,7 +2287,7 @@ public class MarkdownParser {
       return count >= 3;
     }
 
-    boolean isAtxHeading(String line) {
+    boolean isAtxHeading(CharSequence line) {
       int i = 0;
       while (i < line.length() && line.charAt(i) == ' ') i++;
       if (i >= line.length() || line.charAt(i) != '#') return false;
@@ -1907,14 +2299,14 @@ public class MarkdownParser {
       return true;
     }
 
-    Node parseAtxHeading(String line) {
+    Node parseAtxHeading(CharSequence line) {
       int i = 0;
       while (i < line.length() && line.charAt(i) == ' ') i++;
       int start = i;
       while (i < line.length() && line.charAt(i) == '#') i++;
       int level = i - start;
 
-      String content = line.substring(i).trim();
+      String content = line.subSequence(i, line.length()).toString().trim();
       int end = content.length() - 1;
       while (end >= 0 && content.charAt(end) == '#') {
         end--;
@@ -1931,8 +2323,13 @@ public class MarkdownParser {
       return h;
     }
 
-    int getHtmlBlockStartCondition(String line) {
-      String s = line.trim();
+    int getHtmlBlockStartCondition(CharSequence line) {
+      // 所有 HTML 块都以 < 开头，先排除普通文本行
+      int first = 0;
+      while (first < line.length() && line.charAt(first) <= ' ') first++;
+      if (first >= line.length() || line.charAt(first) != '<') return 0;
+
+      String s = line.toString().trim();
       String lower = s.toLowerCase();
       if (lower.startsWith("<script")
           || lower.startsWith("<pre")
@@ -2158,18 +2555,25 @@ public class MarkdownParser {
           || name.equals("ul");
     }
 
-    boolean isHtmlBlockEnd(String line, int condition) {
+    boolean isHtmlBlockEnd(CharSequence line, int condition) {
+      if (condition == 6 || condition == 7) {
+        for (int i = 0; i < line.length(); i++) {
+          if (line.charAt(i) > ' ') return false;
+        }
+        return true;
+      }
+      String s = line.toString();
       if (condition == 1) {
-        return line.toLowerCase().contains("</script>")
-            || line.toLowerCase().contains("</pre>")
-            || line.toLowerCase().contains("</style>")
-            || line.toLowerCase().contains("</textarea>");
-      }
-      if (condition == 2) return line.contains("-->");
-      if (condition == 3) return line.contains("?>");
-      if (condition == 4) return line.contains(">");
-      if (condition == 5) return line.contains("]]>");
-      if (condition == 6 || condition == 7) return line.trim().isEmpty();
+        String lower = s.toLowerCase();
+        return lower.contains("</script>")
+            || lower.contains("</pre>")
+            || lower.contains("</style>")
+            || lower.contains("</textarea>");
+      }
+      if (condition == 2) return s.contains("-->");
+      if (condition == 3) return s.contains("?>");
+      if (condition == 4) return s.contains(">");
+      if (condition == 5) return s.contains("]]>");
       return false;
     }
   }
@@ -2282,8 +2686,7 @@ public class MarkdownParser {
                 afterTitle++;
               }
               if (valid) {
-                String title = text.substring(titleStart, p);
-                if (!title.matches("(?s).*\\n\\s*\\n.*")) {
+                if (!containsBlankLine(text, titleStart, p)) {
                   index = afterTitle;
                 }
               }
@@ -2308,11 +2711,11 @@ public class MarkdownParser {
     return true;
   }
 
-  private void extractLinkReferenceDefinitions(Document doc) {
+  void extractLinkReferenceDefinitions(Document doc) {
     visitAndExtract(doc, doc);
   }
 
-  private void visitAndExtract(Node node, Document doc) {
+  void visitAndExtract(Node node, Document doc) {
     if (node instanceof Paragraph) {
       Paragraph p = (Paragraph) node;
       Node firstChild = p.getFirstChild();
@@ -2367,23 +2770,28 @@ public class MarkdownParser {
     }
   }
 
-  private void parseInlines(Document doc, Node node) {
+  /**
+   * 解析文档中所有容器的行内元素. 指定线程池时以 fork/join 任务并行解析。
+   */
+  void parseInlines(Document doc, ForkJoinPool pool, long sessionId) {
+    if (pool != null) {
+      ParallelInlines.parse(pool, doc, options, inlineParserConfig, metrics, sessionId);
+    } else {
+      parseInlines(doc, doc, sessionId);
+    }
+  }
+
+  private void parseInlines(Document doc, Node node, long sessionId) {
     Node child = node.getFirstChild();
     while (child != null) {
       Node next = child.getNext();
-      parseInlines(doc, child);
+      parseInlines(doc, child, sessionId);
       child = next;
     }
 
-    if (node instanceof Paragraph) {
-      Paragraph p = (Paragraph) node;
-      processInlineContainer(doc, p);
-    } else if (node instanceof Heading) {
-      Heading h = (Heading) node;
-      processInlineContainer(doc, h);
-    } else if (node instanceof TableCell) {
-      TableCell c = (TableCell) node;
-      processInlineContainer(doc, c);
+    if (node instanceof Paragraph || node instanceof Heading || node instanceof TableCell) {
+      processInlineContainer(
+          doc.getLinkReferences(), node, options, inlineParserConfig, metrics, sessionId);
     }
   }
 
@@ -2398,12 +2806,69 @@ public class MarkdownParser {
    *            options
    * @param factories
    *            factories
+   * @deprecated 每次调用都会重新编译行内解析配置；请使用
+   *             {@link #processInlineContainerStatic(Document, Node, MarkdownParserOptions, InlineParserConfig)}
+   *             并复用 {@link InlineParserConfig#of(List)} 的结果
    */
+  @Deprecated
   public static void processInlineContainerStatic(
       Document doc,
       Node container,
       MarkdownParserOptions options,
       List<InlineContentParserFactory> factories) {
+    processInlineContainerStatic(doc, container, options, InlineParserConfig.of(factories));
+  }
+
+  /**
+   * 使用已编译的行内解析配置解析容器的行内元素.
+   *
+   * @param doc
+   *            文档
+   * @param container
+   *            容器
+   * @param options
+   *            选项
+   * @param inlineConfig
+   *            共享的行内解析配置
+   */
+  public static void processInlineContainerStatic(
+      Document doc,
+      Node container,
+      MarkdownParserOptions options,
+      InlineParserConfig inlineConfig) {
+    processInlineContainerStatic(doc, container, options, inlineConfig, MarkdownMetrics.noop());
+  }
+
+  /**
+   * 使用已编译的行内解析配置解析容器的行内元素，并把耗时报告给度量监听器.
+   *
+   * @param doc
+   *            文档
+   * @param container
+   *            容器
+   * @param options
+   *            选项
+   * @param inlineConfig
+   *            共享的行内解析配置
+   * @param metrics
+   *            度量监听器
+   */
+  public static void processInlineContainerStatic(
+      Document doc,
+      Node container,
+      MarkdownParserOptions options,
+      InlineParserConfig inlineConfig,
+      MarkdownMetrics metrics) {
+    processInlineContainer(doc.getLinkReferences(), container, options, inlineConfig, metrics, 0);
+  }
+
+  static void processInlineContainer(
+      Map<String, LinkReference> linkReferences,
+      Node container,
+      MarkdownParserOptions options,
+      InlineParserConfig inlineConfig,
+      MarkdownMetrics metrics,
+      long sessionId) {
     Node first = container.getFirstChild();
     if (first instanceof Text) {
       StringBuilder sb = new StringBuilder();
@@ -2422,20 +2887,28 @@ public class MarkdownParser {
         }
 
         String content = sb.toString();
-        InlineParser parser =
-            new InlineParser(content, doc.getLinkReferences(), options, factories);
+        long startNanos = metrics != MarkdownMetrics.noop() ? System.nanoTime() : 0;
+        InlineParseEvent event = new InlineParseEvent();
+        event.begin();
+        InlineParser parser = new InlineParser(content, linkReferences, options, inlineConfig);
         List<Node> inlines = parser.parse();
+        if (event.shouldCommit()) {
+          event.sessionId = sessionId;
+          event.inputSize = content.length();
+          event.nodeCount = inlines.size();
+          event.blockType = container.getClass().getSimpleName();
+          event.commit();
+        }
         for (Node inline : inlines) {
           container.appendChild(inline);
         }
+        if (metrics != MarkdownMetrics.noop()) {
+          metrics.inlinesParsed(container, content.length(), System.nanoTime() - startNanos);
+        }
       }
     }
   }
 
-  private void processInlineContainer(Document doc, Node container) {
-    processInlineContainerStatic(doc, container, options, inlineParserFactories);
-  }
-
   /**
    * Parse link reference definitions.
    *
@@ -2593,8 +3066,7 @@ public class MarkdownParser {
               if (valid) {
                 title = text.substring(titleStart, titleEnd);
                 // Check for blank line in title
-                Pattern blankLine = Pattern.compile("\\n\\s*\\n");
-                if (blankLine.matcher(title).find()) {
+                if (containsBlankLine(title, 0, title.length())) {
                   index = start;
                   break;
                 }
@@ -2636,6 +3108,30 @@ public class MarkdownParser {
     return index;
   }
 
+  /**
+   * 与正则 {@code \s} 一致的空白字符：空格、{@code \t}、{@code \n}、{@code \u000B}、{@code \f}、{@code \r}.
+   */
+  static boolean isRegexWhitespace(char c) {
+    return c == ' ' || (c >= '\t' && c <= '\r');
+  }
+
+  /**
+   * [{@code start}, {@code end}) 范围内是否包含空行，即两个 {@code \n} 之间只有空白字符（正则 {@code \n\s*\n}）.
+   */
+  static boolean containsBlankLine(CharSequence s, int start, int end) {
+    boolean afterNewline = false;
+    for (int i = start; i < end; i++) {
+      char c = s.charAt(i);
+      if (c == '\n') {
+        if (afterNewline) return true;
+        afterNewline = true;
+      } else if (!isRegexWhitespace(c)) {
+        afterNewline = false;
+      }
+    }
+    return false;
+  }
+
   private static boolean isPunctuation(char c) {
     String punctuation = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
     return punctuation.indexOf(c) != -1;
@@ -2657,10 +3153,10 @@ public class MarkdownParser {
           i++;
         }
       } else if (c == '&') {
-        Matcher matcher = ENTITY.matcher(s.substring(i));
-        if (matcher.find()) {
-          sb.append(decodeEntity(matcher));
-          i += matcher.end();
+        int end = EntityDecoder.scan(s, i);
+        if (end != -1) {
+          sb.append(EntityDecoder.decode(s, i, end));
+          i = end;
         } else {
           sb.append(c);
           i++;
@@ -2672,39 +3168,4 @@ public class MarkdownParser {
     }
     return sb.toString();
   }
-
-  private static String decodeEntity(Matcher matcher) {
-    String name = matcher.group(1);
-    String decimal = matcher.group(2);
-    String hex = matcher.group(3);
-
-    if (name != null) {
-      String decoded = EntityDecoder.decode(name);
-      if (decoded != null) {
-        return decoded;
-      }
-      return matcher.group();
-    } else if (decimal != null) {
-      try {
-        int codePoint = Integer.parseInt(decimal);
-        if (codePoint == 0) {
-          return String.valueOf((char) 0xFFFD);
-        }
-        return new String(Character.toChars(codePoint));
-      } catch (IllegalArgumentException e) {
-        return String.valueOf((char) 0xFFFD);
-      }
-    } else if (hex != null) {
-      try {
-        int codePoint = Integer.parseInt(hex, 16);
-        if (codePoint == 0) {
-          return String.valueOf((char) 0xFFFD);
-        }
-        return new String(Character.toChars(codePoint));
-      } catch (IllegalArgumentException e) {
-        return String.valueOf((char) 0xFFFD);
-      }
-    }
-    return matcher.group();
-  }
 }
@@ -0,0 +1,162 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.ast.Heading;
+import com.icuxika.markdown.stream.render.core.ast.LinkReference;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.ast.TableCell;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 并行的行内解析阶段.
+ * <p>
+ * 链接引用定义收集完成后，段落、标题与表格单元格的行内解析互不依赖。链接引用定义先复制为不可变映射供所有任务共享，
+ * 容器按文档顺序记录文本长度的前缀和，任务按文本量二分拆分，直到不超过一个粒度；单个超长容器独立成为一个任务。
+ * 文本总量不超过一个粒度时直接在调用线程中解析。
+ * </p>
+ */
+final class ParallelInlines extends RecursiveAction {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  // 每个任务至少解析的字符数，避免大量短段落产生过多任务
+  static final int MIN_GRAIN = 8 * 1024;
+  // 每个工作线程平均分到的任务数，用于平衡长短不一的容器
+  private static final int TASKS_PER_THREAD = 4;
+
+  // 任务只在 ForkJoinPool 中执行，不会被序列化
+  private final transient Shared shared;
+  private final int from;
+  private final int to;
+
+  private ParallelInlines(Shared shared, int from, int to) {
+    this.shared = shared;
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * 解析文档中所有容器的行内元素.
+   *
+   * @param pool
+   *            线程池
+   * @param doc
+   *            已完成块解析与链接引用定义提取的文档
+   */
+  static void parse(
+      ForkJoinPool pool,
+      Document doc,
+      MarkdownParserOptions options,
+      InlineParserConfig inlineConfig,
+      MarkdownMetrics metrics,
+      long sessionId) {
+    List<Node> containers = new ArrayList<>();
+    long[] ends = collect(doc, containers);
+    long total = ends[containers.size()];
+    long grain = Math.max(MIN_GRAIN, total / ((long) pool.getParallelism() * TASKS_PER_THREAD));
+    Shared shared =
+        new Shared(
+            containers,
+            ends,
+            grain,
+            Map.copyOf(doc.getLinkReferences()),
+            options,
+            inlineConfig,
+            metrics,
+            sessionId);
+    ParallelInlines task = new ParallelInlines(shared, 0, containers.size());
+    if (total <= grain) {
+      task.compute();
+    } else {
+      pool.invoke(task);
+    }
+  }
+
+  @Override
+  protected void compute() {
+    long[] ends = shared.ends;
+    if (to - from <= 1 || ends[to] - ends[from] <= shared.grain) {
+      for (int i = from; i < to; i++) {
+        MarkdownParser.processInlineContainer(
+            shared.linkReferences,
+            shared.containers.get(i),
+            shared.options,
+            shared.inlineConfig,
+            shared.metrics,
+            shared.sessionId);
+      }
+      return;
+    }
+    // 在文本量的中点处拆分
+    long middle = ends[from] + (ends[to] - ends[from]) / 2;
+    int lo = from + 1;
+    int hi = to - 1;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (ends[mid] < middle) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    invokeAll(new ParallelInlines(shared, from, lo), new ParallelInlines(shared, lo, to));
+  }
+
+  /**
+   * 按文档顺序收集以文本开头的容器.
+   *
+   * @return 文本长度的前缀和，第 {@code i} 项为前 {@code i} 个容器的文本总长度
+   */
+  private static long[] collect(Document doc, List<Node> containers) {
+    long[] ends = new long[64];
+    long total = 0;
+    Node node = doc.getFirstChild();
+    while (node != null) {
+      boolean container =
+          node instanceof Paragraph || node instanceof Heading || node instanceof TableCell;
+      if (container && node.getFirstChild() instanceof Text) {
+        int length = 0;
+        for (Node child = node.getFirstChild(); child instanceof Text; child = child.getNext()) {
+          String literal = ((Text) child).getLiteral();
+          length += literal != null ? literal.length() : 0;
+        }
+        containers.add(node);
+        if (containers.size() == ends.length) {
+          ends = Arrays.copyOf(ends, ends.length * 2);
+        }
+        total += length;
+        ends[containers.size()] = total;
+      }
+      // 行内解析前容器内只有文本，不需要继续深入
+      Node firstChild = node.getFirstChild();
+      if (firstChild != null && !container) {
+        node = firstChild;
+      } else {
+        while (node != null && node != doc && node.getNext() == null) {
+          node = node.getParent();
+        }
+        node = node == null || node == doc ? null : node.getNext();
+      }
+    }
+    return ends;
+  }
+
+  private record Shared(
+      List<Node> containers,
+      long[] ends,
+      long grain,
+      Map<String, LinkReference> linkReferences,
+      MarkdownParserOptions options,
+      InlineParserConfig inlineConfig,
+      MarkdownMetrics metrics,
+      long sessionId) {}
+}
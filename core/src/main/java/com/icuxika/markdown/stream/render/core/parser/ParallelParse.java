@@ -0,0 +1,276 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.ast.LinkReference;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.parser.block.BlockParserFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 大文档的并行解析.
+ * <p>
+ * 输入在顶层空行处切分为若干分段，每个分段使用独立的 {@link MarkdownParser.BlockParserState} 并行解析块结构，行号始终使用全文行号。
+ * 分段以空行开头：如果前一分段结束时只有文档节点处于打开状态（没有列表、引用、代码块、HTML 块或表格跨越边界），
+ * 处理这个空行之后的状态与从头顺序解析时完全相同，分段结果可以直接拼接；否则把下一分段的行交给前一分段的状态继续解析，
+ * 切分点的选择只影响并行度，不影响结果。
+ * </p>
+ * <p>
+ * 拼接后按文档顺序合并链接引用定义（先定义者优先），再由 {@link ParallelInlines} 并行解析行内元素，结果与顺序解析一致。
+ * </p>
+ */
+final class ParallelParse {
+
+  static final int DEFAULT_SEGMENT_SIZE = 256 * 1024;
+
+  private final MarkdownParser parser;
+  private final List<BlockParserFactory> blockParserFactories;
+  private final MarkdownParserOptions options;
+  private final MarkdownMetrics metrics;
+  private final String input;
+
+  // 每一行在输入中的 [start, end)，不含换行符
+  private int[] lineStarts = new int[1024];
+  private int[] lineEnds = new int[1024];
+  private int lineCount;
+
+  ParallelParse(
+      MarkdownParser parser,
+      List<BlockParserFactory> blockParserFactories,
+      MarkdownParserOptions options,
+      MarkdownMetrics metrics,
+      String input) {
+    this.parser = parser;
+    this.blockParserFactories = blockParserFactories;
+    this.options = options;
+    this.metrics = metrics;
+    this.input = input;
+  }
+
+  /**
+   * 并行解析.
+   *
+   * @param pool
+   *            线程池
+   * @param segmentSize
+   *            每个分段的最小字符数
+   * @param sessionId
+   *            JFR 会话 ID
+   * @return 与顺序解析相同的文档
+   */
+  Document parse(ForkJoinPool pool, int segmentSize, long sessionId) {
+    splitLines();
+    List<Integer> segmentStarts = findSegmentStarts(segmentSize);
+
+    List<Callable<Unit>> blockTasks = new ArrayList<>(segmentStarts.size());
+    for (int s = 0; s < segmentStarts.size(); s++) {
+      int from = segmentStarts.get(s);
+      int to = s + 1 < segmentStarts.size() ? segmentStarts.get(s + 1) : lineCount;
+      blockTasks.add(() -> parseSegment(from, to));
+    }
+    List<Unit> segments = invokeAll(pool, blockTasks);
+
+    // 拼接：前一单元结束于顶层时接受下一分段，否则把下一分段的行交给前一单元继续解析
+    List<Unit> units = new ArrayList<>();
+    Unit current = segments.get(0);
+    for (int s = 1; s < segments.size(); s++) {
+      Unit next = segments.get(s);
+      if (current.atTopLevel) {
+        current.finish();
+        units.add(current);
+        current = next;
+      } else {
+        for (int k = next.from; k < next.to; k++) {
+          current.processLine(k);
+        }
+        current.to = next.to;
+        current.atTopLevel = current.state.isAtTopLevel();
+      }
+    }
+    current.finish();
+    units.add(current);
+
+    List<Callable<Unit>> referenceTasks = new ArrayList<>(units.size());
+    for (Unit unit : units) {
+      referenceTasks.add(
+          () -> {
+            parser.extractLinkReferenceDefinitions(unit.doc);
+            return unit;
+          });
+    }
+    invokeAll(pool, referenceTasks);
+
+    Document doc = units.get(0).doc;
+    for (int u = 1; u < units.size(); u++) {
+      Document unitDoc = units.get(u).doc;
+      for (LinkReference reference : unitDoc.getLinkReferences().values()) {
+        doc.addLinkReference(reference);
+      }
+      Node child = unitDoc.getFirstChild();
+      while (child != null) {
+        Node next = child.getNext();
+        child.unlink();
+        doc.appendChild(child);
+        child = next;
+      }
+    }
+
+    parser.parseInlines(doc, pool, sessionId);
+    return doc;
+  }
+
+  private Unit parseSegment(int from, int to) {
+    Unit unit = new Unit(from, to);
+    for (int k = from; k < to; k++) {
+      unit.processLine(k);
+    }
+    unit.atTopLevel = unit.state.isAtTopLevel();
+    return unit;
+  }
+
+  /**
+   * 按与 {@link MarkdownParser#parse(String)} 相同的规则（{@code \n}、{@code \r}、{@code \r\n}）切分行.
+   */
+  private void splitLines() {
+    int len = input.length();
+    int start = 0;
+    for (int i = 0; i < len; i++) {
+      char c = input.charAt(i);
+      if (c == '\n' || c == '\r') {
+        addLine(start, i);
+        if (c == '\r' && i + 1 < len && input.charAt(i + 1) == '\n') {
+          i++;
+        }
+        start = i + 1;
+      }
+    }
+    if (start < len) {
+      addLine(start, len);
+    }
+  }
+
+  private void addLine(int start, int end) {
+    if (lineCount == lineStarts.length) {
+      lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+      lineEnds = Arrays.copyOf(lineEnds, lineCount * 2);
+    }
+    lineStarts[lineCount] = start;
+    lineEnds[lineCount] = end;
+    lineCount++;
+  }
+
+  /**
+   * 选择分段起点：累计至少 {@code segmentSize} 个字符后的第一个顶层空行. 顶层围栏代码块内部的空行不作为起点，
+   * 其他无法直接拼接的情况在拼接时处理。
+   */
+  private List<Integer> findSegmentStarts(int segmentSize) {
+    List<Integer> starts = new ArrayList<>();
+    starts.add(0);
+    long size = 0;
+    char fenceChar = 0;
+    int fenceLength = 0;
+    for (int k = 0; k < lineCount; k++) {
+      int start = lineStarts[k];
+      int end = lineEnds[k];
+      int i = skipIndent(start, end);
+      if (fenceChar != 0) {
+        int runEnd = skipRun(i, end, fenceChar);
+        if (runEnd - i >= fenceLength && isBlank(runEnd, end)) {
+          fenceChar = 0;
+        }
+      } else if (size >= segmentSize && k > starts.get(starts.size() - 1) && isBlank(start, end)) {
+        starts.add(k);
+        size = 0;
+      } else if (i < end && (input.charAt(i) == '`' || input.charAt(i) == '~')) {
+        char c = input.charAt(i);
+        int runEnd = skipRun(i, end, c);
+        int backtick = input.indexOf('`', runEnd);
+        if (runEnd - i >= 3 && (c == '~' || backtick < 0 || backtick >= end)) {
+          fenceChar = c;
+          fenceLength = runEnd - i;
+        }
+      }
+      size += end - start + 1;
+    }
+    return starts;
+  }
+
+  private int skipIndent(int start, int end) {
+    int i = start;
+    while (i < end && i - start < 3 && input.charAt(i) == ' ') {
+      i++;
+    }
+    return i;
+  }
+
+  private int skipRun(int i, int end, char c) {
+    while (i < end && input.charAt(i) == c) {
+      i++;
+    }
+    return i;
+  }
+
+  private boolean isBlank(int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = input.charAt(i);
+      if (c != ' ' && c != '\t') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) {
+    List<T> results = new ArrayList<>(tasks.size());
+    try {
+      for (Future<T> future : pool.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Parallel parse interrupted", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    }
+    return results;
+  }
+
+  /**
+   * 一段连续的行及其解析结果.
+   */
+  private final class Unit {
+    final int from;
+    int to;
+    final Document doc = new Document();
+    final MarkdownParser.BlockParserState state =
+        new MarkdownParser.BlockParserState(blockParserFactories, options);
+    boolean atTopLevel;
+
+    Unit(int from, int to) {
+      this.from = from;
+      this.to = to;
+      state.setMetrics(metrics);
+    }
+
+    void processLine(int k) {
+      state.processLine(doc, input, lineStarts[k], lineEnds[k], k);
+    }
+
+    void finish() {
+      state.finalizeBlock(doc, to);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+import com.icuxika.markdown.stream.render.core.ast.Code;
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.ast.Emphasis;
+import com.icuxika.markdown.stream.render.core.ast.HardBreak;
+import com.icuxika.markdown.stream.render.core.ast.HtmlInline;
+import com.icuxika.markdown.stream.render.core.ast.Image;
+import com.icuxika.markdown.stream.render.core.ast.Link;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.SoftBreak;
+import com.icuxika.markdown.stream.render.core.ast.Strikethrough;
+import com.icuxika.markdown.stream.render.core.ast.StrongEmphasis;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.extension.math.MathNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 预览段落的增量行内解析.
+ * <p>
+ * 记住同一个段落中已稳定前缀的解析结果，之后只解析新增的文本。前缀只在行边界处推进，并且要求该段文本的解析结果与后续文本无关
+ * （见 {@link InlineParser#isStable()}）；否则从上一个稳定位置开始重新解析。 稳定前缀的节点在每次预览时复制一份，
+ * 渲染器可能在其他线程上继续读取之前的预览节点。
+ * </p>
+ */
+final class PreviewInlineCache {
+
+  // 只复制这些确切类型，扩展的自定义节点不进入缓存
+  private static final Set<Class<?>> COPYABLE =
+      Set.of(
+          Text.class,
+          SoftBreak.class,
+          HardBreak.class,
+          Code.class,
+          Emphasis.class,
+          StrongEmphasis.class,
+          Strikethrough.class,
+          Link.class,
+          Image.class,
+          HtmlInline.class,
+          MathNode.class);
+
+  private Node leaf;
+  private int stableLength;
+  private int failedCut;
+  private final List<Node> stableNodes = new ArrayList<>();
+
+  void reset() {
+    leaf = null;
+    stableLength = 0;
+    failedCut = 0;
+    stableNodes.clear();
+  }
+
+  /**
+   * 解析预览内容的行内元素并替换 {@code container} 的子节点.
+   *
+   * @param container
+   *            预览节点
+   * @param content
+   *            预览文本
+   * @param leaf
+   *            预览对应的段落，段落变化时缓存失效
+   * @param committedLength
+   *            {@code content} 中不会再变化的前缀长度
+   */
+  void parseInto(
+      Node container,
+      String content,
+      Node leaf,
+      int committedLength,
+      Document doc,
+      MarkdownParserOptions options,
+      InlineParserConfig inlineConfig) {
+    if (leaf != this.leaf || stableLength > committedLength) {
+      reset();
+      this.leaf = leaf;
+    }
+
+    // 尝试把稳定前缀推进到最后一个完整行之后；同一位置失败过就不再重复尝试
+    int cut = content.lastIndexOf('\n', committedLength - 1) + 1;
+    if (cut > stableLength && cut != failedCut) {
+      InlineParser chunkParser =
+          new InlineParser(
+              content.substring(stableLength, cut), doc.getLinkReferences(), options, inlineConfig);
+      List<Node> chunk = chunkParser.parse();
+      if (chunkParser.isStable() && copyable(chunk)) {
+        stableNodes.addAll(chunk);
+        stableLength = cut;
+      } else {
+        failedCut = cut;
+      }
+    }
+
+    Node child = container.getFirstChild();
+    while (child != null) {
+      Node next = child.getNext();
+      child.unlink();
+      child = next;
+    }
+    for (Node node : stableNodes) {
+      container.appendChild(copy(node));
+    }
+    String tail = stableLength == 0 ? content : content.substring(stableLength);
+    for (Node node :
+        new InlineParser(tail, doc.getLinkReferences(), options, inlineConfig).parse()) {
+      container.appendChild(node);
+    }
+  }
+
+  private static boolean copyable(List<Node> nodes) {
+    for (Node node : nodes) {
+      if (!copyable(node)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean copyable(Node node) {
+    if (!COPYABLE.contains(node.getClass())) {
+      return false;
+    }
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      if (!copyable(child)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Node copy(Node node) {
+    Node copy = shallowCopy(node);
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      copy.appendChild(copy(child));
+    }
+    return copy;
+  }
+
+  private static Node shallowCopy(Node node) {
+    Node copy;
+    if (node instanceof Text text) {
+      copy = new Text(text.getLiteral());
+    } else if (node instanceof SoftBreak) {
+      copy = new SoftBreak();
+    } else if (node instanceof HardBreak) {
+      copy = new HardBreak();
+    } else if (node instanceof Code code) {
+      copy = new Code(code.getLiteral());
+    } else if (node instanceof Emphasis) {
+      copy = new Emphasis();
+    } else if (node instanceof StrongEmphasis) {
+      copy = new StrongEmphasis();
+    } else if (node instanceof Strikethrough) {
+      copy = new Strikethrough();
+    } else if (node instanceof Link link) {
+      copy = new Link(link.getDestination(), link.getTitle());
+    } else if (node instanceof Image image) {
+      copy = new Image(image.getDestination(), image.getTitle());
+    } else if (node instanceof HtmlInline html) {
+      copy = new HtmlInline(html.getLiteral());
+    } else {
+      copy = new MathNode(((MathNode) node).getContent());
+    }
+    copy.setStartLine(node.getStartLine());
+    copy.setEndLine(node.getEndLine());
+    return copy;
+  }
+}
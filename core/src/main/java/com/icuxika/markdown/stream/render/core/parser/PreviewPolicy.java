@@ -0,0 +1,151 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+import java.time.Duration;
+
+/**
+ * 打字预览的节流策略.
+ * <p>
+ * {@link StreamMarkdownParser} 在每次推送后询问策略是否渲染预览、是否为预览解析行内元素，并在渲染后报告耗时。
+ * 策略是有状态的，每个解析器持有独立的实例，因此通过
+ * {@link StreamMarkdownParser.Builder#previewPolicy(java.util.function.Supplier)} 以工厂方式配置。
+ * 所有时间参数均为 {@link System#nanoTime()} 的值。
+ * </p>
+ */
+public interface PreviewPolicy {
+
+  /**
+   * 是否渲染本次预览. 返回 {@code false} 时预览保持上一次的内容，后续渲染会补上跳过的部分。
+   * <p>
+   * 显示中的预览因块结构变化（处理了完整的行、块开始或结束）被清除后，解析器不询问策略而直接渲染下一次预览，
+   * 因此跳过渲染不会让预览区变为空白。
+   * </p>
+   *
+   * @param nowNanos
+   *            当前时间
+   * @param contentLength
+   *            当前叶子块与未完成行的字符数
+   * @return 是否渲染
+   */
+  boolean shouldRender(long nowNanos, int contentLength);
+
+  /**
+   * 是否为本次预览解析行内元素. 返回 {@code false} 时预览以纯文本形式显示。
+   *
+   * @param nowNanos
+   *            当前时间
+   * @param contentLength
+   *            预览内容的字符数
+   * @return 是否解析
+   */
+  boolean shouldParseInlines(long nowNanos, int contentLength);
+
+  /**
+   * 报告新到达的输入.
+   *
+   * @param nowNanos
+   *            当前时间
+   * @param length
+   *            新增字符数
+   */
+  default void onInput(long nowNanos, int length) {}
+
+  /**
+   * 报告一次已完成的预览渲染.
+   *
+   * @param nowNanos
+   *            渲染完成的时间
+   * @param costNanos
+   *            构建、解析与渲染预览的耗时
+   * @param inlinesParsed
+   *            是否解析了行内元素
+   */
+  void onRendered(long nowNanos, long costNanos, boolean inlinesParsed);
+
+  /**
+   * 获取统计信息.
+   *
+   * @return 统计信息
+   */
+  Stats getStats();
+
+  /**
+   * 重置状态与统计信息，解析器被重置时调用.
+   */
+  void reset();
+
+  /**
+   * 预览统计.
+   *
+   * @param rendered
+   *            已渲染的预览次数
+   * @param skipped
+   *            被跳过的预览次数
+   * @param inlinesParsed
+   *            解析了行内元素的预览次数
+   * @param inlinesSkipped
+   *            以纯文本显示的预览次数
+   * @param previewNanos
+   *            预览累计耗时
+   */
+  record Stats(
+      long rendered, long skipped, long inlinesParsed, long inlinesSkipped, long previewNanos) {}
+
+  /**
+   * 默认策略：每次推送都渲染预览，行内元素最多每 50ms 解析一次，内容超过 8192 个字符时不解析.
+   *
+   * @return 策略
+   */
+  static PreviewPolicy defaults() {
+    return new FixedIntervalPreviewPolicy(
+        0,
+        AbstractPreviewPolicy.DEFAULT_INLINE_PARSE_INTERVAL_NANOS,
+        AbstractPreviewPolicy.DEFAULT_INLINE_PARSE_CHAR_LIMIT);
+  }
+
+  /**
+   * 固定间隔：预览最多每个 {@code interval} 渲染一次，每次渲染都尝试解析行内元素.
+   *
+   * @param interval
+   *            最小渲染间隔，例如 16ms 对应每帧一次
+   * @return 策略
+   */
+  static PreviewPolicy fixedInterval(Duration interval) {
+    long nanos = interval.toNanos();
+    return new FixedIntervalPreviewPolicy(
+        nanos, nanos, AbstractPreviewPolicy.DEFAULT_INLINE_PARSE_CHAR_LIMIT);
+  }
+
+  /**
+   * 按输入速率自适应：输入较快时约每 {@code tokensPerPreview} 次输入渲染一次，输入较慢时每次输入都渲染，
+   * 预览落后的时间不超过 {@code maxInterval}.
+   *
+   * @param tokensPerPreview
+   *            每次预览合并的输入次数
+   * @param maxInterval
+   *            最大渲染间隔
+   * @return 策略
+   */
+  static PreviewPolicy inputRate(int tokensPerPreview, Duration maxInterval) {
+    return new InputRatePreviewPolicy(tokensPerPreview, maxInterval.toNanos());
+  }
+
+  /**
+   * 按预览耗时自适应：根据实测的预览耗时调整间隔，使预览占用的 CPU 时间不超过 {@code budget}.
+   *
+   * @param budget
+   *            CPU 时间占比，取值范围 (0, 1]，例如 0.05 表示 5%
+   * @return 策略
+   */
+  static PreviewPolicy cpuBudget(double budget) {
+    return new CpuBudgetPreviewPolicy(budget);
+  }
+
+  /**
+   * 禁用预览，适用于无界面的批处理.
+   *
+   * @return 策略
+   */
+  static PreviewPolicy disabled() {
+    return new DisabledPreviewPolicy();
+  }
+}
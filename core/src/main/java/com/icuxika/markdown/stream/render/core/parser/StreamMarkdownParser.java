@@ -1,49 +1,109 @@
 package com.icuxika.markdown.stream.render.core.parser;
 
 import com.icuxika.markdown.stream.render.core.Extension;
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
+import com.icuxika.markdown.stream.render.core.ast.CodeBlock;
 import com.icuxika.markdown.stream.render.core.ast.Document;
 import com.icuxika.markdown.stream.render.core.ast.Heading;
+import com.icuxika.markdown.stream.render.core.ast.HtmlBlock;
 import com.icuxika.markdown.stream.render.core.ast.Node;
 import com.icuxika.markdown.stream.render.core.ast.Paragraph;
 import com.icuxika.markdown.stream.render.core.ast.TableCell;
 import com.icuxika.markdown.stream.render.core.ast.Text;
 import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionBlockParserFactory;
 import com.icuxika.markdown.stream.render.core.extension.math.MathParserFactory;
+import com.icuxika.markdown.stream.render.core.jfr.BlockFinalizeEvent;
+import com.icuxika.markdown.stream.render.core.jfr.MarkdownEvent;
+import com.icuxika.markdown.stream.render.core.jfr.PushEvent;
 import com.icuxika.markdown.stream.render.core.parser.block.BlockParserFactory;
 import com.icuxika.markdown.stream.render.core.parser.inline.InlineContentParserFactory;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownBatchRenderer;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownDeltaTypingRenderer;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownEventBatch;
 import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
 import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownTypingRenderer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * 流式 Markdown 解析器.
  * <p>
- * 支持通过 {@link #push(String)} 方法增量输入文本，并实时触发渲染事件。
+ * 支持通过 {@link #push(String)} 方法增量输入文本，并实时触发渲染事件。也可以直接推送
+ * {@link CharSequence}、字符数组片段或 UTF-8 编码的 {@link ByteBuffer}。
  * </p>
  */
 public class StreamMarkdownParser {
 
   private final MarkdownParserOptions options;
   private final List<BlockParserFactory> blockParserFactories;
-  private final List<InlineContentParserFactory> inlineParserFactories;
-  private final StreamMarkdownRenderer renderer;
+  private final InlineParserConfig inlineParserConfig;
+  private StreamMarkdownRenderer renderer;
+  // 批次模式下 renderer 为记录事件的 eventBatch.recorder()，每次推送结束时交给 batchRenderer
+  private StreamMarkdownBatchRenderer batchRenderer;
+  private StreamMarkdownEventBatch eventBatch;
+  // Builder 中配置的渲染器，reset(null) 时恢复使用
+  private final StreamMarkdownRenderer configuredRenderer;
+  private final StreamMarkdownBatchRenderer configuredBatchRenderer;
+  private final boolean retainFinalizedBlocks;
+  private final MarkdownMetrics metrics;
+  // 批次模式下已完成、等待批次交付的块及其完成时间，仅在启用度量时使用
+  private final List<Node> pendingRenderedBlocks = new ArrayList<>();
+  private long[] pendingFinalizedNanos = new long[0];
 
   // Internal State
-  private final Document doc;
+  private long sessionId;
+  // 本次推送中完成的块数，用于 PushEvent
+  private int finalizedInPush;
+  private Document doc;
   private final MarkdownParser.BlockParserState state;
   private final StringBuilder buffer = new StringBuilder();
+  // buffer 中已扫描过、确定不含换行符的前缀长度，避免每次 push 从头重扫
+  private int scanIndex = 0;
+  // 上一个片段以 '\r' 结尾：若下一个片段以 '\n' 开头，则二者组成同一个 CRLF
+  private boolean pendingCr = false;
   private int lineNumber = 0;
-  private static final int PREVIEW_INLINE_PARSE_CHAR_LIMIT = 8192;
-  private static final long PREVIEW_INLINE_PARSE_MIN_INTERVAL_NANOS = 50_000_000L;
-  private long lastPreviewInlineParseAtNanos;
+  // push(ByteBuffer) 的增量 UTF-8 解码状态，首次使用时创建
+  private static final int DECODE_BUFFER_SIZE = 8192;
+  private CharsetDecoder utf8Decoder;
+  private CharBuffer decodeBuffer;
+  private ByteBuffer partialBytes;
+  private final PreviewPolicy previewPolicy;
+  private final PreviewInlineCache previewInlineCache = new PreviewInlineCache();
+  // 渲染器当前显示着预览；显示中的预览因块结构变化被清除后，下一次预览不经过策略节流，避免预览区空白
+  private boolean previewShown;
+  private boolean previewCleared;
+  // 增量预览会话（仅用于 StreamMarkdownDeltaTypingRenderer）：记录已发送给渲染器的内容范围
+  private boolean previewSessionActive = false;
+  private Node previewSessionLeaf;
+  private int previewSessionLine;
+  private int previewSentLeafLength;
+  private int previewSentPendingLength;
+  private int previewSentTailLength;
+  private boolean previewPendingBlank;
 
   private StreamMarkdownParser(Builder builder) {
     this.options = builder.options;
     this.blockParserFactories = builder.blockParserFactories;
-    this.inlineParserFactories = builder.inlineParserFactories;
-    this.renderer = builder.renderer;
-
+    this.inlineParserConfig = builder.inlineParserConfig();
+    this.configuredRenderer = builder.renderer;
+    this.configuredBatchRenderer = builder.batchRenderer;
+    useRenderer(configuredRenderer, configuredBatchRenderer);
+    this.retainFinalizedBlocks = builder.retainFinalizedBlocks;
+    this.previewPolicy = builder.previewPolicyFactory.get();
+    this.metrics = builder.metrics;
+
+    this.sessionId = MarkdownEvent.nextSessionId();
     this.doc = new Document();
     this.doc.setStartLine(0);
 
@@ -51,6 +111,153 @@ public class StreamMarkdownParser {
     this.state.setOnBlockFinalized(this::onBlockFinalized);
     this.state.setOnBlockStarted(this::onBlockStarted);
     this.state.setOnBlockClosed(this::onBlockClosed);
+    this.state.setMetrics(metrics);
+  }
+
+  private void useRenderer(
+      StreamMarkdownRenderer renderer, StreamMarkdownBatchRenderer batchRenderer) {
+    if (batchRenderer == null && renderer instanceof StreamMarkdownBatchRenderer batch) {
+      batchRenderer = batch;
+    }
+    this.batchRenderer = batchRenderer;
+    if (batchRenderer == null) {
+      this.renderer = renderer;
+      return;
+    }
+    if (eventBatch == null) {
+      eventBatch = new StreamMarkdownEventBatch();
+    }
+    this.renderer = eventBatch.recorder(batchRenderer.previewMode());
+  }
+
+  /**
+   * 把本次推送收集的事件交给批次渲染器.
+   */
+  private void flushBatch() {
+    if (batchRenderer == null || eventBatch.isEmpty()) {
+      return;
+    }
+    try {
+      batchRenderer.renderBatch(eventBatch);
+      if (!pendingRenderedBlocks.isEmpty()) {
+        long now = System.nanoTime();
+        for (int i = 0; i < pendingRenderedBlocks.size(); i++) {
+          metrics.blockRendered(pendingRenderedBlocks.get(i), now - pendingFinalizedNanos[i]);
+        }
+      }
+    } finally {
+      eventBatch.clear();
+      pendingRenderedBlocks.clear();
+    }
+  }
+
+  /**
+   * 重置解析器，使其可以用于新的文档. 块解析器工厂与行内解析器工厂保持共享，不会重新创建。
+   * <p>
+   * 同时实现了 {@link StreamMarkdownBatchRenderer} 的渲染器以批次方式调用。传入 {@code null} 时恢复使用 Builder
+   * 中配置的渲染器与批次渲染器。
+   * </p>
+   *
+   * @param renderer
+   *            新文档使用的渲染器，可以为 {@code null}
+   */
+  public void reset(StreamMarkdownRenderer renderer) {
+    if (renderer != null) {
+      useRenderer(renderer, null);
+    } else {
+      useRenderer(configuredRenderer, configuredBatchRenderer);
+    }
+    resetState();
+  }
+
+  /**
+   * 清空解析状态，渲染器保持不变.
+   */
+  private void resetState() {
+    if (eventBatch != null) {
+      eventBatch.clear();
+    }
+    buffer.setLength(0);
+    if (buffer.capacity() > MarkdownParser.BlockParserState.RESET_TRIM_CAPACITY) {
+      buffer.trimToSize();
+    }
+    scanIndex = 0;
+    pendingCr = false;
+    lineNumber = 0;
+    previewPolicy.reset();
+    previewInlineCache.reset();
+    previewShown = false;
+    previewCleared = false;
+    previewSessionActive = false;
+    previewSessionLeaf = null;
+    pendingRenderedBlocks.clear();
+    if (utf8Decoder != null) {
+      utf8Decoder.reset();
+      decodeBuffer.clear();
+      partialBytes.clear();
+    }
+    sessionId = MarkdownEvent.nextSessionId();
+    doc = new Document();
+    doc.setStartLine(0);
+    state.reset();
+  }
+
+  /**
+   * 获取当前文档的会话编号. 每次 {@link #reset(StreamMarkdownRenderer)} 后分配新的编号，JFR 事件使用该编号关联同一个流。
+   *
+   * @return 会话编号
+   */
+  public long getSessionId() {
+    return sessionId;
+  }
+
+  /**
+   * 创建当前解析状态的检查点. 检查点只包含打开的块、未完成的输入与链接引用定义，已完成的块不会被复制。
+   *
+   * @return 检查点
+   * @throws UnsupportedOperationException
+   *             存在自定义块解析器（提示块除外）打开的容器时
+   */
+  public StreamMarkdownParserCheckpoint checkpoint() {
+    byte[] pendingBytes = new byte[0];
+    if (partialBytes != null) {
+      pendingBytes = Arrays.copyOf(partialBytes.array(), partialBytes.position());
+    }
+    return StreamMarkdownParserCheckpoint.capture(
+        state, doc, buffer, pendingCr, pendingBytes, lineNumber);
+  }
+
+  /**
+   * 从检查点恢复解析状态，渲染器保持不变.
+   * <p>
+   * 恢复后的文档只包含检查点中打开的块，这些块的 {@code openBlock} 事件不会重复发送；
+   * 继续推送后续输入得到的事件与未中断时一致。
+   * </p>
+   *
+   * @param checkpoint
+   *            由 {@link #checkpoint()} 创建的检查点
+   */
+  public void restore(StreamMarkdownParserCheckpoint checkpoint) {
+    resetState();
+    doc = checkpoint.restoreInto(state);
+    buffer.append(checkpoint.getPending());
+    scanIndex = buffer.length();
+    pendingCr = checkpoint.isPendingCr();
+    lineNumber = checkpoint.getLineNumber();
+    byte[] pendingBytes = checkpoint.getPartialBytes();
+    if (pendingBytes.length > 0) {
+      ensureDecoder();
+      partialBytes.put(pendingBytes);
+    }
+  }
+
+  /**
+   * 获取尚未完成的内容长度：未构成完整行的输入与当前打开叶子块的内容.
+   *
+   * @return 字符数
+   */
+  public int getBufferedLength() {
+    return buffer.length() + state.currentLeafContent.length();
   }
 
   /**
@@ -60,28 +267,153 @@ public class StreamMarkdownParser {
    *            Markdown 文本片段
    */
   public void push(String text) {
-    if (text == null || text.isEmpty()) {
+    push((CharSequence) text);
+  }
+
+  /**
+   * 推送新的文本片段. 内容直接追加到内部缓冲区，不会额外创建 {@link String}。
+   *
+   * @param text
+   *            Markdown 文本片段，调用返回后即可复用
+   */
+  public void push(CharSequence text) {
+    if (text == null || text.length() == 0) {
       return;
     }
-
     buffer.append(text);
+    processBuffer();
+  }
+
+  /**
+   * 推送字符数组中的一段文本.
+   *
+   * @param chars
+   *            字符数组，调用返回后即可复用
+   * @param offset
+   *            起始位置
+   * @param length
+   *            长度
+   */
+  public void push(char[] chars, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, chars.length);
+    if (length == 0) {
+      return;
+    }
+    buffer.append(chars, offset, length);
+    processBuffer();
+  }
 
-    // Process full lines
+  /**
+   * 推送 UTF-8 编码的字节.
+   * <p>
+   * 解码是增量进行的：被拆分到两个片段中的多字节字符会被暂存，直到后续字节到达。 调用返回后 {@code bytes}
+   * 的所有剩余字节均已被消费，缓冲区即可复用。
+   * </p>
+   *
+   * @param bytes
+   *            UTF-8 字节
+   */
+  public void push(ByteBuffer bytes) {
+    if (!bytes.hasRemaining()) {
+      return;
+    }
+    ensureDecoder();
+    int before = buffer.length();
+    // 先补全上一个片段末尾被截断的字符
+    while (partialBytes.position() > 0 && bytes.hasRemaining()) {
+      partialBytes.put(bytes.get());
+      partialBytes.flip();
+      decodeInto(partialBytes, false);
+      partialBytes.compact();
+    }
+    if (partialBytes.position() == 0) {
+      decodeInto(bytes, false);
+      partialBytes.put(bytes);
+    }
+    if (buffer.length() > before) {
+      processBuffer();
+    }
+  }
+
+  /**
+   * 推送 UTF-8 文件的全部内容.
+   * <p>
+   * 文件通过内存映射读取，以固定大小的字节窗口依次推送（每个窗口相当于一次 {@link #push(ByteBuffer)}），
+   * 不会整体读入内存；开头的 BOM 会被跳过。与其他 {@code push} 方法一样不会结束输入，需要时调用 {@link #close()}。
+   * </p>
+   *
+   * @param path
+   *            文件路径
+   * @throws IOException
+   *             如果读取失败
+   */
+  public void pushFile(Path path) throws IOException {
+    MappedFileReader.forEachWindow(path, this::push);
+  }
+
+  private void ensureDecoder() {
+    if (utf8Decoder == null) {
+      utf8Decoder =
+          StandardCharsets.UTF_8
+              .newDecoder()
+              .onMalformedInput(CodingErrorAction.REPLACE)
+              .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      decodeBuffer = CharBuffer.allocate(DECODE_BUFFER_SIZE);
+      partialBytes = ByteBuffer.allocate(4);
+    }
+  }
+
+  private void decodeInto(ByteBuffer bytes, boolean endOfInput) {
+    while (true) {
+      CoderResult result = utf8Decoder.decode(bytes, decodeBuffer, endOfInput);
+      decodeBuffer.flip();
+      buffer.append(decodeBuffer.array(), decodeBuffer.arrayOffset(), decodeBuffer.limit());
+      decodeBuffer.clear();
+      if (!result.isOverflow()) {
+        return;
+      }
+    }
+  }
+
+  private void processBuffer() {
+    PushEvent event = new PushEvent();
+    event.begin();
+    finalizedInPush = 0;
+    // Process full lines. Only newly appended characters are scanned.
     int start = 0;
     int len = buffer.length();
+    int i = scanIndex;
+    int appended = len - scanIndex;
     boolean processedAnyLine = false;
-    for (int i = 0; i < len; i++) {
+    // 增量预览由块事件负责清除，逐行清除会迫使每一行都重新发送完整预览
+    boolean deltaPreview = renderer instanceof StreamMarkdownDeltaTypingRenderer;
+    if (pendingCr) {
+      pendingCr = false;
+      if (i < len && buffer.charAt(i) == '\n') {
+        i++;
+        start = i;
+      }
+    }
+    for (; i < len; i++) {
       char c = buffer.charAt(i);
       if (c == '\n' || c == '\r') {
-        String line = buffer.substring(start, i);
+        int lineEnd = i;
 
-        // Handle CRLF
-        if (c == '\r' && i + 1 < len && buffer.charAt(i + 1) == '\n') {
-          i++;
+        // Handle CRLF (possibly split across two chunks)
+        if (c == '\r') {
+          if (i + 1 < len) {
+            if (buffer.charAt(i + 1) == '\n') {
+              i++;
+            }
+          } else {
+            pendingCr = true;
+          }
         }
 
-        clearPreviewIfSupported();
-        processLine(line);
+        if (!deltaPreview) {
+          clearPreviewIfSupported();
+        }
+        processLine(buffer, start, lineEnd);
         processedAnyLine = true;
         start = i + 1;
       }
@@ -91,33 +423,67 @@ public class StreamMarkdownParser {
     if (start > 0) {
       buffer.delete(0, start);
     }
+    scanIndex = buffer.length();
 
-    if (processedAnyLine) {
+    if (processedAnyLine && !deltaPreview) {
       clearPreviewIfSupported();
     }
 
-    renderPreviewIfSupported();
+    renderPreviewIfSupported(appended);
+    flushBatch();
+    commitPushEvent(event, appended);
+  }
+
+  private void commitPushEvent(PushEvent event, int inputSize) {
+    if (event.shouldCommit()) {
+      event.sessionId = sessionId;
+      event.inputSize = inputSize;
+      event.nodeCount = finalizedInPush;
+      event.commit();
+    }
   }
 
   /**
    * 结束流式输入. 处理缓冲区中剩余的文本，并关闭所有打开的块。
    */
   public void close() {
+    PushEvent event = new PushEvent();
+    event.begin();
+    finalizedInPush = 0;
+    int inputSize = buffer.length();
     clearPreviewIfSupported();
+    if (utf8Decoder != null) {
+      // 末尾不完整的字节序列按替换字符处理
+      partialBytes.flip();
+      decodeInto(partialBytes, true);
+      utf8Decoder.flush(decodeBuffer);
+      decodeBuffer.flip();
+      buffer.append(decodeBuffer.array(), decodeBuffer.arrayOffset(), decodeBuffer.limit());
+      decodeBuffer.clear();
+      partialBytes.clear();
+      utf8Decoder.reset();
+    }
     if (buffer.length() > 0) {
-      processLine(buffer.toString());
+      processLine(buffer, 0, buffer.length());
       buffer.setLength(0);
     }
+    scanIndex = 0;
+    pendingCr = false;
     state.finalizeBlock(doc, lineNumber);
     clearPreviewIfSupported();
+    flushBatch();
+    commitPushEvent(event, inputSize);
   }
 
-  private void processLine(String line) {
-    String expanded = expandTabs(line);
-    state.processLine(doc, expanded, line, lineNumber++);
+  private void processLine(CharSequence source, int start, int end) {
+    state.processLine(doc, source, start, end, lineNumber++);
   }
 
   private void onBlockFinalized(Node node) {
+    BlockFinalizeEvent event = new BlockFinalizeEvent();
+    event.begin();
+    finalizedInPush++;
+    long finalizedNanos = metrics != MarkdownMetrics.noop() ? System.nanoTime() : 0;
     clearPreviewIfSupported();
     // Try to extract Link Reference Definitions
     if (node instanceof Paragraph) {
@@ -161,7 +527,32 @@ public class StreamMarkdownParser {
 
     if (renderer != null) {
       renderer.renderNode(node);
+      if (metrics != MarkdownMetrics.noop()) {
+        reportBlockRendered(node, finalizedNanos);
+      }
+    }
+    if (event.shouldCommit()) {
+      event.sessionId = sessionId;
+      event.inputSize = node.getEndLine() - node.getStartLine() + 1;
+      event.nodeCount = MarkdownEvent.countNodes(node);
+      event.blockType = node.getClass().getSimpleName();
+      event.commit();
+    }
+    releaseIfTopLevel(node);
+  }
+
+  private void reportBlockRendered(Node node, long finalizedNanos) {
+    if (batchRenderer == null) {
+      metrics.blockRendered(node, System.nanoTime() - finalizedNanos);
+      return;
+    }
+    // 批次模式下块在批次交付后才真正被渲染
+    int index = pendingRenderedBlocks.size();
+    if (index == pendingFinalizedNanos.length) {
+      pendingFinalizedNanos = Arrays.copyOf(pendingFinalizedNanos, index * 2 + 8);
     }
+    pendingRenderedBlocks.add(node);
+    pendingFinalizedNanos[index] = finalizedNanos;
   }
 
   private void onBlockStarted(Node node) {
@@ -176,11 +567,23 @@ public class StreamMarkdownParser {
     if (renderer != null) {
       renderer.closeBlock(node);
     }
+    releaseIfTopLevel(node);
+  }
+
+  /**
+   * 不保留已完成块时，将已交给渲染器的顶层块从文档中摘除. 解析器不会再回溯已关闭的顶层块，链接引用定义保存在
+   * {@link Document#getLinkReferences()} 中，因此摘除后不影响后续解析。
+   */
+  private void releaseIfTopLevel(Node node) {
+    if (!retainFinalizedBlocks && node.getParent() == doc) {
+      node.unlink();
+    }
   }
 
   private void traverseAndParseInlines(Node node) {
     if (node instanceof Paragraph || node instanceof Heading || node instanceof TableCell) {
-      MarkdownParser.processInlineContainerStatic(doc, node, options, inlineParserFactories);
+      MarkdownParser.processInlineContainer(
+          doc.getLinkReferences(), node, options, inlineParserConfig, metrics, sessionId);
     }
 
     Node child = node.getFirstChild();
@@ -190,80 +593,185 @@ public class StreamMarkdownParser {
     }
   }
 
-  private String expandTabs(String s) {
-    if (s.indexOf('\t') == -1) {
-      return s;
-    }
-    StringBuilder sb = new StringBuilder();
-    int col = 0;
-    for (int i = 0; i < s.length(); i++) {
-      char c = s.charAt(i);
-      if (c == '\t') {
-        int toAdd = 4 - (col % 4);
-        for (int j = 0; j < toAdd; j++) {
-          sb.append(' ');
-        }
-        col += toAdd;
-      } else {
-        sb.append(c);
-        col++;
-      }
-    }
-    return sb.toString();
+  /**
+   * 获取当前使用的预览策略，可用于读取预览统计.
+   *
+   * @return 预览策略
+   */
+  public PreviewPolicy getPreviewPolicy() {
+    return previewPolicy;
   }
 
-  private void renderPreviewIfSupported() {
+  private void renderPreviewIfSupported(int appended) {
     if (!(renderer instanceof StreamMarkdownTypingRenderer typingRenderer)) {
       return;
     }
+    long start = System.nanoTime();
+    previewPolicy.onInput(start, appended);
+    boolean restore = previewCleared;
+    previewCleared = false;
+    if (!restore
+        && !previewPolicy.shouldRender(
+            start, state.currentLeafContent.length() + buffer.length())) {
+      metrics.previewSkipped();
+      return;
+    }
+    boolean inlinesParsed;
+    if (typingRenderer instanceof StreamMarkdownDeltaTypingRenderer deltaRenderer) {
+      inlinesParsed = renderPreviewDelta(deltaRenderer);
+    } else {
+      inlinesParsed = renderPreviewNode(typingRenderer);
+    }
+    long end = System.nanoTime();
+    previewPolicy.onRendered(end, end - start, inlinesParsed);
+    metrics.previewBuilt(end - start);
+  }
 
+  private boolean renderPreviewNode(StreamMarkdownTypingRenderer typingRenderer) {
     Node preview = buildPreviewNode();
     if (preview == null) {
+      previewShown = false;
       typingRenderer.clearPreview();
-      return;
+      return false;
     }
 
-    if (shouldParsePreviewInlines(preview)) {
-      MarkdownParser.processInlineContainerStatic(doc, preview, options, inlineParserFactories);
-      lastPreviewInlineParseAtNanos = System.nanoTime();
+    boolean inlinesParsed = shouldParsePreviewInlines(preview);
+    if (inlinesParsed) {
+      parsePreviewInlines(preview);
     }
 
     typingRenderer.renderPreviewNode(preview);
+    previewShown = true;
+    return inlinesParsed;
   }
 
-  private boolean shouldParsePreviewInlines(Node preview) {
-    long now = System.nanoTime();
-    if (now - lastPreviewInlineParseAtNanos < PREVIEW_INLINE_PARSE_MIN_INTERVAL_NANOS) {
+  /**
+   * 增量预览. 同一个块内只发送新增字符，仅在块变化或需要重新解析行内元素时发送完整预览节点。
+   *
+   * @return 是否解析了行内元素
+   */
+  private boolean renderPreviewDelta(StreamMarkdownDeltaTypingRenderer deltaRenderer) {
+    Node leaf = state.currentLeaf;
+    boolean textLeaf = leaf instanceof CodeBlock || leaf instanceof HtmlBlock;
+    if (previewSessionActive && previewSessionLeaf == leaf) {
+      if (previewSessionLine == lineNumber) {
+        // 没有新的完整行：待处理缓冲区只会增长
+        if (buffer.length() == previewSentPendingLength) {
+          return false;
+        }
+        if (textLeaf || !isPreviewInlineParseDue()) {
+          appendPendingToPreview(deltaRenderer, !textLeaf);
+          return false;
+        }
+      } else if (textLeaf) {
+        // 有新的完整行：用已提交的行内容替换之前发送的原始尾部
+        int leafLength = state.currentLeafContent.length();
+        StringBuilder text =
+            new StringBuilder(leafLength - previewSentLeafLength + buffer.length());
+        text.append(state.currentLeafContent, previewSentLeafLength, leafLength).append(buffer);
+        deltaRenderer.replacePreviewTail(previewSentTailLength, text);
+        previewSessionLine = lineNumber;
+        previewSentLeafLength = leafLength;
+        previewSentPendingLength = buffer.length();
+        previewSentTailLength = buffer.length();
+        return false;
+      }
+    }
+
+    Node preview = buildPreviewNode();
+    if (preview == null) {
+      previewShown = false;
+      previewSessionActive = false;
+      deltaRenderer.clearPreview();
       return false;
     }
+    boolean inlinesParsed = shouldParsePreviewInlines(preview);
+    if (inlinesParsed) {
+      parsePreviewInlines(preview);
+    }
+    deltaRenderer.renderPreviewNode(preview);
+
+    previewShown = true;
+    previewSessionActive = true;
+    previewSessionLeaf = leaf;
+    previewSessionLine = lineNumber;
+    previewSentLeafLength = leaf != null ? state.currentLeafContent.length() : 0;
+    previewSentPendingLength = buffer.length();
+    previewPendingBlank = true;
+    for (int i = 0; i < buffer.length() && previewPendingBlank; i++) {
+      previewPendingBlank = Character.isWhitespace(buffer.charAt(i));
+    }
+    previewSentTailLength = buffer.length();
+    return inlinesParsed;
+  }
+
+  private void appendPendingToPreview(
+      StreamMarkdownDeltaTypingRenderer deltaRenderer, boolean trimLeadingWhitespace) {
+    int from = previewSentPendingLength;
+    int to = buffer.length();
+    if (to <= from) {
+      return;
+    }
+    previewSentPendingLength = to;
+    if (!trimLeadingWhitespace) {
+      deltaRenderer.appendPreviewText(buffer.substring(from, to));
+      previewSentTailLength += to - from;
+      return;
+    }
+    // 段落预览与 buildPreviewNode 保持一致：待处理行去掉前导空白，并以换行与已提交内容分隔
+    boolean needsSeparator = from == 0 && previewSessionLeaf != null;
+    if (previewPendingBlank) {
+      while (from < to && Character.isWhitespace(buffer.charAt(from))) {
+        from++;
+      }
+      previewPendingBlank = from == to;
+    }
+    if (needsSeparator || from < to) {
+      String text = buffer.substring(from, to);
+      deltaRenderer.appendPreviewText(needsSeparator ? "\n" + text : text);
+    }
+  }
+
+  private void parsePreviewInlines(Node preview) {
+    Node leaf = state.currentLeaf;
+    if (leaf instanceof Paragraph
+        && preview.getFirstChild() instanceof Text text
+        && text.getNext() == null) {
+      // 已提交的行与预览中追加的换行分隔符不会再变化
+      int committed = Math.min(text.getLiteral().length(), state.currentLeafContent.length() + 1);
+      previewInlineCache.parseInto(
+          preview, text.getLiteral(), leaf, committed, doc, options, inlineParserConfig);
+      return;
+    }
+    MarkdownParser.processInlineContainerStatic(doc, preview, options, inlineParserConfig);
+  }
+
+  private boolean isPreviewInlineParseDue() {
+    return previewPolicy.shouldParseInlines(
+        System.nanoTime(), state.currentLeafContent.length() + buffer.length());
+  }
+
+  private boolean shouldParsePreviewInlines(Node preview) {
     if (!(preview instanceof Paragraph
         || preview instanceof Heading
         || preview instanceof TableCell)) {
       return false;
     }
-    Node first = preview.getFirstChild();
-    if (first instanceof Text text && first.getNext() == null) {
-      String literal = text.getLiteral();
-      return literal == null || literal.length() <= PREVIEW_INLINE_PARSE_CHAR_LIMIT;
-    }
-    int count = 0;
-    Node child = preview.getFirstChild();
-    while (child != null) {
-      if (child instanceof Text t) {
-        String lit = t.getLiteral();
-        if (lit != null) {
-          count += lit.length();
-          if (count > PREVIEW_INLINE_PARSE_CHAR_LIMIT) {
-            return false;
-          }
-        }
+    int length = 0;
+    for (Node child = preview.getFirstChild(); child != null; child = child.getNext()) {
+      if (child instanceof Text text && text.getLiteral() != null) {
+        length += text.getLiteral().length();
       }
-      child = child.getNext();
     }
-    return true;
+    return previewPolicy.shouldParseInlines(System.nanoTime(), length);
   }
 
   private void clearPreviewIfSupported() {
+    if (previewShown) {
+      previewShown = false;
+      previewCleared = true;
+    }
+    previewSessionActive = false;
     if (renderer instanceof StreamMarkdownTypingRenderer typingRenderer) {
       typingRenderer.clearPreview();
     }
@@ -277,11 +785,9 @@ public class StreamMarkdownParser {
       return null;
     }
 
-    if (leaf instanceof com.icuxika.markdown.stream.render.core.ast.CodeBlock) {
-      com.icuxika.markdown.stream.render.core.ast.CodeBlock current =
-          (com.icuxika.markdown.stream.render.core.ast.CodeBlock) leaf;
-      com.icuxika.markdown.stream.render.core.ast.CodeBlock preview =
-          new com.icuxika.markdown.stream.render.core.ast.CodeBlock("");
+    if (leaf instanceof CodeBlock) {
+      CodeBlock current = (CodeBlock) leaf;
+      CodeBlock preview = new CodeBlock("");
       preview.setStartLine(current.getStartLine());
       preview.setEndLine(lineNumber);
       preview.setInfo(current.getInfo());
@@ -289,10 +795,8 @@ public class StreamMarkdownParser {
       return preview;
     }
 
-    if (leaf instanceof com.icuxika.markdown.stream.render.core.ast.HtmlBlock) {
-      com.icuxika.markdown.stream.render.core.ast.HtmlBlock preview =
-          new com.icuxika.markdown.stream.render.core.ast.HtmlBlock(
-              state.currentLeafContent.toString() + pending);
+    if (leaf instanceof HtmlBlock) {
+      HtmlBlock preview = new HtmlBlock(state.currentLeafContent.toString() + pending);
       preview.setStartLine(leaf.getStartLine());
       preview.setEndLine(lineNumber);
       return preview;
@@ -338,7 +842,13 @@ public class StreamMarkdownParser {
     private MarkdownParserOptions options = new MarkdownParserOptions();
     private List<BlockParserFactory> blockParserFactories = new ArrayList<>();
     private List<InlineContentParserFactory> inlineParserFactories = new ArrayList<>();
+    // 编译后的行内解析配置，由 build() 之间共享，注册新的行内解析器工厂后重新编译
+    private InlineParserConfig inlineParserConfig;
     private StreamMarkdownRenderer renderer;
+    private StreamMarkdownBatchRenderer batchRenderer;
+    private boolean retainFinalizedBlocks = true;
+    private MarkdownMetrics metrics = MarkdownMetrics.noop();
+    private Supplier<? extends PreviewPolicy> previewPolicyFactory = PreviewPolicy::defaults;
 
     public Builder() {
       // Load default extensions (System Plugins)
@@ -358,14 +868,76 @@ public class StreamMarkdownParser {
 
     public Builder inlineParserFactory(InlineContentParserFactory factory) {
       this.inlineParserFactories.add(factory);
+      this.inlineParserConfig = null;
       return this;
     }
 
+    InlineParserConfig inlineParserConfig() {
+      if (inlineParserConfig == null) {
+        inlineParserConfig = InlineParserConfig.of(inlineParserFactories);
+      }
+      return inlineParserConfig;
+    }
+
     public Builder renderer(StreamMarkdownRenderer renderer) {
       this.renderer = renderer;
       return this;
     }
 
+    /**
+     * 设置批次渲染器. 每次推送产生的事件在推送结束时一次性交付，优先于 {@link #renderer(StreamMarkdownRenderer)}。
+     *
+     * @param batchRenderer
+     *            批次渲染器
+     */
+    public Builder batchRenderer(StreamMarkdownBatchRenderer batchRenderer) {
+      this.batchRenderer = batchRenderer;
+      return this;
+    }
+
+    /**
+     * 是否在文档中保留已完成的顶层块.
+     * <p>
+     * 默认保留。长时间运行的流（例如持续数小时的对话记录）可以设置为 {@code false}：顶层块在渲染器收到
+     * {@code renderNode}/{@code closeBlock} 后即从文档中摘除，内存占用只与当前打开的块和链接引用定义数量相关。
+     * 此时渲染器不应依赖已完成顶层块的 {@link Node#getParent()} 与兄弟节点。
+     * </p>
+     *
+     * @param retainFinalizedBlocks
+     *            是否保留
+     */
+    public Builder retainFinalizedBlocks(boolean retainFinalizedBlocks) {
+      this.retainFinalizedBlocks = retainFinalizedBlocks;
+      return this;
+    }
+
+    /**
+     * 设置打字预览的节流策略，仅对 {@link StreamMarkdownTypingRenderer} 生效.
+     * <p>
+     * 策略是有状态的，每个解析器通过工厂创建自己的实例，例如
+     * {@code previewPolicy(() -> PreviewPolicy.fixedInterval(Duration.ofMillis(16)))}。 默认为
+     * {@link PreviewPolicy#defaults()}。
+     * </p>
+     *
+     * @param previewPolicyFactory
+     *            策略工厂
+     */
+    public Builder previewPolicy(Supplier<? extends PreviewPolicy> previewPolicyFactory) {
+      this.previewPolicyFactory = Objects.requireNonNull(previewPolicyFactory);
+      return this;
+    }
+
+    /**
+     * 设置度量监听器. 除解析阶段的度量外，还会报告预览构建/跳过次数以及块从完成到交给渲染器的时间。
+     *
+     * @param metrics
+     *            度量监听器
+     */
+    public Builder metrics(MarkdownMetrics metrics) {
+      this.metrics = metrics != null ? metrics : MarkdownMetrics.noop();
+      return this;
+    }
+
     /**
      * 注册扩展插件。
      *
@@ -373,7 +945,7 @@ public class StreamMarkdownParser {
      *            扩展列表
      */
     public Builder extensions(Extension... extensions) {
-      return extensions(java.util.Arrays.asList(extensions));
+      return extensions(Arrays.asList(extensions));
     }
 
     /**
@@ -0,0 +1,617 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+import com.icuxika.markdown.stream.render.core.ast.BlockQuote;
+import com.icuxika.markdown.stream.render.core.ast.BulletList;
+import com.icuxika.markdown.stream.render.core.ast.CodeBlock;
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.ast.HtmlBlock;
+import com.icuxika.markdown.stream.render.core.ast.LinkReference;
+import com.icuxika.markdown.stream.render.core.ast.ListItem;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.OrderedList;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.ast.Table;
+import com.icuxika.markdown.stream.render.core.ast.TableBody;
+import com.icuxika.markdown.stream.render.core.ast.TableCell;
+import com.icuxika.markdown.stream.render.core.ast.TableHead;
+import com.icuxika.markdown.stream.render.core.ast.TableRow;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionBlock;
+import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionParser;
+import com.icuxika.markdown.stream.render.core.parser.block.BlockParser;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link StreamMarkdownParser} 的检查点.
+ * <p>
+ * 只包含继续解析所需的状态：打开的容器块及其缩进、当前叶子块（段落、代码块、HTML 块或表格）的内容、
+ * 尚未构成完整行的输入、行号以及已收集的链接引用定义。已完成的块不在检查点中，因此检查点大小只与当前打开的块相关。
+ * </p>
+ * <p>
+ * 通过 {@link StreamMarkdownParser#restore(StreamMarkdownParserCheckpoint)} 恢复后，解析器不会重新发送已打开块的
+ * {@code openBlock} 事件，后续事件与未中断时完全一致。可通过 Java 序列化或更紧凑的 {@link #toByteArray()}
+ * 在节点之间传递。
+ * </p>
+ */
+public final class StreamMarkdownParserCheckpoint implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+  private static final int FORMAT_VERSION = 1;
+
+  static final byte BLOCK_QUOTE = 1;
+  static final byte BULLET_LIST = 2;
+  static final byte ORDERED_LIST = 3;
+  static final byte LIST_ITEM = 4;
+  static final byte ADMONITION = 5;
+
+  static final byte LEAF_NONE = 0;
+  static final byte LEAF_PARAGRAPH = 1;
+  static final byte LEAF_FENCED_CODE = 2;
+  static final byte LEAF_INDENTED_CODE = 3;
+  static final byte LEAF_HTML = 4;
+  static final byte LEAF_TABLE = 5;
+
+  private static final int FLAG_TIGHT = 1;
+  private static final int FLAG_TASK = 2;
+  private static final int FLAG_CHECKED = 4;
+  private static final int FLAG_ENDS_WITH_BLANK_LINE = 8;
+
+  /**
+   * 打开的容器块.
+   *
+   * @param kind
+   *            容器类型
+   * @param indent
+   *            容器内容缩进
+   * @param startLine
+   *            起始行
+   * @param marker
+   *            列表标记字符或有序列表分隔符
+   * @param number
+   *            有序列表起始序号
+   * @param flags
+   *            布尔属性位
+   * @param type
+   *            提示块类型
+   * @param title
+   *            提示块标题
+   */
+  record Container(
+      byte kind,
+      int indent,
+      int startLine,
+      char marker,
+      int number,
+      int flags,
+      String type,
+      String title)
+      implements Serializable {}
+
+  private final int lineNumber;
+  private final String pending;
+  private final boolean pendingCr;
+  private final boolean documentOpen;
+  private final byte[] partialBytes;
+  // 序列化字段都使用数组，保证检查点整体可以通过 Java 序列化传递
+  private final Container[] containers;
+  private final int lastLineContentDepth;
+  private final byte leafKind;
+  private final int leafParentDepth;
+  private final int leafStartLine;
+  private final String leafContent;
+  private final String leafInfo;
+  private final char fenceChar;
+  private final int fenceLength;
+  private final int fenceIndent;
+  private final int htmlBlockCondition;
+  private final byte[] tableAlignments;
+  private final String[][] tableRows;
+  private final String[][] linkReferences;
+
+  private StreamMarkdownParserCheckpoint(
+      int lineNumber,
+      String pending,
+      boolean pendingCr,
+      boolean documentOpen,
+      byte[] partialBytes,
+      List<Container> containers,
+      int lastLineContentDepth,
+      byte leafKind,
+      int leafParentDepth,
+      int leafStartLine,
+      String leafContent,
+      String leafInfo,
+      char fenceChar,
+      int fenceLength,
+      int fenceIndent,
+      int htmlBlockCondition,
+      byte[] tableAlignments,
+      List<String[]> tableRows,
+      List<String[]> linkReferences) {
+    this.lineNumber = lineNumber;
+    this.pending = pending;
+    this.pendingCr = pendingCr;
+    this.documentOpen = documentOpen;
+    this.partialBytes = partialBytes;
+    this.containers = containers.toArray(new Container[0]);
+    this.lastLineContentDepth = lastLineContentDepth;
+    this.leafKind = leafKind;
+    this.leafParentDepth = leafParentDepth;
+    this.leafStartLine = leafStartLine;
+    this.leafContent = leafContent;
+    this.leafInfo = leafInfo;
+    this.fenceChar = fenceChar;
+    this.fenceLength = fenceLength;
+    this.fenceIndent = fenceIndent;
+    this.htmlBlockCondition = htmlBlockCondition;
+    this.tableAlignments = tableAlignments;
+    this.tableRows = tableRows != null ? tableRows.toArray(new String[0][]) : null;
+    this.linkReferences = linkReferences.toArray(new String[0][]);
+  }
+
+  int getLineNumber() {
+    return lineNumber;
+  }
+
+  String getPending() {
+    return pending;
+  }
+
+  boolean isPendingCr() {
+    return pendingCr;
+  }
+
+  byte[] getPartialBytes() {
+    return partialBytes;
+  }
+
+  static StreamMarkdownParserCheckpoint capture(
+      MarkdownParser.BlockParserState state,
+      Document doc,
+      CharSequence pending,
+      boolean pendingCr,
+      byte[] partialBytes,
+      int lineNumber) {
+    List<Container> containers = new ArrayList<>();
+    // openContainers[0] 是 Document
+    for (int k = 1; k < state.openContainers.size(); k++) {
+      Node node = state.openContainers.get(k);
+      int indent = state.openContainerBlockIndents.get(k);
+      BlockParser blockParser = state.activeBlockParsers.get(node);
+      if (blockParser != null && !(blockParser instanceof AdmonitionParser)) {
+        throw new UnsupportedOperationException(
+            "Cannot checkpoint custom block parser " + blockParser.getClass().getName());
+      }
+      if (node instanceof BlockQuote) {
+        containers.add(
+            new Container(BLOCK_QUOTE, indent, node.getStartLine(), '\0', 0, 0, null, null));
+      } else if (node instanceof BulletList list) {
+        containers.add(
+            new Container(
+                BULLET_LIST,
+                indent,
+                node.getStartLine(),
+                list.getBulletChar(),
+                0,
+                list.isTight() ? FLAG_TIGHT : 0,
+                null,
+                null));
+      } else if (node instanceof OrderedList list) {
+        containers.add(
+            new Container(
+                ORDERED_LIST,
+                indent,
+                node.getStartLine(),
+                list.getDelimiter(),
+                list.getStartNumber(),
+                list.isTight() ? FLAG_TIGHT : 0,
+                null,
+                null));
+      } else if (node instanceof ListItem item) {
+        int flags =
+            (item.isTask() ? FLAG_TASK : 0)
+                | (item.isChecked() ? FLAG_CHECKED : 0)
+                | (item.isEndsWithBlankLine() ? FLAG_ENDS_WITH_BLANK_LINE : 0);
+        containers.add(
+            new Container(LIST_ITEM, indent, node.getStartLine(), '\0', 0, flags, null, null));
+      } else if (node instanceof AdmonitionBlock admonition) {
+        containers.add(
+            new Container(
+                ADMONITION,
+                indent,
+                node.getStartLine(),
+                '\0',
+                0,
+                0,
+                admonition.getType(),
+                admonition.getTitle()));
+      } else {
+        throw new UnsupportedOperationException(
+            "Cannot checkpoint open container " + node.getClass().getName());
+      }
+    }
+
+    Node leaf = state.currentLeaf;
+    byte leafKind = LEAF_NONE;
+    String leafInfo = null;
+    byte[] alignments = null;
+    List<String[]> rows = null;
+    Node leafBlock = leaf;
+    if (leaf instanceof Paragraph) {
+      leafKind = LEAF_PARAGRAPH;
+    } else if (leaf instanceof CodeBlock codeBlock) {
+      leafKind = state.inFencedCodeBlock ? LEAF_FENCED_CODE : LEAF_INDENTED_CODE;
+      leafInfo = codeBlock.getInfo();
+    } else if (leaf instanceof HtmlBlock) {
+      leafKind = LEAF_HTML;
+    } else if (leaf instanceof TableBody && leaf.getParent() instanceof Table table) {
+      leafKind = LEAF_TABLE;
+      leafBlock = table;
+      alignments = new byte[state.tableAlignments.size()];
+      for (int i = 0; i < alignments.length; i++) {
+        alignments[i] = (byte) state.tableAlignments.get(i).ordinal();
+      }
+      rows = new ArrayList<>();
+      for (Node section = table.getFirstChild(); section != null; section = section.getNext()) {
+        for (Node row = section.getFirstChild(); row != null; row = row.getNext()) {
+          List<String> cells = new ArrayList<>();
+          for (Node cell = row.getFirstChild(); cell != null; cell = cell.getNext()) {
+            cells.add(cell.getFirstChild() instanceof Text text ? text.getLiteral() : "");
+          }
+          rows.add(cells.toArray(new String[0]));
+        }
+      }
+    } else if (leaf != null) {
+      throw new UnsupportedOperationException(
+          "Cannot checkpoint open leaf " + leaf.getClass().getName());
+    }
+
+    int leafParentDepth = 0;
+    if (leafBlock != null) {
+      leafParentDepth = state.openContainers.lastIndexOf(leafBlock.getParent());
+      if (leafParentDepth < 0) {
+        leafParentDepth = state.openContainers.size() - 1;
+      }
+    }
+
+    List<String[]> links = new ArrayList<>();
+    for (LinkReference reference : doc.getLinkReferences().values()) {
+      links.add(
+          new String[] {reference.getLabel(), reference.getDestination(), reference.getTitle()});
+    }
+
+    return new StreamMarkdownParserCheckpoint(
+        lineNumber,
+        pending.toString(),
+        pendingCr,
+        !state.openContainers.isEmpty(),
+        partialBytes,
+        containers,
+        state.lastLineContentDepth,
+        leafKind,
+        leafParentDepth,
+        leafBlock != null ? leafBlock.getStartLine() : -1,
+        leaf != null ? state.currentLeafContent.toString() : "",
+        leafInfo,
+        state.fenceChar,
+        state.fenceLength,
+        state.fenceIndent,
+        state.htmlBlockCondition,
+        alignments,
+        rows,
+        links);
+  }
+
+  /**
+   * 将检查点恢复到已重置的解析状态中.
+   *
+   * @return 只包含打开块的新文档
+   */
+  Document restoreInto(MarkdownParser.BlockParserState state) {
+    Document doc = new Document();
+    doc.setStartLine(0);
+    for (String[] link : linkReferences) {
+      doc.addLinkReference(new LinkReference(link[0], link[1], link[2]));
+    }
+
+    if (!documentOpen) {
+      // 尚未处理任何一行，Document 的 openBlock 事件还没有发送
+      return doc;
+    }
+    state.openContainers.add(doc);
+    state.openContainerBlockIndents.add(0);
+    Node parent = doc;
+    for (Container container : containers) {
+      Node node;
+      switch (container.kind()) {
+        case BLOCK_QUOTE -> node = new BlockQuote();
+        case BULLET_LIST -> {
+          BulletList list = new BulletList();
+          list.setBulletChar(container.marker());
+          list.setTight((container.flags() & FLAG_TIGHT) != 0);
+          node = list;
+        }
+        case ORDERED_LIST -> {
+          OrderedList list = new OrderedList();
+          list.setDelimiter(container.marker());
+          list.setStartNumber(container.number());
+          list.setTight((container.flags() & FLAG_TIGHT) != 0);
+          node = list;
+        }
+        case LIST_ITEM -> {
+          ListItem item = new ListItem();
+          item.setTask((container.flags() & FLAG_TASK) != 0);
+          item.setChecked((container.flags() & FLAG_CHECKED) != 0);
+          item.setEndsWithBlankLine((container.flags() & FLAG_ENDS_WITH_BLANK_LINE) != 0);
+          node = item;
+        }
+        case ADMONITION -> {
+          AdmonitionParser blockParser = new AdmonitionParser(container.type(), container.title());
+          node = blockParser.getBlock();
+          state.activeBlockParsers.put(node, blockParser);
+        }
+        default -> throw new IllegalStateException("Unknown container kind " + container.kind());
+      }
+      node.setStartLine(container.startLine());
+      parent.appendChild(node);
+      state.openContainers.add(node);
+      state.openContainerBlockIndents.add(container.indent());
+      parent = node;
+    }
+
+    state.lastLineContentDepth = lastLineContentDepth;
+    if (leafKind == LEAF_NONE) {
+      return doc;
+    }
+    Node leafParent = state.openContainers.get(leafParentDepth);
+    Node leafBlock;
+    switch (leafKind) {
+      case LEAF_PARAGRAPH -> leafBlock = new Paragraph();
+      case LEAF_FENCED_CODE, LEAF_INDENTED_CODE -> {
+        CodeBlock codeBlock = new CodeBlock("");
+        codeBlock.setInfo(leafInfo);
+        state.inFencedCodeBlock = leafKind == LEAF_FENCED_CODE;
+        state.inIndentedCodeBlock = leafKind == LEAF_INDENTED_CODE;
+        state.fenceChar = fenceChar;
+        state.fenceLength = fenceLength;
+        state.fenceIndent = fenceIndent;
+        leafBlock = codeBlock;
+      }
+      case LEAF_HTML -> {
+        state.inHtmlBlock = true;
+        state.htmlBlockCondition = htmlBlockCondition;
+        leafBlock = new HtmlBlock("");
+      }
+      case LEAF_TABLE -> leafBlock = restoreTable(state);
+      default -> throw new IllegalStateException("Unknown leaf kind " + leafKind);
+    }
+    leafBlock.setStartLine(leafStartLine);
+    leafParent.appendChild(leafBlock);
+    if (leafKind != LEAF_TABLE) {
+      state.currentLeaf = leafBlock;
+    }
+    state.currentLeafContent.append(leafContent);
+    return doc;
+  }
+
+  private Table restoreTable(MarkdownParser.BlockParserState state) {
+    TableCell.Alignment[] values = TableCell.Alignment.values();
+    List<TableCell.Alignment> alignments = new ArrayList<>();
+    for (byte alignment : tableAlignments) {
+      alignments.add(values[alignment]);
+    }
+    Table table = new Table();
+    TableHead head = new TableHead();
+    TableBody body = new TableBody();
+    table.appendChild(head);
+    table.appendChild(body);
+    for (int r = 0; r < tableRows.length; r++) {
+      boolean header = r == 0;
+      String[] cells = tableRows[r];
+      TableRow row = new TableRow();
+      for (int c = 0; c < cells.length; c++) {
+        TableCell cell = new TableCell();
+        cell.setHeader(header);
+        cell.setAlignment(c < alignments.size() ? alignments.get(c) : TableCell.Alignment.NONE);
+        cell.appendChild(new Text(cells[c]));
+        row.appendChild(cell);
+      }
+      (header ? head : body).appendChild(row);
+    }
+    state.inTable = true;
+    state.tableAlignments = alignments;
+    state.currentLeaf = body;
+    return table;
+  }
+
+  /**
+   * 以紧凑的二进制格式编码检查点.
+   *
+   * @return 编码后的字节
+   */
+  public byte[] toByteArray() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + leafContent.length());
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(FORMAT_VERSION);
+      out.writeInt(lineNumber);
+      writeString(out, pending);
+      out.writeBoolean(pendingCr);
+      out.writeBoolean(documentOpen);
+      writeBytes(out, partialBytes);
+      out.writeInt(containers.length);
+      for (Container container : containers) {
+        out.writeByte(container.kind());
+        out.writeInt(container.indent());
+        out.writeInt(container.startLine());
+        out.writeChar(container.marker());
+        out.writeInt(container.number());
+        out.writeByte(container.flags());
+        writeString(out, container.type());
+        writeString(out, container.title());
+      }
+      out.writeInt(lastLineContentDepth);
+      out.writeByte(leafKind);
+      out.writeInt(leafParentDepth);
+      out.writeInt(leafStartLine);
+      writeString(out, leafContent);
+      writeString(out, leafInfo);
+      out.writeChar(fenceChar);
+      out.writeInt(fenceLength);
+      out.writeInt(fenceIndent);
+      out.writeInt(htmlBlockCondition);
+      writeBytes(out, tableAlignments);
+      out.writeInt(tableRows == null ? -1 : tableRows.length);
+      if (tableRows != null) {
+        for (String[] row : tableRows) {
+          writeStrings(out, row);
+        }
+      }
+      out.writeInt(linkReferences.length);
+      for (String[] link : linkReferences) {
+        writeStrings(out, link);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * 从 {@link #toByteArray()} 的结果解码检查点.
+   *
+   * @param data
+   *            编码后的字节
+   * @return 检查点
+   */
+  public static StreamMarkdownParserCheckpoint fromByteArray(byte[] data) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+      int version = in.readUnsignedByte();
+      if (version != FORMAT_VERSION) {
+        throw new IllegalArgumentException("Unsupported checkpoint format version " + version);
+      }
+      int lineNumber = in.readInt();
+      String pending = readString(in);
+      boolean pendingCr = in.readBoolean();
+      boolean documentOpen = in.readBoolean();
+      byte[] partialBytes = readBytes(in);
+      int containerCount = in.readInt();
+      List<Container> containers = new ArrayList<>(containerCount);
+      for (int i = 0; i < containerCount; i++) {
+        containers.add(
+            new Container(
+                in.readByte(),
+                in.readInt(),
+                in.readInt(),
+                in.readChar(),
+                in.readInt(),
+                in.readByte(),
+                readString(in),
+                readString(in)));
+      }
+      int lastLineContentDepth = in.readInt();
+      byte leafKind = in.readByte();
+      int leafParentDepth = in.readInt();
+      int leafStartLine = in.readInt();
+      String leafContent = readString(in);
+      String leafInfo = readString(in);
+      char fenceChar = in.readChar();
+      int fenceLength = in.readInt();
+      int fenceIndent = in.readInt();
+      int htmlBlockCondition = in.readInt();
+      byte[] tableAlignments = readBytes(in);
+      int rowCount = in.readInt();
+      List<String[]> tableRows = null;
+      if (rowCount >= 0) {
+        tableRows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+          tableRows.add(readStrings(in));
+        }
+      }
+      int linkCount = in.readInt();
+      List<String[]> links = new ArrayList<>(linkCount);
+      for (int i = 0; i < linkCount; i++) {
+        links.add(readStrings(in));
+      }
+      return new StreamMarkdownParserCheckpoint(
+          lineNumber,
+          pending,
+          pendingCr,
+          documentOpen,
+          partialBytes,
+          containers,
+          lastLineContentDepth,
+          leafKind,
+          leafParentDepth,
+          leafStartLine,
+          leafContent,
+          leafInfo,
+          fenceChar,
+          fenceLength,
+          fenceIndent,
+          htmlBlockCondition,
+          tableAlignments,
+          tableRows,
+          links);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Malformed checkpoint", e);
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    if (s == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = readBytes(in);
+    return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    if (bytes == null) {
+      out.writeInt(-1);
+      return;
+    }
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+    out.writeInt(values.length);
+    for (String value : values) {
+      writeString(out, value);
+    }
+  }
+
+  private static String[] readStrings(DataInputStream in) throws IOException {
+    String[] values = new String[in.readInt()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = readString(in);
+    }
+    return values;
+  }
+}
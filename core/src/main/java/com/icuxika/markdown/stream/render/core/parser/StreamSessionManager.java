@@ -0,0 +1,478 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 多会话流式解析管理器.
+ * <p>
+ * 为大量并发的流（例如网关同时转发的数千个 LLM 响应）管理 {@link StreamMarkdownParser}：
+ * </p>
+ * <ul>
+ * <li>解析器由同一个 {@link StreamMarkdownParser.Builder} 创建，共享块/行内解析器工厂，会话结束后重置并放回池中复用；</li>
+ * <li>每个会话拥有独立的空闲超时与内存上限；</li>
+ * <li>推送在执行器（默认每任务一个虚拟线程）上异步执行，同一会话内严格保持顺序；</li>
+ * <li>{@link #stats()} 提供活跃会话数、输入速率与队列深度等汇总统计。</li>
+ * </ul>
+ */
+public class StreamSessionManager implements AutoCloseable {
+
+  private static final Object CLOSE = new Object();
+
+  private final StreamMarkdownParser.Builder parserBuilder;
+  private final Executor executor;
+  private final ExecutorService ownedExecutor;
+  private final Duration defaultIdleTimeout;
+  private final long defaultMaxBufferedChars;
+  private final int maxPooledParsers;
+  private final ScheduledExecutorService idleChecker;
+
+  private final ConcurrentLinkedDeque<StreamMarkdownParser> parserPool =
+      new ConcurrentLinkedDeque<>();
+  private final AtomicInteger pooledParsers = new AtomicInteger();
+  private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+  private final AtomicLong queueDepth = new AtomicLong();
+  // 累计输入的 UTF-8 字节数，文本片段按其 UTF-8 编码长度计入
+  private final LongAdder totalInputBytes = new LongAdder();
+  private final AtomicLong createdParsers = new AtomicLong();
+
+  private final Object statsLock = new Object();
+  private long lastStatsNanos = System.nanoTime();
+  private long lastStatsInputBytes;
+
+  private StreamSessionManager(Builder builder) {
+    this.parserBuilder = builder.parserBuilder;
+    if (builder.executor != null) {
+      this.executor = builder.executor;
+      this.ownedExecutor = null;
+    } else {
+      this.ownedExecutor = Executors.newVirtualThreadPerTaskExecutor();
+      this.executor = ownedExecutor;
+    }
+    this.defaultIdleTimeout = builder.idleTimeout;
+    this.defaultMaxBufferedChars = builder.maxBufferedChars;
+    this.maxPooledParsers = builder.maxPooledParsers;
+    this.idleChecker =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread t = new Thread(r, "stream-session-idle-checker");
+              t.setDaemon(true);
+              return t;
+            });
+    long interval = builder.idleCheckInterval.toNanos();
+    idleChecker.scheduleWithFixedDelay(
+        this::expireIdleSessions, interval, interval, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * 打开新会话，使用默认的空闲超时与内存上限.
+   *
+   * @param renderer
+   *            会话的渲染器
+   * @return 会话
+   */
+  public Session open(StreamMarkdownRenderer renderer) {
+    return open(renderer, defaultIdleTimeout, defaultMaxBufferedChars);
+  }
+
+  /**
+   * 打开新会话.
+   *
+   * @param renderer
+   *            会话的渲染器
+   * @param idleTimeout
+   *            空闲超时，超时后会话自动结束
+   * @param maxBufferedChars
+   *            排队中与解析器内未完成内容的 UTF-16 字符数上限，超过后会话失败。尚未解码的 {@link ByteBuffer}
+   *            片段按字节数计，这是解码后字符数的上界
+   * @return 会话
+   */
+  public Session open(
+      StreamMarkdownRenderer renderer, Duration idleTimeout, long maxBufferedChars) {
+    StreamMarkdownParser parser = parserPool.pollFirst();
+    if (parser != null) {
+      pooledParsers.decrementAndGet();
+    } else {
+      parser = parserBuilder.build();
+      createdParsers.incrementAndGet();
+    }
+    parser.reset(renderer);
+    Session session = new Session(parser, idleTimeout.toNanos(), maxBufferedChars);
+    sessions.add(session);
+    return session;
+  }
+
+  /**
+   * 获取汇总统计. 输入量统一按 UTF-8 字节计算，输入速率按两次调用之间的时间计算。
+   *
+   * @return 统计信息
+   */
+  public Stats stats() {
+    long now = System.nanoTime();
+    long inputBytes = totalInputBytes.sum();
+    double rate;
+    synchronized (statsLock) {
+      long elapsed = now - lastStatsNanos;
+      rate = elapsed > 0 ? (inputBytes - lastStatsInputBytes) * 1_000_000_000.0 / elapsed : 0;
+      lastStatsNanos = now;
+      lastStatsInputBytes = inputBytes;
+    }
+    return new Stats(
+        sessions.size(),
+        queueDepth.get(),
+        inputBytes,
+        rate,
+        pooledParsers.get(),
+        createdParsers.get());
+  }
+
+  /**
+   * 结束所有会话并停止后台线程. 由管理器创建的执行器会在已提交的任务完成后关闭。
+   */
+  @Override
+  public void close() {
+    idleChecker.shutdownNow();
+    for (Session session : sessions) {
+      session.close();
+    }
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+  }
+
+  private void expireIdleSessions() {
+    long now = System.nanoTime();
+    for (Session session : sessions) {
+      if (now - session.lastActivityNanos > session.idleTimeoutNanos) {
+        session.finish(
+            new TimeoutException(
+                "Session idle for more than "
+                    + Duration.ofNanos(session.idleTimeoutNanos).toMillis()
+                    + " ms"));
+      }
+    }
+  }
+
+  private void release(StreamMarkdownParser parser) {
+    parser.reset(null);
+    if (pooledParsers.incrementAndGet() <= maxPooledParsers) {
+      parserPool.offerFirst(parser);
+    } else {
+      pooledParsers.decrementAndGet();
+    }
+  }
+
+  /**
+   * 文本的 UTF-8 编码长度，用于与字节输入统一统计. 不成对的代理字符按替换字符（3 个字节）计算。
+   */
+  private static long utf8Length(String text) {
+    long length = text.length();
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= 0x80) {
+        if (c < 0x800) {
+          length++;
+        } else if (Character.isHighSurrogate(c)
+            && i + 1 < text.length()
+            && Character.isLowSurrogate(text.charAt(i + 1))) {
+          // 代理对：两个 char 编码为 4 个字节
+          length += 2;
+          i++;
+        } else {
+          length += 2;
+        }
+      }
+    }
+    return length;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 汇总统计.
+   *
+   * @param activeSessions
+   *            活跃会话数
+   * @param queueDepth
+   *            所有会话中等待解析的片段数
+   * @param totalInputBytes
+   *            累计输入的字节数；文本片段按其 UTF-8 编码长度计入，与推送 {@link ByteBuffer} 的计数一致
+   * @param inputBytesPerSecond
+   *            自上次调用 {@link #stats()} 以来的输入速率，单位为字节每秒
+   * @param pooledParsers
+   *            池中空闲的解析器数量
+   * @param createdParsers
+   *            累计创建的解析器数量
+   */
+  public record Stats(
+      int activeSessions,
+      long queueDepth,
+      long totalInputBytes,
+      double inputBytesPerSecond,
+      int pooledParsers,
+      long createdParsers) {}
+
+  /**
+   * 单个流式会话. 所有方法都是线程安全的；推送的内容会被复制，调用返回后即可复用。
+   */
+  public final class Session {
+    private final ConcurrentLinkedQueue<Object> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean finishing = new AtomicBoolean(false);
+    private final AtomicLong queuedChars = new AtomicLong();
+    // 保证“检查 finishing + 入队”与“设置 finishing + 入队 CLOSE”互斥，CLOSE 之后不会再有片段入队
+    private final Object enqueueLock = new Object();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final long idleTimeoutNanos;
+    private final long maxBufferedChars;
+    // 仅由执行队列的任务访问
+    private StreamMarkdownParser parser;
+    private volatile int parserBufferedChars;
+    private volatile long lastActivityNanos = System.nanoTime();
+    private volatile Throwable failure;
+
+    private Session(StreamMarkdownParser parser, long idleTimeoutNanos, long maxBufferedChars) {
+      this.parser = parser;
+      this.idleTimeoutNanos = idleTimeoutNanos;
+      this.maxBufferedChars = maxBufferedChars;
+    }
+
+    /**
+     * 推送文本片段.
+     *
+     * @param text
+     *            Markdown 文本片段
+     */
+    public void push(CharSequence text) {
+      if (text == null || text.length() == 0) {
+        return;
+      }
+      enqueue(text.toString(), text.length());
+    }
+
+    /**
+     * 推送 UTF-8 编码的字节，{@code bytes} 的剩余字节会被全部消费.
+     *
+     * @param bytes
+     *            UTF-8 字节
+     */
+    public void push(ByteBuffer bytes) {
+      if (!bytes.hasRemaining()) {
+        return;
+      }
+      byte[] copy = new byte[bytes.remaining()];
+      bytes.get(copy);
+      enqueue(copy, copy.length);
+    }
+
+    /**
+     * 结束输入. 已推送的内容解析完成后，解析器会被放回池中。
+     *
+     * @return 会话结束时完成的 Future；会话失败或超时时以异常完成
+     */
+    public CompletableFuture<Void> close() {
+      finish(null);
+      return completion;
+    }
+
+    /**
+     * 会话是否已结束（正常关闭、超时或失败）.
+     *
+     * @return 是否已结束
+     */
+    public boolean isClosed() {
+      return finishing.get();
+    }
+
+    /**
+     * 获取会话结束的 Future.
+     *
+     * @return Future
+     */
+    public CompletableFuture<Void> completion() {
+      return completion;
+    }
+
+    private void enqueue(Object chunk, int size) {
+      synchronized (enqueueLock) {
+        if (finishing.get()) {
+          throw new IllegalStateException("Session is closed", failure);
+        }
+        lastActivityNanos = System.nanoTime();
+        long buffered = queuedChars.addAndGet(size) + parserBufferedChars;
+        if (buffered > maxBufferedChars) {
+          queuedChars.addAndGet(-size);
+          IllegalStateException e =
+              new IllegalStateException(
+                  "Session exceeded its memory limit of " + maxBufferedChars + " buffered chars");
+          finish(e);
+          throw e;
+        }
+        pending.offer(chunk);
+        queueDepth.incrementAndGet();
+      }
+      scheduleDrain();
+    }
+
+    private void finish(Throwable cause) {
+      synchronized (enqueueLock) {
+        if (!finishing.compareAndSet(false, true)) {
+          return;
+        }
+        failure = cause;
+        pending.offer(CLOSE);
+        queueDepth.incrementAndGet();
+      }
+      scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+      if (drainScheduled.compareAndSet(false, true)) {
+        executor.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      try {
+        Object item;
+        while ((item = pending.poll()) != null) {
+          queueDepth.decrementAndGet();
+          if (item == CLOSE) {
+            complete();
+            return;
+          }
+          if (parser == null || (failure != null && !(failure instanceof TimeoutException))) {
+            continue;
+          }
+          // 先更新解析器内的缓冲量再扣除排队量，并发的 enqueue 不会看到两者都未计入的中间状态
+          int size = item instanceof String text ? text.length() : ((byte[]) item).length;
+          try {
+            totalInputBytes.add(item instanceof String text ? utf8Length(text) : size);
+            if (item instanceof String text) {
+              parser.push(text);
+            } else {
+              parser.push(ByteBuffer.wrap((byte[]) item));
+            }
+            parserBufferedChars = parser.getBufferedLength();
+          } catch (RuntimeException e) {
+            finish(e);
+            if (failure == null) {
+              failure = e;
+            }
+          } finally {
+            queuedChars.addAndGet(-size);
+          }
+        }
+      } finally {
+        drainScheduled.set(false);
+        if (!pending.isEmpty()) {
+          scheduleDrain();
+        }
+      }
+    }
+
+    private void complete() {
+      sessions.remove(this);
+      StreamMarkdownParser p = parser;
+      parser = null;
+      Throwable cause = failure;
+      if (p != null) {
+        try {
+          if (cause == null || cause instanceof TimeoutException) {
+            p.close();
+          }
+        } catch (RuntimeException e) {
+          if (cause == null) {
+            cause = e;
+          }
+        }
+        release(p);
+      }
+      if (cause == null) {
+        completion.complete(null);
+      } else {
+        completion.completeExceptionally(cause);
+      }
+    }
+  }
+
+  public static class Builder {
+    private StreamMarkdownParser.Builder parserBuilder =
+        StreamMarkdownParser.builder().retainFinalizedBlocks(false);
+    private Executor executor;
+    private Duration idleTimeout = Duration.ofMinutes(5);
+    private Duration idleCheckInterval = Duration.ofSeconds(1);
+    private long maxBufferedChars = 4L * 1024 * 1024;
+    private int maxPooledParsers = 256;
+
+    /**
+     * 设置用于创建解析器的 Builder. 所有会话共享其中的解析器工厂；Builder 中设置的渲染器会被忽略。 默认不保留已完成的顶层块。
+     *
+     * @param parserBuilder
+     *            解析器 Builder
+     */
+    public Builder parser(StreamMarkdownParser.Builder parserBuilder) {
+      this.parserBuilder = parserBuilder;
+      return this;
+    }
+
+    /**
+     * 设置执行推送任务的执行器. 默认每个任务使用一个虚拟线程。
+     *
+     * @param executor
+     *            执行器
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    public Builder idleTimeout(Duration idleTimeout) {
+      this.idleTimeout = idleTimeout;
+      return this;
+    }
+
+    public Builder idleCheckInterval(Duration idleCheckInterval) {
+      this.idleCheckInterval = idleCheckInterval;
+      return this;
+    }
+
+    /**
+     * 设置每个会话默认的缓冲上限，单位为 UTF-16 字符. 尚未解码的 {@link ByteBuffer} 片段按字节数计，这是解码后字符数的上界。
+     *
+     * @param maxBufferedChars
+     *            排队中与解析器内未完成内容的字符数上限
+     */
+    public Builder maxBufferedChars(long maxBufferedChars) {
+      this.maxBufferedChars = maxBufferedChars;
+      return this;
+    }
+
+    public Builder maxPooledParsers(int maxPooledParsers) {
+      this.maxPooledParsers = maxPooledParsers;
+      return this;
+    }
+
+    public StreamSessionManager build() {
+      return new StreamSessionManager(this);
+    }
+  }
+}
@@ -0,0 +1,306 @@
+package com.icuxika.markdown.stream.render.core.parser;
+
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.ast.Heading;
+import com.icuxika.markdown.stream.render.core.ast.LinkReference;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.ast.TableCell;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.jfr.MarkdownEvent;
+import com.icuxika.markdown.stream.render.core.renderer.MarkdownRenderer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link MarkdownParser#parse(java.io.Reader, MarkdownRenderer)} 的流式实现.
+ * <p>
+ * 文档的某个顶层块之后出现新的顶层块时，该块不会再变化：此时提取其中的链接引用定义、解析行内元素，交给渲染器后即从文档中移除，
+ * 内存占用只与最大的块以及尚未交付的块有关。
+ * </p>
+ * <p>
+ * 行内解析会记录查询过但尚未定义的链接引用标签。这类块的结果可能被后面的定义改变，因此保持原始文本延后解析，
+ * 直到这些标签都已定义（先定义者优先，之后不会再变化）、输入结束，或延后的内容超过上限；为保持顺序，之后的块也在其后排队。
+ * 超过上限时按当时已知的定义解析，仍未定义的引用按普通文本输出。
+ * </p>
+ * <p>
+ * 已就绪的块放入一个临时 {@link Document} 中交给渲染器，渲染器对每批块各收到一次 {@code visit(Document)}。
+ * </p>
+ */
+final class StreamingParse {
+
+  static final int DEFAULT_DEFER_LIMIT = 8 * 1024 * 1024;
+
+  private final MarkdownParser parser;
+  private final MarkdownParser.BlockParserState state;
+  private final MarkdownParserOptions options;
+  private final InlineParserConfig inlineConfig;
+  private final MarkdownMetrics metrics;
+  private final int deferLimit;
+  private final long sessionId;
+
+  private final Document doc = new Document();
+  private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+  private final List<Node> ready = new ArrayList<>();
+  private long charsRead;
+  private long nodesRendered;
+
+  StreamingParse(
+      MarkdownParser parser,
+      MarkdownParser.BlockParserState state,
+      MarkdownParserOptions options,
+      InlineParserConfig inlineConfig,
+      MarkdownMetrics metrics,
+      int deferLimit,
+      long sessionId) {
+    this.parser = parser;
+    this.state = state;
+    this.options = options;
+    this.inlineConfig = inlineConfig;
+    this.metrics = metrics;
+    this.deferLimit = deferLimit;
+    this.sessionId = sessionId;
+  }
+
+  /**
+   * 逐行解析并渲染.
+   *
+   * @return 读取的字符数（每行按行尾一个换行符计算）
+   */
+  long parse(BufferedReader reader, MarkdownRenderer renderer) throws IOException {
+    String line;
+    int lineNumber = 0;
+    while ((line = reader.readLine()) != null) {
+      charsRead += line.length() + 1;
+      state.processLine(doc, line, lineNumber++);
+      Node first = doc.getFirstChild();
+      while (first != null && first != doc.getLastChild() && !isOpen(first)) {
+        accept(first);
+        first = doc.getFirstChild();
+      }
+      drain(false);
+      render(renderer);
+    }
+    state.finalizeBlock(doc, lineNumber);
+    while (doc.getFirstChild() != null) {
+      accept(doc.getFirstChild());
+    }
+    drain(true);
+    render(renderer);
+    return charsRead;
+  }
+
+  long getNodesRendered() {
+    return nodesRendered;
+  }
+
+  /**
+   * 块或其子孙是否仍是解析器打开的容器或当前叶子块.
+   */
+  private boolean isOpen(Node block) {
+    if (isWithin(state.currentLeaf, block)) {
+      return true;
+    }
+    for (Node container : state.openContainers) {
+      if (container != doc && isWithin(container, block)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isWithin(Node node, Node ancestor) {
+    for (Node n = node; n != null; n = n.getParent()) {
+      if (n == ancestor) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 接收一个已完成的顶层块：提取链接引用定义并从文档中移除，随后尝试解析行内元素.
+   */
+  private void accept(Node block) {
+    parser.visitAndExtract(block, doc);
+    if (block.getParent() == null) {
+      // 整段都是链接引用定义
+      return;
+    }
+    block.unlink();
+    Pending entry = new Pending(block, charsRead);
+    pending.addLast(entry);
+    parseInlines(entry, false);
+  }
+
+  /**
+   * 把队首已解析的块移入待渲染列表.
+   *
+   * @param force
+   *            是否按当前已知的定义解析所有延后的块
+   */
+  private void drain(boolean force) {
+    while (!pending.isEmpty()) {
+      Pending head = pending.peekFirst();
+      if (head.missing != null) {
+        boolean overLimit = charsRead - head.charsReadAt > deferLimit;
+        if (!force && !overLimit && !allDefined(head.missing)) {
+          return;
+        }
+        if (!parseInlines(head, force || overLimit)) {
+          return;
+        }
+      }
+      pending.pollFirst();
+      ready.add(head.block);
+    }
+  }
+
+  private boolean allDefined(Set<String> labels) {
+    for (String label : labels) {
+      if (!doc.getLinkReferences().containsKey(label)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 解析块的行内元素. 查询了尚未定义的标签时恢复原始文本并记录这些标签.
+   *
+   * @return 是否已完成解析
+   */
+  private boolean parseInlines(Pending entry, boolean force) {
+    List<Node> containers = new ArrayList<>();
+    collectContainers(entry.block, containers);
+    List<String> contents = force ? null : new ArrayList<>(containers.size());
+    RecordingReferences references = new RecordingReferences(doc.getLinkReferences());
+    for (Node container : containers) {
+      if (contents != null) {
+        contents.add(leadingText(container));
+      }
+      MarkdownParser.processInlineContainer(
+          references, container, options, inlineConfig, metrics, sessionId);
+    }
+    if (force || references.missing == null) {
+      entry.missing = null;
+      return true;
+    }
+    for (int i = 0; i < containers.size(); i++) {
+      String content = contents.get(i);
+      if (content != null) {
+        Node container = containers.get(i);
+        Node child = container.getFirstChild();
+        while (child != null) {
+          Node next = child.getNext();
+          child.unlink();
+          child = next;
+        }
+        container.appendChild(new Text(content));
+      }
+    }
+    entry.missing = references.missing;
+    return false;
+  }
+
+  private static void collectContainers(Node node, List<Node> containers) {
+    if (node instanceof Paragraph || node instanceof Heading || node instanceof TableCell) {
+      containers.add(node);
+      return;
+    }
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      collectContainers(child, containers);
+    }
+  }
+
+  /**
+   * 获取容器的原始文本；与行内解析的条件一致，只有全部子节点都是文本时才会被解析.
+   */
+  private static String leadingText(Node container) {
+    Node first = container.getFirstChild();
+    if (!(first instanceof Text)) {
+      return null;
+    }
+    if (first.getNext() == null) {
+      return ((Text) first).getLiteral();
+    }
+    StringBuilder sb = new StringBuilder();
+    for (Node child = first; child != null; child = child.getNext()) {
+      if (!(child instanceof Text)) {
+        return null;
+      }
+      sb.append(((Text) child).getLiteral());
+    }
+    return sb.toString();
+  }
+
+  private void render(MarkdownRenderer renderer) {
+    if (ready.isEmpty()) {
+      return;
+    }
+    Document window = new Document();
+    for (Node block : ready) {
+      window.appendChild(block);
+      nodesRendered += MarkdownEvent.countNodes(block);
+    }
+    window.accept(renderer);
+    for (Node block : ready) {
+      block.unlink();
+    }
+    ready.clear();
+  }
+
+  private static final class Pending {
+    final Node block;
+    final long charsReadAt;
+    // 查询过但尚未定义的标签；null 表示行内元素已解析
+    Set<String> missing;
+
+    Pending(Node block, long charsReadAt) {
+      this.block = block;
+      this.charsReadAt = charsReadAt;
+    }
+  }
+
+  /**
+   * 记录未命中查询的链接引用映射.
+   */
+  private static final class RecordingReferences extends AbstractMap<String, LinkReference> {
+    private final Map<String, LinkReference> references;
+    Set<String> missing;
+
+    RecordingReferences(Map<String, LinkReference> references) {
+      this.references = references;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      if (references.containsKey(key)) {
+        return true;
+      }
+      if (missing == null) {
+        missing = new HashSet<>();
+      }
+      missing.add((String) key);
+      return false;
+    }
+
+    @Override
+    public LinkReference get(Object key) {
+      return references.get(key);
+    }
+
+    @Override
+    public Set<Entry<String, LinkReference>> entrySet() {
+      return references.entrySet();
+    }
+  }
+}
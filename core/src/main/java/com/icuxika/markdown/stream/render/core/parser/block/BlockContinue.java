@@ -5,6 +5,16 @@ package com.icuxika.markdown.stream.render.core.parser.block;
  */
 public class BlockContinue {
 
+  // 常见结果被缓存并复用，tryContinue 对每一行调用时不产生对象
+  private static final BlockContinue FINISHED = new BlockContinue(-1, -1, true);
+  private static final BlockContinue[] AT_INDEX = new BlockContinue[256];
+
+  static {
+    for (int i = 0; i < AT_INDEX.length; i++) {
+      AT_INDEX[i] = new BlockContinue(i, -1, false);
+    }
+  }
+
   private final int newIndex;
   private final int newIndent;
   private final boolean finalize;
@@ -19,7 +29,17 @@ public class BlockContinue {
     return null;
   }
 
+  /**
+   * Continue at the given index. Results for indexes below 256 are shared instances.
+   *
+   * @param newIndex
+   *            index to continue at
+   * @return the result
+   */
   public static BlockContinue atIndex(int newIndex) {
+    if (newIndex >= 0 && newIndex < AT_INDEX.length) {
+      return AT_INDEX[newIndex];
+    }
     return new BlockContinue(newIndex, -1, false);
   }
 
@@ -28,7 +48,7 @@ public class BlockContinue {
   }
 
   public static BlockContinue finished() {
-    return new BlockContinue(-1, -1, true);
+    return FINISHED;
   }
 
   public int getNewIndex() {
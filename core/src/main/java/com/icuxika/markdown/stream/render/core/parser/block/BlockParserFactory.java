@@ -1,5 +1,7 @@
 package com.icuxika.markdown.stream.render.core.parser.block;
 
+import java.util.Set;
+
 /**
  * Interface for factories that can create block parsers.
  */
@@ -15,4 +17,18 @@ public interface BlockParserFactory {
    * @return result indicating if a block was started
    */
   BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser);
+
+  /**
+   * Get trigger characters.
+   *
+   * <p>If not {@code null}, {@link #tryStart} is only called when the first non-space character at
+   * {@link ParserState#getNextNonSpaceIndex()} is one of these characters. It is never called on
+   * blank lines.
+   *
+   * @return the set of characters that can start a block of this factory, or {@code null} to be
+   *         tried on every line
+   */
+  default Set<Character> getTriggerCharacters() {
+    return null;
+  }
 }
@@ -1,7 +1,8 @@
 package com.icuxika.markdown.stream.render.core.parser.block;
 
 /**
- * Wraps a matched block parser.
+ * Wraps a matched block parser. The instance is reused between calls and is only valid during
+ * {@link BlockParserFactory#tryStart}.
  */
 public interface MatchedBlockParser {
   BlockParser getBlockParser();
@@ -1,11 +1,18 @@
 package com.icuxika.markdown.stream.render.core.parser.block;
 
+/**
+ * State of the line being parsed, passed to {@link BlockParserFactory#tryStart} and {@link
+ * BlockParser#tryContinue}.
+ *
+ * <p>The parser reuses a single instance for every call, so implementations must not keep a
+ * reference to it (or to {@link #getLine()}) after the call returns.
+ */
 public interface ParserState {
 
   /**
    * Get current line.
    *
-   * @return the current line content
+   * @return the current line content, with tabs expanded; only valid during the current call
    */
   CharSequence getLine();
 
@@ -16,8 +16,29 @@ public interface InlineContentParserFactory {
 
   /**
    * Create a parser instance.
+   * <p>
+   * By default this is called at most once per inline parse (one paragraph, heading or table
+   * cell), the first time one of the trigger characters is seen, so the returned instance may keep
+   * per-parse state. Factories whose {@link #isStateless()} returns {@code true} are instead called
+   * once when the parser builder compiles its
+   * {@link com.icuxika.markdown.stream.render.core.parser.InlineParserConfig}.
+   * </p>
    *
-   * @return a new parser instance
+   * @return a parser instance
    */
   InlineContentParser create();
+
+  /**
+   * Whether parsers created by this factory keep no per-parse state.
+   * <p>
+   * When {@code true}, a single instance from {@link #create()} is shared by every inline parse of
+   * a compiled configuration, possibly on several threads at once.
+   * </p>
+   *
+   * @return {@code true} to share one parser instance; {@code false} (the default) to get a fresh
+   *         instance per inline parse
+   */
+  default boolean isStateless() {
+    return false;
+  }
 }
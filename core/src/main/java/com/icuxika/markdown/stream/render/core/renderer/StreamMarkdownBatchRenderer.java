@@ -0,0 +1,75 @@
+package com.icuxika.markdown.stream.render.core.renderer;
+
+/**
+ * 按批次接收渲染事件的流式渲染器.
+ * <p>
+ * 解析器把一次推送（或 {@code close()}）产生的所有事件收集到一个复用的 {@link StreamMarkdownEventBatch} 中，
+ * 推送结束时一次性交给 {@link #renderBatch(StreamMarkdownEventBatch)}。跨线程的渲染器因此每次推送最多只需要一次线程切换，
+ * 写入流的渲染器也只需要刷新一次。
+ * </p>
+ * <p>
+ * 同时实现 {@link StreamMarkdownRenderer} 的渲染器会被解析器自动以批次方式调用；只实现逐事件接口的渲染器可以通过
+ * {@link #adapt(StreamMarkdownRenderer)} 适配。
+ * </p>
+ */
+public interface StreamMarkdownBatchRenderer {
+
+  /**
+   * 渲染器需要的预览事件.
+   */
+  enum PreviewMode {
+    /** 不接收预览事件. */
+    NONE,
+    /** 接收完整预览节点，对应 {@link StreamMarkdownTypingRenderer}. */
+    FULL,
+    /** 接收增量预览，对应 {@link StreamMarkdownDeltaTypingRenderer}. */
+    DELTA
+  }
+
+  /**
+   * 渲染一批事件.
+   * <p>
+   * 批次对象会被解析器复用，只在本次调用期间有效；需要在其他线程处理的事件应在返回前复制。
+   * </p>
+   *
+   * @param batch
+   *            本次推送产生的事件
+   */
+  void renderBatch(StreamMarkdownEventBatch batch);
+
+  /**
+   * 获取渲染器需要的预览事件.
+   *
+   * @return 预览模式，默认不接收预览
+   */
+  default PreviewMode previewMode() {
+    return PreviewMode.NONE;
+  }
+
+  /**
+   * 将逐事件渲染器适配为批次渲染器. 批次中的事件按顺序逐个转发。
+   *
+   * @param renderer
+   *            逐事件渲染器
+   * @return 批次渲染器
+   */
+  static StreamMarkdownBatchRenderer adapt(StreamMarkdownRenderer renderer) {
+    PreviewMode mode =
+        renderer instanceof StreamMarkdownDeltaTypingRenderer
+            ? PreviewMode.DELTA
+            : renderer instanceof StreamMarkdownTypingRenderer
+                ? PreviewMode.FULL
+                : PreviewMode.NONE;
+    return new StreamMarkdownBatchRenderer() {
+      @Override
+      public void renderBatch(StreamMarkdownEventBatch batch) {
+        batch.replay(renderer);
+      }
+
+      @Override
+      public PreviewMode previewMode() {
+        return mode;
+      }
+    };
+  }
+}
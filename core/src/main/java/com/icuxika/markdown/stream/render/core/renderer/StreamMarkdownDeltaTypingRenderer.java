@@ -0,0 +1,37 @@
+package com.icuxika.markdown.stream.render.core.renderer;
+
+/**
+ * 支持增量预览的流式渲染器.
+ * <p>
+ * 在 {@link StreamMarkdownTypingRenderer} 的基础上，解析器只在预览所对应的块发生变化时调用
+ * {@link #renderPreviewNode(com.icuxika.markdown.stream.render.core.ast.Node)} 发送完整预览节点；
+ * 同一个块内后续输入的字符通过 {@link #appendPreviewText(CharSequence)} 与
+ * {@link #replacePreviewTail(int, CharSequence)} 以增量形式发送，单次推送的开销只与新增文本的长度相关。
+ * </p>
+ * <p>
+ * 增量作用于最近一次 {@code renderPreviewNode} 所渲染预览的纯文本末尾；{@link #clearPreview()}
+ * 或新的 {@code renderPreviewNode} 会结束当前的增量序列。
+ * </p>
+ */
+public interface StreamMarkdownDeltaTypingRenderer extends StreamMarkdownTypingRenderer {
+  /**
+   * 向当前预览末尾追加文本.
+   *
+   * @param text
+   *            追加的文本
+   */
+  void appendPreviewText(CharSequence text);
+
+  /**
+   * 删除当前预览末尾的若干字符，并追加新的文本.
+   * <p>
+   * 解析器保证 {@code removeLength} 不超过预览节点自身文本与此后追加文本的总长度。
+   * </p>
+   *
+   * @param removeLength
+   *            需要从末尾删除的字符数
+   * @param text
+   *            删除后追加的文本
+   */
+  void replacePreviewTail(int removeLength, CharSequence text);
+}
@@ -0,0 +1,250 @@
+package com.icuxika.markdown.stream.render.core.renderer;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 一次推送产生的渲染事件.
+ * <p>
+ * 事件按发生顺序保存在复用的数组中，批次交付后即被清空。多余的预览事件在收集时就被合并：连续的预览事件只保留最终状态，
+ * 预览本就不可见时的 {@code clearPreview} 会被丢弃。
+ * </p>
+ */
+public final class StreamMarkdownEventBatch {
+
+  /**
+   * 事件类型.
+   */
+  public enum Type {
+    OPEN_BLOCK,
+    CLOSE_BLOCK,
+    RENDER_NODE,
+    RENDER_PREVIEW,
+    CLEAR_PREVIEW,
+    APPEND_PREVIEW_TEXT,
+    REPLACE_PREVIEW_TAIL
+  }
+
+  private static final Type[] TYPES = Type.values();
+  private static final int INITIAL_CAPACITY = 16;
+
+  private byte[] types = new byte[INITIAL_CAPACITY];
+  private Object[] payloads = new Object[INITIAL_CAPACITY];
+  private int[] lengths = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // 预览是否可见（包含已交付的批次），以及末尾连续预览事件开始前的状态
+  private boolean previewVisible;
+  private int previewRunStart = -1;
+  private boolean previewVisibleBeforeRun;
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public Type type(int index) {
+    return TYPES[types[checkIndex(index)]];
+  }
+
+  /**
+   * 获取事件的节点.
+   *
+   * @param index
+   *            事件序号
+   * @return 节点，预览文本事件与 {@code CLEAR_PREVIEW} 返回 {@code null}
+   */
+  public Node node(int index) {
+    return payloads[checkIndex(index)] instanceof Node node ? node : null;
+  }
+
+  /**
+   * 获取预览文本事件的文本.
+   *
+   * @param index
+   *            事件序号
+   * @return 文本，其他事件返回 {@code null}
+   */
+  public String text(int index) {
+    return payloads[checkIndex(index)] instanceof String text ? text : null;
+  }
+
+  /**
+   * 获取 {@code REPLACE_PREVIEW_TAIL} 事件需要删除的字符数.
+   *
+   * @param index
+   *            事件序号
+   * @return 字符数，其他事件返回 0
+   */
+  public int removeLength(int index) {
+    return lengths[checkIndex(index)];
+  }
+
+  /**
+   * 按顺序把事件转发给逐事件渲染器. 渲染器不支持的预览事件会被忽略。
+   *
+   * @param renderer
+   *            渲染器
+   */
+  public void replay(StreamMarkdownRenderer renderer) {
+    StreamMarkdownTypingRenderer typing =
+        renderer instanceof StreamMarkdownTypingRenderer t ? t : null;
+    StreamMarkdownDeltaTypingRenderer delta =
+        renderer instanceof StreamMarkdownDeltaTypingRenderer d ? d : null;
+    for (int i = 0; i < size; i++) {
+      switch (TYPES[types[i]]) {
+        case OPEN_BLOCK -> renderer.openBlock((Node) payloads[i]);
+        case CLOSE_BLOCK -> renderer.closeBlock((Node) payloads[i]);
+        case RENDER_NODE -> renderer.renderNode((Node) payloads[i]);
+        case RENDER_PREVIEW -> {
+          if (typing != null) {
+            typing.renderPreviewNode((Node) payloads[i]);
+          }
+        }
+        case CLEAR_PREVIEW -> {
+          if (typing != null) {
+            typing.clearPreview();
+          }
+        }
+        case APPEND_PREVIEW_TEXT -> {
+          if (delta != null) {
+            delta.appendPreviewText((String) payloads[i]);
+          }
+        }
+        case REPLACE_PREVIEW_TAIL -> {
+          if (delta != null) {
+            delta.replacePreviewTail(lengths[i], (String) payloads[i]);
+          }
+        }
+        default -> throw new IllegalStateException();
+      }
+    }
+  }
+
+  /**
+   * 清空事件. 由解析器在批次交付后调用。
+   */
+  public void clear() {
+    Arrays.fill(payloads, 0, size, null);
+    size = 0;
+    previewRunStart = -1;
+  }
+
+  /**
+   * 创建向本批次记录事件的渲染器，供解析器使用.
+   *
+   * @param mode
+   *            需要记录的预览事件
+   * @return 记录事件的渲染器
+   */
+  public StreamMarkdownRenderer recorder(StreamMarkdownBatchRenderer.PreviewMode mode) {
+    clear();
+    previewVisible = false;
+    return switch (mode) {
+      case NONE -> new Recorder();
+      case FULL -> new TypingRecorder();
+      case DELTA -> new DeltaRecorder();
+    };
+  }
+
+  private int checkIndex(int index) {
+    return Objects.checkIndex(index, size);
+  }
+
+  private void add(Type type, Object payload, int length) {
+    if (size == types.length) {
+      int capacity = size * 2;
+      types = Arrays.copyOf(types, capacity);
+      payloads = Arrays.copyOf(payloads, capacity);
+      lengths = Arrays.copyOf(lengths, capacity);
+    }
+    types[size] = (byte) type.ordinal();
+    payloads[size] = payload;
+    lengths[size] = length;
+    size++;
+  }
+
+  private void addStructural(Type type, Node node) {
+    previewRunStart = -1;
+    add(type, node, 0);
+  }
+
+  /**
+   * 开始或继续一段连续的预览事件. 新的完整预览或清除会覆盖这段事件，因此可以丢弃之前的部分。
+   */
+  private void beginPreviewEvent(boolean replacesPreview) {
+    if (previewRunStart < 0) {
+      previewRunStart = size;
+      previewVisibleBeforeRun = previewVisible;
+    } else if (replacesPreview) {
+      Arrays.fill(payloads, previewRunStart, size, null);
+      size = previewRunStart;
+      previewVisible = previewVisibleBeforeRun;
+    }
+  }
+
+  private void addRenderPreview(Node node) {
+    beginPreviewEvent(true);
+    add(Type.RENDER_PREVIEW, node, 0);
+    previewVisible = true;
+  }
+
+  private void addClearPreview() {
+    beginPreviewEvent(true);
+    if (previewVisible) {
+      add(Type.CLEAR_PREVIEW, null, 0);
+      previewVisible = false;
+    }
+  }
+
+  private void addPreviewText(Type type, CharSequence text, int removeLength) {
+    beginPreviewEvent(false);
+    add(type, text.toString(), removeLength);
+  }
+
+  private class Recorder implements StreamMarkdownRenderer {
+    @Override
+    public void renderNode(Node node) {
+      addStructural(Type.RENDER_NODE, node);
+    }
+
+    @Override
+    public void openBlock(Node node) {
+      addStructural(Type.OPEN_BLOCK, node);
+    }
+
+    @Override
+    public void closeBlock(Node node) {
+      addStructural(Type.CLOSE_BLOCK, node);
+    }
+  }
+
+  private class TypingRecorder extends Recorder implements StreamMarkdownTypingRenderer {
+    @Override
+    public void renderPreviewNode(Node node) {
+      addRenderPreview(node);
+    }
+
+    @Override
+    public void clearPreview() {
+      addClearPreview();
+    }
+  }
+
+  private final class DeltaRecorder extends TypingRecorder
+      implements StreamMarkdownDeltaTypingRenderer {
+    @Override
+    public void appendPreviewText(CharSequence text) {
+      addPreviewText(Type.APPEND_PREVIEW_TEXT, text, 0);
+    }
+
+    @Override
+    public void replacePreviewTail(int removeLength, CharSequence text) {
+      addPreviewText(Type.REPLACE_PREVIEW_TAIL, text, removeLength);
+    }
+  }
+}
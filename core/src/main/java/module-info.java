@@ -1,4 +1,6 @@
 module com.icuxika.markdown.stream.render.core {
+  requires transitive jdk.jfr;
+
   // API Exports
   exports com.icuxika.markdown.stream.render.core;
   exports com.icuxika.markdown.stream.render.core.ast;
@@ -6,6 +8,7 @@ module com.icuxika.markdown.stream.render.core {
   exports com.icuxika.markdown.stream.render.core.parser;
   exports com.icuxika.markdown.stream.render.core.parser.block;
   exports com.icuxika.markdown.stream.render.core.parser.inline;
+  exports com.icuxika.markdown.stream.render.core.jfr;
 
   // Extension API Exports
   exports com.icuxika.markdown.stream.render.core.extension.admonition;
@@ -0,0 +1,139 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionBlock;
+import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionBlockParserFactory;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.block.BlockContinue;
+import com.icuxika.markdown.stream.render.core.parser.block.BlockParserFactory;
+import com.icuxika.markdown.stream.render.core.parser.block.BlockStart;
+import com.icuxika.markdown.stream.render.core.parser.block.MatchedBlockParser;
+import com.icuxika.markdown.stream.render.core.parser.block.ParserState;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 自定义块解析器的分发测试. 解析状态在各行之间复用，但每次调用看到的都是当前行的位置.
+ */
+public class BlockParserDispatchTest {
+
+  /**
+   * 记录每次调用时看到的解析状态.
+   */
+  static class RecordingFactory implements BlockParserFactory {
+    final Set<ParserState> states = new HashSet<>();
+    final List<String> calls = new ArrayList<>();
+
+    @Override
+    public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
+      states.add(state);
+      calls.add(
+          state.getLine()
+              + "|"
+              + state.getIndex()
+              + "|"
+              + state.getNextNonSpaceIndex()
+              + "|"
+              + state.getIndent()
+              + "|"
+              + state.isBlank());
+      return BlockStart.none();
+    }
+  }
+
+  @Test
+  public void testParserStateIsReusedWithCurrentPosition() {
+    RecordingFactory factory = new RecordingFactory();
+    MarkdownParser parser = MarkdownParser.builder().blockParserFactory(factory).build();
+    parser.parse("para\n\n  indented\n\n> \tquoted\n");
+
+    assertEquals(1, factory.states.size());
+    assertTrue(factory.calls.contains("para|0|0|0|false"), factory.calls.toString());
+    assertTrue(factory.calls.contains("  indented|0|2|2|false"), factory.calls.toString());
+    assertTrue(factory.calls.contains("|0|0|0|true"), factory.calls.toString());
+    // 引用标记之后的制表符展开为 2 个空格（第 2 列到第 4 列）
+    assertTrue(factory.calls.contains(">   quoted|2|4|2|false"), factory.calls.toString());
+  }
+
+  /**
+   * 只对声明的触发字符调用的工厂.
+   */
+  static class TriggeredFactory extends RecordingFactory {
+    private final Set<Character> triggers;
+
+    TriggeredFactory(Set<Character> triggers) {
+      this.triggers = triggers;
+    }
+
+    @Override
+    public Set<Character> getTriggerCharacters() {
+      return triggers;
+    }
+  }
+
+  @Test
+  public void testFactoriesAreDispatchedByTriggerCharacter() {
+    RecordingFactory any = new RecordingFactory();
+    TriggeredFactory percent = new TriggeredFactory(Set.of('%', '€'));
+    TriggeredFactory other = new TriggeredFactory(Set.of('@'));
+    List<String> order = new ArrayList<>();
+    RecordingFactory last =
+        new RecordingFactory() {
+          @Override
+          public BlockStart tryStart(ParserState state, MatchedBlockParser matched) {
+            order.add(percent.calls.size() + ":" + state.getLine());
+            return super.tryStart(state, matched);
+          }
+        };
+    MarkdownParser parser =
+        MarkdownParser.builder()
+            .blockParserFactory(any)
+            .blockParserFactory(percent)
+            .blockParserFactory(other)
+            .blockParserFactory(last)
+            .build();
+    parser.parse("text\n\n  % one\n\n€ two\n\n文字\n\n> %quoted\n");
+
+    assertEquals(
+        List.of("  % one|0|2|2|false", "€ two|0|0|0|false", "> %quoted|2|2|0|false"),
+        percent.calls);
+    assertTrue(other.calls.isEmpty());
+    assertEquals(any.calls.size(), last.calls.size());
+    // 注册顺序保持不变：percent 在 last 之前被调用
+    assertTrue(order.contains("1:  % one"), order.toString());
+    assertTrue(order.contains("2:€ two"), order.toString());
+    assertTrue(order.contains("2:文字"), order.toString());
+  }
+
+  @Test
+  public void testAdmonitionStillParsesNestedContent() {
+    MarkdownParser parser =
+        MarkdownParser.builder().blockParserFactory(new AdmonitionBlockParserFactory()).build();
+    Document doc =
+        parser.parse("Intro\n\n!!! note \"Title\"\n    Body *text*\n\n    More\n\nAfter\n");
+
+    Node admonition = doc.getFirstChild().getNext();
+    assertTrue(admonition instanceof AdmonitionBlock);
+    assertEquals("note", ((AdmonitionBlock) admonition).getType());
+    assertEquals("Title", ((AdmonitionBlock) admonition).getTitle());
+    assertTrue(admonition.getFirstChild() instanceof Paragraph);
+    assertTrue(admonition.getLastChild() instanceof Paragraph);
+    assertTrue(admonition.getNext() instanceof Paragraph);
+  }
+
+  @Test
+  public void testBlockContinueResultsAreShared() {
+    assertSame(BlockContinue.atIndex(4), BlockContinue.atIndex(4));
+    assertSame(BlockContinue.finished(), BlockContinue.finished());
+    assertEquals(1000, BlockContinue.atIndex(1000).getNewIndex());
+  }
+}
@@ -1,5 +1,6 @@
 package com.icuxika.markdown.stream.render.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -8,10 +9,13 @@ import com.icuxika.markdown.stream.render.core.ast.Text;
 import com.icuxika.markdown.stream.render.core.extension.math.MathParserFactory;
 import com.icuxika.markdown.stream.render.core.parser.InlineParser;
 import com.icuxika.markdown.stream.render.core.parser.MarkdownParserOptions;
+import com.icuxika.markdown.stream.render.core.parser.inline.InlineContentParser;
 import com.icuxika.markdown.stream.render.core.parser.inline.InlineContentParserFactory;
+import com.icuxika.markdown.stream.render.core.parser.inline.ParsedInline;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 public class InlineCustomParserFallbackTest {
@@ -36,6 +40,41 @@ public class InlineCustomParserFallbackTest {
     assertTrue(text.contains("continue."));
   }
 
+  /**
+   * 把触发字符及其后一个字符解析为 {@code <字符>} 文本.
+   */
+  private static InlineContentParserFactory bracketing(Character... triggers) {
+    return new InlineContentParserFactory() {
+      @Override
+      public Set<Character> getTriggerCharacters() {
+        return Set.of(triggers);
+      }
+
+      @Override
+      public InlineContentParser create() {
+        return (input, index, state) ->
+            index + 1 < input.length()
+                ? ParsedInline.of(
+                    new Text("<" + input.substring(index, index + 2) + ">"), index + 2)
+                : ParsedInline.none();
+      }
+    };
+  }
+
+  @Test
+  public void asciiAndNonAsciiTriggersInsidePlainText() {
+    List<InlineContentParserFactory> factories = List.of(bracketing('%', '→'), bracketing('@'));
+    InlineParser parser =
+        new InlineParser(
+            "plain %a text→b and @c in [%d](/u) end%",
+            Collections.emptyMap(), new MarkdownParserOptions(), factories);
+    List<Node> nodes = parser.parse();
+
+    assertEquals("plain <%a> text<→b> and <@c> in ", ((Text) nodes.get(0)).getLiteral());
+    assertEquals("<%d>", flattenText(List.of(nodes.get(1))));
+    assertEquals(" end%", ((Text) nodes.get(2)).getLiteral());
+  }
+
   private static String flattenText(List<Node> nodes) {
     StringBuilder sb = new StringBuilder();
     for (Node n : nodes) {
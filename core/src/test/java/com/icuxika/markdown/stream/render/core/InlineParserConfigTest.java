@@ -0,0 +1,214 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.extension.math.MathNode;
+import com.icuxika.markdown.stream.render.core.parser.InlineParserConfig;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.inline.InlineContentParser;
+import com.icuxika.markdown.stream.render.core.parser.inline.InlineContentParserFactory;
+import com.icuxika.markdown.stream.render.core.parser.inline.ParsedInline;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class InlineParserConfigTest {
+
+  /**
+   * 把 {@code %x} 解析为 {@code <x>} 文本，并统计 create() 的调用次数.
+   */
+  private static final class PercentFactory implements InlineContentParserFactory {
+    final AtomicInteger created = new AtomicInteger();
+    final boolean stateless;
+
+    PercentFactory() {
+      this(true);
+    }
+
+    PercentFactory(boolean stateless) {
+      this.stateless = stateless;
+    }
+
+    @Override
+    public boolean isStateless() {
+      return stateless;
+    }
+
+    @Override
+    public Set<Character> getTriggerCharacters() {
+      return Set.of('%');
+    }
+
+    @Override
+    public InlineContentParser create() {
+      created.incrementAndGet();
+      return (input, index, state) ->
+          index + 1 < input.length()
+              ? ParsedInline.of(new Text("<" + input.charAt(index + 1) + ">"), index + 2)
+              : ParsedInline.none();
+    }
+  }
+
+  private static String document(int paragraphs) {
+    StringBuilder sb = new StringBuilder("| a | b |\n| - | - |\n");
+    for (int i = 0; i < paragraphs; i++) {
+      sb.append("| %c").append(i).append(" | $x_").append(i).append("$ |\n");
+    }
+    sb.append('\n');
+    for (int i = 0; i < paragraphs; i++) {
+      sb.append("Paragraph ").append(i).append(" with %p, *em* and $m$.\n\n");
+    }
+    return sb.toString();
+  }
+
+  private static String dump(Node node) {
+    StringBuilder sb = new StringBuilder();
+    dump(node, sb);
+    return sb.toString();
+  }
+
+  private static void dump(Node node, StringBuilder sb) {
+    sb.append('(').append(node.getClass().getSimpleName());
+    if (node instanceof Text t) {
+      sb.append(' ').append(t.getLiteral());
+    } else if (node instanceof MathNode m) {
+      sb.append(' ').append(m.getContent());
+    }
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      dump(child, sb);
+    }
+    sb.append(')');
+  }
+
+  @Test
+  public void builderCompilesFactoriesOnce() {
+    PercentFactory factory = new PercentFactory();
+    MarkdownParser.Builder builder = MarkdownParser.builder().inlineParserFactory(factory);
+    MarkdownParser parser = builder.build();
+    parser.parse(document(500));
+    parser.parse(document(500));
+    assertEquals(1, factory.created.get());
+
+    // 没有新的工厂注册时，多次 build() 共享同一份配置
+    assertSame(parser.getInlineParserConfig(), builder.build().getInlineParserConfig());
+    assertEquals(1, factory.created.get());
+
+    PercentFactory streamFactory = new PercentFactory();
+    StreamMarkdownParser.Builder streamBuilder =
+        StreamMarkdownParser.builder().inlineParserFactory(streamFactory);
+    for (int i = 0; i < 3; i++) {
+      StreamMarkdownParser streamParser = streamBuilder.build();
+      streamParser.push(document(50));
+      streamParser.close();
+    }
+    assertEquals(1, streamFactory.created.get());
+  }
+
+  /**
+   * 用 {@code #} 统计本次解析中出现的次数，解析器实例带有状态.
+   */
+  private static final class CountingFactory implements InlineContentParserFactory {
+    final AtomicInteger created = new AtomicInteger();
+
+    @Override
+    public Set<Character> getTriggerCharacters() {
+      return Set.of('#');
+    }
+
+    @Override
+    public InlineContentParser create() {
+      created.incrementAndGet();
+      int[] count = new int[1];
+      return (input, index, state) -> ParsedInline.of(new Text("#" + ++count[0]), index + 1);
+    }
+  }
+
+  @Test
+  public void statefulFactoryCreatesParserPerParse() throws Exception {
+    CountingFactory factory = new CountingFactory();
+    MarkdownParser parser = MarkdownParser.builder().inlineParserFactory(factory).build();
+    assertEquals(0, factory.created.get());
+
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      sb.append("a # b # c\n\nno trigger\n\n");
+    }
+    String input = sb.toString();
+    String paragraph = "(Paragraph(Text a #1 b #2 c))(Paragraph(Text no trigger))";
+    String expected = "(Document" + paragraph.repeat(100) + ")";
+    assertEquals(expected, dump(parser.parse(input)));
+    // 只有含触发字符的段落才会创建实例
+    assertEquals(100, factory.created.get());
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        results.add(executor.submit(() -> dump(parser.parse(input))));
+      }
+      for (Future<String> result : results) {
+        assertEquals(expected, result.get(30, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void registeringFactoryRecompiles() {
+    MarkdownParser.Builder builder = MarkdownParser.builder();
+    InlineParserConfig before = builder.build().getInlineParserConfig();
+    PercentFactory factory = new PercentFactory();
+    InlineParserConfig after = builder.inlineParserFactory(factory).build().getInlineParserConfig();
+
+    assertEquals(before.getFactories().size() + 1, after.getFactories().size());
+    assertSame(factory, after.getFactories().get(after.getFactories().size() - 1));
+    assertThrows(UnsupportedOperationException.class, () -> after.getFactories().clear());
+  }
+
+  @Test
+  public void sharedConfigIsThreadSafe() throws Exception {
+    PercentFactory factory = new PercentFactory();
+    MarkdownParser parser = MarkdownParser.builder().inlineParserFactory(factory).build();
+    String input = document(200);
+    String expected = dump(parser.parse(input));
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        results.add(executor.submit(() -> dump(parser.parse(input))));
+      }
+      for (Future<String> result : results) {
+        assertEquals(expected, result.get(30, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // 并行行内解析的工作线程同样共享同一份配置
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      MarkdownParser parallel =
+          MarkdownParser.builder().inlineParserFactory(factory).parallelInlines(pool).build();
+      Document doc = parallel.parse(input);
+      assertEquals(expected, dump(doc));
+    } finally {
+      pool.shutdownNow();
+    }
+    assertEquals(2, factory.created.get());
+  }
+}
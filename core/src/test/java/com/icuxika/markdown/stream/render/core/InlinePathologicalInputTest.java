@@ -0,0 +1,173 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.icuxika.markdown.stream.render.core.ast.Emphasis;
+import com.icuxika.markdown.stream.render.core.ast.HtmlInline;
+import com.icuxika.markdown.stream.render.core.ast.Image;
+import com.icuxika.markdown.stream.render.core.ast.Link;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Strikethrough;
+import com.icuxika.markdown.stream.render.core.ast.StrongEmphasis;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.parser.EntityDecoder;
+import com.icuxika.markdown.stream.render.core.parser.InlineParser;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParserOptions;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 行内解析的病态输入测试. 这些输入在逐位置截取子串再匹配正则时是平方复杂度的。
+ */
+public class InlinePathologicalInputTest {
+
+  private static List<Node> parse(String input, boolean gfm) {
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    options.setGfm(gfm);
+    return new InlineParser(input, options).parse();
+  }
+
+  private static List<Node> parseQuickly(String input, boolean gfm) {
+    return assertTimeoutPreemptively(Duration.ofSeconds(5), () -> parse(input, gfm));
+  }
+
+  private static String flattenText(List<Node> nodes) {
+    StringBuilder sb = new StringBuilder();
+    for (Node n : nodes) {
+      appendText(n, sb);
+    }
+    return sb.toString();
+  }
+
+  private static void appendText(Node node, StringBuilder sb) {
+    if (node instanceof Text t) {
+      sb.append(t.getLiteral());
+    } else if (node instanceof HtmlInline h) {
+      sb.append(h.getLiteral());
+    }
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      appendText(child, sb);
+    }
+  }
+
+  @Test
+  public void testManyEntities() {
+    List<Node> nodes = parseQuickly("&amp;".repeat(100_000), false);
+    assertEquals("&".repeat(100_000), flattenText(nodes));
+  }
+
+  @Test
+  public void testManyUnclosedHtmlOpeners() {
+    for (String opener : new String[] {"<", "<!--", "<?", "<!A", "<a b='", "<a:"}) {
+      String input = (opener + "x ").repeat(50_000) + "end";
+      List<Node> nodes = parseQuickly(input, true);
+      assertEquals(input, flattenText(nodes), opener);
+    }
+  }
+
+  @Test
+  public void testUnderscoresInLongIdentifierWithGfm() {
+    String input = "a_".repeat(50_000) + "b";
+    assertEquals(input, flattenText(parseQuickly(input, true)));
+  }
+
+  @Test
+  public void testManyUnmatchedEmphasisDelimiters() {
+    for (String unit : new String[] {"*a **b ", "*a_ ", "~~a ~b "}) {
+      String input = unit.repeat(50_000) + "end";
+      assertEquals(input, flattenText(parseQuickly(input, true)), unit);
+    }
+  }
+
+  @Test
+  public void testEmphasisAfterUnmatchedDelimiters() {
+    List<Node> nodes = parse("*a_ ".repeat(100) + "**strong** ~~del~~ *em*", true);
+    Node last = nodes.get(nodes.size() - 1);
+    assertTrue(last instanceof Emphasis);
+    assertTrue(nodes.get(nodes.size() - 3) instanceof Strikethrough);
+    assertTrue(nodes.get(nodes.size() - 5) instanceof StrongEmphasis);
+    assertEquals("strong", flattenText(List.of(nodes.get(nodes.size() - 5))));
+  }
+
+  @Test
+  public void testSingleTildeInsideStrikethrough() {
+    List<Node> nodes = parse("~~foo~bar~~ baz", true);
+    assertTrue(nodes.get(0) instanceof Strikethrough);
+    assertEquals("foo~bar", flattenText(List.of(nodes.get(0))));
+    assertEquals(" baz", ((Text) nodes.get(1)).getLiteral());
+
+    nodes = parse("~~a~b~~", true);
+    assertEquals(1, nodes.size());
+    assertTrue(nodes.get(0) instanceof Strikethrough);
+    assertEquals("a~b", flattenText(nodes));
+  }
+
+  @Test
+  public void testNestedAndUnclosedBrackets() {
+    String unclosed = "[a ".repeat(50_000) + "end";
+    assertEquals(unclosed, flattenText(parseQuickly(unclosed, false)));
+
+    String nested = "[".repeat(50_000) + "a" + "]".repeat(50_000);
+    assertEquals(nested, flattenText(parseQuickly(nested, false)));
+
+    String innermostLink = "[".repeat(50_000) + "a](/u)" + "]".repeat(49_999);
+    List<Node> nodes = parseQuickly(innermostLink, false);
+    assertEquals(3, nodes.size());
+    assertTrue(nodes.get(1) instanceof Link);
+
+    String images = "![a ".repeat(50_000) + "end";
+    assertEquals(images, flattenText(parseQuickly(images, false)));
+  }
+
+  @Test
+  public void testLinksMayNotContainLinks() {
+    List<Node> nodes = parse("[a [b](/b) *c*](/a) ![x [y](/y)](/i)", false);
+    assertEquals("[a ", ((Text) nodes.get(0)).getLiteral());
+    assertEquals("/b", ((Link) nodes.get(1)).getDestination());
+    assertEquals(" ", flattenText(List.of(nodes.get(2))).substring(0, 1));
+    Node image = nodes.get(nodes.size() - 1);
+    assertTrue(image instanceof Image);
+    assertTrue(image.getLastChild() instanceof Link);
+  }
+
+  @Test
+  public void testInlineHtmlAndAutolinks() {
+    List<Node> nodes =
+        parse("<a href='x' title=\"y\" data-z=w/> <b\nc> <a b='> <x@example.com>", false);
+    assertTrue(nodes.get(0) instanceof HtmlInline);
+    assertEquals("<a href='x' title=\"y\" data-z=w/>", ((HtmlInline) nodes.get(0)).getLiteral());
+    assertTrue(nodes.get(2) instanceof HtmlInline);
+    assertEquals("<b\nc>", ((HtmlInline) nodes.get(2)).getLiteral());
+    Node last = nodes.get(nodes.size() - 1);
+    assertTrue(last instanceof Link);
+    assertEquals("mailto:x@example.com", ((Link) last).getDestination());
+
+    nodes = parse("<!-- a -- b --> <?php ?> <!DOCTYPE html> <![CDATA[ ] ]]>", false);
+    assertEquals(7, nodes.size());
+    assertEquals("<![CDATA[ ] ]]>", ((HtmlInline) nodes.get(6)).getLiteral());
+  }
+
+  @Test
+  public void testEntityEdgeCases() {
+    assertEquals(
+        "\" \" � &#12345678; &#x1234567; &unknown; & ;",
+        flattenText(parse("&#34; &#X22; &#0; &#12345678; &#x1234567; &unknown; & ;", false)));
+  }
+
+  @Test
+  public void testNamedEntities() {
+    assertEquals(
+        "\u2026 \u2192 \u2014 fj \uD835\uDD04 \u2267\u0338 \u2232 &hellip &Hellip; &amp",
+        flattenText(
+            parse(
+                "&hellip; &rarr; &mdash; &fjlig; &Afr; &ngE; &ClockwiseContourIntegral; "
+                    + "&hellip &Hellip; &amp",
+                false)));
+    assertEquals("\n", EntityDecoder.decode("NewLine"));
+    assertNull(EntityDecoder.decode("hell"));
+  }
+}
@@ -0,0 +1,84 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.icuxika.markdown.stream.render.core.jfr.PushEvent;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+public class JfrEventsTest {
+
+  @Test
+  public void eventsAreDisabledByDefault() {
+    assertFalse(new PushEvent().isEnabled());
+  }
+
+  @Test
+  public void parserEmitsEventsWhenEnabled() throws Exception {
+    Path file = Files.createTempFile("markdown-events", ".jfr");
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().build();
+    try (Recording recording = new Recording()) {
+      for (String name : List.of("Parse", "Push", "BlockFinalize", "InlineParse")) {
+        recording.enable("com.icuxika.markdown." + name);
+      }
+      recording.start();
+      MarkdownParser.builder().build().parse("# Title\n\ntext *em*\n");
+      parser.push("para");
+      parser.push("graph\n\n- item\n");
+      parser.close();
+      recording.stop();
+      recording.dump(file);
+    }
+    try {
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      List<RecordedEvent> parses = named(events, "Parse");
+      assertEquals(1, parses.size());
+      assertEquals(19, parses.get(0).getLong("inputSize"));
+      long parseSession = parses.get(0).getLong("sessionId");
+      assertTrue(parseSession > 0);
+
+      List<RecordedEvent> pushes = named(events, "Push");
+      assertEquals(3, pushes.size());
+      assertEquals(4, pushes.get(0).getLong("inputSize"));
+      assertEquals(0, pushes.get(0).getInt("nodeCount"));
+      for (RecordedEvent push : pushes) {
+        assertEquals(parser.getSessionId(), push.getLong("sessionId"));
+      }
+
+      List<String> finalized =
+          named(events, "BlockFinalize").stream()
+              .map(e -> e.getString("blockType"))
+              .collect(Collectors.toList());
+      assertEquals(List.of("Paragraph", "Paragraph"), finalized);
+
+      List<RecordedEvent> inlines = named(events, "InlineParse");
+      assertEquals(2, inlines.stream().filter(e -> e.getLong("sessionId") == parseSession).count());
+      assertTrue(
+          inlines.stream()
+              .anyMatch(
+                  e ->
+                      e.getLong("sessionId") == parser.getSessionId()
+                          && e.getString("blockType").equals("Paragraph")
+                          && e.getLong("inputSize") == 9));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(e -> e.getEventType().getName().equals("com.icuxika.markdown." + name))
+        .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,129 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code MarkdownParser.parse(Path)} 与 {@code StreamMarkdownParser.pushFile(Path)} 的测试.
+ */
+public class MappedFileParsingTest {
+
+  private static final String SAMPLE =
+      "# 标题 😀\r\n\r\nFirst *line*\rsecond\tline\n\n"
+          + "- item [link][ref]\n- 列表\r\n\n```\ncode\r\n```\n\n[ref]: /url\n| a | b |\n";
+
+  @TempDir Path dir;
+
+  private static void dump(Node node, String indent, StringBuilder out) {
+    out.append(indent).append(node.getClass().getSimpleName());
+    out.append(' ').append(node.getStartLine()).append('-').append(node.getEndLine());
+    if (node instanceof Text text) {
+      out.append(' ').append(text.getLiteral());
+    }
+    out.append('\n');
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      dump(child, indent + "  ", out);
+    }
+  }
+
+  private static String dump(Node node) {
+    StringBuilder out = new StringBuilder();
+    dump(node, "", out);
+    return out.toString();
+  }
+
+  private Path write(String name, byte[] bytes) throws IOException {
+    Path path = dir.resolve(name);
+    Files.write(path, bytes);
+    return path;
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return write(name, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void assertSameAsString(Path path, String content) throws IOException {
+    MarkdownParser parser = new MarkdownParser();
+    assertEquals(dump(parser.parse(content)), dump(parser.parse(path)));
+  }
+
+  @Test
+  public void testParsePathMatchesParseString() throws IOException {
+    assertSameAsString(write("sample.md", SAMPLE), SAMPLE);
+    assertSameAsString(write("no-newline.md", "a\n\nb"), "a\n\nb");
+    assertSameAsString(write("trailing-cr.md", "a\r"), "a\r");
+    assertSameAsString(write("empty.md", ""), "");
+  }
+
+  @Test
+  public void testBomIsSkipped() throws IOException {
+    byte[] content = "# Title\n".getBytes(StandardCharsets.UTF_8);
+    byte[] withBom = new byte[content.length + 3];
+    withBom[0] = (byte) 0xEF;
+    withBom[1] = (byte) 0xBB;
+    withBom[2] = (byte) 0xBF;
+    System.arraycopy(content, 0, withBom, 3, content.length);
+    assertSameAsString(write("bom.md", withBom), "# Title\n");
+  }
+
+  @Test
+  public void testLinesSpanningDecodeWindows() throws IOException {
+    // CRLF 恰好跨越 64K 字符的解码窗口，长行与多字节字符跨越多个窗口
+    StringBuilder content = new StringBuilder();
+    content.append("x".repeat(65535)).append("\r\nnext line\n\n");
+    content.append("中文内容 😀 ".repeat(30000)).append("\n\n");
+    for (int i = 0; i < 5000; i++) {
+      content.append("Paragraph ").append(i).append(" with `code`\r\n\r\n");
+    }
+    assertSameAsString(write("large.md", content.toString()), content.toString());
+  }
+
+  @Test
+  public void testPushFileMatchesPush() throws IOException {
+    StringBuilder content = new StringBuilder(SAMPLE);
+    content.append("多字节 😀 字符\n\n".repeat(20000));
+    Path path = write("stream.md", content.toString());
+
+    RecordingRenderer expected = new RecordingRenderer();
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().renderer(expected).build();
+    parser.push(content.toString());
+    parser.close();
+
+    RecordingRenderer actual = new RecordingRenderer();
+    parser = StreamMarkdownParser.builder().renderer(actual).build();
+    parser.pushFile(path);
+    parser.close();
+
+    assertEquals(expected.out.toString(), actual.out.toString());
+  }
+
+  private static class RecordingRenderer implements StreamMarkdownRenderer {
+    final StringBuilder out = new StringBuilder();
+
+    @Override
+    public void renderNode(Node node) {
+      dump(node, "", out);
+    }
+
+    @Override
+    public void openBlock(Node node) {
+      out.append("open ").append(node.getClass().getSimpleName()).append('\n');
+    }
+
+    @Override
+    public void closeBlock(Node node) {
+      out.append("close ").append(node.getClass().getSimpleName()).append('\n');
+    }
+  }
+}
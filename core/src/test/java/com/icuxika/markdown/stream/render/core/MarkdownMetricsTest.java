@@ -0,0 +1,116 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.icuxika.markdown.stream.render.core.ast.Heading;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.ast.TableCell;
+import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionBlockParserFactory;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.PreviewPolicy;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownTypingRenderer;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class MarkdownMetricsTest {
+
+  private static final String MARKDOWN =
+      "!!! note\n    inside\n\n# Title\n\n| a | b |\n| - | - |\n| 1 | 2 |\n\ntext *em*\n";
+
+  @Test
+  public void parserReportsLinesBlockStartsAndInlines() {
+    HistogramMarkdownMetrics metrics = new HistogramMarkdownMetrics();
+    MarkdownParser.builder().metrics(metrics).build().parse(MARKDOWN);
+
+    assertEquals(10, metrics.getLines());
+    assertEquals(MARKDOWN.length() - 10, metrics.getLineChars());
+    assertTrue(
+        metrics.getBlockStartAttempts().get(AdmonitionBlockParserFactory.class).getCount() > 0);
+    assertEquals(1, metrics.getBlockStarts(AdmonitionBlockParserFactory.class));
+    assertEquals(2, metrics.getInlineParses().get(Paragraph.class).getCount());
+    assertEquals(1, metrics.getInlineParses().get(Heading.class).getCount());
+    assertEquals(4, metrics.getInlineParses().get(TableCell.class).getCount());
+  }
+
+  @Test
+  public void streamParserReportsPreviewsAndBlockRenders() {
+    HistogramMarkdownMetrics metrics = new HistogramMarkdownMetrics();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder()
+            .renderer(new NoopTypingRenderer())
+            .metrics(metrics)
+            .previewPolicy(() -> PreviewPolicy.fixedInterval(Duration.ofDays(1)))
+            .build();
+    for (int i = 0; i < MARKDOWN.length(); i++) {
+      parser.push(MARKDOWN.substring(i, i + 1));
+    }
+    parser.close();
+
+    assertEquals(10, metrics.getLines());
+    // 除第一次外，只有显示中的预览被新行清除后才会绕过节流重新构建
+    long builds = metrics.getPreviewBuilds().getCount();
+    assertEquals(MARKDOWN.length(), builds + metrics.getPreviewsSkipped());
+    assertTrue(builds > 1 && builds <= metrics.getLines() + 1, "preview builds " + builds);
+    assertEquals(2, metrics.getBlockRenders().get(Paragraph.class).getCount());
+    assertEquals(1, metrics.getBlockRenders().get(Heading.class).getCount());
+    assertTrue(metrics.getInlineParses().get(TableCell.class).getCount() >= 4);
+  }
+
+  @Test
+  public void batchedBlocksAreReportedAfterDelivery() {
+    HistogramMarkdownMetrics metrics = new HistogramMarkdownMetrics();
+    long[] delivered = new long[1];
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder()
+            .batchRenderer(batch -> delivered[0] += batch.size())
+            .metrics(metrics)
+            .build();
+    parser.push("a\n\nb\n\n");
+    assertEquals(2, metrics.getBlockRenders().get(Paragraph.class).getCount());
+    assertTrue(delivered[0] > 0);
+  }
+
+  @Test
+  public void histogramReportsBucketUpperBounds() {
+    HistogramMarkdownMetrics.Histogram histogram = new HistogramMarkdownMetrics.Histogram();
+    assertEquals(0, histogram.getValueAtPercentile(99));
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i);
+    }
+    histogram.record(5000);
+    assertEquals(101, histogram.getCount());
+    assertEquals(5050 + 5000, histogram.getSum());
+    assertEquals(5000, histogram.getMax());
+    // 50 落在 [32, 64) 桶
+    assertEquals(63, histogram.getValueAtPercentile(50));
+    assertEquals(127, histogram.getValueAtPercentile(99));
+    assertEquals(5000, histogram.getValueAtPercentile(100));
+  }
+
+  @Test
+  public void noopIsShared() {
+    assertSame(MarkdownMetrics.noop(), MarkdownMetrics.noop());
+    MarkdownMetrics.noop().nodeRendered(new Paragraph(), 1);
+  }
+
+  private static class NoopTypingRenderer implements StreamMarkdownTypingRenderer {
+    @Override
+    public void renderPreviewNode(Node node) {}
+
+    @Override
+    public void clearPreview() {}
+
+    @Override
+    public void renderNode(Node node) {}
+
+    @Override
+    public void openBlock(Node node) {}
+
+    @Override
+    public void closeBlock(Node node) {}
+  }
+}
@@ -0,0 +1,222 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.SoftBreak;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.parser.PreviewPolicy;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownTypingRenderer;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class PreviewPolicyTest {
+
+  private static final long MS = 1_000_000L;
+
+  @Test
+  public void fixedIntervalRendersAtMostOncePerInterval() {
+    PreviewPolicy policy = PreviewPolicy.fixedInterval(Duration.ofMillis(16));
+    int rendered = 0;
+    // 每毫秒一次输入，持续 160ms
+    for (long t = 0; t < 160; t++) {
+      if (policy.shouldRender(t * MS, 10)) {
+        policy.onRendered(t * MS, 1000, policy.shouldParseInlines(t * MS, 10));
+        rendered++;
+      }
+    }
+    assertEquals(10, rendered);
+    PreviewPolicy.Stats stats = policy.getStats();
+    assertEquals(10, stats.rendered());
+    assertEquals(150, stats.skipped());
+    assertEquals(10, stats.inlinesParsed());
+    assertEquals(10_000, stats.previewNanos());
+
+    policy.reset();
+    assertEquals(new PreviewPolicy.Stats(0, 0, 0, 0, 0), policy.getStats());
+  }
+
+  @Test
+  public void defaultsRenderEveryInputButThrottleInlineParsing() {
+    PreviewPolicy policy = PreviewPolicy.defaults();
+    for (long t = 0; t < 100; t++) {
+      assertTrue(policy.shouldRender(t * MS, 10));
+      policy.onRendered(t * MS, 0, policy.shouldParseInlines(t * MS, 10));
+    }
+    assertEquals(2, policy.getStats().inlinesParsed());
+    assertEquals(98, policy.getStats().inlinesSkipped());
+    // 超过字符数上限时不解析
+    assertFalse(policy.shouldParseInlines(1000 * MS, 10_000));
+  }
+
+  @Test
+  public void inputRateCoalescesFastInputAndRendersSlowInput() {
+    PreviewPolicy policy = PreviewPolicy.inputRate(4, Duration.ofMillis(100));
+    int rendered = 0;
+    for (long t = 0; t < 400; t += 2) {
+      policy.onInput(t * MS, 1);
+      if (policy.shouldRender(t * MS, 10)) {
+        policy.onRendered(t * MS, 0, false);
+        rendered++;
+      }
+    }
+    // 每 2ms 一次输入，约每 4 次输入渲染一次
+    assertTrue(rendered >= 45 && rendered <= 60, "rendered " + rendered);
+
+    policy.reset();
+    rendered = 0;
+    for (long t = 0; t < 4000; t += 200) {
+      policy.onInput(t * MS, 1);
+      if (policy.shouldRender(t * MS, 10)) {
+        policy.onRendered(t * MS, 0, false);
+        rendered++;
+      }
+    }
+    assertEquals(20, rendered);
+  }
+
+  @Test
+  public void cpuBudgetStretchesIntervalWithMeasuredCost() {
+    PreviewPolicy policy = PreviewPolicy.cpuBudget(0.1);
+    int rendered = 0;
+    for (long t = 0; t < 1000; t++) {
+      if (policy.shouldRender(t * MS, 10)) {
+        // 每次预览耗时 2ms，10% 预算对应约 20ms 一次
+        policy.onRendered(t * MS, 2 * MS, false);
+        rendered++;
+      }
+    }
+    assertTrue(rendered >= 45 && rendered <= 55, "rendered " + rendered);
+    assertThrows(IllegalArgumentException.class, () -> PreviewPolicy.cpuBudget(0));
+  }
+
+  @Test
+  public void disabledPolicyNeverCallsPreviewRenderer() {
+    CountingTypingRenderer renderer = new CountingTypingRenderer();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder()
+            .renderer(renderer)
+            .previewPolicy(PreviewPolicy::disabled)
+            .build();
+    for (String chunk : "Hello **world**\n\nsecond paragraph".split("(?<=\\G.{3})")) {
+      parser.push(chunk);
+    }
+    parser.close();
+
+    assertEquals(0, renderer.previews);
+    assertEquals(2, renderer.rendered);
+    assertEquals(0, parser.getPreviewPolicy().getStats().rendered());
+    assertTrue(parser.getPreviewPolicy().getStats().skipped() > 0);
+  }
+
+  @Test
+  public void eachParserGetsItsOwnPolicy() {
+    StreamMarkdownParser.Builder builder =
+        StreamMarkdownParser.builder()
+            .renderer(new CountingTypingRenderer())
+            .previewPolicy(() -> PreviewPolicy.fixedInterval(Duration.ofMillis(16)));
+    StreamMarkdownParser first = builder.build();
+    StreamMarkdownParser second = builder.build();
+    assertFalse(first.getPreviewPolicy() == second.getPreviewPolicy());
+
+    first.push("typing");
+    assertEquals(1, first.getPreviewPolicy().getStats().rendered());
+    assertEquals(0, second.getPreviewPolicy().getStats().rendered());
+  }
+
+  @Test
+  public void skippedFrameAfterStructuralChangeKeepsPreviewVisible() {
+    PreviewStateRenderer renderer = new PreviewStateRenderer();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder()
+            .renderer(renderer)
+            .previewPolicy(() -> PreviewPolicy.fixedInterval(Duration.ofHours(1)))
+            .build();
+
+    parser.push("Hello");
+    assertEquals("Hello", renderer.preview);
+    // 间隔未到：保持上一次的预览
+    parser.push(" world");
+    assertEquals("Hello", renderer.preview);
+    assertEquals(1, parser.getPreviewPolicy().getStats().skipped());
+
+    // 新行与新块会清除预览，下一次预览不经过节流直接补上
+    parser.push("\nsecond");
+    assertEquals("Hello world\nsecond", renderer.preview);
+    parser.push(" line\n\n# Head");
+    assertEquals(1, renderer.rendered);
+    assertEquals("# Head", renderer.preview);
+    parser.push("ing");
+    assertEquals("# Head", renderer.preview);
+
+    parser.close();
+    assertNull(renderer.preview);
+    assertEquals(2, renderer.rendered);
+  }
+
+  /**
+   * 记录渲染器当前显示的预览文本，清除后为 {@code null}.
+   */
+  private static final class PreviewStateRenderer implements StreamMarkdownTypingRenderer {
+    private String preview;
+    private int rendered;
+
+    @Override
+    public void renderPreviewNode(Node node) {
+      StringBuilder sb = new StringBuilder();
+      for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+        if (child instanceof Text text) {
+          sb.append(text.getLiteral());
+        } else if (child instanceof SoftBreak) {
+          sb.append('\n');
+        }
+      }
+      preview = sb.toString();
+    }
+
+    @Override
+    public void clearPreview() {
+      preview = null;
+    }
+
+    @Override
+    public void renderNode(Node node) {
+      rendered++;
+    }
+
+    @Override
+    public void openBlock(Node node) {}
+
+    @Override
+    public void closeBlock(Node node) {}
+  }
+
+  private static final class CountingTypingRenderer implements StreamMarkdownTypingRenderer {
+    private int previews;
+    private int rendered;
+
+    @Override
+    public void renderPreviewNode(Node node) {
+      previews++;
+    }
+
+    @Override
+    public void clearPreview() {}
+
+    @Override
+    public void renderNode(Node node) {
+      rendered++;
+    }
+
+    @Override
+    public void openBlock(Node node) {}
+
+    @Override
+    public void closeBlock(Node node) {}
+  }
+}
@@ -0,0 +1,187 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParserCheckpoint;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownBatchRenderer;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownDeltaTypingRenderer;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownEventBatch;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownEventBatch.Type;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class StreamMarkdownBatchRendererTest {
+
+  @Test
+  public void eachPushIsDeliveredAsOneBatch() {
+    RecordingBatchRenderer renderer = new RecordingBatchRenderer();
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().batchRenderer(renderer).build();
+
+    parser.push("# Title\n\n- a\n- b\n\nText");
+    assertEquals(1, renderer.batches.size());
+    assertTrue(renderer.batches.get(0).contains("RENDER_PREVIEW Paragraph"));
+
+    parser.push(" more");
+    assertEquals(2, renderer.batches.size());
+
+    parser.close();
+    assertEquals(3, renderer.batches.size());
+    List<String> last = renderer.batches.get(2);
+    assertEquals("CLEAR_PREVIEW", last.get(0));
+    assertTrue(last.contains("RENDER_NODE Paragraph"));
+    assertEquals("CLOSE_BLOCK Document", last.get(last.size() - 1));
+  }
+
+  @Test
+  public void batchRendererIsDetectedFromRenderer() {
+    RecordingBatchRenderer renderer = new RecordingBatchRenderer();
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().renderer(renderer).build();
+    parser.push("a\n\nb\n\n");
+    parser.close();
+    assertEquals(2, renderer.batches.size());
+    assertTrue(renderer.perEvent.isEmpty());
+
+    parser.reset(renderer);
+    parser.push("c\n\n");
+    assertEquals(3, renderer.batches.size());
+  }
+
+  @Test
+  public void restoreKeepsBatchRenderer() {
+    RecordingBatchRenderer renderer = new RecordingBatchRenderer();
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().batchRenderer(renderer).build();
+    parser.push("a\n\n");
+    StreamMarkdownParserCheckpoint checkpoint = parser.checkpoint();
+    parser.push("lost\n\n");
+    int before = renderer.batches.size();
+
+    parser.restore(checkpoint);
+    parser.push("b\n\nc");
+    assertEquals(before + 1, renderer.batches.size());
+    assertTrue(renderer.batches.get(before).contains("RENDER_NODE Paragraph"));
+    parser.close();
+    List<String> last = renderer.batches.get(renderer.batches.size() - 1);
+    assertTrue(last.contains("RENDER_NODE Paragraph"));
+    assertEquals("CLOSE_BLOCK Document", last.get(last.size() - 1));
+    assertTrue(renderer.perEvent.isEmpty());
+
+    // reset(null) 恢复使用 Builder 中配置的批次渲染器
+    parser.reset(null);
+    parser.push("d\n\n");
+    assertEquals(before + 3, renderer.batches.size());
+  }
+
+  @Test
+  public void adaptedRendererReceivesSameEventsAsDirectRenderer() {
+    String markdown = "> quote\n> - item\n\n```\ncode\n```\n\n| a | b |\n| - | - |\n| 1 | 2 |\n";
+    RecordingRenderer direct = new RecordingRenderer();
+    RecordingRenderer adapted = new RecordingRenderer();
+    StreamMarkdownParser directParser = StreamMarkdownParser.builder().renderer(direct).build();
+    StreamMarkdownParser batchParser =
+        StreamMarkdownParser.builder()
+            .batchRenderer(StreamMarkdownBatchRenderer.adapt(adapted))
+            .build();
+    for (int i = 0; i < markdown.length(); i += 3) {
+      String chunk = markdown.substring(i, Math.min(markdown.length(), i + 3));
+      directParser.push(chunk);
+      batchParser.push(chunk);
+    }
+    directParser.close();
+    batchParser.close();
+    assertEquals(direct.events, adapted.events);
+  }
+
+  @Test
+  public void redundantPreviewEventsAreCollapsed() {
+    StreamMarkdownEventBatch batch = new StreamMarkdownEventBatch();
+    StreamMarkdownDeltaTypingRenderer recorder =
+        (StreamMarkdownDeltaTypingRenderer)
+            batch.recorder(StreamMarkdownBatchRenderer.PreviewMode.DELTA);
+    Paragraph first = new Paragraph();
+    Paragraph second = new Paragraph();
+
+    // 预览不可见时的清除被丢弃
+    recorder.clearPreview();
+    assertTrue(batch.isEmpty());
+
+    // 连续的预览事件只保留最后一次完整预览之后的部分
+    recorder.renderPreviewNode(first);
+    recorder.appendPreviewText("a");
+    recorder.replacePreviewTail(1, new StringBuilder("b"));
+    assertEquals(3, batch.size());
+    recorder.renderPreviewNode(second);
+    recorder.appendPreviewText("c");
+    assertEquals(2, batch.size());
+    assertSame(second, batch.node(0));
+    assertEquals("c", batch.text(1));
+
+    // 同一批次中出现又清除的预览不产生事件
+    recorder.clearPreview();
+    assertTrue(batch.isEmpty());
+
+    // 结构事件打断连续的预览事件
+    recorder.renderPreviewNode(first);
+    recorder.renderNode(second);
+    recorder.clearPreview();
+    assertEquals(3, batch.size());
+    assertEquals(Type.CLEAR_PREVIEW, batch.type(2));
+
+    // 已交付的预览在下一批次中仍需清除
+    batch.clear();
+    recorder.renderPreviewNode(first);
+    batch.clear();
+    recorder.clearPreview();
+    assertEquals(1, batch.size());
+    assertEquals(Type.CLEAR_PREVIEW, batch.type(0));
+  }
+
+  private static String describe(String type, Node node) {
+    return node == null ? type : type + " " + node.getClass().getSimpleName();
+  }
+
+  private static class RecordingRenderer implements StreamMarkdownRenderer {
+    final List<String> events = new ArrayList<>();
+
+    @Override
+    public void renderNode(Node node) {
+      events.add(describe("RENDER_NODE", node));
+    }
+
+    @Override
+    public void openBlock(Node node) {
+      events.add(describe("OPEN_BLOCK", node));
+    }
+
+    @Override
+    public void closeBlock(Node node) {
+      events.add(describe("CLOSE_BLOCK", node));
+    }
+  }
+
+  private static class RecordingBatchRenderer extends RecordingRenderer
+      implements StreamMarkdownBatchRenderer {
+    final List<List<String>> batches = new ArrayList<>();
+    final List<String> perEvent = events;
+
+    @Override
+    public void renderBatch(StreamMarkdownEventBatch batch) {
+      List<String> events = new ArrayList<>();
+      for (int i = 0; i < batch.size(); i++) {
+        events.add(describe(batch.type(i).name(), batch.node(i)));
+      }
+      batches.add(events);
+    }
+
+    @Override
+    public PreviewMode previewMode() {
+      return PreviewMode.FULL;
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.icuxika.markdown.stream.render.core.ast.Link;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParserCheckpoint;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class StreamMarkdownParserCheckpointTest {
+
+  private static final String MARKDOWN =
+      "[home]: https://example.com \"Home\"\r\n"
+          + "\r\n"
+          + "# 标题 Heading\n"
+          + "\n"
+          + "A paragraph with [a link][home] and **strong** 文字\n"
+          + "spanning two lines.\n"
+          + "\n"
+          + "- item one\n"
+          + "  - nested *item*\n"
+          + "  - [x] task\n"
+          + "- item two\n"
+          + "\n"
+          + "  continued with [home]\n"
+          + "\n"
+          + "3. third\n"
+          + "4. fourth\n"
+          + "\n"
+          + "> quote line\n"
+          + "> > nested quote\n"
+          + "lazy continuation\n"
+          + "\n"
+          + "```java\n"
+          + "int a = 1;\n"
+          + "\n"
+          + "String s = \"😀\";\n"
+          + "```\n"
+          + "\n"
+          + "    indented code\n"
+          + "    more code\n"
+          + "\n"
+          + "<div>\n"
+          + "html *block*\n"
+          + "</div>\n"
+          + "\n"
+          + "| a | b |\n"
+          + "| :-- | --: |\n"
+          + "| 1 | 2 |\n"
+          + "| 3 | [home] |\n"
+          + "\n"
+          + "!!! note \"提示\"\n"
+          + "    admonition body\n"
+          + "    - list in admonition\n"
+          + "\n"
+          + "Final paragraph [home].\n";
+
+  @Test
+  public void restoreAtEveryOffsetMatchesUninterruptedRun() throws Exception {
+    byte[] bytes = MARKDOWN.getBytes(StandardCharsets.UTF_8);
+    for (int split = 0; split <= bytes.length; split++) {
+      List<String> expected = new ArrayList<>();
+      StreamMarkdownParser reference = parser(new Recorder(expected));
+      reference.push(ByteBuffer.wrap(bytes, 0, split));
+      reference.push(ByteBuffer.wrap(bytes, split, bytes.length - split));
+      reference.close();
+
+      List<String> actual = new ArrayList<>();
+      StreamMarkdownParser first = parser(new Recorder(actual));
+      first.push(ByteBuffer.wrap(bytes, 0, split));
+      StreamMarkdownParserCheckpoint checkpoint = first.checkpoint();
+      checkpoint =
+          split % 2 == 0
+              ? StreamMarkdownParserCheckpoint.fromByteArray(checkpoint.toByteArray())
+              : javaRoundTrip(checkpoint);
+
+      StreamMarkdownParser second = parser(new Recorder(actual));
+      second.restore(checkpoint);
+      second.push(ByteBuffer.wrap(bytes, split, bytes.length - split));
+      second.close();
+
+      assertEquals(expected, actual, "split at byte " + split);
+    }
+  }
+
+  @Test
+  public void restoredParserResolvesEarlierLinkReferences() {
+    List<String> events = new ArrayList<>();
+    StreamMarkdownParser first = parser(new Recorder(events));
+    first.push("[ref]: /target\n\n- item\n  text ");
+    byte[] data = first.checkpoint().toByteArray();
+
+    List<String> restoredEvents = new ArrayList<>();
+    StreamMarkdownParser second = parser(new Recorder(restoredEvents));
+    second.restore(StreamMarkdownParserCheckpoint.fromByteArray(data));
+    second.push("with [ref]\n");
+    second.close();
+
+    // 打开的块不会被重复通知，之前的链接引用定义仍然可以解析
+    assertEquals(
+        List.of(
+            "render Paragraph[Text[item]|SoftBreak[]|Text[text with ]|Link(/target)[Text[ref]]]",
+            "close ListItem",
+            "close BulletList",
+            "close Document"),
+        restoredEvents);
+  }
+
+  @Test
+  public void javaSerializationMidTableAndMidList() throws Exception {
+    String[][] cases = {
+      {"- one\n  - nested\n  - [x] task\n", "  - more\n- two\n\nafter\n"},
+      {"| a | b |\n| :-- | --: |\n| 1 | 2 |\n", "| 3 | 4 |\n\nafter\n"},
+      {"> - quoted item\n>   | a | b |\n>   | - | - |\n>   | 1 | 2 |\n", ">   | 3 | 4 |\n"}
+    };
+    for (String[] parts : cases) {
+      List<String> expected = new ArrayList<>();
+      StreamMarkdownParser reference = parser(new Recorder(expected));
+      reference.push(parts[0] + parts[1]);
+      reference.close();
+
+      List<String> actual = new ArrayList<>();
+      StreamMarkdownParser first = parser(new Recorder(actual));
+      first.push(parts[0]);
+      StreamMarkdownParserCheckpoint checkpoint = javaRoundTrip(first.checkpoint());
+
+      StreamMarkdownParser second = parser(new Recorder(actual));
+      second.restore(checkpoint);
+      second.push(parts[1]);
+      second.close();
+
+      assertEquals(expected, actual, parts[0]);
+    }
+  }
+
+  private static StreamMarkdownParser parser(StreamMarkdownRenderer renderer) {
+    return StreamMarkdownParser.builder().renderer(renderer).build();
+  }
+
+  private static StreamMarkdownParserCheckpoint javaRoundTrip(
+      StreamMarkdownParserCheckpoint checkpoint) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(checkpoint);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (StreamMarkdownParserCheckpoint) in.readObject();
+    }
+  }
+
+  private static String dump(Node node) {
+    StringBuilder sb = new StringBuilder(node.getClass().getSimpleName());
+    if (node instanceof Text text) {
+      sb.append('[').append(text.getLiteral()).append(']');
+      return sb.toString();
+    }
+    if (node instanceof Link link) {
+      sb.append('(').append(link.getDestination()).append(')');
+    }
+    sb.append('[');
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      if (child != node.getFirstChild()) {
+        sb.append('|');
+      }
+      sb.append(dump(child));
+    }
+    return sb.append(']').toString();
+  }
+
+  private static final class Recorder implements StreamMarkdownRenderer {
+    private final List<String> events;
+
+    private Recorder(List<String> events) {
+      this.events = events;
+    }
+
+    @Override
+    public void renderNode(Node node) {
+      events.add("render " + dump(node));
+    }
+
+    @Override
+    public void openBlock(Node node) {
+      events.add("open " + node.getClass().getSimpleName());
+    }
+
+    @Override
+    public void closeBlock(Node node) {
+      events.add("close " + node.getClass().getSimpleName());
+    }
+  }
+}
@@ -5,9 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.ast.Text;
 import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionBlock;
 import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
 import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownTypingRenderer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -67,6 +72,75 @@ public class StreamMarkdownParserEventTest {
     assertTrue(firstClear < firstRender);
   }
 
+  @Test
+  public void crlfSplitAcrossChunksMustNotProduceBlankLine() {
+    RecordingTypingRenderer renderer = new RecordingTypingRenderer();
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().renderer(renderer).build();
+
+    parser.push("first line\r");
+    parser.push("\nsecond line\r");
+    parser.push("\n");
+    parser.close();
+
+    long paragraphs =
+        renderer.events.stream()
+            .filter(e -> e.kind == EventKind.RENDER && e.nodeType == Paragraph.class)
+            .count();
+    assertEquals(1, paragraphs);
+  }
+
+  @Test
+  public void utf8ByteBufferSplitInsideMultiByteSequencesMustDecodeCorrectly() {
+    List<String> paragraphs = new ArrayList<>();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder().renderer(new ParagraphTextRenderer(paragraphs)).build();
+
+    String markdown = "héllo 世界 😀\n\nnext 段落";
+    byte[] bytes = markdown.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer chunk = ByteBuffer.allocate(1);
+    for (byte b : bytes) {
+      chunk.clear();
+      chunk.put(b).flip();
+      parser.push(chunk);
+      assertEquals(0, chunk.remaining());
+    }
+    parser.close();
+
+    assertEquals(List.of("héllo 世界 😀", "next 段落"), paragraphs);
+  }
+
+  @Test
+  public void truncatedUtf8AtCloseMustBecomeReplacementCharacter() {
+    List<String> paragraphs = new ArrayList<>();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder().renderer(new ParagraphTextRenderer(paragraphs)).build();
+
+    byte[] bytes = "ab世".getBytes(StandardCharsets.UTF_8);
+    parser.push(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+    parser.close();
+
+    assertEquals(List.of("ab\uFFFD"), paragraphs);
+  }
+
+  @Test
+  public void charSequenceAndCharArrayPushMustMatchStringPush() {
+    List<String> paragraphs = new ArrayList<>();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder().renderer(new ParagraphTextRenderer(paragraphs)).build();
+
+    StringBuilder reused = new StringBuilder();
+    reused.append("Hello ");
+    parser.push(reused);
+    reused.setLength(0);
+    reused.append("world\n\n");
+    parser.push(reused);
+    char[] chars = "xxSecond paragraphyy".toCharArray();
+    parser.push(chars, 2, chars.length - 4);
+    parser.close();
+
+    assertEquals(List.of("Hello world", "Second paragraph"), paragraphs);
+  }
+
   private static int indexOf(List<Event> events, EventKind kind) {
     for (int i = 0; i < events.size(); i++) {
       if (events.get(i).kind == kind) {
@@ -94,6 +168,33 @@ public class StreamMarkdownParserEventTest {
     }
   }
 
+  private static final class ParagraphTextRenderer implements StreamMarkdownRenderer {
+    private final List<String> paragraphs;
+
+    private ParagraphTextRenderer(List<String> paragraphs) {
+      this.paragraphs = paragraphs;
+    }
+
+    @Override
+    public void renderNode(Node node) {
+      if (node instanceof Paragraph) {
+        StringBuilder sb = new StringBuilder();
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+          if (child instanceof Text text) {
+            sb.append(text.getLiteral());
+          }
+        }
+        paragraphs.add(sb.toString());
+      }
+    }
+
+    @Override
+    public void openBlock(Node node) {}
+
+    @Override
+    public void closeBlock(Node node) {}
+  }
+
   private static final class RecordingTypingRenderer implements StreamMarkdownTypingRenderer {
     private final List<Event> events = new ArrayList<>();
 
@@ -0,0 +1,163 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.ast.Link;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class StreamMarkdownParserRetentionTest {
+
+  private static volatile Object sink;
+
+  private static final String[] BLOCKS = {
+    "[ref%d]: https://example.com/%d \"Title\"\n\n",
+    "A paragraph with a [link][ref%d] and **strong** text, iteration %d.\n\n",
+    "```java\nint value = %d;\nString s = \"%d\";\n```\n",
+    "- item %d\n- item with *emphasis* %d\n\n",
+    "> quoted %d\n> more %d\n\n",
+    "!!! note \"Admonition %d\"\n    body %d\n\n",
+    "| a | b |\n| --- | --- |\n| %d | %d |\n\n",
+    "## Heading %d %d\n",
+  };
+
+  @Test
+  public void releasedBlocksAreNotReachableFromDocument() {
+    CountingRenderer renderer = new CountingRenderer();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder().renderer(renderer).retainFinalizedBlocks(false).build();
+
+    for (int i = 0; i < 200; i++) {
+      parser.push(block(i));
+    }
+    Document doc = renderer.document;
+    assertTrue(countChildren(doc) <= 1, "only the open block may stay attached");
+    parser.close();
+
+    assertEquals(0, countChildren(doc));
+    assertTrue(renderer.rendered > 200);
+    // 摘除定义所在的段落后，链接引用仍然可以解析
+    assertTrue(renderer.linksResolved > 0);
+  }
+
+  @Test
+  public void finalizedBlocksAreRetainedByDefault() {
+    CountingRenderer renderer = new CountingRenderer();
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().renderer(renderer).build();
+    for (int i = 0; i < 40; i++) {
+      parser.push(block(i));
+    }
+    parser.close();
+    assertTrue(countChildren(renderer.document) >= 30);
+  }
+
+  @Test
+  public void soakKeepsDocumentBoundedAndReleasesBlocks() {
+    CountingRenderer renderer = new CountingRenderer();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder().renderer(renderer).retainFinalizedBlocks(false).build();
+
+    int iterations = 120_000;
+    List<WeakReference<Node>> released = new ArrayList<>();
+    for (int i = 0; i < iterations; i++) {
+      String block = block(i);
+      // 以小片段推送，模拟逐 token 输入
+      for (int start = 0; start < block.length(); start += 7) {
+        parser.push(block.substring(start, Math.min(block.length(), start + 7)));
+      }
+      assertTrue(countChildren(renderer.document) <= 1, "document grew at block " + i);
+      if (i % 10_000 == 1_000) {
+        released.add(new WeakReference<>(renderer.lastRendered));
+      }
+    }
+
+    // 已完成的块与文档之间不再有任何链接，因此只能被渲染器自身引用
+    renderer.lastRendered = null;
+    for (WeakReference<Node> reference : released) {
+      Node node = reference.get();
+      if (node != null) {
+        assertNotSame(renderer.document, root(node), "a finalized block is still attached");
+      }
+    }
+    for (WeakReference<Node> reference : released) {
+      assertCollected(reference);
+    }
+
+    parser.close();
+    assertEquals(0, countChildren(renderer.document));
+  }
+
+  private static String block(int i) {
+    String template = BLOCKS[i % BLOCKS.length];
+    return String.format(template, (i / BLOCKS.length) % 16, i);
+  }
+
+  private static int countChildren(Node node) {
+    int count = 0;
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      count++;
+    }
+    return count;
+  }
+
+  private static Node root(Node node) {
+    while (node.getParent() != null) {
+      node = node.getParent();
+    }
+    return node;
+  }
+
+  /**
+   * 反复请求 GC，直到弱引用被清除. 对象仍然可达时弱引用永远不会被清除，因此超时即说明存在泄漏。
+   */
+  private static void assertCollected(WeakReference<?> reference) {
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      // 即使 System.gc() 被忽略，分配压力也会触发回收
+      for (int k = 0; k < 64; k++) {
+        sink = new byte[64 * 1024];
+      }
+    }
+    assertNull(reference.get(), "a finalized block is still reachable");
+  }
+
+  private static final class CountingRenderer implements StreamMarkdownRenderer {
+    private Document document;
+    private Node lastRendered;
+    private int rendered;
+    private int linksResolved;
+
+    @Override
+    public void renderNode(Node node) {
+      rendered++;
+      lastRendered = node;
+      if (node instanceof Paragraph) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+          if (child instanceof Link) {
+            linksResolved++;
+          }
+        }
+      }
+    }
+
+    @Override
+    public void openBlock(Node node) {
+      if (node instanceof Document) {
+        document = (Document) node;
+      }
+    }
+
+    @Override
+    public void closeBlock(Node node) {}
+  }
+}
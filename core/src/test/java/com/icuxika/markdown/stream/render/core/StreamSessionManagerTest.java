@@ -0,0 +1,205 @@
+package com.icuxika.markdown.stream.render.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.parser.StreamSessionManager;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+public class StreamSessionManagerTest {
+
+  @Test
+  public void concurrentSessionsKeepPerSessionOrder() throws Exception {
+    int sessionCount = 200;
+    int paragraphs = 40;
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (StreamSessionManager manager = StreamSessionManager.builder().executor(executor).build()) {
+      List<ParagraphCollector> collectors = new ArrayList<>();
+      List<StreamSessionManager.Session> sessions = new ArrayList<>();
+      for (int s = 0; s < sessionCount; s++) {
+        ParagraphCollector collector = new ParagraphCollector();
+        collectors.add(collector);
+        sessions.add(manager.open(collector));
+      }
+
+      // 交错推送：每一轮给所有会话各推送一个小片段
+      for (int p = 0; p < paragraphs; p++) {
+        for (int s = 0; s < sessionCount; s++) {
+          String text = "session " + s + " paragraph " + p + "\n\n";
+          StreamSessionManager.Session session = sessions.get(s);
+          if (s % 2 == 0) {
+            session.push(text.substring(0, 5));
+            session.push(text.substring(5));
+          } else {
+            session.push(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+          }
+        }
+      }
+      CompletableFuture.allOf(
+              sessions.stream()
+                  .map(StreamSessionManager.Session::close)
+                  .toArray(CompletableFuture[]::new))
+          .get(30, TimeUnit.SECONDS);
+
+      for (int s = 0; s < sessionCount; s++) {
+        List<String> expected = new ArrayList<>();
+        for (int p = 0; p < paragraphs; p++) {
+          expected.add("session " + s + " paragraph " + p);
+        }
+        assertEquals(expected, collectors.get(s).paragraphs);
+      }
+
+      StreamSessionManager.Stats stats = manager.stats();
+      assertEquals(0, stats.activeSessions());
+      assertEquals(0, stats.queueDepth());
+      assertEquals(sessionCount, stats.createdParsers());
+      assertTrue(stats.totalInputBytes() > 0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void statsCountTextAndByteInputInUtf8Bytes() throws Exception {
+    String text = "héllo 世界 😀\n\n";
+    byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+    try (StreamSessionManager manager = StreamSessionManager.builder().build()) {
+      StreamSessionManager.Session chars = manager.open(new ParagraphCollector());
+      chars.push(text);
+      chars.close().get(10, TimeUnit.SECONDS);
+      StreamSessionManager.Session bytes = manager.open(new ParagraphCollector());
+      bytes.push(ByteBuffer.wrap(utf8));
+      bytes.close().get(10, TimeUnit.SECONDS);
+
+      // 文本与字节输入使用同一单位
+      assertEquals(2L * utf8.length, manager.stats().totalInputBytes());
+    }
+  }
+
+  @Test
+  public void closedSessionsReturnParsersToPool() throws Exception {
+    try (StreamSessionManager manager = StreamSessionManager.builder().build()) {
+      for (int round = 0; round < 20; round++) {
+        ParagraphCollector collector = new ParagraphCollector();
+        StreamSessionManager.Session session = manager.open(collector);
+        session.push("```\nunterminated code " + round);
+        session.close().get(10, TimeUnit.SECONDS);
+        ParagraphCollector second = new ParagraphCollector();
+        StreamSessionManager.Session next = manager.open(second);
+        next.push("round " + round);
+        next.close().get(10, TimeUnit.SECONDS);
+        // 复用的解析器不能残留上一个会话的代码块状态
+        assertEquals(List.of("round " + round), second.paragraphs);
+      }
+      assertEquals(1, manager.stats().createdParsers());
+      assertEquals(1, manager.stats().pooledParsers());
+    }
+  }
+
+  @Test
+  public void idleSessionIsFinalizedAndCompletesWithTimeout() throws Exception {
+    try (StreamSessionManager manager =
+        StreamSessionManager.builder()
+            .idleTimeout(Duration.ofMillis(50))
+            .idleCheckInterval(Duration.ofMillis(10))
+            .build()) {
+      ParagraphCollector collector = new ParagraphCollector();
+      StreamSessionManager.Session session = manager.open(collector);
+      session.push("never closed");
+
+      CompletionException e =
+          assertThrows(CompletionException.class, () -> session.completion().join());
+      assertInstanceOf(TimeoutException.class, e.getCause());
+      assertEquals(List.of("never closed"), collector.paragraphs);
+      assertTrue(session.isClosed());
+      assertThrows(IllegalStateException.class, () -> session.push("late"));
+    }
+  }
+
+  @Test
+  public void concurrentCloseDoesNotDropAcceptedChunks() throws Exception {
+    ExecutorService pushers = Executors.newFixedThreadPool(2);
+    try (StreamSessionManager manager = StreamSessionManager.builder().build()) {
+      for (int round = 0; round < 300; round++) {
+        ParagraphCollector collector = new ParagraphCollector();
+        StreamSessionManager.Session session = manager.open(collector);
+        CompletableFuture<Integer> accepted =
+            CompletableFuture.supplyAsync(
+                () -> {
+                  int count = 0;
+                  for (int i = 0; i < 200; i++) {
+                    try {
+                      session.push("p" + i + "\n\n");
+                      count++;
+                    } catch (IllegalStateException e) {
+                      break;
+                    }
+                  }
+                  return count;
+                },
+                pushers);
+        CompletableFuture.runAsync(session::close, pushers);
+        int count = accepted.get(10, TimeUnit.SECONDS);
+        session.completion().get(10, TimeUnit.SECONDS);
+        // 在 close 之前被接受的片段都必须被解析
+        assertEquals(count, collector.paragraphs.size());
+      }
+      assertEquals(0, manager.stats().queueDepth());
+    } finally {
+      pushers.shutdownNow();
+    }
+  }
+
+  @Test
+  public void sessionExceedingMemoryLimitFails() {
+    try (StreamSessionManager manager = StreamSessionManager.builder().build()) {
+      StreamSessionManager.Session session =
+          manager.open(new ParagraphCollector(), Duration.ofMinutes(1), 100);
+      session.push("a".repeat(60));
+      assertThrows(IllegalStateException.class, () -> session.push("b".repeat(60)));
+      CompletionException e =
+          assertThrows(CompletionException.class, () -> session.completion().join());
+      assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+  }
+
+  private static final class ParagraphCollector implements StreamMarkdownRenderer {
+    private final List<String> paragraphs = new ArrayList<>();
+
+    @Override
+    public void renderNode(Node node) {
+      if (node instanceof Paragraph) {
+        StringBuilder sb = new StringBuilder();
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+          if (child instanceof Text text) {
+            sb.append(text.getLiteral());
+          }
+        }
+        paragraphs.add(sb.toString());
+      }
+    }
+
+    @Override
+    public void openBlock(Node node) {}
+
+    @Override
+    public void closeBlock(Node node) {}
+  }
+}
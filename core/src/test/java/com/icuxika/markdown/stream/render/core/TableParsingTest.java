@@ -92,6 +92,35 @@ class TableParsingTest {
     assertEquals("|", ((Text) n2).getLiteral());
   }
 
+  @Test
+  void testDelimiterRowEdgeCases() {
+    MarkdownParser parser = MarkdownParser.builder().build();
+
+    // 只有冒号的单元格不是分隔单元格
+    assertTrue(parser.parse("a | b\n| : | --- |\n").getFirstChild() instanceof Paragraph);
+    assertTrue(parser.parse("a | b\n:|---\n").getFirstChild() instanceof Paragraph);
+
+    // 末尾多余的竖线被忽略
+    Table table = (Table) parser.parse("a\n| --- ||\n").getFirstChild();
+    assertEquals(1, countChildren(table.getFirstChild().getFirstChild()));
+
+    // 没有竖线的 --- 是 Setext 标题
+    assertTrue(parser.parse("a\n---\n").getFirstChild() instanceof Heading);
+    assertTrue(parser.parse("a\n:--\n").getFirstChild() instanceof Table);
+  }
+
+  @Test
+  void testDisallowedRawHtmlTags() {
+    MarkdownParser parser = MarkdownParser.builder().build();
+    HtmlBlock block =
+        (HtmlBlock) parser.parse("<div>\n<Title>x</TITLE><xmp/><style\n</div>").getFirstChild();
+    assertEquals("<div>\n&lt;Title>x&lt;/TITLE>&lt;xmp/>&lt;style\n</div>\n", block.getLiteral());
+
+    HtmlBlock untouched =
+        (HtmlBlock) parser.parse("<div>\n<titles> <scriptx>\n</div>").getFirstChild();
+    assertEquals("<div>\n<titles> <scriptx>\n</div>\n", untouched.getLiteral());
+  }
+
   private int countChildren(Node parent) {
     int count = 0;
     Node child = parent.getFirstChild();
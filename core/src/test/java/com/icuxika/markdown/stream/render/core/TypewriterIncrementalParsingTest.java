@@ -3,12 +3,20 @@ package com.icuxika.markdown.stream.render.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.icuxika.markdown.stream.render.core.ast.Code;
+import com.icuxika.markdown.stream.render.core.ast.CodeBlock;
 import com.icuxika.markdown.stream.render.core.ast.HardBreak;
+import com.icuxika.markdown.stream.render.core.ast.HtmlInline;
+import com.icuxika.markdown.stream.render.core.ast.Link;
 import com.icuxika.markdown.stream.render.core.ast.Node;
 import com.icuxika.markdown.stream.render.core.ast.SoftBreak;
 import com.icuxika.markdown.stream.render.core.ast.Text;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.PreviewPolicy;
 import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownDeltaTypingRenderer;
 import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownTypingRenderer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -102,6 +110,201 @@ public class TypewriterIncrementalParsingTest {
     assertTrue(sawSecond);
   }
 
+  @Test
+  public void deltaPreviewSendsOnlyNewCharactersInsideCodeBlock() {
+    StringBuilder preview = new StringBuilder();
+    int[] fullPreviews = {0};
+    int[] maxDelta = {0};
+
+    StreamMarkdownDeltaTypingRenderer renderer =
+        new StreamMarkdownDeltaTypingRenderer() {
+          @Override
+          public void renderPreviewNode(Node node) {
+            fullPreviews[0]++;
+            preview.setLength(0);
+            preview.append(node instanceof CodeBlock code ? code.getLiteral() : extractText(node));
+          }
+
+          @Override
+          public void clearPreview() {
+            preview.setLength(0);
+          }
+
+          @Override
+          public void appendPreviewText(CharSequence text) {
+            maxDelta[0] = Math.max(maxDelta[0], text.length());
+            preview.append(text);
+          }
+
+          @Override
+          public void replacePreviewTail(int removeLength, CharSequence text) {
+            maxDelta[0] = Math.max(maxDelta[0], text.length());
+            preview.setLength(preview.length() - removeLength);
+            preview.append(text);
+          }
+
+          @Override
+          public void renderNode(Node node) {}
+
+          @Override
+          public void openBlock(Node node) {}
+
+          @Override
+          public void closeBlock(Node node) {}
+        };
+
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().renderer(renderer).build();
+    parser.push("```java\n");
+
+    StringBuilder expected = new StringBuilder();
+    for (int line = 0; line < 200; line++) {
+      String text = "    int value" + line + " = " + line + ";\n";
+      for (int i = 0; i < text.length(); i += 3) {
+        String token = text.substring(i, Math.min(text.length(), i + 3));
+        parser.push(token);
+        expected.append(token);
+        assertEquals(expected.toString(), preview.toString());
+      }
+    }
+
+    assertEquals(1, fullPreviews[0]);
+    assertTrue(maxDelta[0] <= 32, "delta size must not depend on block size: " + maxDelta[0]);
+  }
+
+  @Test
+  public void deltaPreviewReconstructsParagraphText() {
+    StringBuilder preview = new StringBuilder();
+
+    StreamMarkdownDeltaTypingRenderer renderer =
+        new StreamMarkdownDeltaTypingRenderer() {
+          @Override
+          public void renderPreviewNode(Node node) {
+            preview.setLength(0);
+            preview.append(extractText(node));
+          }
+
+          @Override
+          public void clearPreview() {
+            preview.setLength(0);
+          }
+
+          @Override
+          public void appendPreviewText(CharSequence text) {
+            preview.append(text);
+          }
+
+          @Override
+          public void replacePreviewTail(int removeLength, CharSequence text) {
+            preview.setLength(preview.length() - removeLength);
+            preview.append(text);
+          }
+
+          @Override
+          public void renderNode(Node node) {}
+
+          @Override
+          public void openBlock(Node node) {}
+
+          @Override
+          public void closeBlock(Node node) {}
+        };
+
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().renderer(renderer).build();
+    parser.push("Hel");
+    parser.push("lo");
+    assertEquals("Hello", preview.toString());
+    parser.push(" world\n");
+    assertEquals("Hello world", preview.toString());
+    parser.push("  ");
+    parser.push(" Next");
+    assertEquals("Hello world\nNext", preview.toString());
+  }
+
+  @Test
+  public void incrementalPreviewInlinesMatchFullParse() {
+    String markdown =
+        "Stream **bold\n"
+            + "still bold** and *em* text\n"
+            + "a `code\n"
+            + "span` here and [link](/url \"t\")\n"
+            + "unmatched * star and [bracket\n"
+            + "closed] later, [1] and [a][b\n"
+            + "] and [x](\n"
+            + "/dest)\n"
+            + "hard break  \n"
+            + "back\\\n"
+            + "<span>html</span> <http://auto.link> ~~del~~\n"
+            + "$x^2$ math and _under_ score\n"
+            + "final **line";
+    MarkdownParser reference = MarkdownParser.builder().build();
+    StringBuilder pushed = new StringBuilder();
+    List<String> mismatches = new ArrayList<>();
+    int[] previews = new int[1];
+
+    StreamMarkdownTypingRenderer renderer =
+        new StreamMarkdownTypingRenderer() {
+          @Override
+          public void renderPreviewNode(Node node) {
+            previews[0]++;
+            String content = pushed.toString();
+            if (content.endsWith("\n")) {
+              content = content.substring(0, content.length() - 1);
+            }
+            String expected = dump(reference.parse(content).getFirstChild());
+            String actual = dump(node);
+            if (!expected.equals(actual)) {
+              mismatches.add(content + "\n  expected " + expected + "\n  actual   " + actual);
+            }
+          }
+
+          @Override
+          public void clearPreview() {}
+
+          @Override
+          public void renderNode(Node node) {}
+
+          @Override
+          public void openBlock(Node node) {}
+
+          @Override
+          public void closeBlock(Node node) {}
+        };
+
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder()
+            .renderer(renderer)
+            .previewPolicy(() -> PreviewPolicy.fixedInterval(Duration.ZERO))
+            .build();
+    for (int i = 0; i < markdown.length(); i++) {
+      pushed.append(markdown.charAt(i));
+      parser.push(String.valueOf(markdown.charAt(i)));
+    }
+
+    assertTrue(previews[0] > markdown.length() / 2);
+    assertEquals(List.of(), mismatches);
+  }
+
+  private static String dump(Node node) {
+    StringBuilder sb = new StringBuilder(node.getClass().getSimpleName());
+    if (node instanceof Text text) {
+      sb.append('"').append(text.getLiteral()).append('"');
+    } else if (node instanceof Code code) {
+      sb.append('`').append(code.getLiteral()).append('`');
+    } else if (node instanceof HtmlInline html) {
+      sb.append(html.getLiteral());
+    } else if (node instanceof Link link) {
+      sb.append('(').append(link.getDestination()).append(')');
+    }
+    if (node.getFirstChild() != null) {
+      sb.append('[');
+      for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+        sb.append(dump(child)).append(' ');
+      }
+      sb.append(']');
+    }
+    return sb.toString();
+  }
+
   private static String extractText(Node node) {
     StringBuilder sb = new StringBuilder();
     extractTextRec(node, sb);
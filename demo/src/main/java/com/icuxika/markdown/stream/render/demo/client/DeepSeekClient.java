@@ -59,6 +59,29 @@ public class DeepSeekClient {
       Consumer<String> onToken,
       Runnable onComplete,
       Consumer<Throwable> onError) {
+    streamChatChars(messages, token -> onToken.accept(token.toString()), onComplete, onError);
+  }
+
+  /**
+   * Streams a chat completion from the DeepSeek API without allocating a String per token.
+   *
+   * <p>The token passed to {@code onToken} is a reused buffer that is only valid during the
+   * callback; it can be handed straight to {@code StreamMarkdownParser.push(CharSequence)}.
+   *
+   * @param messages
+   *            The list of chat messages.
+   * @param onToken
+   *            Callback for each generated token.
+   * @param onComplete
+   *            Callback when the stream is complete.
+   * @param onError
+   *            Callback when an error occurs.
+   */
+  public void streamChatChars(
+      List<ChatMessage> messages,
+      Consumer<CharSequence> onToken,
+      Runnable onComplete,
+      Consumer<Throwable> onError) {
     if (mockMode) {
       streamMockResponse(messages, onToken, onComplete);
       return;
@@ -102,6 +125,7 @@ public class DeepSeekClient {
             HttpResponse.BodyHandlers.fromLineSubscriber(
                 new Flow.Subscriber<>() {
                   private Flow.Subscription subscription;
+                  private final StringBuilder content = new StringBuilder();
 
                   @Override
                   public void onSubscribe(Flow.Subscription subscription) {
@@ -112,13 +136,11 @@ public class DeepSeekClient {
                   @Override
                   public void onNext(String line) {
                     if (line.startsWith("data: ")) {
-                      String data = line.substring(6).trim();
-                      if ("[DONE]".equals(data)) {
+                      if (line.startsWith("[DONE]", 6)) {
                         return; // Stream finished
                       }
 
-                      String content = extractContent(data);
-                      if (content != null && !content.isEmpty()) {
+                      if (extractContent(line, 6, content) && content.length() > 0) {
                         onToken.accept(content);
                       }
                     }
@@ -142,7 +164,7 @@ public class DeepSeekClient {
   }
 
   private void streamMockResponse(
-      List<ChatMessage> messages, Consumer<String> onToken, Runnable onComplete) {
+      List<ChatMessage> messages, Consumer<CharSequence> onToken, Runnable onComplete) {
     new Thread(
             () -> {
               try {
@@ -192,11 +214,11 @@ public class DeepSeekClient {
                           + " a *table*, *code*, or *task list*!";
                 }
 
-                // Split by characters or words to simulate tokens
-                String[] tokens = response.split("(?<=\\s)|(?=\\s)");
-                // Or just char by char for smoother flow
+                // Char by char for smoother flow
+                StringBuilder token = new StringBuilder(1);
                 for (int i = 0; i < response.length(); i++) {
-                  String token = String.valueOf(response.charAt(i));
+                  token.setLength(0);
+                  token.append(response.charAt(i));
                   onToken.accept(token);
                   Thread.sleep(15); // Typing speed
                 }
@@ -222,28 +244,28 @@ public class DeepSeekClient {
         .replace("\t", "\\t");
   }
 
-  // Regex to extract "content": "..." from JSON
-  private String extractContent(String json) {
+  // Extracts the "content" string of an SSE data line into the reused buffer
+  private boolean extractContent(String json, int from, StringBuilder content) {
+    content.setLength(0);
     // Look for "content":
-    int contentIndex = json.indexOf("\"content\"");
+    int contentIndex = json.indexOf("\"content\"", from);
     if (contentIndex == -1) {
-      return null;
+      return false;
     }
 
     // Find the colon after "content"
     int colonIndex = json.indexOf(":", contentIndex);
     if (colonIndex == -1) {
-      return null;
+      return false;
     }
 
     // Find the opening quote
     int startQuote = json.indexOf("\"", colonIndex + 1);
     if (startQuote == -1) {
-      return null;
+      return false;
     }
 
     // Find the closing quote, skipping escaped quotes
-    StringBuilder content = new StringBuilder();
     boolean escape = false;
     for (int i = startQuote + 1; i < json.length(); i++) {
       char c = json.charAt(i);
@@ -264,12 +286,12 @@ public class DeepSeekClient {
           escape = true;
         } else if (c == '"') {
           // Found closing quote
-          return content.toString();
+          return true;
         } else {
           content.append(c);
         }
       }
     }
-    return null; // Malformed JSON or incomplete
+    return false; // Malformed JSON or incomplete
   }
 }
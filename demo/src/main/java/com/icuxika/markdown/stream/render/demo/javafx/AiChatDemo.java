@@ -237,7 +237,7 @@ public class AiChatDemo extends Application {
 
     StringBuilder assistantResponse = new StringBuilder();
 
-    client.streamChat(
+    client.streamChatChars(
         history,
         token -> {
           aiBubble.append(token);
@@ -326,7 +326,7 @@ public class AiChatDemo extends Application {
       }
     }
 
-    public void append(String token) {
+    public void append(CharSequence token) {
       if (token != null) {
         if (streamParser != null) {
           streamParser.push(token);
@@ -158,11 +158,23 @@ public class ExtensionDemo extends Application {
    * Parser Factory.
    */
   static class GreetingBlockParserFactory implements BlockParserFactory {
+    private static final Pattern GREETING_PATTERN = Pattern.compile("^:::\\s+greeting\\s+(.*)$");
+
+    @Override
+    public Set<Character> getTriggerCharacters() {
+      return Collections.singleton(':');
+    }
+
     @Override
     public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
-      String line = state.getLine().toString().substring(state.getNextNonSpaceIndex());
-      Pattern pattern = Pattern.compile("^:::\\s+greeting\\s+(.*)$");
-      Matcher matcher = pattern.matcher(line);
+      CharSequence current = state.getLine();
+      int nextNonSpace = state.getNextNonSpaceIndex();
+      // tryStart 对每一行都会调用，先用首字符排除不可能匹配的行
+      if (nextNonSpace >= current.length() || current.charAt(nextNonSpace) != ':') {
+        return BlockStart.none();
+      }
+      String line = current.subSequence(nextNonSpace, current.length()).toString();
+      Matcher matcher = GREETING_PATTERN.matcher(line);
       if (matcher.matches()) {
         String name = matcher.group(1);
         return BlockStart.of(new GreetingParser(name)).atIndex(state.getIndex() + line.length());
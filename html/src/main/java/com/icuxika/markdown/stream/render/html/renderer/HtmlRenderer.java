@@ -1,6 +1,7 @@
 package com.icuxika.markdown.stream.render.html.renderer;
 
 import com.icuxika.markdown.stream.render.core.Extension;
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
 import com.icuxika.markdown.stream.render.core.ast.Block;
 import com.icuxika.markdown.stream.render.core.ast.BlockQuote;
 import com.icuxika.markdown.stream.render.core.ast.BulletList;
@@ -29,6 +30,7 @@ import com.icuxika.markdown.stream.render.core.ast.TableHead;
 import com.icuxika.markdown.stream.render.core.ast.TableRow;
 import com.icuxika.markdown.stream.render.core.ast.Text;
 import com.icuxika.markdown.stream.render.core.ast.ThematicBreak;
+import com.icuxika.markdown.stream.render.core.jfr.RenderEvent;
 import com.icuxika.markdown.stream.render.core.parser.MarkdownParserOptions;
 import com.icuxika.markdown.stream.render.core.renderer.MarkdownRenderer;
 import java.util.ArrayList;
@@ -40,6 +42,7 @@ public class HtmlRenderer implements MarkdownRenderer, HtmlNodeRendererContext {
   private final StringBuilder sb = new StringBuilder();
   private final HtmlWriter htmlWriter;
   private final MarkdownParserOptions options;
+  private final MarkdownMetrics metrics;
   private final List<HtmlNodeRenderer> nodeRenderers = new ArrayList<>();
   private final Map<Class<? extends Node>, HtmlNodeRenderer> rendererMap = new HashMap<>();
 
@@ -51,6 +54,7 @@ public class HtmlRenderer implements MarkdownRenderer, HtmlNodeRendererContext {
    */
   public HtmlRenderer(Builder builder) {
     this.options = builder.options;
+    this.metrics = builder.metrics;
     this.sb.append(""); // Or initialize if needed
     this.htmlWriter = new HtmlWriter(sb);
     if (this.options.isGfm()) {
@@ -94,6 +98,7 @@ public class HtmlRenderer implements MarkdownRenderer, HtmlNodeRendererContext {
   public static class Builder {
     private MarkdownParserOptions options = new MarkdownParserOptions();
     private List<HtmlNodeRendererFactory> nodeRendererFactories = new ArrayList<>();
+    private MarkdownMetrics metrics = MarkdownMetrics.noop();
 
     /**
      * Set options.
@@ -107,6 +112,18 @@ public class HtmlRenderer implements MarkdownRenderer, HtmlNodeRendererContext {
       return this;
     }
 
+    /**
+     * Set metrics listener. Reports render time per top-level block and the bytes written.
+     *
+     * @param metrics
+     *            metrics listener
+     * @return this
+     */
+    public Builder metrics(MarkdownMetrics metrics) {
+      this.metrics = metrics != null ? metrics : MarkdownMetrics.noop();
+      return this;
+    }
+
     /**
      * Add a node renderer factory.
      *
@@ -220,7 +237,32 @@ public class HtmlRenderer implements MarkdownRenderer, HtmlNodeRendererContext {
 
   @Override
   public void visit(Document document) {
-    renderChildren(document);
+    RenderEvent event = new RenderEvent();
+    event.begin();
+    int startLength = sb.length();
+    if (metrics == MarkdownMetrics.noop()) {
+      renderChildren(document);
+    } else {
+      Node child = document.getFirstChild();
+      while (child != null) {
+        Node next = child.getNext();
+        long start = System.nanoTime();
+        render(child);
+        metrics.nodeRendered(child, System.nanoTime() - start);
+        child = next;
+      }
+      metrics.bytesWritten(MeteredAppendable.utf8Length(sb, startLength, sb.length()));
+    }
+    if (event.shouldCommit()) {
+      int blocks = 0;
+      for (Node child = document.getFirstChild(); child != null; child = child.getNext()) {
+        blocks++;
+      }
+      event.inputSize = sb.length() - startLength;
+      event.nodeCount = blocks;
+      event.blockType = "Document";
+      event.commit();
+    }
   }
 
   // Delegate all visits to the renderer map logic
@@ -1,5 +1,6 @@
 package com.icuxika.markdown.stream.render.html.renderer;
 
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
 import com.icuxika.markdown.stream.render.core.ast.BlockQuote;
 import com.icuxika.markdown.stream.render.core.ast.BulletList;
 import com.icuxika.markdown.stream.render.core.ast.Code;
@@ -27,21 +28,57 @@ import com.icuxika.markdown.stream.render.core.ast.Text;
 import com.icuxika.markdown.stream.render.core.ast.ThematicBreak;
 import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionBlock;
 import com.icuxika.markdown.stream.render.core.extension.math.MathNode;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownBatchRenderer;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownEventBatch;
 import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownRenderer;
 import java.io.IOException;
 
 /**
  * HTML 流式渲染器.
  * <p>
- * 将接收到的 AST 节点直接转换为 HTML 字符串并写入输出流。
+ * 将接收到的 AST 节点直接转换为 HTML 字符串并写入输出流。由解析器按批次调用时，每批事件只刷新一次输出流。
  * </p>
  */
-public class HtmlStreamRenderer implements StreamMarkdownRenderer {
+public class HtmlStreamRenderer implements StreamMarkdownRenderer, StreamMarkdownBatchRenderer {
 
   private final Appendable out;
+  private final MarkdownMetrics metrics;
+  // 仅在启用度量时包装输出流
+  private final MeteredAppendable metered;
+  private boolean inBatch;
 
   public HtmlStreamRenderer(Appendable out) {
-    this.out = out;
+    this(out, MarkdownMetrics.noop());
+  }
+
+  /**
+   * 创建报告度量的渲染器. 报告每个块的渲染耗时与写出的字节数。
+   *
+   * @param out
+   *            输出流
+   * @param metrics
+   *            度量监听器
+   */
+  public HtmlStreamRenderer(Appendable out, MarkdownMetrics metrics) {
+    this.metrics = metrics != null ? metrics : MarkdownMetrics.noop();
+    this.metered = this.metrics != MarkdownMetrics.noop() ? new MeteredAppendable(out) : null;
+    this.out = metered != null ? metered : out;
+  }
+
+  @Override
+  public void renderBatch(StreamMarkdownEventBatch batch) {
+    inBatch = true;
+    try {
+      batch.replay(this);
+    } finally {
+      inBatch = false;
+    }
+    try {
+      reportWritten();
+      flush();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   @Override
@@ -73,9 +110,7 @@ public class HtmlStreamRenderer implements StreamMarkdownRenderer {
               .append("</p>\n");
         }
       }
-      if (out instanceof java.io.Flushable) {
-        ((java.io.Flushable) out).flush();
-      }
+      flushIfUnbatched();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -95,9 +130,7 @@ public class HtmlStreamRenderer implements StreamMarkdownRenderer {
       } else if (node instanceof AdmonitionBlock) {
         out.append("</div>\n");
       }
-      if (out instanceof java.io.Flushable) {
-        ((java.io.Flushable) out).flush();
-      }
+      flushIfUnbatched();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -113,16 +146,42 @@ public class HtmlStreamRenderer implements StreamMarkdownRenderer {
           || node instanceof HtmlBlock
           || node instanceof ThematicBreak
           || node instanceof Table) {
-        render(node);
-        if (out instanceof java.io.Flushable) {
-          ((java.io.Flushable) out).flush();
+        if (metered == null) {
+          render(node);
+        } else {
+          long start = System.nanoTime();
+          render(node);
+          metrics.nodeRendered(node, System.nanoTime() - start);
         }
+        flushIfUnbatched();
       }
     } catch (IOException e) {
       throw new RuntimeException("Error writing to output", e);
     }
   }
 
+  private void flushIfUnbatched() throws IOException {
+    if (!inBatch) {
+      reportWritten();
+      flush();
+    }
+  }
+
+  private void reportWritten() {
+    if (metered != null) {
+      long bytes = metered.takeBytes();
+      if (bytes > 0) {
+        metrics.bytesWritten(bytes);
+      }
+    }
+  }
+
+  private void flush() throws IOException {
+    if (out instanceof java.io.Flushable) {
+      ((java.io.Flushable) out).flush();
+    }
+  }
+
   private void render(Node node) throws IOException {
     if (node instanceof Paragraph) {
       // Check if parent is tight list item?
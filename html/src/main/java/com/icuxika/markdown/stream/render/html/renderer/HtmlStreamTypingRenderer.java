@@ -0,0 +1,162 @@
+package com.icuxika.markdown.stream.render.html.renderer;
+
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
+import com.icuxika.markdown.stream.render.core.ast.CodeBlock;
+import com.icuxika.markdown.stream.render.core.ast.Heading;
+import com.icuxika.markdown.stream.render.core.ast.HtmlBlock;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownDeltaTypingRenderer;
+
+/**
+ * 支持打字预览的 HTML 流式渲染器.
+ * <p>
+ * 最终块仍然写入输出流；尚未完成的块以 HTML 片段的形式保存在预览缓冲区中，可通过 {@link #getPreviewHtml()}
+ * 获取。增量预览直接追加到缓冲区末尾，不会重新渲染整个块。
+ * </p>
+ */
+public class HtmlStreamTypingRenderer extends HtmlStreamRenderer
+    implements StreamMarkdownDeltaTypingRenderer {
+
+  // 预览 HTML（不含结束标签）
+  private final StringBuilder previewHtml = new StringBuilder();
+  // 预览 HTML 末尾对应的原始文本，用于按原始字符数删除尾部
+  private final StringBuilder previewRaw = new StringBuilder();
+  private String previewSuffix = "";
+  private boolean previewEscaped = true;
+  private boolean hasPreview = false;
+
+  public HtmlStreamTypingRenderer(Appendable out) {
+    super(out);
+  }
+
+  /**
+   * 创建报告度量的渲染器. 只统计写入输出流的最终块，预览缓冲区不计入。
+   *
+   * @param out
+   *            输出流
+   * @param metrics
+   *            度量监听器
+   */
+  public HtmlStreamTypingRenderer(Appendable out, MarkdownMetrics metrics) {
+    super(out, metrics);
+  }
+
+  @Override
+  public PreviewMode previewMode() {
+    return PreviewMode.DELTA;
+  }
+
+  @Override
+  public void renderPreviewNode(Node node) {
+    clearPreview();
+    StringBuilder html = new StringBuilder();
+    new HtmlStreamRenderer(html).renderNode(node);
+
+    String suffix = "";
+    if (node instanceof Paragraph) {
+      suffix = "</p>\n";
+    } else if (node instanceof Heading heading) {
+      suffix = "</h" + heading.getLevel() + ">\n";
+    } else if (node instanceof CodeBlock codeBlock) {
+      suffix = "</code></pre>\n";
+      previewRaw.append(codeBlock.getLiteral());
+    } else if (node instanceof HtmlBlock htmlBlock) {
+      previewEscaped = false;
+      previewRaw.append(htmlBlock.getLiteral());
+    }
+    if (!html.toString().endsWith(suffix)) {
+      suffix = "";
+    }
+    previewHtml.append(html, 0, html.length() - suffix.length());
+    previewSuffix = suffix;
+    hasPreview = true;
+  }
+
+  @Override
+  public void clearPreview() {
+    previewHtml.setLength(0);
+    previewRaw.setLength(0);
+    previewSuffix = "";
+    previewEscaped = true;
+    hasPreview = false;
+  }
+
+  @Override
+  public void appendPreviewText(CharSequence text) {
+    if (!hasPreview) {
+      return;
+    }
+    previewRaw.append(text);
+    for (int i = 0; i < text.length(); i++) {
+      appendPreviewChar(text.charAt(i));
+    }
+  }
+
+  @Override
+  public void replacePreviewTail(int removeLength, CharSequence text) {
+    if (!hasPreview) {
+      return;
+    }
+    int remove = Math.min(removeLength, previewRaw.length());
+    int htmlLength = 0;
+    for (int i = previewRaw.length() - remove; i < previewRaw.length(); i++) {
+      htmlLength += escapedLength(previewRaw.charAt(i));
+    }
+    previewRaw.setLength(previewRaw.length() - remove);
+    previewHtml.setLength(previewHtml.length() - htmlLength);
+    appendPreviewText(text);
+  }
+
+  /**
+   * 获取当前预览的 HTML 片段.
+   *
+   * @return 预览 HTML，无预览时返回空字符串
+   */
+  public String getPreviewHtml() {
+    if (!hasPreview) {
+      return "";
+    }
+    return previewHtml + previewSuffix;
+  }
+
+  private void appendPreviewChar(char c) {
+    if (!previewEscaped) {
+      previewHtml.append(c);
+      return;
+    }
+    switch (c) {
+      case '<':
+        previewHtml.append("&lt;");
+        break;
+      case '>':
+        previewHtml.append("&gt;");
+        break;
+      case '&':
+        previewHtml.append("&amp;");
+        break;
+      case '"':
+        previewHtml.append("&quot;");
+        break;
+      default:
+        previewHtml.append(c);
+    }
+  }
+
+  private int escapedLength(char c) {
+    if (!previewEscaped) {
+      return 1;
+    }
+    switch (c) {
+      case '<':
+      case '>':
+        return 4;
+      case '&':
+        return 5;
+      case '"':
+        return 6;
+      default:
+        return 1;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.icuxika.markdown.stream.render.html.renderer;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * 统计写出字节数（按 UTF-8 计算）的 {@link Appendable} 包装.
+ */
+final class MeteredAppendable implements Appendable, Flushable {
+
+  private final Appendable out;
+  private long bytes;
+
+  MeteredAppendable(Appendable out) {
+    this.out = out;
+  }
+
+  /**
+   * 获取并清零自上次调用以来写出的字节数.
+   */
+  long takeBytes() {
+    long written = bytes;
+    bytes = 0;
+    return written;
+  }
+
+  @Override
+  public Appendable append(CharSequence csq) throws IOException {
+    CharSequence s = csq != null ? csq : "null";
+    out.append(s);
+    bytes += utf8Length(s, 0, s.length());
+    return this;
+  }
+
+  @Override
+  public Appendable append(CharSequence csq, int start, int end) throws IOException {
+    CharSequence s = csq != null ? csq : "null";
+    out.append(s, start, end);
+    bytes += utf8Length(s, start, end);
+    return this;
+  }
+
+  @Override
+  public Appendable append(char c) throws IOException {
+    out.append(c);
+    bytes += utf8Length(c);
+    return this;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (out instanceof Flushable) {
+      ((Flushable) out).flush();
+    }
+  }
+
+  static long utf8Length(CharSequence s, int start, int end) {
+    long length = 0;
+    for (int i = start; i < end; i++) {
+      char c = s.charAt(i);
+      if (Character.isHighSurrogate(c)
+          && i + 1 < end
+          && Character.isLowSurrogate(s.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else {
+        length += utf8Length(c);
+      }
+    }
+    return length;
+  }
+
+  private static int utf8Length(char c) {
+    if (c < 0x80) {
+      return 1;
+    }
+    if (c < 0x800) {
+      return 2;
+    }
+    // 孤立的代理字符按替换字符（3 字节）计算
+    return 3;
+  }
+}
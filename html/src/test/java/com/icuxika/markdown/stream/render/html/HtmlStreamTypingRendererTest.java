@@ -0,0 +1,118 @@
+package com.icuxika.markdown.stream.render.html;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.icuxika.markdown.stream.render.core.HistogramMarkdownMetrics;
+import com.icuxika.markdown.stream.render.core.ast.Paragraph;
+import com.icuxika.markdown.stream.render.core.parser.StreamMarkdownParser;
+import com.icuxika.markdown.stream.render.html.renderer.HtmlStreamRenderer;
+import com.icuxika.markdown.stream.render.html.renderer.HtmlStreamTypingRenderer;
+import java.io.Flushable;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class HtmlStreamTypingRendererTest {
+
+  @Test
+  public void testCodeBlockPreviewFollowsDeltas() {
+    StringBuilder out = new StringBuilder();
+    HtmlStreamTypingRenderer renderer = new HtmlStreamTypingRenderer(out);
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().renderer(renderer).build();
+
+    parser.push("```\n");
+    parser.push("if (a < b");
+    assertEquals("<pre><code>if (a &lt; b</code></pre>\n", renderer.getPreviewHtml());
+    parser.push(" && c) {\n  x = \"y\";");
+    assertEquals(
+        "<pre><code>if (a &lt; b &amp;&amp; c) {\n  x = &quot;y&quot;;</code></pre>\n",
+        renderer.getPreviewHtml());
+    parser.push("\n}\n```\n");
+    assertEquals("", renderer.getPreviewHtml());
+    assertEquals(
+        "<pre><code>if (a &lt; b &amp;&amp; c) {\n  x = &quot;y&quot;;\n}\n</code></pre>\n",
+        out.toString());
+  }
+
+  @Test
+  public void testIndentedFenceContentReplacesRawTail() {
+    StringBuilder out = new StringBuilder();
+    HtmlStreamTypingRenderer renderer = new HtmlStreamTypingRenderer(out);
+    StreamMarkdownParser parser = StreamMarkdownParser.builder().renderer(renderer).build();
+
+    parser.push("  ```\n");
+    parser.push("  <a>");
+    assertEquals("<pre><code>  &lt;a&gt;</code></pre>\n", renderer.getPreviewHtml());
+    parser.push("\n");
+    assertEquals("<pre><code>&lt;a&gt;\n</code></pre>\n", renderer.getPreviewHtml());
+  }
+
+  @Test
+  public void testOutputIsFlushedOncePerPush() {
+    FlushCountingAppendable out = new FlushCountingAppendable();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder().renderer(new HtmlStreamRenderer(out)).build();
+
+    parser.push("# Title\n\n> - a\n> - b\n\n");
+    assertEquals(1, out.flushes);
+    parser.push("text");
+    assertEquals(1, out.flushes);
+    parser.close();
+    assertEquals(2, out.flushes);
+    assertEquals(
+        "<h1 id=\"title\">Title</h1>\n"
+            + "<blockquote>\n"
+            + "<ul>\n"
+            + "<li><p>a</p>\n"
+            + "</li>\n"
+            + "<li><p>b</p>\n"
+            + "</li>\n"
+            + "</ul>\n"
+            + "</blockquote>\n"
+            + "<p>text</p>\n",
+        out.sb.toString());
+  }
+
+  @Test
+  public void testMetricsCountUtf8BytesWritten() {
+    StringBuilder out = new StringBuilder();
+    HistogramMarkdownMetrics metrics = new HistogramMarkdownMetrics();
+    StreamMarkdownParser parser =
+        StreamMarkdownParser.builder()
+            .renderer(new HtmlStreamTypingRenderer(out, metrics))
+            .metrics(metrics)
+            .build();
+
+    parser.push("> caf\u00e9 \ud83d\ude00\n\nplain <b>\n");
+    parser.close();
+    assertEquals(out.toString().getBytes(StandardCharsets.UTF_8).length, metrics.getBytesWritten());
+    assertEquals(2, metrics.getNodeRenders().get(Paragraph.class).getCount());
+  }
+
+  private static class FlushCountingAppendable implements Appendable, Flushable {
+    final StringBuilder sb = new StringBuilder();
+    int flushes;
+
+    @Override
+    public Appendable append(CharSequence csq) {
+      sb.append(csq);
+      return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) {
+      sb.append(csq, start, end);
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) {
+      sb.append(c);
+      return this;
+    }
+
+    @Override
+    public void flush() {
+      flushes++;
+    }
+  }
+}
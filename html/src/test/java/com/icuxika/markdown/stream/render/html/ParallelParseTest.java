@@ -0,0 +1,185 @@
+package com.icuxika.markdown.stream.render.html;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.ast.Node;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParserOptions;
+import com.icuxika.markdown.stream.render.html.renderer.HtmlRenderer;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * 并行解析与顺序解析的一致性测试.
+ * <p>
+ * 分段大小设为 1 个字符，使每个顶层空行都成为切分点，覆盖规范示例中的各种跨分段结构。
+ * </p>
+ */
+public class ParallelParseTest {
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  static class SpecExample {
+    public String markdown;
+    public String html;
+    public int example;
+    public int start_line;
+    public int end_line;
+    public String section;
+  }
+
+  @AfterAll
+  static void shutdown() {
+    POOL.shutdown();
+  }
+
+  private static List<SpecExample> loadExamples(String resource) throws IOException {
+    ObjectMapper mapper = new ObjectMapper();
+    return mapper.readValue(
+        ParallelParseTest.class.getResourceAsStream(resource),
+        new TypeReference<List<SpecExample>>() {});
+  }
+
+  private static MarkdownParser parser(boolean gfm, boolean parallel) {
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    options.setGfm(gfm);
+    MarkdownParser.Builder builder = MarkdownParser.builder().options(options);
+    if (parallel) {
+      builder.parallel(POOL).parallelSegmentSize(1);
+    }
+    return builder.build();
+  }
+
+  private static String render(Document doc, boolean gfm) {
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    options.setGfm(gfm);
+    HtmlRenderer renderer = HtmlRenderer.builder().options(options).build();
+    doc.accept(renderer);
+    return (String) renderer.getResult();
+  }
+
+  private static void dump(Node node, String indent, StringBuilder out) {
+    out.append(indent)
+        .append(node.getClass().getSimpleName())
+        .append(' ')
+        .append(node.getStartLine())
+        .append('-')
+        .append(node.getEndLine())
+        .append('\n');
+    for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+      dump(child, indent + "  ", out);
+    }
+  }
+
+  private static void assertSameAsSequential(String markdown, boolean gfm) {
+    Document sequential = parser(gfm, false).parse(markdown);
+    Document parallel = parser(gfm, true).parse(markdown);
+    assertEquals(render(sequential, gfm), render(parallel, gfm));
+
+    StringBuilder expected = new StringBuilder();
+    StringBuilder actual = new StringBuilder();
+    for (Node child = sequential.getFirstChild(); child != null; child = child.getNext()) {
+      dump(child, "", expected);
+    }
+    for (Node child = parallel.getFirstChild(); child != null; child = child.getNext()) {
+      dump(child, "", actual);
+    }
+    assertEquals(expected.toString(), actual.toString());
+  }
+
+  @TestFactory
+  Stream<DynamicTest> commonMarkExamples() throws IOException {
+    return loadExamples("/commonmark-spec-0.31.2.json").stream()
+        .map(
+            example ->
+                DynamicTest.dynamicTest(
+                    "Example " + example.example + " (" + example.section + ")",
+                    () -> assertSameAsSequential(example.markdown, false)));
+  }
+
+  @TestFactory
+  Stream<DynamicTest> gfmExamples() throws IOException {
+    return loadExamples("/gfm-spec-0.29.0.json").stream()
+        .map(
+            example ->
+                DynamicTest.dynamicTest(
+                    "Example " + example.example + " (" + example.section + ")",
+                    () -> assertSameAsSequential(example.markdown, true)));
+  }
+
+  @Test
+  public void testConcatenatedSpecDocument() throws IOException {
+    // 链接引用定义分布在不同分段中，前面的分段引用后面定义的链接
+    StringBuilder markdown = new StringBuilder();
+    for (SpecExample example : loadExamples("/gfm-spec-0.29.0.json")) {
+      markdown.append(example.markdown).append("\n\n");
+    }
+    assertSameAsSequential(markdown.toString(), true);
+    assertSameAsSequential(markdown.toString().replace("\n", "\r\n"), true);
+  }
+
+  @Test
+  public void testParallelInlinePhase() throws IOException {
+    StringBuilder markdown = new StringBuilder();
+    for (SpecExample example : loadExamples("/gfm-spec-0.29.0.json")) {
+      markdown.append(example.markdown).append("\n\n");
+    }
+    for (int i = 0; i < 2000; i++) {
+      markdown
+          .append("Paragraph ")
+          .append(i)
+          .append(" with **strong**, `code` and [a link][ref]\n");
+      markdown.append("| a | *b* |\n| - | - |\n| [x] | ~~y~~ |\n\n");
+    }
+    markdown.append("[ref]: /target \"Title\"\n");
+
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    options.setGfm(true);
+    Document sequential =
+        MarkdownParser.builder().options(options).build().parse(markdown.toString());
+    Document parallel =
+        MarkdownParser.builder()
+            .options(options)
+            .parallelInlines(POOL)
+            .build()
+            .parse(markdown.toString());
+    assertEquals(render(sequential, true), render(parallel, true));
+
+    HtmlRenderer renderer = HtmlRenderer.builder().options(options).build();
+    MarkdownParser.builder()
+        .options(options)
+        .parallelInlines(POOL)
+        .build()
+        .parse(new StringReader(markdown.toString()), renderer);
+    assertEquals(render(sequential, true), renderer.getResult());
+  }
+
+  @Test
+  public void testLargeDocumentWithDefaultSegmentSize() {
+    StringBuilder markdown = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      markdown.append("## Section ").append(i).append("\n\n");
+      markdown.append("Some *text* with a [link][ref").append(i % 50).append("].\n\n");
+      markdown.append("- item\n- item\n\n  continued\n\n");
+      markdown.append("```\ncode\n\nmore code\n```\n\n");
+      markdown.append("[ref").append(i % 50).append("]: /url").append(i).append("\n\n");
+    }
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    options.setGfm(true);
+    Document sequential =
+        MarkdownParser.builder().options(options).build().parse(markdown.toString());
+    Document parallel =
+        MarkdownParser.builder().options(options).parallel(POOL).build().parse(markdown.toString());
+    assertEquals(render(sequential, true), render(parallel, true));
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.icuxika.markdown.stream.render.core.ast.Node;
 import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParserOptions;
 import com.icuxika.markdown.stream.render.html.renderer.HtmlRenderer;
 import org.junit.jupiter.api.Test;
 
@@ -96,6 +97,47 @@ public class RegressionTest {
     assert actual.contains("<pre><code>bar");
   }
 
+  /**
+   * 图片描述中由自定义解析器（数学公式）解析的内容仍然计入替代文本
+   */
+  @Test
+  public void testImageAltKeepsCustomInlineSource() {
+    String actual = render("![~~~\n$x$](/u \"t\")");
+    assertEquals("<p><img src=\"/u\" alt=\"~~~\n$x$\" title=\"t\" /></p>", actual.trim());
+  }
+
+  /**
+   * 链接不能包含链接：链接文本中的 GFM 扩展自动链接按文本处理
+   */
+  @Test
+  public void testExtendedAutolinkInsideLinkText() {
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    options.setGfm(true);
+    MarkdownParser parser = MarkdownParser.builder().options(options).build();
+    HtmlRenderer renderer = new HtmlRenderer();
+    parser.parse("[![1. www.x.com](/i)](/u) [see www.y.com](/v) www.z.com").accept(renderer);
+    assertEquals(
+        "<p><a href=\"/u\"><img src=\"/i\" alt=\"1. www.x.com\" /></a>"
+            + " <a href=\"/v\">see www.y.com</a>"
+            + " <a href=\"http://www.z.com\">www.z.com</a></p>",
+        ((String) renderer.getResult()).trim());
+  }
+
+  /**
+   * 硬换行之前与段落末尾的空格在 GFM 模式下同样被去除，与 CommonMark 模式一致
+   */
+  @Test
+  public void testTrailingSpacesStrippedInGfm() {
+    for (boolean gfm : new boolean[] {false, true}) {
+      MarkdownParserOptions options = new MarkdownParserOptions();
+      options.setGfm(gfm);
+      MarkdownParser parser = MarkdownParser.builder().options(options).build();
+      HtmlRenderer renderer = new HtmlRenderer();
+      parser.parse("foo  \nbar baz  ").accept(renderer);
+      assertEquals("<p>foo<br />\nbar baz</p>", ((String) renderer.getResult()).trim());
+    }
+  }
+
   private String render(String input) {
     MarkdownParser parser = new MarkdownParser();
     HtmlRenderer renderer = new HtmlRenderer();
@@ -0,0 +1,196 @@
+package com.icuxika.markdown.stream.render.html;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icuxika.markdown.stream.render.core.ast.Document;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParser;
+import com.icuxika.markdown.stream.render.core.parser.MarkdownParserOptions;
+import com.icuxika.markdown.stream.render.html.renderer.HtmlRenderer;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * {@code MarkdownParser.parse(Reader, MarkdownRenderer)} 的流式渲染测试.
+ */
+public class StreamingRenderTest {
+
+  static class SpecExample {
+    public String markdown;
+    public String html;
+    public int example;
+    public int start_line;
+    public int end_line;
+    public String section;
+  }
+
+  /**
+   * 记录读取了多少字符.
+   */
+  static class CountingReader extends Reader {
+    private final Reader delegate;
+    long read;
+
+    CountingReader(String text) {
+      this.delegate = new StringReader(text);
+    }
+
+    @Override
+    public int read(char[] buf, int off, int len) throws IOException {
+      // 每次只读一小段，便于观察交付时机
+      int n = delegate.read(buf, off, Math.min(len, 16));
+      if (n > 0) {
+        read += n;
+      }
+      return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+  }
+
+  /**
+   * 记录每次收到文档时已读取的字符数与块数.
+   */
+  static class RecordingRenderer extends HtmlRenderer {
+    final CountingReader reader;
+    final List<Long> readAtVisit = new ArrayList<>();
+    final List<Integer> blocksAtVisit = new ArrayList<>();
+
+    RecordingRenderer(CountingReader reader, MarkdownParserOptions options) {
+      super(options);
+      this.reader = reader;
+    }
+
+    @Override
+    public void visit(Document document) {
+      readAtVisit.add(reader.read);
+      int blocks = 0;
+      for (var child = document.getFirstChild(); child != null; child = child.getNext()) {
+        blocks++;
+      }
+      blocksAtVisit.add(blocks);
+      super.visit(document);
+    }
+  }
+
+  private static String renderFull(String markdown, MarkdownParserOptions options) {
+    Document doc = MarkdownParser.builder().options(options).build().parse(markdown);
+    HtmlRenderer renderer = new HtmlRenderer(options);
+    doc.accept(renderer);
+    return (String) renderer.getResult();
+  }
+
+  private static String renderStreaming(MarkdownParser parser, String markdown) throws IOException {
+    HtmlRenderer renderer = new HtmlRenderer(parser.getOptions());
+    parser.parse(new StringReader(markdown), renderer);
+    return (String) renderer.getResult();
+  }
+
+  @TestFactory
+  Stream<DynamicTest> commonMarkExamplesMatchFullParse() throws IOException {
+    List<SpecExample> examples =
+        new ObjectMapper()
+            .readValue(
+                getClass().getResourceAsStream("/commonmark-spec-0.31.2.json"),
+                new TypeReference<List<SpecExample>>() {});
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    options.setGfm(false);
+    MarkdownParser parser = MarkdownParser.builder().options(options).streamingRender(true).build();
+    return examples.stream()
+        .map(
+            example ->
+                DynamicTest.dynamicTest(
+                    "Example " + example.example + " (" + example.section + ")",
+                    () ->
+                        assertEquals(
+                            renderFull(example.markdown, options),
+                            renderStreaming(parser, example.markdown))));
+  }
+
+  @Test
+  public void testConcatenatedSpecDocumentMatchesFullParse() throws IOException {
+    List<SpecExample> examples =
+        new ObjectMapper()
+            .readValue(
+                getClass().getResourceAsStream("/gfm-spec-0.29.0.json"),
+                new TypeReference<List<SpecExample>>() {});
+    StringBuilder markdown = new StringBuilder();
+    for (SpecExample example : examples) {
+      markdown.append(example.markdown).append("\n\n");
+    }
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    options.setGfm(true);
+    MarkdownParser parser = MarkdownParser.builder().options(options).streamingRender(true).build();
+    assertEquals(
+        renderFull(markdown.toString(), options), renderStreaming(parser, markdown.toString()));
+  }
+
+  @Test
+  public void testBlocksAreRenderedBeforeEndOfInput() throws IOException {
+    StringBuilder markdown = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      markdown.append("Paragraph ").append(i).append(" with *emphasis*.\n\n");
+    }
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    CountingReader reader = new CountingReader(markdown.toString());
+    RecordingRenderer renderer = new RecordingRenderer(reader, options);
+    MarkdownParser.builder().options(options).streamingRender(true).build().parse(reader, renderer);
+
+    assertTrue(renderer.readAtVisit.size() > 100, "blocks are delivered in many batches");
+    assertTrue(renderer.readAtVisit.get(0) < 100, "first block is delivered early");
+    assertEquals(200, renderer.blocksAtVisit.stream().mapToInt(Integer::intValue).sum());
+    assertEquals(renderFull(markdown.toString(), options), renderer.getResult());
+  }
+
+  @Test
+  public void testForwardReferenceIsDeferredUntilDefined() throws IOException {
+    String markdown =
+        "Intro\n\nSee [the docs][docs] and [missing].\n\nMiddle *text*\n\n"
+            + "[docs]: /docs \"Docs\"\n\nAfter\n\n[missing]: /missing\n\nEnd\n";
+    MarkdownParserOptions options = new MarkdownParserOptions();
+    CountingReader reader = new CountingReader(markdown);
+    RecordingRenderer renderer = new RecordingRenderer(reader, options);
+    MarkdownParser.builder().options(options).streamingRender(true).build().parse(reader, renderer);
+
+    assertEquals(renderFull(markdown, options), renderer.getResult());
+    assertTrue(((String) renderer.getResult()).contains("<a href=\"/missing\">missing</a>"));
+    // "Intro" 立即交付；引用段落与其后的 "Middle" 等到 [missing] 定义后一起交付
+    assertEquals(1, renderer.blocksAtVisit.get(0));
+    assertEquals(3, renderer.blocksAtVisit.get(1));
+  }
+
+  @Test
+  public void testDeferLimitRendersWithKnownDefinitions() throws IOException {
+    StringBuilder markdown = new StringBuilder("See [late].\n\n");
+    for (int i = 0; i < 50; i++) {
+      markdown.append("Filler paragraph ").append(i).append(".\n\n");
+    }
+    markdown.append("[late]: /late\n");
+    MarkdownParser parser =
+        MarkdownParser.builder().streamingRender(true).streamingDeferLimit(100).build();
+    String html = renderStreaming(parser, markdown.toString());
+    assertTrue(html.startsWith("<p>See [late].</p>"), html);
+    assertTrue(html.contains("Filler paragraph 49."));
+
+    MarkdownParser unlimited =
+        MarkdownParser.builder()
+            .streamingRender(true)
+            .streamingDeferLimit(Integer.MAX_VALUE)
+            .build();
+    assertTrue(
+        renderStreaming(unlimited, markdown.toString())
+            .startsWith("<p>See <a href=\"/late\">late</a>.</p>"));
+  }
+}
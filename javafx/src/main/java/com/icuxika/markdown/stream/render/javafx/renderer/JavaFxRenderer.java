@@ -1,6 +1,7 @@
 package com.icuxika.markdown.stream.render.javafx.renderer;
 
 import com.icuxika.markdown.stream.render.core.Extension;
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
 import com.icuxika.markdown.stream.render.core.ast.Block;
 import com.icuxika.markdown.stream.render.core.ast.BlockQuote;
 import com.icuxika.markdown.stream.render.core.ast.BulletList;
@@ -62,6 +63,8 @@ public class JavaFxRenderer implements MarkdownRenderer, JavaFxNodeRendererConte
   // Link handling callback
   private Consumer<String> onLinkClick;
 
+  private final MarkdownMetrics metrics;
+
   // Renderer Registry
   private final List<JavaFxNodeRenderer> nodeRenderers = new ArrayList<>();
   private final Map<Class<? extends Node>, JavaFxNodeRenderer> rendererMap = new HashMap<>();
@@ -80,6 +83,7 @@ public class JavaFxRenderer implements MarkdownRenderer, JavaFxNodeRendererConte
    *            builder
    */
   public JavaFxRenderer(Builder builder) {
+    this.metrics = builder.metrics;
     blockStack.push(root);
     root.setSpacing(10);
     root.getStyleClass().add("markdown-root");
@@ -152,6 +156,19 @@ public class JavaFxRenderer implements MarkdownRenderer, JavaFxNodeRendererConte
    */
   public static class Builder {
     private List<JavaFxNodeRendererFactory> nodeRendererFactories = new ArrayList<>();
+    private MarkdownMetrics metrics = MarkdownMetrics.noop();
+
+    /**
+     * Set metrics listener. Reports render time per top-level block.
+     *
+     * @param metrics
+     *            metrics listener
+     * @return this
+     */
+    public Builder metrics(MarkdownMetrics metrics) {
+      this.metrics = metrics != null ? metrics : MarkdownMetrics.noop();
+      return this;
+    }
 
     /**
      * Add a node renderer factory.
@@ -272,6 +289,10 @@ public class JavaFxRenderer implements MarkdownRenderer, JavaFxNodeRendererConte
     return root;
   }
 
+  public MarkdownMetrics getMetrics() {
+    return metrics;
+  }
+
   public TreeMap<Integer, javafx.scene.Node> getLineToNodeMap() {
     return lineToNodeMap;
   }
@@ -290,7 +311,18 @@ public class JavaFxRenderer implements MarkdownRenderer, JavaFxNodeRendererConte
 
   @Override
   public void visit(Document document) {
-    render(document);
+    if (metrics == MarkdownMetrics.noop()) {
+      render(document);
+      return;
+    }
+    Node child = document.getFirstChild();
+    while (child != null) {
+      Node next = child.getNext();
+      long start = System.nanoTime();
+      render(child);
+      metrics.nodeRendered(child, System.nanoTime() - start);
+      child = next;
+    }
   }
 
   @Override
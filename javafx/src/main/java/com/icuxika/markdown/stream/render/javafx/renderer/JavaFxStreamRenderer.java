@@ -1,14 +1,20 @@
 package com.icuxika.markdown.stream.render.javafx.renderer;
 
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
 import com.icuxika.markdown.stream.render.core.ast.BlockQuote;
 import com.icuxika.markdown.stream.render.core.ast.BulletList;
+import com.icuxika.markdown.stream.render.core.ast.CodeBlock;
 import com.icuxika.markdown.stream.render.core.ast.Document;
 import com.icuxika.markdown.stream.render.core.ast.Heading;
+import com.icuxika.markdown.stream.render.core.ast.HtmlBlock;
 import com.icuxika.markdown.stream.render.core.ast.ListItem;
 import com.icuxika.markdown.stream.render.core.ast.Node;
 import com.icuxika.markdown.stream.render.core.ast.OrderedList;
 import com.icuxika.markdown.stream.render.core.extension.admonition.AdmonitionBlock;
-import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownTypingRenderer;
+import com.icuxika.markdown.stream.render.core.jfr.UiBatchEvent;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownBatchRenderer;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownDeltaTypingRenderer;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownEventBatch;
 import java.util.Stack;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
@@ -18,24 +24,37 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
+import javafx.scene.text.TextFlow;
 
 /**
  * JavaFX 流式渲染器.
  * <p>
- * 将接收到的 AST 节点实时转换为 JavaFX 节点并追加到 UI 中。
+ * 将接收到的 AST 节点实时转换为 JavaFX 节点并追加到 UI 中。由解析器按批次调用时，一次推送的结构事件合并为一个 UI 任务，
+ * 预览事件只加锁一次。
  * </p>
  */
-public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
+public class JavaFxStreamRenderer
+    implements StreamMarkdownDeltaTypingRenderer, StreamMarkdownBatchRenderer {
 
   private final VBox root;
   private final JavaFxRenderer internalRenderer;
   private final Stack<Pane> containerStack = new Stack<>();
   private java.util.function.Consumer<String> onLinkClick;
+  private volatile MarkdownMetrics metrics;
   private volatile Node latestPreviewNode;
   private final java.util.concurrent.atomic.AtomicBoolean isPreviewDirty =
       new java.util.concurrent.atomic.AtomicBoolean(false);
   private final VBox previewHolder = new VBox();
   private Pane previewHolderParent;
+  // 增量预览：解析线程累积，FX 线程在下一帧一次性应用到 previewTextFlow
+  private final Object previewDeltaLock = new Object();
+  private boolean previewNodeChanged;
+  private final StringBuilder pendingPreviewAppend = new StringBuilder();
+  private int pendingPreviewRemove;
+  private TextFlow previewTextFlow;
+  private String[] previewTextStyleClasses;
+  // 单个预览 Text 节点的最大长度，追加只会复制最后一个分片
+  private static final int PREVIEW_CHUNK_SIZE = 1024;
 
   /**
    * Constructor.
@@ -46,6 +65,7 @@ public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
   public JavaFxStreamRenderer(VBox root) {
     this.root = root;
     this.internalRenderer = new JavaFxRenderer();
+    this.metrics = internalRenderer.getMetrics();
     // initStyles(); // Do NOT force load styles on root if using theme manager
   }
 
@@ -60,6 +80,7 @@ public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
   public JavaFxStreamRenderer(VBox root, JavaFxRenderer.Builder builder) {
     this.root = root;
     this.internalRenderer = builder.build();
+    this.metrics = internalRenderer.getMetrics();
     // initStyles(); // Do NOT force load styles on root if using theme manager
   }
 
@@ -76,6 +97,17 @@ public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
     internalRenderer.setOnLinkClick(onLinkClick);
   }
 
+  /**
+   * Set metrics listener. Reports the FX-thread render time of each finalized block. Defaults to
+   * the listener of the builder passed to the constructor.
+   *
+   * @param metrics
+   *            metrics listener
+   */
+  public void setMetrics(MarkdownMetrics metrics) {
+    this.metrics = metrics != null ? metrics : MarkdownMetrics.noop();
+  }
+
   private void initStyles() {
     // Copy stylesheets from internal renderer
     // Internal renderer no longer adds default stylesheet by default (if modified).
@@ -113,8 +145,6 @@ public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
     pendingUpdates.offer(
         () -> {
           clearPreviewOnFxThread();
-          latestPreviewNode = null;
-          isPreviewDirty.set(false);
           renderNodeOnFxThread(node);
         });
     scheduleUpdate();
@@ -140,20 +170,122 @@ public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
     scheduleUpdate();
   }
 
+  @Override
+  public PreviewMode previewMode() {
+    return PreviewMode.DELTA;
+  }
+
+  @Override
+  public void renderBatch(StreamMarkdownEventBatch batch) {
+    int structural = 0;
+    for (int i = 0; i < batch.size(); i++) {
+      if (isStructural(batch.type(i))) {
+        structural++;
+      }
+    }
+    if (structural > 0) {
+      StreamMarkdownEventBatch.Type[] types = new StreamMarkdownEventBatch.Type[structural];
+      Node[] nodes = new Node[structural];
+      int n = 0;
+      for (int i = 0; i < batch.size(); i++) {
+        if (isStructural(batch.type(i))) {
+          types[n] = batch.type(i);
+          nodes[n++] = batch.node(i);
+        }
+      }
+      pendingUpdates.offer(
+          () -> {
+            clearPreviewOnFxThread();
+            for (int i = 0; i < types.length; i++) {
+              switch (types[i]) {
+                case OPEN_BLOCK -> openBlockOnFxThread(nodes[i]);
+                case CLOSE_BLOCK -> closeBlockOnFxThread(nodes[i]);
+                default -> renderNodeOnFxThread(nodes[i]);
+              }
+            }
+          });
+    }
+    boolean previewChanged = false;
+    synchronized (previewDeltaLock) {
+      for (int i = 0; i < batch.size(); i++) {
+        switch (batch.type(i)) {
+          case RENDER_PREVIEW -> setPreviewNodeLocked(batch.node(i));
+          case CLEAR_PREVIEW -> setPreviewNodeLocked(null);
+          case APPEND_PREVIEW_TEXT -> pendingPreviewAppend.append(batch.text(i));
+          case REPLACE_PREVIEW_TAIL ->
+              replacePreviewTailLocked(batch.removeLength(i), batch.text(i));
+          default -> {
+            continue;
+          }
+        }
+        previewChanged = true;
+      }
+    }
+    if (previewChanged) {
+      isPreviewDirty.set(true);
+    }
+    if (structural > 0 || previewChanged) {
+      scheduleUpdate();
+    }
+  }
+
+  private static boolean isStructural(StreamMarkdownEventBatch.Type type) {
+    return type == StreamMarkdownEventBatch.Type.OPEN_BLOCK
+        || type == StreamMarkdownEventBatch.Type.CLOSE_BLOCK
+        || type == StreamMarkdownEventBatch.Type.RENDER_NODE;
+  }
+
   @Override
   public void renderPreviewNode(Node node) {
-    latestPreviewNode = node;
+    setPreviewNode(node);
+  }
+
+  @Override
+  public void clearPreview() {
+    setPreviewNode(null);
+  }
+
+  @Override
+  public void appendPreviewText(CharSequence text) {
+    synchronized (previewDeltaLock) {
+      pendingPreviewAppend.append(text);
+    }
     isPreviewDirty.set(true);
     scheduleUpdate();
   }
 
   @Override
-  public void clearPreview() {
-    latestPreviewNode = null;
+  public void replacePreviewTail(int removeLength, CharSequence text) {
+    synchronized (previewDeltaLock) {
+      replacePreviewTailLocked(removeLength, text);
+    }
+    isPreviewDirty.set(true);
+    scheduleUpdate();
+  }
+
+  private void replacePreviewTailLocked(int removeLength, CharSequence text) {
+    // 先抵消尚未应用的追加文本，剩余部分再从已渲染的预览中删除
+    int fromPending = Math.min(removeLength, pendingPreviewAppend.length());
+    pendingPreviewAppend.setLength(pendingPreviewAppend.length() - fromPending);
+    pendingPreviewRemove += removeLength - fromPending;
+    pendingPreviewAppend.append(text);
+  }
+
+  private void setPreviewNode(Node node) {
+    synchronized (previewDeltaLock) {
+      setPreviewNodeLocked(node);
+    }
     isPreviewDirty.set(true);
     scheduleUpdate();
   }
 
+  private void setPreviewNodeLocked(Node node) {
+    latestPreviewNode = node;
+    previewNodeChanged = true;
+    pendingPreviewAppend.setLength(0);
+    pendingPreviewRemove = 0;
+  }
+
   private void scheduleUpdate() {
     if (isUpdateScheduled.compareAndSet(false, true)) {
       // Schedule batch processing
@@ -168,22 +300,48 @@ public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
   }
 
   private void processBatch() {
+    UiBatchEvent event = new UiBatchEvent();
+    event.begin();
     isUpdateScheduled.set(false);
     // Process all pending updates in one go
     Runnable task;
+    int tasks = 0;
     // Limit processing time? For now, process all.
     while ((task = pendingUpdates.poll()) != null) {
       task.run();
+      tasks++;
     }
     if (isPreviewDirty.getAndSet(false)) {
-      Node node = latestPreviewNode;
+      Node node;
+      boolean nodeChanged;
+      String append;
+      int remove;
+      synchronized (previewDeltaLock) {
+        node = latestPreviewNode;
+        nodeChanged = previewNodeChanged;
+        previewNodeChanged = false;
+        append = pendingPreviewAppend.toString();
+        pendingPreviewAppend.setLength(0);
+        remove = pendingPreviewRemove;
+        pendingPreviewRemove = 0;
+      }
       if (node == null) {
         clearPreviewOnFxThread();
       } else {
-        renderPreviewNodeOnFxThread(node);
+        if (nodeChanged) {
+          renderPreviewNodeOnFxThread(node);
+        }
+        applyPreviewDeltaOnFxThread(remove, append);
       }
     }
     root.requestLayout();
+    if (event.shouldCommit()) {
+      event.nodeCount = tasks;
+      event.inputSize = tasks;
+      event.queueDepth = pendingUpdates.size();
+      event.blockType = "JavaFxStreamRenderer";
+      event.commit();
+    }
   }
 
   // TOC Support
@@ -218,12 +376,17 @@ public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
 
     VBox tempContainer = new VBox();
 
+    MarkdownMetrics metrics = this.metrics;
+    long start = metrics != MarkdownMetrics.noop() ? System.nanoTime() : 0;
     internalRenderer.pushContainer(tempContainer);
     try {
       internalRenderer.render(node);
     } finally {
       internalRenderer.popContainer();
     }
+    if (metrics != MarkdownMetrics.noop()) {
+      metrics.nodeRendered(node, System.nanoTime() - start);
+    }
 
     // Notify TOC if Heading
     if (node instanceof Heading && onHeadingRendered != null) {
@@ -256,11 +419,84 @@ public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
       previewHolder.getChildren().clear();
       parent.getChildren().add(previewHolder);
     }
-    java.util.List<javafx.scene.Node> nodes = renderToFxNodes(node);
+    java.util.List<javafx.scene.Node> nodes;
+    if (node instanceof CodeBlock codeBlock) {
+      // 预览阶段不做语法高亮，便于后续增量追加
+      javafx.scene.layout.StackPane stack = new javafx.scene.layout.StackPane();
+      stack.getStyleClass().add("markdown-code-block-container");
+      TextFlow flow = new TextFlow();
+      flow.getStyleClass().add("markdown-code-block-flow");
+      stack.getChildren().add(flow);
+      previewTextFlow = flow;
+      previewTextStyleClasses = new String[] {"markdown-code-text"};
+      appendPreviewChunks(codeBlock.getLiteral());
+      nodes = java.util.List.of(stack);
+    } else if (node instanceof HtmlBlock htmlBlock) {
+      TextFlow flow = new TextFlow();
+      previewTextFlow = flow;
+      previewTextStyleClasses = new String[] {"markdown-text", "markdown-html-block"};
+      appendPreviewChunks(htmlBlock.getLiteral());
+      nodes = java.util.List.of(flow);
+    } else {
+      nodes = renderToFxNodes(node);
+      previewTextFlow = nodes.size() == 1 && nodes.get(0) instanceof TextFlow flow ? flow : null;
+      previewTextStyleClasses = new String[] {"markdown-text"};
+    }
     previewHolder.getChildren().setAll(nodes);
     parent.requestLayout();
   }
 
+  private void applyPreviewDeltaOnFxThread(int removeLength, String append) {
+    if (previewTextFlow == null) {
+      return;
+    }
+    java.util.List<javafx.scene.Node> children = previewTextFlow.getChildren();
+    int remaining = removeLength;
+    while (remaining > 0 && !children.isEmpty()) {
+      javafx.scene.Node last = children.get(children.size() - 1);
+      if (!(last instanceof javafx.scene.text.Text text)) {
+        children.remove(children.size() - 1);
+        continue;
+      }
+      String s = text.getText();
+      if (s.length() <= remaining) {
+        children.remove(children.size() - 1);
+        remaining -= s.length();
+      } else {
+        text.setText(s.substring(0, s.length() - remaining));
+        remaining = 0;
+      }
+    }
+    appendPreviewChunks(append);
+  }
+
+  private void appendPreviewChunks(String append) {
+    if (append == null || append.isEmpty()) {
+      return;
+    }
+    java.util.List<javafx.scene.Node> children = previewTextFlow.getChildren();
+    int offset = 0;
+    if (!children.isEmpty()
+        && children.get(children.size() - 1) instanceof javafx.scene.text.Text last
+        && last.getUserData() == previewTextFlow) {
+      // 只有增量预览创建的分片才会被继续追加
+      String s = last.getText();
+      int take = Math.min(append.length(), PREVIEW_CHUNK_SIZE - s.length());
+      if (take > 0) {
+        last.setText(s + append.substring(0, take));
+        offset = take;
+      }
+    }
+    while (offset < append.length()) {
+      int end = Math.min(append.length(), offset + PREVIEW_CHUNK_SIZE);
+      javafx.scene.text.Text chunk = new javafx.scene.text.Text(append.substring(offset, end));
+      chunk.getStyleClass().addAll(previewTextStyleClasses);
+      chunk.setUserData(previewTextFlow);
+      children.add(chunk);
+      offset = end;
+    }
+  }
+
   private java.util.List<javafx.scene.Node> renderToFxNodes(Node node) {
     VBox tempContainer = new VBox();
     internalRenderer.pushContainer(tempContainer);
@@ -273,6 +509,7 @@ public class JavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
   }
 
   private void clearPreviewOnFxThread() {
+    previewTextFlow = null;
     if (previewHolderParent == null) {
       previewHolder.getChildren().clear();
       return;
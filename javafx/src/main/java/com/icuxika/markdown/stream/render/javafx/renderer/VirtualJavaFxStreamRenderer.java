@@ -1,8 +1,12 @@
 package com.icuxika.markdown.stream.render.javafx.renderer;
 
+import com.icuxika.markdown.stream.render.core.MarkdownMetrics;
 import com.icuxika.markdown.stream.render.core.ast.Document;
 import com.icuxika.markdown.stream.render.core.ast.Node;
-import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownTypingRenderer;
+import com.icuxika.markdown.stream.render.core.jfr.UiBatchEvent;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownBatchRenderer;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownDeltaTypingRenderer;
+import com.icuxika.markdown.stream.render.core.renderer.StreamMarkdownEventBatch;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -22,13 +26,19 @@ import javafx.scene.layout.VBox;
  * to ensure strict ordering and avoid concurrency issues between the Parser
  * thread and the UI thread.
  * </p>
+ * <p>
+ * When driven in batch mode, all events of one push are snapshotted on the parser
+ * thread and replayed by a single UI task.
+ * </p>
  */
-public class VirtualJavaFxStreamRenderer implements StreamMarkdownTypingRenderer {
+public class VirtualJavaFxStreamRenderer
+    implements StreamMarkdownDeltaTypingRenderer, StreamMarkdownBatchRenderer {
 
   private final ObservableList<Node> historyItems;
   private final VBox activeContainer;
   private final Runnable requestScrollToBottom;
   private final Consumer<String> linkHandler;
+  private volatile MarkdownMetrics metrics = MarkdownMetrics.noop();
 
   // Context for the currently active top-level block
   private static class ActiveBlockContext {
@@ -70,6 +80,16 @@ public class VirtualJavaFxStreamRenderer implements StreamMarkdownTypingRenderer
     Platform.runLater(this::updateActiveContainerVisibility);
   }
 
+  /**
+   * Set metrics listener, passed on to the renderer of each top-level block.
+   *
+   * @param metrics
+   *            metrics listener
+   */
+  public void setMetrics(MarkdownMetrics metrics) {
+    this.metrics = metrics != null ? metrics : MarkdownMetrics.noop();
+  }
+
   // --- Public Interface (Called by Parser Thread) ---
 
   @Override
@@ -77,7 +97,9 @@ public class VirtualJavaFxStreamRenderer implements StreamMarkdownTypingRenderer
     if (node instanceof Document) {
       return;
     }
-    scheduleUiTask(() -> openBlockOnFxThread(node));
+    // Resolve on the parser thread: the parser may detach finished top-level blocks
+    boolean topLevel = node.getParent() instanceof Document;
+    scheduleUiTask(() -> openBlockOnFxThread(node, topLevel));
   }
 
   @Override
@@ -95,11 +117,90 @@ public class VirtualJavaFxStreamRenderer implements StreamMarkdownTypingRenderer
     scheduleUiTask(this::clearPreviewOnFxThread);
   }
 
+  @Override
+  public void appendPreviewText(CharSequence text) {
+    String delta = text.toString();
+    scheduleUiTask(
+        () -> {
+          if (currentContext != null) {
+            currentContext.renderer.appendPreviewText(delta);
+          }
+        });
+  }
+
+  @Override
+  public void replacePreviewTail(int removeLength, CharSequence text) {
+    String delta = text.toString();
+    scheduleUiTask(
+        () -> {
+          if (currentContext != null) {
+            currentContext.renderer.replacePreviewTail(removeLength, delta);
+          }
+        });
+  }
+
   @Override
   public void closeBlock(Node node) {
     scheduleUiTask(() -> closeBlockOnFxThread(node));
   }
 
+  @Override
+  public PreviewMode previewMode() {
+    return PreviewMode.DELTA;
+  }
+
+  @Override
+  public void renderBatch(StreamMarkdownEventBatch batch) {
+    // Snapshot on the parser thread: the batch is reused and blocks may be detached later
+    int size = batch.size();
+    StreamMarkdownEventBatch.Type[] types = new StreamMarkdownEventBatch.Type[size];
+    Node[] nodes = new Node[size];
+    String[] texts = new String[size];
+    int[] lengths = new int[size];
+    boolean[] topLevel = new boolean[size];
+    int n = 0;
+    for (int i = 0; i < size; i++) {
+      StreamMarkdownEventBatch.Type type = batch.type(i);
+      Node node = batch.node(i);
+      if (type == StreamMarkdownEventBatch.Type.OPEN_BLOCK && node instanceof Document) {
+        continue;
+      }
+      types[n] = type;
+      nodes[n] = node;
+      texts[n] = batch.text(i);
+      lengths[n] = batch.removeLength(i);
+      topLevel[n] = node != null && node.getParent() instanceof Document;
+      n++;
+    }
+    if (n == 0) {
+      return;
+    }
+    int count = n;
+    scheduleUiTask(
+        () -> {
+          for (int i = 0; i < count; i++) {
+            switch (types[i]) {
+              case OPEN_BLOCK -> openBlockOnFxThread(nodes[i], topLevel[i]);
+              case CLOSE_BLOCK -> closeBlockOnFxThread(nodes[i]);
+              case RENDER_NODE -> renderNodeOnFxThread(nodes[i]);
+              case RENDER_PREVIEW -> renderPreviewNodeOnFxThread(nodes[i]);
+              case CLEAR_PREVIEW -> clearPreviewOnFxThread();
+              case APPEND_PREVIEW_TEXT -> {
+                if (currentContext != null) {
+                  currentContext.renderer.appendPreviewText(texts[i]);
+                }
+              }
+              case REPLACE_PREVIEW_TAIL -> {
+                if (currentContext != null) {
+                  currentContext.renderer.replacePreviewTail(lengths[i], texts[i]);
+                }
+              }
+              default -> throw new IllegalStateException();
+            }
+          }
+        });
+  }
+
   // --- Task Scheduling ---
 
   private void scheduleUiTask(Runnable task) {
@@ -110,8 +211,11 @@ public class VirtualJavaFxStreamRenderer implements StreamMarkdownTypingRenderer
   }
 
   private void processUiTasks() {
+    UiBatchEvent event = new UiBatchEvent();
+    event.begin();
     isUiTaskScheduled.set(false);
     Runnable task;
+    int tasks = 0;
 
     // Time slicing: Process tasks for max 8ms per frame to maintain 60fps (16ms
     // total)
@@ -120,6 +224,7 @@ public class VirtualJavaFxStreamRenderer implements StreamMarkdownTypingRenderer
 
     while ((task = uiTaskQueue.poll()) != null) {
       task.run();
+      tasks++;
 
       // Check time limit
       if (System.nanoTime() - startTime > maxDuration) {
@@ -141,6 +246,13 @@ public class VirtualJavaFxStreamRenderer implements StreamMarkdownTypingRenderer
     if (requestScrollToBottom != null) {
       requestScrollToBottom.run();
     }
+    if (event.shouldCommit()) {
+      event.nodeCount = tasks;
+      event.inputSize = tasks;
+      event.queueDepth = uiTaskQueue.size();
+      event.blockType = "VirtualJavaFxStreamRenderer";
+      event.commit();
+    }
   }
 
   private void checkAndCleanupOrphanedContext() {
@@ -192,8 +304,8 @@ public class VirtualJavaFxStreamRenderer implements StreamMarkdownTypingRenderer
 
   // --- FX Thread Logic ---
 
-  private void openBlockOnFxThread(Node node) {
-    if (node.getParent() instanceof Document) {
+  private void openBlockOnFxThread(Node node, boolean topLevel) {
+    if (topLevel) {
       // Safety: If there is an existing context, force close it to prevent leaks.
       // This happens if the parser misses a closeBlock call or structure is
       // malformed.
@@ -217,6 +329,7 @@ public class VirtualJavaFxStreamRenderer implements StreamMarkdownTypingRenderer
       if (linkHandler != null) {
         renderer.setOnLinkClick(linkHandler);
       }
+      renderer.setMetrics(metrics);
 
       currentContext = new ActiveBlockContext(node, itemContainer, renderer);
       currentContext.renderer.openBlock(node);